@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Throughput of the error paths (domain exception -> ApiExceptionHandler -> canned ApiResponse)
+# next to a cheap success path, against an already running instance:
+#
+#   ./mvnw spring-boot:run                            # or any deployed instance
+#   BENCH_EMAIL=admin@... BENCH_PASSWORD=... ./scripts/error-path-benchmark.sh [requests] [concurrency]
+#
+# Needs `hey` (https://github.com/rakyll/hey); falls back to ApacheBench (`ab`). Compare the
+# requests/sec of the 400/404 rows with the success row, and before/after a change on the error path.
+set -euo pipefail
+
+REQUESTS="${1:-20000}"
+CONCURRENCY="${2:-32}"
+BASE_URL="${BENCH_URL:-http://localhost:8080}"
+: "${BENCH_EMAIL:?set BENCH_EMAIL to an ADMIN or STAFF account}"
+: "${BENCH_PASSWORD:?set BENCH_PASSWORD}"
+
+TOKEN=$(curl -sf -X POST -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$BENCH_EMAIL\",\"password\":\"$BENCH_PASSWORD\"}" "$BASE_URL/api/auth/login" \
+    | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+if [ -z "$TOKEN" ]; then
+  echo "login failed" >&2
+  exit 1
+fi
+
+run() {
+  local label="$1" method="$2" path="$3" rps
+  if command -v hey > /dev/null; then
+    rps=$(hey -n "$REQUESTS" -c "$CONCURRENCY" -m "$method" -H "Authorization: Bearer $TOKEN" "$BASE_URL$path" \
+        | awk '/Requests\/sec/ {print $2}')
+  elif command -v ab > /dev/null; then
+    rps=$(ab -q -n "$REQUESTS" -c "$CONCURRENCY" -m "$method" -H "Authorization: Bearer $TOKEN" "$BASE_URL$path" \
+        | awk '/Requests per second/ {print $4}')
+  else
+    echo "neither hey nor ab is installed" >&2
+    exit 1
+  fi
+  printf '%-34s %10s req/s\n' "$label" "$rps"
+}
+
+# warm-up so JIT and pools are settled before the measured runs
+REQUESTS=$((REQUESTS / 4)) run "warm-up" GET "/api/menu-categories" > /dev/null
+
+run "200 GET /api/menu-categories" GET "/api/menu-categories"
+run "400 bad export range (no SQL)" GET "/api/orders/paid/export?from=2025-02-01&to=2025-01-01"
+run "404 DELETE unknown order" DELETE "/api/orders/2147483647"
@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Time-to-first-request and resident memory for the plain jar, the fast-startup (AOT + AppCDS)
+# build and the native image, whichever of them have been built:
+#
+#   ./mvnw package -DskipTests                       # plain jar
+#   ./mvnw -Pfast-startup package -DskipTests        # target/extracted + application.jsa
+#   ./mvnw -Pnative native:compile -DskipTests       # target/servesmart (needs GraalVM)
+#   SPRING_DATASOURCE_URL=... ./scripts/startup-benchmark.sh [runs]
+#
+# Each run starts the app, then polls POST /api/auth/login (security + a user lookup) until it
+# gets any HTTP answer. Time is from process start to that first answer; RSS is read right after.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-3}"
+PORT="${BENCH_PORT:-18080}"
+PROFILE="${BENCH_PROFILE:-prod}"
+JAR="$(ls target/*.jar 2> /dev/null | head -n 1 || true)"
+EXTRACTED="target/extracted"
+NATIVE="target/servesmart"
+
+first_request() {
+  local dir="$1"; shift
+  local start pid code ms rss
+  start=$(date +%s%N)
+  (cd "$dir" && exec "$@" --server.port="$PORT" --spring.profiles.active="$PROFILE" \
+      --app.journal.enabled=false > /dev/null 2>&1) &
+  pid=$!
+
+  while true; do
+    code=$(curl -s -m 60 -o /dev/null -w '%{http_code}' -X POST -H 'Content-Type: application/json' \
+        -d '{"email":"benchmark@invalid","password":"x"}' "http://localhost:$PORT/api/auth/login" || true)
+    if [ "$code" != "000" ]; then
+      break
+    fi
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "app exited before answering" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+
+  ms=$(( ($(date +%s%N) - start) / 1000000 ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "$ms $rss"
+}
+
+bench() {
+  local label="$1"; shift
+  local total_ms=0 total_rss=0 ms rss
+  for _ in $(seq "$RUNS"); do
+    read -r ms rss < <(first_request "$@")
+    total_ms=$((total_ms + ms))
+    total_rss=$((total_rss + rss))
+  done
+  printf '%-16s %7d ms %7d MB RSS  (avg of %d)\n' "$label" $((total_ms / RUNS)) $((total_rss / RUNS / 1024)) "$RUNS"
+}
+
+if [ -n "$JAR" ]; then
+  bench "plain jar" . java -jar "$JAR"
+fi
+
+if [ -f "$EXTRACTED/application.jsa" ]; then
+  bench "AOT + AppCDS" "$EXTRACTED" java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+      -jar "$(basename "$JAR")"
+fi
+
+if [ -x "$NATIVE" ]; then
+  bench "native image" . "./$NATIVE"
+fi
@@ -1,9 +1,12 @@
 package com.jean.servesmart.restaurant;
 
+import com.jean.servesmart.restaurant.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class RestaurantApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,65 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.opentelemetry.instrumentation.jdbc.datasource.JdbcTelemetry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// Transactions marked readOnly get a read-only JDBC connection; the lazy proxy defers fetching
+// the physical connection until then, so it can be taken from the replica pool instead.
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.pool-size:10}") int poolSize,
+            @Value("${app.datasource.replicas.lag-query:}") String lagQuery,
+            @Value("${app.datasource.replicas.max-lag-seconds:5}") long maxLagSeconds
+    ) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource ds = new HikariDataSource();
+            ds.setPoolName("replica-" + i);
+            ds.setJdbcUrl(urls.get(i).trim());
+            ds.setDriverClassName(properties.determineDriverClassName());
+            ds.setUsername(properties.determineUsername());
+            ds.setPassword(properties.determinePassword());
+            ds.setMaximumPoolSize(poolSize);
+            ds.setReadOnly(true);
+            // replicas may be down at startup; the primary covers reads until they come back
+            ds.setInitializationFailTimeout(-1);
+            replicas.add(ds);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, lagQuery, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource,
+                                 JdbcTelemetry jdbcTelemetry) {
+        // statement spans are added below the lazy proxy (see TracingConfig)
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(jdbcTelemetry.wrap(primaryDataSource));
+        proxy.setReadOnlyDataSource(jdbcTelemetry.wrap(replicaDataSource));
+        return proxy;
+    }
+}
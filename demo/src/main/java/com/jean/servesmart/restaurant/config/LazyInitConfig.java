@@ -0,0 +1,50 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.controller.AuthController;
+import com.jean.servesmart.restaurant.controller.MenuController;
+import com.jean.servesmart.restaurant.controller.OrderController;
+import com.jean.servesmart.restaurant.controller.RestaurantTableController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+// With spring.main.lazy-initialization=true (prod profile) every bean is created on first use.
+// The floor-staff request path and anything with a schedule or startup listener stay eager:
+// a lazy @Scheduled bean would never be scheduled.
+@Configuration
+public class LazyInitConfig {
+
+    private static final Set<Class<?>> HOT_CONTROLLERS = Set.of(
+            AuthController.class,
+            MenuController.class,
+            OrderController.class,
+            RestaurantTableController.class
+    );
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return (beanName, definition, beanType) -> {
+            if (beanType == null) return false;
+            Class<?> type = ClassUtils.getUserClass(beanType);
+            return HOT_CONTROLLERS.contains(type) || hasStartupHooks(type);
+        };
+    }
+
+    static boolean hasStartupHooks(Class<?> type) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, EventListener.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
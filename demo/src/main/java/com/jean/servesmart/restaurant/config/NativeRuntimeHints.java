@@ -0,0 +1,60 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.dto.outbox.OutboxStatsDto;
+import com.jean.servesmart.restaurant.outbox.OutboxMessage;
+import jakarta.persistence.Entity;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+// Reachability metadata for the native image that Spring AOT cannot infer on its own.
+// The SQL Server and H2 drivers come from the GraalVM reachability metadata repository (see pom.xml).
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String MODEL_PACKAGE = "com.jean.servesmart.restaurant.model";
+
+    // JJWT 0.11 loads its implementation and Jackson (de)serializer reflectively / via ServiceLoader
+    private static final String[] JJWT_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        registerEntities(hints, classLoader);
+
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        // serialized outside any controller signature (outbox sinks)
+        BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+        binding.registerReflectionHints(hints.reflection(), OutboxMessage.class, OutboxStatsDto.class);
+    }
+
+    private static void registerEntities(RuntimeHints hints, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+        for (BeanDefinition candidate : scanner.findCandidateComponents(MODEL_PACKAGE)) {
+            Class<?> entity = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.jean.servesmart.restaurant.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Read-only connections are handed out round-robin across healthy replicas. A replica is
+// skipped while it is unreachable or lagging; with none left, reads go to the primary.
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, String lagQuery, long maxLagSeconds) {
+        this.primary = primary;
+        List<Replica> list = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            list.add(new Replica(i, replicas.get(i)));
+        }
+        this.replicas = List.copyOf(list);
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = pick();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                markHealthy(replica, false, ex.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = pick();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection(username, password);
+            } catch (SQLException ex) {
+                markHealthy(replica, false, ex.getMessage());
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection c = replica.dataSource.getConnection()) {
+                if (lagQuery == null) {
+                    markHealthy(replica, c.isValid(2), "connection is not valid");
+                    continue;
+                }
+                try (Statement st = c.createStatement(); ResultSet rs = st.executeQuery(lagQuery)) {
+                    long lag = rs.next() ? rs.getLong(1) : Long.MAX_VALUE;
+                    markHealthy(replica, lag <= maxLagSeconds, "lag " + lag + "s exceeds " + maxLagSeconds + "s");
+                }
+            } catch (SQLException ex) {
+                markHealthy(replica, false, ex.getMessage());
+            }
+        }
+    }
+
+    public int healthyReplicas() {
+        return (int) replicas.stream().filter(r -> r.healthy).count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void markHealthy(Replica replica, boolean healthy, String reason) {
+        if (replica.healthy != healthy) {
+            if (healthy) {
+                logger.info("Read replica {} is back in rotation", replica.index);
+            } else {
+                logger.warn("Read replica {} taken out of rotation: {}", replica.index, reason);
+            }
+        }
+        replica.healthy = healthy;
+    }
+
+    private static final class Replica {
+        private final int index;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+        }
+    }
+}
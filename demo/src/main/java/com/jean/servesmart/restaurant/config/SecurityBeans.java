@@ -1,5 +1,6 @@
 package com.jean.servesmart.restaurant.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,8 +8,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 @Configuration
 public class SecurityBeans {
 
+    // Existing hashes keep verifying at their own cost; PasswordHashingService rehashes them on the next login.
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${app.password-hashing.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,63 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.service.interfaces.SqlBudgetService;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// Feeds every Hibernate statement and entity load into SqlBudgetService, which counts them per HTTP request.
+@Configuration
+public class SqlBudgetConfig implements WebMvcConfigurer {
+
+    private final SqlBudgetService sqlBudget;
+
+    public SqlBudgetConfig(SqlBudgetService sqlBudget) {
+        this.sqlBudget = sqlBudget;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlBudgetInterceptor(sqlBudget)).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlBudgetHibernateCustomizer() {
+        StatementInspector inspector = sql -> {
+            sqlBudget.onStatement(sql);
+            return sql;
+        };
+        PostLoadEventListener onLoad = event -> sqlBudget.onEntityLoaded();
+
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                        .appendListeners(EventType.POST_LOAD, onLoad);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(integrator));
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.service.interfaces.SqlBudgetService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Opens a per-request SQL count keyed by the matched route, e.g. "GET /api/orders/{id}".
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final SqlBudgetService sqlBudget;
+
+    public SqlBudgetInterceptor(SqlBudgetService sqlBudget) {
+        this.sqlBudget = sqlBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        sqlBudget.begin(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        sqlBudget.end();
+    }
+
+    // Streaming responses continue on another thread, which is not counted.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlBudget.end();
+    }
+}
@@ -0,0 +1,161 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.service.interfaces.SqlBudgetService;
+import com.jean.servesmart.restaurant.service.interfaces.TxProfilerService;
+import com.jean.servesmart.restaurant.tracing.FileSpanExporter;
+import com.jean.servesmart.restaurant.tracing.RequestRootSampler;
+import com.jean.servesmart.restaurant.tracing.TracingFilter;
+import com.jean.servesmart.restaurant.tracing.TracingMethodInterceptor;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.instrumentation.jdbc.datasource.JdbcTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Paths;
+import java.util.List;
+
+// OpenTelemetry spans for every request (TracingFilter), controller and service method (advisors below)
+// and JDBC statement (the DataSource is wrapped, which adds db.operation / db.sql.table attributes).
+@Configuration
+public class TracingConfig {
+
+    private static final String BASE_PACKAGE = "com.jean.servesmart.restaurant.";
+
+    // Called from inside statement and pool callbacks; a span per call would only add noise.
+    private static final List<Class<?>> UNTRACED = List.of(SqlBudgetService.class, TxProfilerService.class);
+
+    @Bean
+    public SdkTracerProvider tracerProvider(
+            ObjectProvider<SpanExporter> customExporter,
+            ObjectMapper objectMapper,
+            @Value("${spring.application.name:servesmart}") String serviceName,
+            @Value("${app.tracing.exporter:none}") String exporter,
+            @Value("${app.tracing.sample-ratio:1.0}") double sampleRatio,
+            @Value("${app.tracing.otlp.endpoint:http://localhost:4318/v1/traces}") String otlpEndpoint,
+            @Value("${app.tracing.file.path:./data/traces/spans.ndjson}") String filePath,
+            @Value("${app.tracing.file.max-size-mb:100}") long fileMaxSizeMb
+    ) {
+        SdkTracerProviderBuilder builder = SdkTracerProvider.builder()
+                .setResource(Resource.getDefault().merge(
+                        Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), serviceName))))
+                .setSampler(Sampler.parentBased(new RequestRootSampler(sampleRatio)));
+
+        // tests register an in-memory exporter and read spans back as soon as they end
+        SpanExporter provided = customExporter.getIfAvailable();
+        if (provided != null) {
+            return builder.addSpanProcessor(SimpleSpanProcessor.create(provided)).build();
+        }
+
+        switch (exporter) {
+            case "otlp" -> builder.addSpanProcessor(BatchSpanProcessor.builder(
+                    OtlpHttpSpanExporter.builder().setEndpoint(otlpEndpoint).build()).build());
+            case "file" -> builder.addSpanProcessor(BatchSpanProcessor.builder(
+                    new FileSpanExporter(objectMapper, Paths.get(filePath), fileMaxSizeMb * 1024 * 1024)).build());
+            case "none" -> builder.setSampler(Sampler.alwaysOff());
+            default -> throw new IllegalArgumentException("Unknown app.tracing.exporter: " + exporter);
+        }
+        return builder.build();
+    }
+
+    // the tracer provider bean flushes and shuts down the exporter
+    @Bean(destroyMethod = "")
+    public OpenTelemetry openTelemetry(SdkTracerProvider tracerProvider) {
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+    }
+
+    @Bean
+    public JdbcTelemetry jdbcTelemetry(OpenTelemetry openTelemetry) {
+        return JdbcTelemetry.create(openTelemetry);
+    }
+
+    // Just outside Spring Security, so authentication (JWT user lookup) is part of the request span.
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(OpenTelemetry openTelemetry) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(openTelemetry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcTracingDataSource(ObjectProvider<JdbcTelemetry> jdbcTelemetry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // DataSourceConfig wraps the pools behind its lazy proxy itself; wrapping the proxy
+                // would make it fetch a physical connection before the read-only flag is known.
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return jdbcTelemetry.getObject().wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Outermost advice, so controller/service spans include method security and the transaction commit.
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor controllerTracingAdvisor(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return tracingAdvisor(RestController.class, "controller", openTelemetry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTracingAdvisor(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return tracingAdvisor(Service.class, "service", openTelemetry);
+    }
+
+    private static Advisor tracingAdvisor(Class<? extends Annotation> stereotype, String layer,
+                                          ObjectProvider<OpenTelemetry> openTelemetry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return targetClass.getName().startsWith(BASE_PACKAGE)
+                        && AnnotatedElementUtils.hasAnnotation(targetClass, stereotype)
+                        && UNTRACED.stream().noneMatch(type -> type.isAssignableFrom(targetClass))
+                        && Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() != Object.class;
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new TracingMethodInterceptor(openTelemetry, layer));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
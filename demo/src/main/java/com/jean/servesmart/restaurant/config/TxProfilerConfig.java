@@ -0,0 +1,98 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.service.interfaces.TxProfilerService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Hooks TxProfilerService into the transaction manager (transaction duration), every Hikari pool bean
+// (connection wait and hold time) and the MVC request cycle (endpoint attribution).
+@Configuration
+public class TxProfilerConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<TxProfilerService> profiler;
+
+    public TxProfilerConfig(ObjectProvider<TxProfilerService> profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TxProfilerInterceptor(profiler.getObject())).addPathPatterns("/api/**");
+    }
+
+    // Picked up by Boot and registered on the JPA transaction manager.
+    @Bean
+    public TransactionExecutionListener txProfilerListener() {
+        return new TransactionExecutionListener() {
+            @Override
+            public void beforeBegin(TransactionExecution transaction) {
+                profiler.getObject().beginTransaction(transaction, transaction.getTransactionName());
+            }
+
+            @Override
+            public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+                if (beginFailure != null) {
+                    profiler.getObject().endTransaction(transaction);
+                }
+            }
+
+            @Override
+            public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+                profiler.getObject().endTransaction(transaction);
+            }
+
+            @Override
+            public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+                profiler.getObject().endTransaction(transaction);
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor txProfilerPoolTracker(ObjectProvider<TxProfilerService> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null) {
+                    hikari.setMetricsTrackerFactory(new PoolTrackerFactory(profiler));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private record PoolTrackerFactory(ObjectProvider<TxProfilerService> profiler) implements MetricsTrackerFactory {
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            TxProfilerService service = profiler.getObject();
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    service.connectionAcquired(poolName, elapsedAcquiredNanos, poolStats.getActiveConnections(),
+                            poolStats.getPendingThreads(), poolStats.getMaxConnections());
+                }
+
+                @Override
+                public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                    service.connectionReleased(elapsedBorrowedMillis);
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    service.connectionTimeout(poolName);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.service.interfaces.TxProfilerService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Tags transactions and connections taken while handling a request with its route, e.g. "POST /api/orders".
+public class TxProfilerInterceptor implements AsyncHandlerInterceptor {
+
+    private final TxProfilerService profiler;
+
+    public TxProfilerInterceptor(TxProfilerService profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        profiler.beginRequest(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        profiler.endRequest();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        profiler.endRequest();
+    }
+}
@@ -0,0 +1,182 @@
+package com.jean.servesmart.restaurant.controller;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+import com.jean.servesmart.restaurant.exception.auth.AuthInvalidDataException;
+import com.jean.servesmart.restaurant.exception.auth.InactiveAccountException;
+import com.jean.servesmart.restaurant.exception.auth.InvalidCredentialsException;
+import com.jean.servesmart.restaurant.exception.auth.InvalidRefreshTokenException;
+import com.jean.servesmart.restaurant.exception.auth.LoginRateLimitedException;
+import com.jean.servesmart.restaurant.exception.auth.PasswordHashingBusyException;
+import com.jean.servesmart.restaurant.exception.idempotency.IdempotencyKeyInvalidException;
+import com.jean.servesmart.restaurant.exception.idempotency.IdempotencyKeyReusedException;
+import com.jean.servesmart.restaurant.exception.jfr.FlightRecordingStateException;
+import com.jean.servesmart.restaurant.exception.loginlog.LoginLogInvalidDataException;
+import com.jean.servesmart.restaurant.exception.loginlog.LoginLogUserNotFoundException;
+import com.jean.servesmart.restaurant.exception.menucategory.MenuCategoryAlreadyExistsException;
+import com.jean.servesmart.restaurant.exception.menucategory.MenuCategoryInvalidDataException;
+import com.jean.servesmart.restaurant.exception.menucategory.MenuCategoryNotFoundException;
+import com.jean.servesmart.restaurant.exception.menuitem.MenuItemAlreadyExistsException;
+import com.jean.servesmart.restaurant.exception.menuitem.MenuItemCategoryNotFoundException;
+import com.jean.servesmart.restaurant.exception.menuitem.MenuItemInvalidDataException;
+import com.jean.servesmart.restaurant.exception.menuitem.MenuItemNotFoundException;
+import com.jean.servesmart.restaurant.exception.order.OrderInvalidDataException;
+import com.jean.servesmart.restaurant.exception.order.OrderMenuItemNotFoundException;
+import com.jean.servesmart.restaurant.exception.order.OrderNotFoundException;
+import com.jean.servesmart.restaurant.exception.order.OrderRestaurantTableNotFoundException;
+import com.jean.servesmart.restaurant.exception.order.OrderStatusNotFoundException;
+import com.jean.servesmart.restaurant.exception.order.OrderTableAlreadyOpenException;
+import com.jean.servesmart.restaurant.exception.order.OrderUserNotFoundException;
+import com.jean.servesmart.restaurant.exception.reservation.ReservationInvalidDataException;
+import com.jean.servesmart.restaurant.exception.reservation.ReservationNotFoundException;
+import com.jean.servesmart.restaurant.exception.reservation.ReservationStatusNotFoundException;
+import com.jean.servesmart.restaurant.exception.reservation.ReservationTableNotFoundException;
+import com.jean.servesmart.restaurant.exception.reservation.ReservationTimeSlotUnavailableException;
+import com.jean.servesmart.restaurant.exception.restauranttable.RestaurantTableInvalidDataException;
+import com.jean.servesmart.restaurant.exception.restauranttable.RestaurantTableLabelAlreadyExistsException;
+import com.jean.servesmart.restaurant.exception.restauranttable.RestaurantTableNotFoundException;
+import com.jean.servesmart.restaurant.exception.restauranttable.RestaurantTableStatusNotFoundException;
+import com.jean.servesmart.restaurant.exception.user.InvalidPasswordChangeException;
+import com.jean.servesmart.restaurant.exception.user.UserEmailAlreadyUsedException;
+import com.jean.servesmart.restaurant.exception.user.UserInvalidDataException;
+import com.jean.servesmart.restaurant.exception.user.UserNotFoundException;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.Map;
+
+import static java.util.Map.entry;
+
+// The one place that turns exceptions into ApiResponse error bodies. Domain exceptions map to a
+// response built once at class load, so a 404/400 costs a map lookup rather than a stack walk and
+// fresh body per request. Throw-site messages are for logs only; clients always get the canned one.
+@RestControllerAdvice
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    private static final ResponseEntity<ApiResponse<Void>> INVALID_REQUEST = error(HttpStatus.BAD_REQUEST, "Invalid request");
+    private static final ResponseEntity<ApiResponse<Void>> INTERNAL_ERROR = error(HttpStatus.INTERNAL_SERVER_ERROR, "Request failed");
+
+    private static final ApiResponse<Void> TOO_MANY_LOGIN_ATTEMPTS = ApiResponse.error("Too many login attempts, try again later");
+
+    private static final Map<Class<? extends DomainException>, ResponseEntity<ApiResponse<Void>>> RESPONSES = Map.ofEntries(
+            entry(AuthInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid login data")),
+            entry(InvalidCredentialsException.class, error(HttpStatus.UNAUTHORIZED, "Invalid email or password")),
+            entry(InactiveAccountException.class, error(HttpStatus.UNAUTHORIZED, "Account is inactive")),
+            entry(InvalidRefreshTokenException.class, error(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token")),
+            entry(PasswordHashingBusyException.class, error(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, try again shortly")),
+
+            entry(IdempotencyKeyInvalidException.class, error(HttpStatus.BAD_REQUEST, "Invalid Idempotency-Key")),
+            entry(IdempotencyKeyReusedException.class, error(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used for a different request")),
+
+            entry(FlightRecordingStateException.class, error(HttpStatus.CONFLICT, "Recording is not in the required state")),
+
+            entry(LoginLogInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid login log data")),
+            entry(LoginLogUserNotFoundException.class, error(HttpStatus.NOT_FOUND, "User not found")),
+
+            entry(MenuCategoryInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid category data")),
+            entry(MenuCategoryNotFoundException.class, error(HttpStatus.NOT_FOUND, "Category not found")),
+            entry(MenuCategoryAlreadyExistsException.class, error(HttpStatus.CONFLICT, "Category name already exists")),
+
+            entry(MenuItemInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid menu item data")),
+            entry(MenuItemNotFoundException.class, error(HttpStatus.NOT_FOUND, "Menu item not found")),
+            entry(MenuItemCategoryNotFoundException.class, error(HttpStatus.NOT_FOUND, "Category for menu item not found")),
+            entry(MenuItemAlreadyExistsException.class, error(HttpStatus.CONFLICT, "Menu item name already exists in this category")),
+
+            entry(OrderInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid order data")),
+            entry(OrderNotFoundException.class, error(HttpStatus.NOT_FOUND, "Order not found")),
+            entry(OrderUserNotFoundException.class, error(HttpStatus.BAD_REQUEST, "User not found")),
+            entry(OrderRestaurantTableNotFoundException.class, error(HttpStatus.BAD_REQUEST, "Restaurant table not found")),
+            entry(OrderMenuItemNotFoundException.class, error(HttpStatus.BAD_REQUEST, "One or more menu items not found")),
+            entry(OrderStatusNotFoundException.class, error(HttpStatus.BAD_REQUEST, "Order status not found")),
+            entry(OrderTableAlreadyOpenException.class, error(HttpStatus.CONFLICT, "Table already has an open order")),
+
+            entry(ReservationInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid reservation data")),
+            entry(ReservationNotFoundException.class, error(HttpStatus.NOT_FOUND, "Reservation not found")),
+            entry(ReservationTableNotFoundException.class, error(HttpStatus.BAD_REQUEST, "Restaurant table not found")),
+            entry(ReservationStatusNotFoundException.class, error(HttpStatus.BAD_REQUEST, "Reservation status not found")),
+            entry(ReservationTimeSlotUnavailableException.class, error(HttpStatus.BAD_REQUEST, "Time slot is unavailable")),
+
+            entry(RestaurantTableInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid table data")),
+            entry(RestaurantTableNotFoundException.class, error(HttpStatus.NOT_FOUND, "Restaurant table not found")),
+            entry(RestaurantTableLabelAlreadyExistsException.class, error(HttpStatus.BAD_REQUEST, "Table label already exists")),
+            entry(RestaurantTableStatusNotFoundException.class, error(HttpStatus.BAD_REQUEST, "Table status not found")),
+
+            entry(UserInvalidDataException.class, error(HttpStatus.BAD_REQUEST, "Invalid user data")),
+            entry(UserNotFoundException.class, error(HttpStatus.NOT_FOUND, "User not found")),
+            entry(UserEmailAlreadyUsedException.class, error(HttpStatus.BAD_REQUEST, "Email already in use")),
+            entry(InvalidPasswordChangeException.class, error(HttpStatus.BAD_REQUEST, "Old password incorrect or new password invalid"))
+    );
+
+    // Also used by the idempotent order endpoints, which must hand a response (not an exception)
+    // to IdempotencyService so a rejected request replays the same 4xx.
+    @SuppressWarnings("unchecked")
+    public static <T> ResponseEntity<ApiResponse<T>> toResponse(DomainException ex) {
+        // error bodies carry no data, so the shared instance fits any payload type
+        return (ResponseEntity<ApiResponse<T>>) (ResponseEntity<?>) lookup(ex.getClass());
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDomain(DomainException ex) {
+        return toResponse(ex);
+    }
+
+    @ExceptionHandler(LoginRateLimitedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRateLimited(LoginRateLimitedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    // Method security throws from inside the handler chain; the security filters answer 401/403.
+    @ExceptionHandler({AccessDeniedException.class, AuthenticationException.class})
+    public void rethrowSecurity(RuntimeException ex) {
+        throw ex;
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse<Void>> handleUnexpected(Exception ex) {
+        logger.error("Request failed", ex);
+        return INTERNAL_ERROR;
+    }
+
+    // Spring MVC's own 4xx (validation, unreadable body, missing parameter) in the same body shape.
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(Exception ex, Object body, HttpHeaders headers,
+                                                             HttpStatusCode statusCode, WebRequest request) {
+        ResponseEntity<Object> response = super.handleExceptionInternal(ex, body, headers, statusCode, request);
+        if (response == null) {
+            return null;
+        }
+        String message = response.getBody() instanceof ProblemDetail problem && problem.getDetail() != null
+                ? problem.getDetail()
+                : HttpStatus.valueOf(statusCode.value()).getReasonPhrase();
+        return new ResponseEntity<>(ApiResponse.error(message), response.getHeaders(), response.getStatusCode());
+    }
+
+    private static ResponseEntity<ApiResponse<Void>> lookup(Class<?> type) {
+        for (Class<?> c = type; c != DomainException.class; c = c.getSuperclass()) {
+            ResponseEntity<ApiResponse<Void>> response = RESPONSES.get(c);
+            if (response != null) {
+                return response;
+            }
+        }
+        return INVALID_REQUEST;
+    }
+
+    private static ResponseEntity<ApiResponse<Void>> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(ApiResponse.error(message));
+    }
+}
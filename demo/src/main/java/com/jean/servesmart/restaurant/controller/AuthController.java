@@ -1,18 +1,21 @@
 package com.jean.servesmart.restaurant.controller;
 
 import com.jean.servesmart.restaurant.dto.auth.AuthResponseDto;
+import com.jean.servesmart.restaurant.dto.auth.RefreshTokenRequestDto;
 import com.jean.servesmart.restaurant.dto.auth.UserLoginDto;
 import com.jean.servesmart.restaurant.dto.loginlog.LoginLogCreateDto;
-import com.jean.servesmart.restaurant.exception.auth.AuthInvalidDataException;
-import com.jean.servesmart.restaurant.exception.auth.InactiveAccountException;
-import com.jean.servesmart.restaurant.exception.auth.InvalidCredentialsException;
-import com.jean.servesmart.restaurant.exception.loginlog.LoginLogInvalidDataException;
-import com.jean.servesmart.restaurant.exception.loginlog.LoginLogUserNotFoundException;
 import com.jean.servesmart.restaurant.response.ApiResponse;
 import com.jean.servesmart.restaurant.service.interfaces.AuthService;
+import com.jean.servesmart.restaurant.service.interfaces.JwtService;
 import com.jean.servesmart.restaurant.service.interfaces.LoginLogService;
+import com.jean.servesmart.restaurant.service.interfaces.LoginRateLimitService;
+import com.jean.servesmart.restaurant.service.interfaces.RefreshTokenService;
+import com.jean.servesmart.restaurant.service.interfaces.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.annotation.security.RolesAllowed;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,61 +26,63 @@ public class AuthController {
 
     private final AuthService auth;
     private final LoginLogService loginLogs;
+    private final LoginRateLimitService loginRateLimit;
+    private final RefreshTokenService refreshTokens;
+    private final JwtService jwtService;
+    private final TokenRevocationService revocations;
 
-    public AuthController(AuthService auth, LoginLogService loginLogs) {
+    public AuthController(AuthService auth, LoginLogService loginLogs, LoginRateLimitService loginRateLimit,
+                          RefreshTokenService refreshTokens, JwtService jwtService, TokenRevocationService revocations) {
         this.auth = auth;
         this.loginLogs = loginLogs;
+        this.loginRateLimit = loginRateLimit;
+        this.refreshTokens = refreshTokens;
+        this.jwtService = jwtService;
+        this.revocations = revocations;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponseDto>> login(@Valid @RequestBody UserLoginDto dto) {
-        try {
-            AuthResponseDto authResponse = auth.login(dto);
-            return ResponseEntity.ok(ApiResponse.success(authResponse, "Login successful"));
-        } catch (AuthInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid login data"));
-        } catch (InvalidCredentialsException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.error("Invalid email or password"));
-        } catch (InactiveAccountException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.error("Account is inactive"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Login failed"));
-        }
+    public ResponseEntity<ApiResponse<AuthResponseDto>> login(@Valid @RequestBody UserLoginDto dto, HttpServletRequest request) {
+        // before the transaction, user lookup and BCrypt, so a flood is turned away for the cost of a CAS
+        loginRateLimit.acquire(request.getRemoteAddr(), dto.getEmail());
+        AuthResponseDto authResponse = auth.login(dto);
+        loginRateLimit.succeeded(dto.getEmail());
+        return ResponseEntity.ok(ApiResponse.success(authResponse, "Login successful"));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponseDto>> refresh(@Valid @RequestBody RefreshTokenRequestDto dto) {
+        AuthResponseDto authResponse = auth.refresh(dto.getRefreshToken());
+        return ResponseEntity.ok(ApiResponse.success(authResponse, "Token refreshed"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@RequestBody LogoutRequest req) {
-        try {
-            if (req == null || req.getUserId() == null) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(ApiResponse.error("User id is required for logout"));
-            }
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestBody LogoutRequest req, HttpServletRequest request) {
+        if (req == null || req.getUserId() == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("User id is required for logout"));
+        }
 
-            LoginLogCreateDto dto = new LoginLogCreateDto();
-            dto.setUserId(req.getUserId());
-            dto.setStatus("LOGOUT");
-            loginLogs.log(dto);
+        LoginLogCreateDto dto = new LoginLogCreateDto();
+        dto.setUserId(req.getUserId());
+        dto.setStatus("LOGOUT");
+        loginLogs.log(dto);
+        refreshTokens.revoke(req.getRefreshToken());
 
-            return ResponseEntity.ok(ApiResponse.success(null, "Logout logged"));
-        } catch (LoginLogUserNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("User not found"));
-        } catch (LoginLogInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid logout data"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to log logout"));
+        // the filter already verified this token to let the request in
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            Claims claims = jwtService.parseClaims(authHeader.substring(7));
+            revocations.revoke(claims.getId(), claims.getExpiration().toInstant());
         }
+
+        return ResponseEntity.ok(ApiResponse.success(null, "Logout logged"));
     }
 
     public static class LogoutRequest {
         private Integer userId;
+        private String refreshToken;
 
         public Integer getUserId() {
             return userId;
@@ -86,5 +91,13 @@ public class AuthController {
         public void setUserId(Integer userId) {
             this.userId = userId;
         }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.jean.servesmart.restaurant.controller;
+
+import com.jean.servesmart.restaurant.dto.jfr.FlightRecordingDto;
+import com.jean.servesmart.restaurant.exception.jfr.FlightRecordingStateException;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.FlightRecorderService;
+import jakarta.annotation.security.RolesAllowed;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/jfr")
+public class FlightRecorderController {
+
+    private final FlightRecorderService recorder;
+
+    public FlightRecorderController(FlightRecorderService recorder) {
+        this.recorder = recorder;
+    }
+
+    @RolesAllowed("ADMIN")
+    @GetMapping("/recording")
+    public ResponseEntity<ApiResponse<FlightRecordingDto>> status() {
+        return recorder.getStatus()
+                .map(r -> ResponseEntity.ok(ApiResponse.success(r, "Recording is running")))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("No recording is running")));
+    }
+
+    @RolesAllowed("ADMIN")
+    @PostMapping("/recording/start")
+    public ResponseEntity<ApiResponse<FlightRecordingDto>> start(
+            @RequestParam(required = false) String settings,
+            @RequestParam(required = false) Long maxAgeMinutes
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(recorder.start(settings, maxAgeMinutes), "Recording started"));
+    }
+
+    @RolesAllowed("ADMIN")
+    @PostMapping("/recording/stop")
+    public ResponseEntity<ApiResponse<FlightRecordingDto>> stop() {
+        return ResponseEntity.ok(ApiResponse.success(recorder.stop(), "Recording stopped and written"));
+    }
+
+    @RolesAllowed("ADMIN")
+    @GetMapping("/recording/dump")
+    public ResponseEntity<?> dump() {
+        if (recorder.getStatus().isEmpty()) {
+            throw new FlightRecordingStateException("No recording is running");
+        }
+        StreamingResponseBody body = recorder::dump;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"servesmart.jfr\"")
+                .body(body);
+    }
+}
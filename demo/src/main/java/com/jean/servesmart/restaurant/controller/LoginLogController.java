@@ -1,15 +1,16 @@
 package com.jean.servesmart.restaurant.controller;
 
+import com.jean.servesmart.restaurant.dto.loginlog.LoginActivityDailyDto;
 import com.jean.servesmart.restaurant.dto.loginlog.LoginLogResponseDto;
-import com.jean.servesmart.restaurant.exception.loginlog.LoginLogInvalidDataException;
-import com.jean.servesmart.restaurant.exception.loginlog.LoginLogUserNotFoundException;
 import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.LoginLogRetentionService;
 import com.jean.servesmart.restaurant.service.interfaces.LoginLogService;
 import jakarta.annotation.security.RolesAllowed;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,27 +18,33 @@ import java.util.List;
 public class LoginLogController {
 
     private final LoginLogService logs;
+    private final LoginLogRetentionService retention;
 
-    public LoginLogController(LoginLogService logs) {
+    public LoginLogController(LoginLogService logs, LoginLogRetentionService retention) {
         this.logs = logs;
+        this.retention = retention;
     }
 
     @RolesAllowed("ADMIN")
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<List<LoginLogResponseDto>>> getByUser(@PathVariable Integer userId) {
-        try {
-            List<LoginLogResponseDto> list = logs.getByUser(userId);
-            String message = list.isEmpty() ? "No login logs found for this user" : "Login logs retrieved successfully";
-            return ResponseEntity.ok(ApiResponse.success(list, message));
-        } catch (LoginLogInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid user id"));
-        } catch (LoginLogUserNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error("User not found"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Could not load login logs"));
-        }
+    public ResponseEntity<ApiResponse<List<LoginLogResponseDto>>> getByUser(
+            @PathVariable Integer userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        List<LoginLogResponseDto> list = logs.getByUser(userId, page, size);
+        String message = list.isEmpty() ? "No login logs found for this user" : "Login logs retrieved successfully";
+        return ResponseEntity.ok(ApiResponse.success(list, message));
+    }
+
+    // Daily rollups of activity older than the raw log's retention window
+    @RolesAllowed("ADMIN")
+    @GetMapping("/user/{userId}/daily")
+    public ResponseEntity<ApiResponse<List<LoginActivityDailyDto>>> getDailyActivity(
+            @PathVariable Integer userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<LoginActivityDailyDto> list = retention.getDailyActivity(userId, from, to);
+        String message = list.isEmpty() ? "No login activity found for this user" : "Login activity retrieved successfully";
+        return ResponseEntity.ok(ApiResponse.success(list, message));
     }
 }
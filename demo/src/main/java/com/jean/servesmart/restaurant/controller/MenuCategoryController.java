@@ -3,9 +3,6 @@ package com.jean.servesmart.restaurant.controller;
 import com.jean.servesmart.restaurant.dto.menucategory.MenuCategoryCreateDto;
 import com.jean.servesmart.restaurant.dto.menucategory.MenuCategoryResponseDto;
 import com.jean.servesmart.restaurant.dto.menucategory.MenuCategoryUpdateDto;
-import com.jean.servesmart.restaurant.exception.menucategory.MenuCategoryAlreadyExistsException;
-import com.jean.servesmart.restaurant.exception.menucategory.MenuCategoryInvalidDataException;
-import com.jean.servesmart.restaurant.exception.menucategory.MenuCategoryNotFoundException;
 import com.jean.servesmart.restaurant.response.ApiResponse;
 import com.jean.servesmart.restaurant.service.interfaces.MenuCategoryService;
 import jakarta.annotation.security.RolesAllowed;
@@ -21,7 +18,6 @@ import java.util.Optional;
 @RequestMapping("/api/menu-categories")
 public class MenuCategoryController {
 
-    private static final String INVALID_CATEGORY_DATA = "Invalid category data";
     private static final String CATEGORY_NOT_FOUND = "Category not found";
 
     private final MenuCategoryService service;
@@ -33,49 +29,28 @@ public class MenuCategoryController {
     @RolesAllowed("ADMIN")
     @PostMapping
     public ResponseEntity<ApiResponse<MenuCategoryResponseDto>> create(@Valid @RequestBody MenuCategoryCreateDto dto) {
-        try {
-            MenuCategoryResponseDto category = service.create(dto);
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(ApiResponse.success(category, "Category created successfully"));
-        } catch (MenuCategoryInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error(INVALID_CATEGORY_DATA));
-        } catch (MenuCategoryAlreadyExistsException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(ApiResponse.error("Category name already exists"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to create category"));
-        }
+        MenuCategoryResponseDto category = service.create(dto);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(category, "Category created successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping
     public ResponseEntity<ApiResponse<List<MenuCategoryResponseDto>>> getAll() {
-        try {
-            List<MenuCategoryResponseDto> list = service.getAll();
-            String message = list.isEmpty() ? "No categories found" : "Categories loaded";
-            return ResponseEntity.ok(ApiResponse.success(list, message));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to load categories"));
-        }
+        List<MenuCategoryResponseDto> list = service.getAll();
+        String message = list.isEmpty() ? "No categories found" : "Categories loaded";
+        return ResponseEntity.ok(ApiResponse.success(list, message));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<MenuCategoryResponseDto>> getById(@PathVariable Integer id) {
-        try {
-            Optional<MenuCategoryResponseDto> category = service.getById(id);
-            if (category.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponse.error(CATEGORY_NOT_FOUND));
-            }
-            return ResponseEntity.ok(ApiResponse.success(category.get(), "Category retrieved"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to load category"));
+        Optional<MenuCategoryResponseDto> category = service.getById(id);
+        if (category.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(CATEGORY_NOT_FOUND));
         }
+        return ResponseEntity.ok(ApiResponse.success(category.get(), "Category retrieved"));
     }
 
     @RolesAllowed("ADMIN")
@@ -84,52 +59,22 @@ public class MenuCategoryController {
             @PathVariable Integer id,
             @RequestBody MenuCategoryUpdateDto dto
     ) {
-        try {
-            MenuCategoryResponseDto updated = service.update(id, dto);
-            return ResponseEntity.ok(ApiResponse.success(updated, "Category updated successfully"));
-        } catch (MenuCategoryNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error(CATEGORY_NOT_FOUND));
-        } catch (MenuCategoryInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error(INVALID_CATEGORY_DATA));
-        } catch (MenuCategoryAlreadyExistsException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(ApiResponse.error("Category name already exists"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to update category"));
-        }
+        MenuCategoryResponseDto updated = service.update(id, dto);
+        return ResponseEntity.ok(ApiResponse.success(updated, "Category updated successfully"));
     }
 
     @RolesAllowed("ADMIN")
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Integer id) {
-        try {
-            service.delete(id);
-            return ResponseEntity.ok(ApiResponse.success(null, "Category deleted successfully"));
-        } catch (MenuCategoryNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error(CATEGORY_NOT_FOUND));
-        } catch (MenuCategoryInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error(INVALID_CATEGORY_DATA));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to delete category"));
-        }
+        service.delete(id);
+        return ResponseEntity.ok(ApiResponse.success(null, "Category deleted successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping("/active")
     public ResponseEntity<ApiResponse<List<MenuCategoryResponseDto>>> getActive() {
-        try {
-            List<MenuCategoryResponseDto> list = service.getActive();
-            String message = list.isEmpty() ? "No active categories found" : "Active categories retrieved";
-            return ResponseEntity.ok(ApiResponse.success(list, message));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to load active categories"));
-        }
+        List<MenuCategoryResponseDto> list = service.getActive();
+        String message = list.isEmpty() ? "No active categories found" : "Active categories retrieved";
+        return ResponseEntity.ok(ApiResponse.success(list, message));
     }
 }
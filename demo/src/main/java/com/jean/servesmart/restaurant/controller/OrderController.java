@@ -1,23 +1,27 @@
 package com.jean.servesmart.restaurant.controller;
 
 import com.jean.servesmart.restaurant.dto.order.OrderCreateDto;
+import com.jean.servesmart.restaurant.dto.order.OrderExportFormat;
 import com.jean.servesmart.restaurant.dto.order.OrderItemCreateDto;
 import com.jean.servesmart.restaurant.dto.order.OrderResponseDto;
 import com.jean.servesmart.restaurant.dto.order.OrderStatusUpdateDto;
+import com.jean.servesmart.restaurant.exception.DomainException;
 import com.jean.servesmart.restaurant.exception.order.OrderInvalidDataException;
-import com.jean.servesmart.restaurant.exception.order.OrderMenuItemNotFoundException;
-import com.jean.servesmart.restaurant.exception.order.OrderNotFoundException;
-import com.jean.servesmart.restaurant.exception.order.OrderRestaurantTableNotFoundException;
-import com.jean.servesmart.restaurant.exception.order.OrderStatusNotFoundException;
-import com.jean.servesmart.restaurant.exception.order.OrderUserNotFoundException;
 import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.IdempotencyService;
+import com.jean.servesmart.restaurant.service.interfaces.OrderExportService;
 import com.jean.servesmart.restaurant.service.interfaces.OrderService;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,148 +30,82 @@ import java.util.Optional;
 public class OrderController {
 
     private static final String ORDER_NOT_FOUND = "Order not found";
-    private static final String ORDER_STATUS_NOT_FOUND = "Order status not found";
-    private static final String INVALID_ORDER_DATA = "Invalid order data";
 
     private final OrderService orders;
+    private final IdempotencyService idempotency;
+    private final OrderExportService export;
 
-    public OrderController(OrderService orders) {
+    public OrderController(OrderService orders, IdempotencyService idempotency, OrderExportService export) {
         this.orders = orders;
+        this.idempotency = idempotency;
+        this.export = export;
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @PostMapping
-    public ResponseEntity<ApiResponse<OrderResponseDto>> create(@Valid @RequestBody OrderCreateDto dto) {
+    public ResponseEntity<ApiResponse<OrderResponseDto>> create(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderCreateDto dto
+    ) {
+        return idempotency.execute("orders.create", idempotencyKey, dto, OrderResponseDto.class, () -> doCreate(dto));
+    }
+
+    private ResponseEntity<ApiResponse<OrderResponseDto>> doCreate(OrderCreateDto dto) {
         try {
             OrderResponseDto order = orders.create(dto);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success(order, "Order created successfully"));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error(INVALID_ORDER_DATA));
-        } catch (OrderUserNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("User not found"));
-        } catch (OrderRestaurantTableNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Restaurant table not found"));
-        } catch (OrderMenuItemNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("One or more menu items not found"));
-        } catch (OrderStatusNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error(ORDER_STATUS_NOT_FOUND));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to create order"));
+        } catch (DomainException e) {
+            return ApiExceptionHandler.toResponse(e);
         }
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<OrderResponseDto>> getById(@PathVariable Integer id) {
-        try {
-            Optional<OrderResponseDto> order = orders.getById(id);
-            if (order.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(ApiResponse.error(ORDER_NOT_FOUND));
-            }
-            return ResponseEntity.ok(ApiResponse.success(order.get(), "Order retrieved successfully"));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid order id"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to load order"));
+        Optional<OrderResponseDto> order = orders.getById(id);
+        if (order.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(ORDER_NOT_FOUND));
         }
+        return ResponseEntity.ok(ApiResponse.success(order.get(), "Order retrieved successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping("/table/{tableId}")
     public ResponseEntity<ApiResponse<List<OrderResponseDto>>> getByTable(@PathVariable Integer tableId) {
-        try {
-            List<OrderResponseDto> list = orders.getByTable(tableId);
-            String message = list.isEmpty() ? "No orders found for table" : "Orders retrieved successfully";
-            return ResponseEntity.ok(ApiResponse.success(list, message));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid table id"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to load orders"));
-        }
+        List<OrderResponseDto> list = orders.getByTable(tableId);
+        String message = list.isEmpty() ? "No orders found for table" : "Orders retrieved successfully";
+        return ResponseEntity.ok(ApiResponse.success(list, message));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping("/status/{status}")
     public ResponseEntity<ApiResponse<List<OrderResponseDto>>> getByStatus(@PathVariable String status) {
-        try {
-            List<OrderResponseDto> list = orders.getByStatus(status);
-            String message = list.isEmpty() ? "No orders found for status" : "Orders retrieved successfully";
-            return ResponseEntity.ok(ApiResponse.success(list, message));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid status"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to load orders"));
-        }
+        List<OrderResponseDto> list = orders.getByStatus(status);
+        String message = list.isEmpty() ? "No orders found for status" : "Orders retrieved successfully";
+        return ResponseEntity.ok(ApiResponse.success(list, message));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @PatchMapping("/{id}/status")
     public ResponseEntity<ApiResponse<OrderResponseDto>> updateStatus(@PathVariable Integer id, @Valid @RequestBody OrderStatusUpdateDto dto) {
-        try {
-            OrderResponseDto updated = orders.updateStatus(id, dto);
-            return ResponseEntity.ok(ApiResponse.success(updated, "Order status updated successfully"));
-        } catch (OrderNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error(ORDER_NOT_FOUND));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid order status update data"));
-        } catch (OrderStatusNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error(ORDER_STATUS_NOT_FOUND));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to update order status"));
-        }
+        OrderResponseDto updated = orders.updateStatus(id, dto);
+        return ResponseEntity.ok(ApiResponse.success(updated, "Order status updated successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Integer id) {
-        try {
-            orders.delete(id);
-            return ResponseEntity.ok(ApiResponse.success(null, "Order deleted successfully"));
-        } catch (OrderNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.error(ORDER_NOT_FOUND));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid order id"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to delete order"));
-        }
+        orders.delete(id);
+        return ResponseEntity.ok(ApiResponse.success(null, "Order deleted successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @PostMapping("/{orderId}/items")
     public ResponseEntity<ApiResponse<OrderResponseDto>> addItem(@PathVariable Integer orderId, @Valid @RequestBody OrderItemCreateDto dto) {
-        try {
-            OrderResponseDto updated = orders.addItem(orderId, dto);
-            return ResponseEntity.ok(ApiResponse.success(updated, "Item added successfully"));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("Invalid order item data"));
-        } catch (OrderNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(ORDER_NOT_FOUND));
-        } catch (OrderMenuItemNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("Menu item not found"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed to add item"));
-        }
+        OrderResponseDto updated = orders.addItem(orderId, dto);
+        return ResponseEntity.ok(ApiResponse.success(updated, "Item added successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
@@ -177,63 +115,64 @@ public class OrderController {
             @PathVariable Integer itemId,
             @Valid @RequestBody com.jean.servesmart.restaurant.dto.order.OrderItemUpdateDto dto
     ) {
-        try {
-            OrderResponseDto updated = orders.updateItem(orderId, itemId, dto);
-            return ResponseEntity.ok(ApiResponse.success(updated, "Item updated successfully"));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("Invalid update data"));
-        } catch (OrderNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(ORDER_NOT_FOUND));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed to update item"));
-        }
+        OrderResponseDto updated = orders.updateItem(orderId, itemId, dto);
+        return ResponseEntity.ok(ApiResponse.success(updated, "Item updated successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @DeleteMapping("/{orderId}/items/{itemId}")
     public ResponseEntity<ApiResponse<OrderResponseDto>> removeItem(@PathVariable Integer orderId, @PathVariable Integer itemId) {
-        try {
-            OrderResponseDto updated = orders.removeItem(orderId, itemId);
-            return ResponseEntity.ok(ApiResponse.success(updated, "Item removed successfully"));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("Invalid ids"));
-        } catch (OrderNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(ORDER_NOT_FOUND));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed to remove item"));
-        }
+        OrderResponseDto updated = orders.removeItem(orderId, itemId);
+        return ResponseEntity.ok(ApiResponse.success(updated, "Item removed successfully"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping("/paid")
     public ResponseEntity<ApiResponse<List<OrderResponseDto>>> getPaidOrders() {
-        try {
-            return ResponseEntity.ok(ApiResponse.success(orders.getPaid(), "Paid orders retrieved"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed to load paid orders"));
-        }
+        return ResponseEntity.ok(ApiResponse.success(orders.getPaid(), "Paid orders retrieved"));
+    }
+
+    @RolesAllowed({"ADMIN", "STAFF"})
+    @GetMapping("/paid/export")
+    public ResponseEntity<StreamingResponseBody> exportPaidOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String format
+    ) {
+        if (to.isBefore(from))
+            throw new OrderInvalidDataException("Invalid date range");
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+
+        StreamingResponseBody body = out -> export.exportPaid(from, to, exportFormat, out);
+        String filename = "paid-orders-" + from + "_" + to + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @GetMapping("/open-by-table")
     public ResponseEntity<ApiResponse<List<OrderResponseDto>>> getOpenOrdersByTable() {
-        try {
-            return ResponseEntity.ok(ApiResponse.success(orders.getOpenByTable(), "Open orders retrieved"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed to load open orders"));
-        }
+        return ResponseEntity.ok(ApiResponse.success(orders.getOpenByTable(), "Open orders retrieved"));
     }
 
     @RolesAllowed({"ADMIN", "STAFF"})
     @PostMapping("/start")
-    public ResponseEntity<ApiResponse<OrderResponseDto>> start(@RequestBody StartOrderRequest dto) {
+    public ResponseEntity<ApiResponse<OrderResponseDto>> start(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody StartOrderRequest dto
+    ) {
+        return idempotency.execute("orders.start", idempotencyKey, dto, OrderResponseDto.class, () -> doStart(dto));
+    }
+
+    private ResponseEntity<ApiResponse<OrderResponseDto>> doStart(StartOrderRequest dto) {
         try {
             OrderResponseDto order = orders.start(dto.getUserId(), dto.getRestaurantTableId());
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success(order, "Order started"));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Failed to start order"));
+        } catch (DomainException e) {
+            return ApiExceptionHandler.toResponse(e);
         }
     }
 
@@ -261,20 +200,23 @@ public class OrderController {
     @RolesAllowed({"ADMIN", "STAFF"})
     @PostMapping("/{orderId}/pay")
     public ResponseEntity<ApiResponse<OrderResponseDto>> pay(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable Integer orderId,
             @Valid @RequestBody com.jean.servesmart.restaurant.dto.order.PayOrderDto dto
+    ) {
+        return idempotency.execute("orders.pay:" + orderId, idempotencyKey, dto, OrderResponseDto.class,
+                () -> doPay(orderId, dto));
+    }
+
+    private ResponseEntity<ApiResponse<OrderResponseDto>> doPay(
+            Integer orderId,
+            com.jean.servesmart.restaurant.dto.order.PayOrderDto dto
     ) {
         try {
             OrderResponseDto updated = orders.pay(orderId, dto);
             return ResponseEntity.ok(ApiResponse.success(updated, "Order paid successfully"));
-        } catch (OrderNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(ORDER_NOT_FOUND));
-        } catch (OrderInvalidDataException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("Invalid payment data"));
-        } catch (OrderStatusNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(ORDER_STATUS_NOT_FOUND));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed to pay order"));
+        } catch (DomainException e) {
+            return ApiExceptionHandler.toResponse(e);
         }
     }
 }
@@ -0,0 +1,25 @@
+package com.jean.servesmart.restaurant.controller;
+
+import com.jean.servesmart.restaurant.dto.outbox.OutboxStatsDto;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.OutboxService;
+import jakarta.annotation.security.RolesAllowed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/outbox")
+public class OutboxController {
+
+    private final OutboxService outbox;
+
+    public OutboxController(OutboxService outbox) {
+        this.outbox = outbox;
+    }
+
+    @RolesAllowed("ADMIN")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<OutboxStatsDto>> stats() {
+        return ResponseEntity.ok(ApiResponse.success(outbox.getStats(), "Outbox stats retrieved successfully"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.jean.servesmart.restaurant.controller;
+
+import com.jean.servesmart.restaurant.dto.passwordhashing.PasswordHashingStatsDto;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import jakarta.annotation.security.RolesAllowed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/password-hashing")
+public class PasswordHashingController {
+
+    private final PasswordHashingService passwordHashing;
+
+    public PasswordHashingController(PasswordHashingService passwordHashing) {
+        this.passwordHashing = passwordHashing;
+    }
+
+    @RolesAllowed("ADMIN")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<PasswordHashingStatsDto>> stats() {
+        return ResponseEntity.ok(ApiResponse.success(passwordHashing.getStats(), "Password hashing stats retrieved successfully"));
+    }
+}
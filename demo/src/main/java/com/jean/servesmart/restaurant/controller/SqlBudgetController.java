@@ -0,0 +1,27 @@
+package com.jean.servesmart.restaurant.controller;
+
+import com.jean.servesmart.restaurant.dto.sqlbudget.SqlBudgetStatsDto;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.SqlBudgetService;
+import jakarta.annotation.security.RolesAllowed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sql-budget")
+public class SqlBudgetController {
+
+    private final SqlBudgetService sqlBudget;
+
+    public SqlBudgetController(SqlBudgetService sqlBudget) {
+        this.sqlBudget = sqlBudget;
+    }
+
+    @RolesAllowed("ADMIN")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<SqlBudgetStatsDto>>> stats() {
+        return ResponseEntity.ok(ApiResponse.success(sqlBudget.getStats(), "SQL budget stats retrieved successfully"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.jean.servesmart.restaurant.controller;
+
+import com.jean.servesmart.restaurant.dto.txprofile.TxProfileReportDto;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.TxProfilerService;
+import jakarta.annotation.security.RolesAllowed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tx-profile")
+public class TxProfileController {
+
+    private final TxProfilerService profiler;
+
+    public TxProfileController(TxProfilerService profiler) {
+        this.profiler = profiler;
+    }
+
+    @RolesAllowed("ADMIN")
+    @GetMapping("/report")
+    public ResponseEntity<ApiResponse<TxProfileReportDto>> report(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(profiler.getReport(limit), "Transaction profile retrieved successfully"));
+    }
+}
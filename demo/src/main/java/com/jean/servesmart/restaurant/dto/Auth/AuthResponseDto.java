@@ -5,6 +5,7 @@ import com.jean.servesmart.restaurant.dto.user.UserResponseDto;
 public class AuthResponseDto {
     private UserResponseDto user;
     private String token;
+    private String refreshToken;
 
     public UserResponseDto getUser() {
         return user;
@@ -21,4 +22,12 @@ public class AuthResponseDto {
     public void setToken(String token) {
         this.token = token;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
@@ -0,0 +1,12 @@
+package com.jean.servesmart.restaurant.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequestDto {
+    @NotBlank
+    private String refreshToken;
+}
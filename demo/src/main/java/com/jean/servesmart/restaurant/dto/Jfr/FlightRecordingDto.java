@@ -0,0 +1,79 @@
+package com.jean.servesmart.restaurant.dto.jfr;
+
+import java.time.LocalDateTime;
+
+public class FlightRecordingDto {
+
+    private long id;
+    private String name;
+    private String state;
+    private String settings;
+    private LocalDateTime startedAt;
+    private long maxAgeMinutes;
+    private String file;
+    private long sizeBytes;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public long getMaxAgeMinutes() {
+        return maxAgeMinutes;
+    }
+
+    public void setMaxAgeMinutes(long maxAgeMinutes) {
+        this.maxAgeMinutes = maxAgeMinutes;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+}
@@ -0,0 +1,62 @@
+package com.jean.servesmart.restaurant.dto.loginlog;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class LoginActivityDailyDto {
+
+    private Integer userId;
+    private LocalDate day;
+    private LocalDateTime firstLogin;
+    private LocalDateTime lastLogout;
+    private int sessionCount;
+    private int failedCount;
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Integer userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public LocalDateTime getFirstLogin() {
+        return firstLogin;
+    }
+
+    public void setFirstLogin(LocalDateTime firstLogin) {
+        this.firstLogin = firstLogin;
+    }
+
+    public LocalDateTime getLastLogout() {
+        return lastLogout;
+    }
+
+    public void setLastLogout(LocalDateTime lastLogout) {
+        this.lastLogout = lastLogout;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public void setSessionCount(int sessionCount) {
+        this.sessionCount = sessionCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+}
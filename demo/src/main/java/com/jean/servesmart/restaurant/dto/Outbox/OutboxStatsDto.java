@@ -0,0 +1,80 @@
+package com.jean.servesmart.restaurant.dto.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OutboxStatsDto {
+
+    private long pending;
+    private long failed;
+    private Long oldestPendingAgeMs;
+    private long published;
+    private long failedBatches;
+    private LocalDateTime lastRelayAt;
+    private String lastError;
+    private List<String> sinks;
+
+    public long getPending() {
+        return pending;
+    }
+
+    public void setPending(long pending) {
+        this.pending = pending;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public Long getOldestPendingAgeMs() {
+        return oldestPendingAgeMs;
+    }
+
+    public void setOldestPendingAgeMs(Long oldestPendingAgeMs) {
+        this.oldestPendingAgeMs = oldestPendingAgeMs;
+    }
+
+    public long getPublished() {
+        return published;
+    }
+
+    public void setPublished(long published) {
+        this.published = published;
+    }
+
+    public long getFailedBatches() {
+        return failedBatches;
+    }
+
+    public void setFailedBatches(long failedBatches) {
+        this.failedBatches = failedBatches;
+    }
+
+    public LocalDateTime getLastRelayAt() {
+        return lastRelayAt;
+    }
+
+    public void setLastRelayAt(LocalDateTime lastRelayAt) {
+        this.lastRelayAt = lastRelayAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public List<String> getSinks() {
+        return sinks;
+    }
+
+    public void setSinks(List<String> sinks) {
+        this.sinks = sinks;
+    }
+}
@@ -0,0 +1,104 @@
+package com.jean.servesmart.restaurant.dto.passwordhashing;
+
+public class PasswordHashingStatsDto {
+
+    private int strength;
+    private int threads;
+    private int activeThreads;
+    private int queueDepth;
+    private int queueCapacity;
+    private long maxQueueDepth;
+    private long completed;
+    private long rejected;
+    private long timedOut;
+    private double averageWaitMs;
+    private double averageHashMs;
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getActiveThreads() {
+        return activeThreads;
+    }
+
+    public void setActiveThreads(int activeThreads) {
+        this.activeThreads = activeThreads;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public void setMaxQueueDepth(long maxQueueDepth) {
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getTimedOut() {
+        return timedOut;
+    }
+
+    public void setTimedOut(long timedOut) {
+        this.timedOut = timedOut;
+    }
+
+    public double getAverageWaitMs() {
+        return averageWaitMs;
+    }
+
+    public void setAverageWaitMs(double averageWaitMs) {
+        this.averageWaitMs = averageWaitMs;
+    }
+
+    public double getAverageHashMs() {
+        return averageHashMs;
+    }
+
+    public void setAverageHashMs(double averageHashMs) {
+        this.averageHashMs = averageHashMs;
+    }
+}
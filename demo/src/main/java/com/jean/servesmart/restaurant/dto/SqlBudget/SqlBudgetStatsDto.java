@@ -0,0 +1,77 @@
+package com.jean.servesmart.restaurant.dto.sqlbudget;
+
+public class SqlBudgetStatsDto {
+
+    private String endpoint;
+    private int statementBudget;
+    private long requests;
+    private long totalStatements;
+    private int maxStatements;
+    private long totalEntitiesLoaded;
+    private int maxRepeatedQuery;
+    private long overBudget;
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public void setStatementBudget(int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public long getTotalStatements() {
+        return totalStatements;
+    }
+
+    public void setTotalStatements(long totalStatements) {
+        this.totalStatements = totalStatements;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public long getTotalEntitiesLoaded() {
+        return totalEntitiesLoaded;
+    }
+
+    public void setTotalEntitiesLoaded(long totalEntitiesLoaded) {
+        this.totalEntitiesLoaded = totalEntitiesLoaded;
+    }
+
+    public int getMaxRepeatedQuery() {
+        return maxRepeatedQuery;
+    }
+
+    public void setMaxRepeatedQuery(int maxRepeatedQuery) {
+        this.maxRepeatedQuery = maxRepeatedQuery;
+    }
+
+    public long getOverBudget() {
+        return overBudget;
+    }
+
+    public void setOverBudget(long overBudget) {
+        this.overBudget = overBudget;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jean.servesmart.restaurant.dto.txprofile;
+
+import java.util.Map;
+
+public class LatencyHistogramDto {
+
+    private long count;
+    private double avgMs;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double maxMs;
+    private double totalMs;
+    private Map<String, Long> buckets;
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getAvgMs() {
+        return avgMs;
+    }
+
+    public void setAvgMs(double avgMs) {
+        this.avgMs = avgMs;
+    }
+
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    public void setP50Ms(double p50Ms) {
+        this.p50Ms = p50Ms;
+    }
+
+    public double getP95Ms() {
+        return p95Ms;
+    }
+
+    public void setP95Ms(double p95Ms) {
+        this.p95Ms = p95Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public void setP99Ms(double p99Ms) {
+        this.p99Ms = p99Ms;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    public void setMaxMs(double maxMs) {
+        this.maxMs = maxMs;
+    }
+
+    public double getTotalMs() {
+        return totalMs;
+    }
+
+    public void setTotalMs(double totalMs) {
+        this.totalMs = totalMs;
+    }
+
+    public Map<String, Long> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(Map<String, Long> buckets) {
+        this.buckets = buckets;
+    }
+}
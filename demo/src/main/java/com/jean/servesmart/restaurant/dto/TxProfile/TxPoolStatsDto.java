@@ -0,0 +1,50 @@
+package com.jean.servesmart.restaurant.dto.txprofile;
+
+public class TxPoolStatsDto {
+
+    private String pool;
+    private int maxConnections;
+    private int peakActive;
+    private int peakPending;
+    private long timeouts;
+
+    public String getPool() {
+        return pool;
+    }
+
+    public void setPool(String pool) {
+        this.pool = pool;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getPeakActive() {
+        return peakActive;
+    }
+
+    public void setPeakActive(int peakActive) {
+        this.peakActive = peakActive;
+    }
+
+    public int getPeakPending() {
+        return peakPending;
+    }
+
+    public void setPeakPending(int peakPending) {
+        this.peakPending = peakPending;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(long timeouts) {
+        this.timeouts = timeouts;
+    }
+}
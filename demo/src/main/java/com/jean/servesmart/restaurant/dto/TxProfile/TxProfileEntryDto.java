@@ -0,0 +1,50 @@
+package com.jean.servesmart.restaurant.dto.txprofile;
+
+public class TxProfileEntryDto {
+
+    private String scope;
+    private String name;
+    private LatencyHistogramDto transaction;
+    private LatencyHistogramDto connectionWait;
+    private LatencyHistogramDto connectionHold;
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LatencyHistogramDto getTransaction() {
+        return transaction;
+    }
+
+    public void setTransaction(LatencyHistogramDto transaction) {
+        this.transaction = transaction;
+    }
+
+    public LatencyHistogramDto getConnectionWait() {
+        return connectionWait;
+    }
+
+    public void setConnectionWait(LatencyHistogramDto connectionWait) {
+        this.connectionWait = connectionWait;
+    }
+
+    public LatencyHistogramDto getConnectionHold() {
+        return connectionHold;
+    }
+
+    public void setConnectionHold(LatencyHistogramDto connectionHold) {
+        this.connectionHold = connectionHold;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jean.servesmart.restaurant.dto.txprofile;
+
+import java.util.List;
+
+public class TxProfileReportDto {
+
+    private List<TxPoolStatsDto> pools;
+    private List<TxProfileEntryDto> entries;
+
+    public List<TxPoolStatsDto> getPools() {
+        return pools;
+    }
+
+    public void setPools(List<TxPoolStatsDto> pools) {
+        this.pools = pools;
+    }
+
+    public List<TxProfileEntryDto> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<TxProfileEntryDto> entries) {
+        this.entries = entries;
+    }
+}
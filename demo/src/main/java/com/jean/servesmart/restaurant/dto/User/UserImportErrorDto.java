@@ -0,0 +1,13 @@
+package com.jean.servesmart.restaurant.dto.user;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UserImportErrorDto {
+    // 1-based position in the submitted array
+    private int row;
+    private String email;
+    private String error;
+}
@@ -0,0 +1,15 @@
+package com.jean.servesmart.restaurant.dto.user;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class UserImportResultDto {
+    private int received;
+    private int imported;
+    private List<UserImportErrorDto> errors = new ArrayList<>();
+}
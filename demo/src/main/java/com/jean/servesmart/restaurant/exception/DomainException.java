@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.exception;
+
+// Base of the exceptions services throw for bad input or missing rows. They are expected, frequent
+// (bad ids, bot traffic) and only ever turned into a 4xx body, so they skip the stack trace walk.
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException() {
+        super(null, null, false, false);
+    }
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.auth;
 
-public class AuthInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class AuthInvalidDataException extends DomainException {
 
     public AuthInvalidDataException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.auth;
 
-public class InactiveAccountException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class InactiveAccountException extends DomainException {
 
     public InactiveAccountException() {
         super();
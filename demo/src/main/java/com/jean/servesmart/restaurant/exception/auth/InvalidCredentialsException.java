@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.auth;
 
-public class InvalidCredentialsException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class InvalidCredentialsException extends DomainException {
 
     public InvalidCredentialsException() {
         super();
@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.exception.auth;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class InvalidRefreshTokenException extends DomainException {
+
+    public InvalidRefreshTokenException() {
+        super();
+    }
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.jean.servesmart.restaurant.exception.auth;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class LoginRateLimitedException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitedException() {
+        this(1);
+    }
+
+    public LoginRateLimitedException(long retryAfterSeconds) {
+        super();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
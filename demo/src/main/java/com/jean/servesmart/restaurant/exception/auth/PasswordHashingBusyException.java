@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.exception.auth;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class PasswordHashingBusyException extends DomainException {
+
+    public PasswordHashingBusyException() {
+        super();
+    }
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
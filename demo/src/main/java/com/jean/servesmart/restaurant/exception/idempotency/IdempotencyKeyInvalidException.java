@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.exception.idempotency;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class IdempotencyKeyInvalidException extends DomainException {
+
+    public IdempotencyKeyInvalidException() {
+        super();
+    }
+
+    public IdempotencyKeyInvalidException(String message) {
+        super(message);
+    }
+}
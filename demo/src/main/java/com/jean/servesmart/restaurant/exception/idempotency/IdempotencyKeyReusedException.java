@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.exception.idempotency;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException() {
+        super();
+    }
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
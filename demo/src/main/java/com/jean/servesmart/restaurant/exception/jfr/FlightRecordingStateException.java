@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.exception.jfr;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class FlightRecordingStateException extends DomainException {
+
+    public FlightRecordingStateException() {
+        super();
+    }
+
+    public FlightRecordingStateException(String message) {
+        super(message);
+    }
+}
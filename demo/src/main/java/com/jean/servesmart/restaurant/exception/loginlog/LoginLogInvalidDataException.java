@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.loginlog;
 
-public class LoginLogInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class LoginLogInvalidDataException extends DomainException {
 
     public LoginLogInvalidDataException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.loginlog;
 
-public class LoginLogUserNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class LoginLogUserNotFoundException extends DomainException {
 
     public LoginLogUserNotFoundException() {
         super();
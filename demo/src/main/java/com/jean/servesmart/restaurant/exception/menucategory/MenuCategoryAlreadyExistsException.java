@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menucategory;
 
-public class MenuCategoryAlreadyExistsException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuCategoryAlreadyExistsException extends DomainException {
 
     public MenuCategoryAlreadyExistsException() {
         super();
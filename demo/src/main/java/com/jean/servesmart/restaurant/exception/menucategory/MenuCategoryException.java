@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menucategory;
 
-public class MenuCategoryException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuCategoryException extends DomainException {
 
     public MenuCategoryException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menucategory;
 
-public class MenuCategoryInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuCategoryInvalidDataException extends DomainException {
 
     public MenuCategoryInvalidDataException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menucategory;
 
-public class MenuCategoryNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuCategoryNotFoundException extends DomainException {
 
     public MenuCategoryNotFoundException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menuitem;
 
-public class MenuItemAlreadyExistsException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuItemAlreadyExistsException extends DomainException {
     public MenuItemAlreadyExistsException() {
         super();
     }
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menuitem;
 
-public class MenuItemCategoryNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuItemCategoryNotFoundException extends DomainException {
     public MenuItemCategoryNotFoundException() {
         super();
     }
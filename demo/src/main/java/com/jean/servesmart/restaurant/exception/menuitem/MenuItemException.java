@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menuitem;
 
-public class MenuItemException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuItemException extends DomainException {
 
     public MenuItemException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menuitem;
 
-public class MenuItemInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuItemInvalidDataException extends DomainException {
     public MenuItemInvalidDataException() {
         super();
     }
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.menuitem;
 
-public class MenuItemNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class MenuItemNotFoundException extends DomainException {
 
     public MenuItemNotFoundException() {
         super();
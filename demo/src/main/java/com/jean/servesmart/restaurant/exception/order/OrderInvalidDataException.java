@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.order;
 
-public class OrderInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class OrderInvalidDataException extends DomainException {
 
     public OrderInvalidDataException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.order;
 
-public class OrderMenuItemNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class OrderMenuItemNotFoundException extends DomainException {
 
     public OrderMenuItemNotFoundException() {
         super();
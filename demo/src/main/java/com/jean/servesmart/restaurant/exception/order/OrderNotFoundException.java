@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.order;
 
-public class OrderNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class OrderNotFoundException extends DomainException {
 
     public OrderNotFoundException() {
         super();
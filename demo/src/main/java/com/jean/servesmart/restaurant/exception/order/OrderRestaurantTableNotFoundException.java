@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.order;
 
-public class OrderRestaurantTableNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class OrderRestaurantTableNotFoundException extends DomainException {
 
     public OrderRestaurantTableNotFoundException() {
         super();
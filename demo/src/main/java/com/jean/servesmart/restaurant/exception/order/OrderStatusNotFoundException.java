@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.order;
 
-public class OrderStatusNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class OrderStatusNotFoundException extends DomainException {
 
     public OrderStatusNotFoundException() {
         super();
@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.exception.order;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class OrderTableAlreadyOpenException extends DomainException {
+
+    public OrderTableAlreadyOpenException() {
+        super();
+    }
+
+    public OrderTableAlreadyOpenException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.reservation;
 
-public class ReservationInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class ReservationInvalidDataException extends DomainException {
 
     public ReservationInvalidDataException() {
         super();
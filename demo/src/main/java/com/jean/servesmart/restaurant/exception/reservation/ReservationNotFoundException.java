@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.reservation;
 
-public class ReservationNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class ReservationNotFoundException extends DomainException {
 
     public ReservationNotFoundException() {
         super();
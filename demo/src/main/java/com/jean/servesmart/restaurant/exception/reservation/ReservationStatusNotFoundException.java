@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.reservation;
 
-public class ReservationStatusNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class ReservationStatusNotFoundException extends DomainException {
 
     public ReservationStatusNotFoundException() {
         super();
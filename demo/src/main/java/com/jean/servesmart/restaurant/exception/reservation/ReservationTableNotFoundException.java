@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.reservation;
 
-public class ReservationTableNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class ReservationTableNotFoundException extends DomainException {
 
     public ReservationTableNotFoundException() {
         super();
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.reservation;
 
-public class ReservationTimeSlotUnavailableException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class ReservationTimeSlotUnavailableException extends DomainException {
 
     public ReservationTimeSlotUnavailableException() {
         super();
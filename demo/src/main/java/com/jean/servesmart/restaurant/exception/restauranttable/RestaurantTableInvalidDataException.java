@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.restauranttable;
 
-public class RestaurantTableInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class RestaurantTableInvalidDataException extends DomainException {
 
     public RestaurantTableInvalidDataException() {
         super();
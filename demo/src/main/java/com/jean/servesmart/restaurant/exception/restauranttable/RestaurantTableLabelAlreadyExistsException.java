@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.restauranttable;
 
-public class RestaurantTableLabelAlreadyExistsException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class RestaurantTableLabelAlreadyExistsException extends DomainException {
 
     public RestaurantTableLabelAlreadyExistsException() {
         super();
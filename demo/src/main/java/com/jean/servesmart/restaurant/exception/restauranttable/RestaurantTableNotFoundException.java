@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.restauranttable;
 
-public class RestaurantTableNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class RestaurantTableNotFoundException extends DomainException {
 
     public RestaurantTableNotFoundException() {
         super();
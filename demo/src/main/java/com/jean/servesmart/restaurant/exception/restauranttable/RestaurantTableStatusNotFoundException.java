@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.restauranttable;
 
-public class RestaurantTableStatusNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class RestaurantTableStatusNotFoundException extends DomainException {
 
     public RestaurantTableStatusNotFoundException() {
         super();
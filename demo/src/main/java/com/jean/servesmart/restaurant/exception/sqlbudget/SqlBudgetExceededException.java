@@ -0,0 +1,12 @@
+package com.jean.servesmart.restaurant.exception.sqlbudget;
+
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException() {
+        super();
+    }
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.user;
 
-public class InvalidPasswordChangeException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class InvalidPasswordChangeException extends DomainException {
 
     public InvalidPasswordChangeException() {
         super();
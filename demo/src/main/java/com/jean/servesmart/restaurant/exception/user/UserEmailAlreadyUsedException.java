@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.user;
 
-public class UserEmailAlreadyUsedException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class UserEmailAlreadyUsedException extends DomainException {
 
     public UserEmailAlreadyUsedException() {
         super();
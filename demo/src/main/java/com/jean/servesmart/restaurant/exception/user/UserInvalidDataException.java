@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.user;
 
-public class UserInvalidDataException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class UserInvalidDataException extends DomainException {
     public UserInvalidDataException() {
         super();
     }
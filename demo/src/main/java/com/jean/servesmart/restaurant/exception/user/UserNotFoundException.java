@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.exception.user;
 
-public class UserNotFoundException extends RuntimeException {
+import com.jean.servesmart.restaurant.exception.DomainException;
+
+public class UserNotFoundException extends DomainException {
 
     public UserNotFoundException() {
         super();
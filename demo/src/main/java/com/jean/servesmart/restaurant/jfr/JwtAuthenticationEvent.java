@@ -0,0 +1,48 @@
+package com.jean.servesmart.restaurant.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Only requests that carry a bearer token are recorded.
+@Name("servesmart.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"ServeSmart", "Auth"})
+@Description("Bearer token handling in JwtAuthenticationFilter")
+@StackTrace(false)
+public class JwtAuthenticationEvent extends Event {
+
+    public static final String AUTHENTICATED = "AUTHENTICATED";
+    public static final String REJECTED = "REJECTED";
+    public static final String REVOKED = "REVOKED";
+    public static final String ALREADY_AUTHENTICATED = "ALREADY_AUTHENTICATED";
+    public static final String ERROR = "ERROR";
+
+    @Label("Outcome")
+    String outcome = ERROR;
+
+    @Label("Token Parse Duration")
+    @Description("Signature check and claim extraction, including the validity check")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseDuration;
+
+    @Label("User Lookup Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long userLookupDuration;
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public void addParseDuration(long nanos) {
+        this.parseDuration += nanos;
+    }
+
+    public void setUserLookupDuration(long nanos) {
+        this.userLookupDuration = nanos;
+    }
+}
@@ -0,0 +1,47 @@
+package com.jean.servesmart.restaurant.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("servesmart.Login")
+@Label("Login")
+@Category({"ServeSmart", "Auth"})
+@Description("AuthImpl.login, with the share spent in BCrypt")
+@StackTrace(false)
+public class LoginEvent extends Event {
+
+    public static final String INVALID_DATA = "INVALID_DATA";
+    public static final String UNKNOWN_USER = "UNKNOWN_USER";
+    public static final String INACTIVE = "INACTIVE";
+    public static final String BAD_PASSWORD = "BAD_PASSWORD";
+    public static final String SUCCESS = "SUCCESS";
+
+    @Label("User Id")
+    int userId;
+
+    @Label("Outcome")
+    String outcome = INVALID_DATA;
+
+    @Label("BCrypt Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long bcryptDuration;
+
+    public void setUserId(Integer userId) {
+        if (userId != null) {
+            this.userId = userId;
+        }
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public void setBcryptDuration(long nanos) {
+        this.bcryptDuration = nanos;
+    }
+}
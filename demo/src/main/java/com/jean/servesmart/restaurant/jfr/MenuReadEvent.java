@@ -0,0 +1,50 @@
+package com.jean.servesmart.restaurant.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("servesmart.MenuRead")
+@Label("Menu Read")
+@Category({"ServeSmart", "Menu"})
+@Description("MenuImpl read methods")
+@StackTrace(false)
+public class MenuReadEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Category Id")
+    int categoryId;
+
+    @Label("Items Returned")
+    int resultCount;
+
+    @Label("Succeeded")
+    boolean success;
+
+    @Label("Failure")
+    String failure;
+
+    public MenuReadEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void setCategoryId(Integer categoryId) {
+        if (categoryId != null) {
+            this.categoryId = categoryId;
+        }
+    }
+
+    public void completed(int resultCount) {
+        this.resultCount = resultCount;
+        this.success = true;
+    }
+
+    public void failed(RuntimeException ex) {
+        failure = ex.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,61 @@
+package com.jean.servesmart.restaurant.jfr;
+
+import com.jean.servesmart.restaurant.dto.order.OrderItemResponseDto;
+import com.jean.servesmart.restaurant.dto.order.OrderResponseDto;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Duration is begin() .. commit(), i.e. the OrderImpl method body (the transaction commit happens after it).
+@Name("servesmart.OrderOperation")
+@Label("Order Operation")
+@Category({"ServeSmart", "Orders"})
+@Description("Order create / addItem / pay as seen by OrderImpl")
+@StackTrace(false)
+public class OrderOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Order Id")
+    int orderId;
+
+    @Label("Item Lines")
+    int itemCount;
+
+    @Label("Total Quantity")
+    int quantity;
+
+    @Label("Succeeded")
+    boolean success;
+
+    @Label("Failure")
+    String failure;
+
+    public OrderOperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void completed(OrderResponseDto order) {
+        if (!shouldCommit()) {
+            return;
+        }
+        success = true;
+        if (order.getId() != null) {
+            orderId = order.getId();
+        }
+        if (order.getItems() != null) {
+            itemCount = order.getItems().size();
+            for (OrderItemResponseDto item : order.getItems()) {
+                quantity += item.getItemsQuantity() != null ? item.getItemsQuantity() : 0;
+            }
+        }
+    }
+
+    public void failed(RuntimeException ex) {
+        failure = ex.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,140 @@
+package com.jean.servesmart.restaurant.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// One memory-mapped journal file. Records are framed as
+// [int bodyLength][body][int crc32(body)]; a zero length marks the end of data.
+public final class JournalSegment implements Closeable {
+
+    private static final String PREFIX = "orders-";
+    private static final String SUFFIX = ".journal";
+    private static final int FRAME_OVERHEAD = 2 * Integer.BYTES;
+
+    private final Path path;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer scratch = ByteBuffer.allocate(OrderEventCodec.MAX_BODY_BYTES);
+    private long lastSequence;
+
+    private JournalSegment(Path path, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.lastSequence = firstSequence - 1;
+    }
+
+    public static Path pathFor(Path dir, long firstSequence) {
+        return dir.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+    }
+
+    public static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    public static long firstSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    // Maps the file for appending and positions the writer after the last intact record.
+    public static JournalSegment openForWrite(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long mapSize = Math.max(size, channel.size());
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize);
+
+        JournalSegment segment = new JournalSegment(path, firstSequenceOf(path), channel, buffer);
+        ByteBuffer view = buffer.duplicate();
+        scan(view, Long.MIN_VALUE, e -> segment.lastSequence = e.getSequence());
+        buffer.position(view.position());
+        return segment;
+    }
+
+    public static void replay(Path path, long fromSequence, Consumer<OrderEvent> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            scan(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), fromSequence, consumer);
+        }
+    }
+
+    public boolean tryAppend(OrderEvent event) {
+        scratch.clear();
+        OrderEventCodec.encode(event, scratch);
+        scratch.flip();
+
+        int length = scratch.remaining();
+        if (buffer.remaining() < length + FRAME_OVERHEAD) {
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(scratch.duplicate());
+
+        buffer.putInt(length);
+        buffer.put(scratch);
+        buffer.putInt((int) crc.getValue());
+        lastSequence = event.getSequence();
+        return true;
+    }
+
+    // Read-only view of everything written so far; callers must hold the writer lock while taking it.
+    public ByteBuffer snapshot() {
+        ByteBuffer view = buffer.duplicate();
+        view.limit(view.position());
+        view.position(0);
+        return view;
+    }
+
+    public static void scan(ByteBuffer view, long fromSequence, Consumer<OrderEvent> consumer) {
+        CRC32 crc = new CRC32();
+        while (view.remaining() >= FRAME_OVERHEAD) {
+            int start = view.position();
+            int length = view.getInt();
+            if (length <= 0 || length > view.remaining() - Integer.BYTES) {
+                view.position(start);
+                return;
+            }
+
+            ByteBuffer body = view.slice(view.position(), length);
+            view.position(view.position() + length);
+            int expected = view.getInt();
+
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != expected) {
+                // torn write from a crash: everything after it is discarded
+                view.position(start);
+                return;
+            }
+
+            OrderEvent event = OrderEventCodec.decode(body);
+            if (event.getSequence() >= fromSequence) {
+                consumer.accept(event);
+            }
+        }
+    }
+
+    public void force() {
+        buffer.force();
+    }
+
+    public Path getPath() { return path; }
+    public long getFirstSequence() { return firstSequence; }
+    public long getLastSequence() { return lastSequence; }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
@@ -0,0 +1,64 @@
+package com.jean.servesmart.restaurant.journal;
+
+import java.math.BigDecimal;
+
+public final class OrderEvent {
+
+    private final long sequence;
+    private final long timestamp;
+    private final OrderEventType type;
+    private final int orderId;
+    private final Integer itemId;
+    private final Integer quantity;
+    private final String status;
+    private final Integer tableId;
+    private final Integer userId;
+    private final Integer menuItemId;
+    private final String itemName;
+    private final BigDecimal itemPrice;
+    private final Boolean active;
+
+    public OrderEvent(long sequence, long timestamp, OrderEventType type, int orderId,
+                      Integer itemId, Integer quantity, String status) {
+        this(sequence, timestamp, type, orderId, itemId, quantity, status, null, null, null, null, null, null);
+    }
+
+    public OrderEvent(long sequence, long timestamp, OrderEventType type, int orderId,
+                      Integer itemId, Integer quantity, String status,
+                      Integer tableId, Integer userId,
+                      Integer menuItemId, String itemName, BigDecimal itemPrice, Boolean active) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.type = type;
+        this.orderId = orderId;
+        this.itemId = itemId;
+        this.quantity = quantity;
+        this.status = status;
+        this.tableId = tableId;
+        this.userId = userId;
+        this.menuItemId = menuItemId;
+        this.itemName = itemName;
+        this.itemPrice = itemPrice;
+        this.active = active;
+    }
+
+    // Same payload under the sequence and timestamp the journal assigns when writing it.
+    public OrderEvent stamped(long sequence, long timestamp) {
+        return new OrderEvent(sequence, timestamp, type, orderId, itemId, quantity, status,
+                tableId, userId, menuItemId, itemName, itemPrice, active);
+    }
+
+    public long getSequence() { return sequence; }
+    public long getTimestamp() { return timestamp; }
+    public OrderEventType getType() { return type; }
+    public int getOrderId() { return orderId; }
+    public Integer getItemId() { return itemId; }
+    public Integer getQuantity() { return quantity; }
+    public String getStatus() { return status; }
+    public Integer getTableId() { return tableId; }
+    public Integer getUserId() { return userId; }
+    public Integer getMenuItemId() { return menuItemId; }
+    public String getItemName() { return itemName; }
+    public BigDecimal getItemPrice() { return itemPrice; }
+    public Boolean getActive() { return active; }
+}
@@ -0,0 +1,172 @@
+package com.jean.servesmart.restaurant.journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Body layout: varlong sequence, varlong timestamp, type code, varint flags,
+// zigzag varint orderId, then itemId / quantity / status / tableId / userId /
+// menuItemId / name / price (scale byte + zigzag unscaled) / active byte when flagged.
+// Flags used to be a single byte; values below 128 encode the same as a varint,
+// so segments written before the item fields existed still decode.
+final class OrderEventCodec {
+
+    static final int MAX_BODY_BYTES = 640;
+
+    private static final int FLAG_ITEM = 1;
+    private static final int FLAG_QUANTITY = 2;
+    private static final int FLAG_STATUS = 4;
+    private static final int FLAG_TABLE = 8;
+    private static final int FLAG_USER = 16;
+    private static final int FLAG_MENU_ITEM = 32;
+    private static final int FLAG_NAME = 64;
+    private static final int FLAG_PRICE = 128;
+    private static final int FLAG_ACTIVE = 256;
+    private static final int MAX_STATUS_BYTES = 64;
+    // Items_name is 150 chars, at most 3 UTF-8 bytes per char
+    private static final int MAX_NAME_BYTES = 450;
+
+    private OrderEventCodec() {
+    }
+
+    static void encode(OrderEvent event, ByteBuffer out) {
+        writeVarLong(out, event.getSequence());
+        writeVarLong(out, event.getTimestamp());
+        out.put(event.getType().getCode());
+
+        int flags = 0;
+        if (event.getItemId() != null) {
+            flags |= FLAG_ITEM;
+        }
+        if (event.getQuantity() != null) {
+            flags |= FLAG_QUANTITY;
+        }
+        if (event.getStatus() != null) {
+            flags |= FLAG_STATUS;
+        }
+        if (event.getTableId() != null) {
+            flags |= FLAG_TABLE;
+        }
+        if (event.getUserId() != null) {
+            flags |= FLAG_USER;
+        }
+        if (event.getMenuItemId() != null) {
+            flags |= FLAG_MENU_ITEM;
+        }
+        if (event.getItemName() != null) {
+            flags |= FLAG_NAME;
+        }
+        if (event.getItemPrice() != null) {
+            flags |= FLAG_PRICE;
+        }
+        if (event.getActive() != null) {
+            flags |= FLAG_ACTIVE;
+        }
+        writeVarLong(out, flags);
+
+        writeVarLong(out, zigzag(event.getOrderId()));
+        if (event.getItemId() != null) {
+            writeVarLong(out, zigzag(event.getItemId()));
+        }
+        if (event.getQuantity() != null) {
+            writeVarLong(out, zigzag(event.getQuantity()));
+        }
+        if (event.getStatus() != null) {
+            writeString(out, event.getStatus(), MAX_STATUS_BYTES);
+        }
+        if (event.getTableId() != null) {
+            writeVarLong(out, zigzag(event.getTableId()));
+        }
+        if (event.getUserId() != null) {
+            writeVarLong(out, zigzag(event.getUserId()));
+        }
+        if (event.getMenuItemId() != null) {
+            writeVarLong(out, zigzag(event.getMenuItemId()));
+        }
+        if (event.getItemName() != null) {
+            writeString(out, event.getItemName(), MAX_NAME_BYTES);
+        }
+        if (event.getItemPrice() != null) {
+            BigDecimal price = event.getItemPrice();
+            out.put((byte) price.scale());
+            long unscaled = price.unscaledValue().longValueExact();
+            writeVarLong(out, (unscaled << 1) ^ (unscaled >> 63));
+        }
+        if (event.getActive() != null) {
+            out.put((byte) (event.getActive() ? 1 : 0));
+        }
+    }
+
+    static OrderEvent decode(ByteBuffer in) {
+        long sequence = readVarLong(in);
+        long timestamp = readVarLong(in);
+        OrderEventType type = OrderEventType.fromCode(in.get());
+        int flags = (int) readVarLong(in);
+        int orderId = unzigzag(readVarLong(in));
+
+        Integer itemId = (flags & FLAG_ITEM) != 0 ? unzigzag(readVarLong(in)) : null;
+        Integer quantity = (flags & FLAG_QUANTITY) != 0 ? unzigzag(readVarLong(in)) : null;
+
+        String status = (flags & FLAG_STATUS) != 0 ? readString(in) : null;
+        Integer tableId = (flags & FLAG_TABLE) != 0 ? unzigzag(readVarLong(in)) : null;
+        Integer userId = (flags & FLAG_USER) != 0 ? unzigzag(readVarLong(in)) : null;
+        Integer menuItemId = (flags & FLAG_MENU_ITEM) != 0 ? unzigzag(readVarLong(in)) : null;
+        String itemName = (flags & FLAG_NAME) != 0 ? readString(in) : null;
+
+        BigDecimal itemPrice = null;
+        if ((flags & FLAG_PRICE) != 0) {
+            int scale = in.get();
+            long raw = readVarLong(in);
+            itemPrice = new BigDecimal(BigInteger.valueOf((raw >>> 1) ^ -(raw & 1)), scale);
+        }
+        Boolean active = (flags & FLAG_ACTIVE) != 0 ? in.get() != 0 : null;
+
+        return new OrderEvent(sequence, timestamp, type, orderId, itemId, quantity, status,
+                tableId, userId, menuItemId, itemName, itemPrice, active);
+    }
+
+    private static void writeString(ByteBuffer out, String value, int maxBytes) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, maxBytes);
+        writeVarLong(out, length);
+        out.put(bytes, 0, length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long zigzag(int value) {
+        return ((long) value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(long value) {
+        return (int) ((value >>> 1) ^ -(value & 1));
+    }
+
+    private static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+            b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jean.servesmart.restaurant.journal;
+
+public enum OrderEventType {
+    CREATED((byte) 1),
+    ITEM_ADDED((byte) 2),
+    ITEM_UPDATED((byte) 3),
+    ITEM_REMOVED((byte) 4),
+    STATUS_CHANGED((byte) 5),
+    PAID((byte) 6),
+    DELETED((byte) 7);
+
+    private final byte code;
+
+    OrderEventType(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static OrderEventType fromCode(byte code) {
+        for (OrderEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown order event type " + code);
+    }
+}
@@ -0,0 +1,98 @@
+package com.jean.servesmart.restaurant.journal;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Folds replayed journal events back into per-order state (table, user, status, lines).
+// Orders first seen mid-stream, e.g. created before the journal was enabled, keep whatever the events carry.
+public final class OrderProjection implements Consumer<OrderEvent> {
+
+    private final Map<Integer, OrderState> orders = new HashMap<>();
+
+    @Override
+    public void accept(OrderEvent event) {
+        int orderId = event.getOrderId();
+        switch (event.getType()) {
+            case CREATED -> {
+                OrderState state = new OrderState();
+                state.tableId = event.getTableId();
+                state.userId = event.getUserId();
+                state.status = event.getStatus();
+                orders.put(orderId, state);
+            }
+            case ITEM_ADDED, ITEM_UPDATED -> {
+                if (event.getItemId() == null) {
+                    return;
+                }
+                ItemState item = stateOf(orderId).items.computeIfAbsent(event.getItemId(), id -> new ItemState());
+                if (event.getMenuItemId() != null) {
+                    item.menuItemId = event.getMenuItemId();
+                }
+                if (event.getItemName() != null) {
+                    item.name = event.getItemName();
+                }
+                if (event.getItemPrice() != null) {
+                    item.price = event.getItemPrice();
+                }
+                if (event.getQuantity() != null) {
+                    item.quantity = event.getQuantity();
+                }
+                if (event.getActive() != null) {
+                    item.active = event.getActive();
+                }
+            }
+            case ITEM_REMOVED -> {
+                if (event.getItemId() != null) {
+                    stateOf(orderId).items.remove(event.getItemId());
+                }
+            }
+            case STATUS_CHANGED, PAID -> stateOf(orderId).status = event.getStatus();
+            case DELETED -> orders.remove(orderId);
+        }
+    }
+
+    public Optional<OrderState> get(int orderId) {
+        return Optional.ofNullable(orders.get(orderId));
+    }
+
+    public Map<Integer, OrderState> getOrders() {
+        return Collections.unmodifiableMap(orders);
+    }
+
+    private OrderState stateOf(int orderId) {
+        return orders.computeIfAbsent(orderId, id -> new OrderState());
+    }
+
+    public static final class OrderState {
+
+        private Integer tableId;
+        private Integer userId;
+        private String status;
+        private final Map<Integer, ItemState> items = new LinkedHashMap<>();
+
+        public Integer getTableId() { return tableId; }
+        public Integer getUserId() { return userId; }
+        public String getStatus() { return status; }
+        public Map<Integer, ItemState> getItems() { return Collections.unmodifiableMap(items); }
+    }
+
+    public static final class ItemState {
+
+        private Integer menuItemId;
+        private String name;
+        private BigDecimal price;
+        private Integer quantity;
+        private boolean active = true;
+
+        public Integer getMenuItemId() { return menuItemId; }
+        public String getName() { return name; }
+        public BigDecimal getPrice() { return price; }
+        public Integer getQuantity() { return quantity; }
+        public boolean isActive() { return active; }
+    }
+}
@@ -0,0 +1,76 @@
+package com.jean.servesmart.restaurant.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "ArchivedOrder",
+    indexes = {
+        @Index(name = "IX_ArchivedOrder_Table", columnList = "Restaurant_table_id"),
+        @Index(name = "IX_ArchivedOrder_Status_Create_at", columnList = "Status_name, Create_at")
+    }
+)
+public class ArchivedOrder implements Persistable<Integer> {
+    // Keeps the id of the original Orders row, so it is assigned, not generated.
+    @Id
+    private Integer id;
+
+    @Column(name = "User_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "User_email", length = 256)
+    private String userEmail;
+
+    @Column(name = "Restaurant_table_id")
+    private Integer restaurantTableId;
+
+    @Column(name = "Restaurant_table_label", length = 100)
+    private String restaurantTableLabel;
+
+    @Column(name = "Status_name", nullable = false, length = 20)
+    private String statusName;
+
+    @Column(name = "Create_at", nullable = false)
+    private LocalDateTime createAt;
+
+    @Column(name = "Archived_at", nullable = false)
+    private LocalDateTime archivedAt = LocalDateTime.now();
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Integer getUserId() { return userId; }
+    public void setUserId(Integer userId) { this.userId = userId; }
+
+    public String getUserEmail() { return userEmail; }
+    public void setUserEmail(String userEmail) { this.userEmail = userEmail; }
+
+    public Integer getRestaurantTableId() { return restaurantTableId; }
+    public void setRestaurantTableId(Integer restaurantTableId) { this.restaurantTableId = restaurantTableId; }
+
+    public String getRestaurantTableLabel() { return restaurantTableLabel; }
+    public void setRestaurantTableLabel(String restaurantTableLabel) { this.restaurantTableLabel = restaurantTableLabel; }
+
+    public String getStatusName() { return statusName; }
+    public void setStatusName(String statusName) { this.statusName = statusName; }
+
+    public LocalDateTime getCreateAt() { return createAt; }
+    public void setCreateAt(LocalDateTime createAt) { this.createAt = createAt; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(LocalDateTime archivedAt) { this.archivedAt = archivedAt; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+}
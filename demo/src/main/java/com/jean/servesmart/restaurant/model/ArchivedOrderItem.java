@@ -0,0 +1,79 @@
+package com.jean.servesmart.restaurant.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(
+    name = "ArchivedOrderItem",
+    indexes = @Index(name = "IX_ArchivedOrderItem_Order", columnList = "Orders_id")
+)
+public class ArchivedOrderItem implements Persistable<Integer> {
+    // Keeps the id of the original OrderItem row, so it is assigned, not generated.
+    @Id
+    private Integer id;
+
+    @Column(name = "Orders_id", nullable = false)
+    private Integer orderId;
+
+    @Column(name = "Menu_items_id", nullable = false)
+    private Integer menuItemId;
+
+    @Column(name = "Menu_item_name", length = 150)
+    private String menuItemName;
+
+    @Column(name = "Items_name", nullable = false, length = 150)
+    private String itemsName;
+
+    @Column(name = "Items_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal itemsPrice;
+
+    @Column(name = "Items_quantity", nullable = false)
+    private Integer itemsQuantity;
+
+    @Column(name = "Is_active", nullable = false)
+    private boolean active;
+
+    @Column(name = "Notes", length = 255)
+    private String notes;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Integer getOrderId() { return orderId; }
+    public void setOrderId(Integer orderId) { this.orderId = orderId; }
+
+    public Integer getMenuItemId() { return menuItemId; }
+    public void setMenuItemId(Integer menuItemId) { this.menuItemId = menuItemId; }
+
+    public String getMenuItemName() { return menuItemName; }
+    public void setMenuItemName(String menuItemName) { this.menuItemName = menuItemName; }
+
+    public String getItemsName() { return itemsName; }
+    public void setItemsName(String itemsName) { this.itemsName = itemsName; }
+
+    public BigDecimal getItemsPrice() { return itemsPrice; }
+    public void setItemsPrice(BigDecimal itemsPrice) { this.itemsPrice = itemsPrice; }
+
+    public Integer getItemsQuantity() { return itemsQuantity; }
+    public void setItemsQuantity(Integer itemsQuantity) { this.itemsQuantity = itemsQuantity; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+}
@@ -0,0 +1,50 @@
+package com.jean.servesmart.restaurant.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "IdempotencyRecord",
+    indexes = @Index(name = "IX_IdempotencyRecord_Expires_at", columnList = "Expires_at")
+)
+public class IdempotencyRecord {
+    @Id
+    @Column(name = "Record_key", nullable = false, length = 200)
+    private String key;
+
+    // SHA-256 of the caller and request body the key was first used with
+    @Column(name = "Request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "Status_code", nullable = false)
+    private Integer statusCode;
+
+    @Lob
+    @Column(name = "Response_body", nullable = false)
+    private String responseBody;
+
+    @Column(name = "Create_at", nullable = false)
+    private LocalDateTime createAt = LocalDateTime.now();
+
+    @Column(name = "Expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public String getRequestHash() { return requestHash; }
+    public void setRequestHash(String requestHash) { this.requestHash = requestHash; }
+
+    public Integer getStatusCode() { return statusCode; }
+    public void setStatusCode(Integer statusCode) { this.statusCode = statusCode; }
+
+    public String getResponseBody() { return responseBody; }
+    public void setResponseBody(String responseBody) { this.responseBody = responseBody; }
+
+    public LocalDateTime getCreateAt() { return createAt; }
+    public void setCreateAt(LocalDateTime createAt) { this.createAt = createAt; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
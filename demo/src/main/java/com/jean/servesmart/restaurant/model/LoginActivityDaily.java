@@ -0,0 +1,63 @@
+package com.jean.servesmart.restaurant.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One row per user and day, compacted from LoginLog rows older than the retention window
+@Entity
+@Table(
+    name = "LoginActivityDaily",
+    uniqueConstraints = @UniqueConstraint(name = "UK_LoginActivityDaily_User_Day", columnNames = {"User_id", "Activity_day"})
+)
+public class LoginActivityDaily {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "User_id", nullable = false,
+        foreignKey = @ForeignKey(name = "FK_LoginActivityDaily_User"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "Activity_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "First_login")
+    private LocalDateTime firstLogin;
+
+    @Column(name = "Last_logout")
+    private LocalDateTime lastLogout;
+
+    // Successful logins
+    @Column(name = "Session_count", nullable = false)
+    private int sessionCount;
+
+    // Failed and inactive-account login attempts
+    @Column(name = "Failed_count", nullable = false)
+    private int failedCount;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public LocalDate getDay() { return day; }
+    public void setDay(LocalDate day) { this.day = day; }
+
+    public LocalDateTime getFirstLogin() { return firstLogin; }
+    public void setFirstLogin(LocalDateTime firstLogin) { this.firstLogin = firstLogin; }
+
+    public LocalDateTime getLastLogout() { return lastLogout; }
+    public void setLastLogout(LocalDateTime lastLogout) { this.lastLogout = lastLogout; }
+
+    public int getSessionCount() { return sessionCount; }
+    public void setSessionCount(int sessionCount) { this.sessionCount = sessionCount; }
+
+    public int getFailedCount() { return failedCount; }
+    public void setFailedCount(int failedCount) { this.failedCount = failedCount; }
+}
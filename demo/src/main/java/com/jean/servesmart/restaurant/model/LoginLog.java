@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "LoginLog")
+@Table(
+    name = "LoginLog",
+    indexes = {
+        @Index(name = "IX_LoginLog_User_Date", columnList = "User_id, Date DESC"),
+        @Index(name = "IX_LoginLog_Date", columnList = "Date")
+    }
+)
 public class LoginLog {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -14,8 +20,9 @@ public class LoginLog {
         foreignKey = @ForeignKey(name = "FK_LoginLog_User"))
     private User user;
 
-    @Column(name = "Status", nullable = false, length = 20)
-    private String status;
+    @Convert(converter = LoginLogStatusConverter.class)
+    @Column(name = "Status_code", nullable = false)
+    private LoginLogStatus status;
 
     @Column(name = "Date", nullable = false)
     private LocalDateTime date = LocalDateTime.now();
@@ -26,8 +33,8 @@ public class LoginLog {
     public User getUser() { return user; }
     public void setUser(User user) { this.user = user; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public LoginLogStatus getStatus() { return status; }
+    public void setStatus(LoginLogStatus status) { this.status = status; }
 
     public LocalDateTime getDate() { return date; }
     public void setDate(LocalDateTime date) { this.date = date; }
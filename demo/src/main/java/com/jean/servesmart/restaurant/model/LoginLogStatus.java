@@ -0,0 +1,42 @@
+package com.jean.servesmart.restaurant.model;
+
+import java.util.Locale;
+
+// Stored in LoginLog.Status_code as one byte; codes are persisted, so never renumber them.
+public enum LoginLogStatus {
+    LOGIN_SUCCESS((byte) 1),
+    LOGOUT((byte) 2),
+    LOGIN_FAILED((byte) 3),
+    LOGIN_INACTIVE((byte) 4);
+
+    private final byte code;
+
+    LoginLogStatus(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static LoginLogStatus fromCode(byte code) {
+        for (LoginLogStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown login log status " + code);
+    }
+
+    // Case-insensitive and trimmed; null when blank or unknown
+    public static LoginLogStatus parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.jean.servesmart.restaurant.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class LoginLogStatusConverter implements AttributeConverter<LoginLogStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(LoginLogStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public LoginLogStatus convertToEntityAttribute(Byte code) {
+        return code != null ? LoginLogStatus.fromCode(code) : null;
+    }
+}
@@ -6,7 +6,11 @@ import java.util.List;
 @Entity
 @Table(
     name = "MenuCategory",
-    uniqueConstraints = @UniqueConstraint(name = "UK_category_name", columnNames = "Name")
+    uniqueConstraints = @UniqueConstraint(name = "UK_category_name", columnNames = "Name"),
+    indexes = {
+        @Index(name = "IX_MenuCategory_Active", columnList = "Is_active"),
+        @Index(name = "IX_MenuCategory_Position", columnList = "Position")
+    }
 )
 public class MenuCategory {
 
@@ -6,7 +6,8 @@ import java.util.List;
 
 @Entity
 @Table( name = "MenuItems", uniqueConstraints = { @UniqueConstraint(name = "UK_item_name_per_category", columnNames = {"Menu_categories_id", "Name"})
-    }
+    },
+    indexes = @Index(name = "IX_MenuItems_Active", columnList = "Is_active")
 )
 public class MenuItems {
     @Id
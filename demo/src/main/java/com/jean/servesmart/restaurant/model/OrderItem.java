@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "OrderItem")
+@Table(
+    name = "OrderItem",
+    indexes = {
+        @Index(name = "IX_OrderItem_Order", columnList = "Orders_id"),
+        @Index(name = "IX_OrderItem_MenuItem", columnList = "Menu_items_id")
+    }
+)
 public class OrderItem {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
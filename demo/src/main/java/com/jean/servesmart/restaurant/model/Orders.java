@@ -5,7 +5,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "Orders")
+@Table(
+    name = "Orders",
+    indexes = {
+        @Index(name = "IX_Orders_Status_Create_at", columnList = "OrdersStatus_id, Create_at"),
+        @Index(name = "IX_Orders_Table", columnList = "Restaurant_table_id"),
+        @Index(name = "IX_Orders_User", columnList = "User_id")
+    }
+)
 public class Orders {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -3,7 +3,10 @@ package com.jean.servesmart.restaurant.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "OrdersStatus")
+@Table(
+    name = "OrdersStatus",
+    indexes = @Index(name = "UK_OrdersStatus_name", columnList = "Name", unique = true)
+)
 public class OrdersStatus {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
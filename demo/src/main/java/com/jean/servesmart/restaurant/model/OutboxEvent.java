@@ -0,0 +1,69 @@
+package com.jean.servesmart.restaurant.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "OutboxEvent",
+    indexes = @Index(name = "IX_OutboxEvent_Pending", columnList = "Published_at, Failed_at, Id")
+)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Id")
+    private Long id;
+
+    @Column(name = "Aggregate_type", nullable = false, length = 30)
+    private String aggregateType;
+
+    @Column(name = "Aggregate_id", nullable = false)
+    private Integer aggregateId;
+
+    @Column(name = "Event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Lob
+    @Column(name = "Payload", nullable = false)
+    private String payload;
+
+    @Column(name = "Create_at", nullable = false)
+    private LocalDateTime createAt = LocalDateTime.now();
+
+    @Column(name = "Published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "Attempts", nullable = false)
+    private int attempts;
+
+    // Set once the event has used up its delivery attempts; the relay no longer picks it up.
+    @Column(name = "Failed_at")
+    private LocalDateTime failedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+
+    public Integer getAggregateId() { return aggregateId; }
+    public void setAggregateId(Integer aggregateId) { this.aggregateId = aggregateId; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public LocalDateTime getCreateAt() { return createAt; }
+    public void setCreateAt(LocalDateTime createAt) { this.createAt = createAt; }
+
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public LocalDateTime getFailedAt() { return failedAt; }
+    public void setFailedAt(LocalDateTime failedAt) { this.failedAt = failedAt; }
+}
@@ -0,0 +1,66 @@
+package com.jean.servesmart.restaurant.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "RefreshToken",
+    uniqueConstraints = @UniqueConstraint(name = "UK_RefreshToken_Token_hash", columnNames = "Token_hash"),
+    indexes = {
+        @Index(name = "IX_RefreshToken_Family", columnList = "Family_id"),
+        @Index(name = "IX_RefreshToken_User", columnList = "User_id"),
+        @Index(name = "IX_RefreshToken_Expires_at", columnList = "Expires_at")
+    }
+)
+public class RefreshToken {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "User_id", nullable = false,
+        foreignKey = @ForeignKey(name = "FK_RefreshToken_User"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    // SHA-256 of the token, hex; the token itself is only ever held by the client
+    @Column(name = "Token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    // Every token rotated from the same login shares a family, so reuse of an old one revokes them all
+    @Column(name = "Family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "Create_at", nullable = false)
+    private LocalDateTime createAt = LocalDateTime.now();
+
+    @Column(name = "Expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "Revoked_at")
+    private LocalDateTime revokedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public String getTokenHash() { return tokenHash; }
+    public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+
+    public String getFamilyId() { return familyId; }
+    public void setFamilyId(String familyId) { this.familyId = familyId; }
+
+    public LocalDateTime getCreateAt() { return createAt; }
+    public void setCreateAt(LocalDateTime createAt) { this.createAt = createAt; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+
+    public LocalDateTime getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(LocalDateTime revokedAt) { this.revokedAt = revokedAt; }
+}
@@ -6,7 +6,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(
     name = "Reservation",
-    indexes = @Index(name = "IX_Reservation_Table_Time", columnList = "Restaurant_table_id,Event_datetime")
+    indexes = {
+        @Index(name = "IX_Reservation_Table_Time", columnList = "Restaurant_table_id,Event_datetime"),
+        @Index(name = "IX_Reservation_Status", columnList = "ReservationStatus_id")
+    }
 )
 public class Reservation {
     @Id
@@ -3,7 +3,10 @@ package com.jean.servesmart.restaurant.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "ReservationStatus")
+@Table(
+    name = "ReservationStatus",
+    indexes = @Index(name = "UK_ReservationStatus_name", columnList = "Name", unique = true)
+)
 public class ReservationStatus {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import java.util.List;
 
 @Entity
-@Table(name = "RestaurantTable", uniqueConstraints = @UniqueConstraint(name = "UK_table_label", columnNames = "Label"))
+@Table(
+    name = "RestaurantTable",
+    uniqueConstraints = @UniqueConstraint(name = "UK_table_label", columnNames = "Label"),
+    indexes = {
+        @Index(name = "IX_RestaurantTable_Status", columnList = "RestaurantTableStatus_id"),
+        @Index(name = "IX_RestaurantTable_Active", columnList = "Is_active")
+    }
+)
 public class RestaurantTable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -3,7 +3,10 @@ package com.jean.servesmart.restaurant.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "RestaurantTableStatus")
+@Table(
+    name = "RestaurantTableStatus",
+    indexes = @Index(name = "UK_RestaurantTableStatus_name", columnList = "Name", unique = true)
+)
 public class RestaurantTableStatus {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -3,7 +3,10 @@ package com.jean.servesmart.restaurant.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "Role")
+@Table(
+    name = "Role",
+    indexes = @Index(name = "UK_Role_name", columnList = "Name", unique = true)
+)
 public class Role {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -5,7 +5,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "Users", uniqueConstraints = @UniqueConstraint(name = "UK_user_email", columnNames = "Email"))
+@Table(
+    name = "Users",
+    uniqueConstraints = @UniqueConstraint(name = "UK_user_email", columnNames = "Email"),
+    indexes = {
+        @Index(name = "IX_Users_Active", columnList = "Is_active"),
+        @Index(name = "IX_Users_Role", columnList = "Role_id")
+    }
+)
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,31 @@
+package com.jean.servesmart.restaurant.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// In-process consumers listen with @EventListener(OutboxMessage.class).
+@Component
+@ConditionalOnProperty(name = "app.outbox.sinks.listener.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher publisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String name() {
+        return "listener";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            publisher.publishEvent(message);
+        }
+    }
+}
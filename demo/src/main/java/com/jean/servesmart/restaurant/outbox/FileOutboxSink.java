@@ -0,0 +1,56 @@
+package com.jean.servesmart.restaurant.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Appends one JSON object per line; a batch is forced to disk before it counts as delivered.
+@Component
+@ConditionalOnProperty(name = "app.outbox.sinks.file.enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileOutboxSink(ObjectMapper objectMapper,
+                          @Value("${app.outbox.sinks.file.path:./data/outbox/events.ndjson}") String file) {
+        this.objectMapper = objectMapper;
+        this.file = Paths.get(file);
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxMessage message : batch) {
+            lines.append(objectMapper.writeValueAsString(message)).append('\n');
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jean.servesmart.restaurant.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+// Delivered at least once; consumers should de-duplicate on id.
+public final class OutboxMessage {
+
+    private final long id;
+    private final String aggregateType;
+    private final int aggregateId;
+    private final String eventType;
+    private final String payload;
+    private final LocalDateTime createdAt;
+
+    public OutboxMessage(long id, String aggregateType, int aggregateId, String eventType,
+                         String payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public long getId() { return id; }
+    public String getAggregateType() { return aggregateType; }
+    public int getAggregateId() { return aggregateId; }
+    public String getEventType() { return eventType; }
+    @JsonRawValue
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,11 @@
+package com.jean.servesmart.restaurant.outbox;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    String name();
+
+    // Throwing leaves the whole batch pending; it is offered again to every sink on the next run.
+    void publish(List<OutboxMessage> batch) throws Exception;
+}
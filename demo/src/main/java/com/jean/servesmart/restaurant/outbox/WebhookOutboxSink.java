@@ -0,0 +1,53 @@
+package com.jean.servesmart.restaurant.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+// POSTs each batch as a JSON array; anything but a 2xx keeps the batch pending.
+@Component
+@ConditionalOnExpression("!'${app.outbox.sinks.webhook.url:}'.isEmpty()")
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    public WebhookOutboxSink(ObjectMapper objectMapper,
+                             @Value("${app.outbox.sinks.webhook.url}") String url,
+                             @Value("${app.outbox.sinks.webhook.timeout-ms:5000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.url = URI.create(url);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                .build();
+
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook returned " + response.statusCode());
+        }
+    }
+}
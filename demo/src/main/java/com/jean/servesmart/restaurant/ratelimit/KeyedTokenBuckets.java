@@ -0,0 +1,90 @@
+package com.jean.servesmart.restaurant.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One token bucket per key, each a single AtomicLong updated by CAS (no locks on the hot path).
+// The long is the bucket's "theoretical arrival time" (GCRA): the instant at which the bucket is
+// full again. Taking a token pushes it one refill interval further; the attempt is refused when
+// that would put it more than `capacity` intervals ahead of now. A bucket whose time has passed
+// is full, so it holds nothing worth keeping and is evicted.
+public class KeyedTokenBuckets {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public KeyedTokenBuckets(int capacity, long refillIntervalNanos, int maxKeys) {
+        if (capacity <= 0 || refillIntervalNanos <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("capacity, refill interval and max keys must be positive");
+        }
+        this.intervalNanos = refillIntervalNanos;
+        this.burstNanos = capacity * refillIntervalNanos;
+        this.maxKeys = maxKeys;
+    }
+
+    // Takes a token for the key. Returns 0 when allowed, otherwise the nanos until one is available.
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                makeRoom(nowNanos);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+
+        while (true) {
+            long current = bucket.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            if (next - nowNanos > burstNanos) {
+                return next - nowNanos - burstNanos;
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public void reset(String key) {
+        buckets.remove(key);
+    }
+
+    public int evictIdle(long nowNanos) {
+        int evicted = 0;
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            if (entry.getValue().get() - nowNanos <= 0 && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    // Never refuses a key it has not seen: idle buckets go first, and when every bucket is still
+    // limited the one closest to full again is forgotten, which gives away the fewest tokens.
+    // One pass, the same cost as the idle sweep alone.
+    private void makeRoom(long nowNanos) {
+        Map.Entry<String, AtomicLong> oldest = null;
+        long oldestArrival = 0;
+        int evicted = 0;
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            long arrival = entry.getValue().get();
+            if (arrival - nowNanos <= 0) {
+                if (buckets.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            } else if (oldest == null || arrival - oldestArrival < 0) {
+                oldest = entry;
+                oldestArrival = arrival;
+            }
+        }
+        if (evicted == 0 && oldest != null) {
+            buckets.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
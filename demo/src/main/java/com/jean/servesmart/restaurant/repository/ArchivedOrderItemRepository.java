@@ -0,0 +1,12 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.ArchivedOrderItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedOrderItemRepository extends JpaRepository<ArchivedOrderItem, Integer> {
+    List<ArchivedOrderItem> findByOrderId(Integer orderId);
+    List<ArchivedOrderItem> findByOrderIdIn(Collection<Integer> orderIds);
+}
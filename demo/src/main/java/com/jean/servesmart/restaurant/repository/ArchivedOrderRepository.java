@@ -0,0 +1,15 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.ArchivedOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Integer> {
+    List<ArchivedOrder> findByRestaurantTableId(Integer tableId);
+
+    List<ArchivedOrder> findByStatusNameAndCreateAtGreaterThanEqualAndCreateAtLessThanAndIdGreaterThanOrderByIdAsc(
+            String statusName, LocalDateTime from, LocalDateTime to, Integer afterId, Pageable pageable);
+}
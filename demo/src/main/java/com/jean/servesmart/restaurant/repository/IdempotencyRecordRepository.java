@@ -0,0 +1,24 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    Optional<IdempotencyRecord> findByKeyAndExpiresAtAfter(String key, LocalDateTime now);
+
+    @Query("select r.key from IdempotencyRecord r where r.expiresAt < :now order by r.expiresAt")
+    List<String> findExpiredKeys(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.key in :keys")
+    int deleteByKeyIn(@Param("keys") Collection<String> keys);
+}
@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.LoginActivityDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface LoginActivityDailyRepository extends JpaRepository<LoginActivityDaily, Long> {
+    List<LoginActivityDaily> findByUser_IdInAndDayBetween(Collection<Integer> userIds, LocalDate from, LocalDate to);
+
+    List<LoginActivityDaily> findByUser_IdAndDayBetweenOrderByDayDesc(Integer userId, LocalDate from, LocalDate to);
+}
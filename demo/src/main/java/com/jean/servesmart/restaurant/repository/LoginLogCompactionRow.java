@@ -0,0 +1,6 @@
+package com.jean.servesmart.restaurant.repository;
+
+// A LoginLog row as read for compaction: the user id comes from the foreign key column, without a join.
+public interface LoginLogCompactionRow extends LoginLogView {
+    Integer getUserId();
+}
@@ -1,10 +1,27 @@
 package com.jean.servesmart.restaurant.repository;
 
 import com.jean.servesmart.restaurant.model.LoginLog;
+import com.jean.servesmart.restaurant.model.LoginLogStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface LoginLogRepository extends JpaRepository<LoginLog, Integer> {
-    List<LoginLog> findByUser_IdOrderByDateDesc(Integer userId);
+    // Seeks IX_LoginLog_User_Date (User_id, Date DESC, status included) and stops after one page.
+    List<LoginLogView> findByUser_IdAndStatusInOrderByDateDescIdDesc(Integer userId, Collection<LoginLogStatus> statuses, Pageable pageable);
+
+    // Oldest rows first along IX_LoginLog_Date
+    @Query("select l.id as id, l.user.id as userId, l.status as status, l.date as date "
+            + "from LoginLog l where l.date < :cutoff order by l.date, l.id")
+    List<LoginLogCompactionRow> findCompactionChunk(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from LoginLog l where l.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
 }
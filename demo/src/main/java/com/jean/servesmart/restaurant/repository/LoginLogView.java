@@ -0,0 +1,12 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.LoginLogStatus;
+
+import java.time.LocalDateTime;
+
+// Closed projection for the audit list: selects three columns of LoginLog and never touches Users.
+public interface LoginLogView {
+    Integer getId();
+    LoginLogStatus getStatus();
+    LocalDateTime getDate();
+}
@@ -1,12 +1,40 @@
 package com.jean.servesmart.restaurant.repository;
 
 import com.jean.servesmart.restaurant.model.Orders;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrdersRepository extends JpaRepository<Orders, Integer> {
     List<Orders> findByRestaurantTable_Id(Integer tableId);
     List<Orders> findByStatus_Name(String status);
     List<Orders> findByStatus_NameNotIn(List<String> statusNames);
+    List<Orders> findByStatus_NameInAndCreateAtBeforeOrderByIdAsc(List<String> statusNames, LocalDateTime cutoff, Pageable pageable);
+
+    // Outer join on the lines so an order without any still yields one row.
+    @Query("""
+            select new com.jean.servesmart.restaurant.repository.PaidOrderLine(o, i)
+            from Orders o
+            left join fetch o.user
+            left join fetch o.restaurantTable
+            left join OrderItem i on i.order = o
+            left join fetch i.menuItem
+            where o.status.name = :status and o.createAt >= :from and o.createAt < :to
+            order by o.id, i.id
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PaidOrderLine> streamLinesByStatus(@Param("status") String statusName,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,27 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    List<OutboxEvent> findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(Pageable pageable);
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc();
+    long countByPublishedAtIsNullAndFailedAtIsNull();
+    long countByPublishedAtIsNullAndFailedAtIsNotNull();
+
+    @Query("select e.id from OutboxEvent e where e.publishedAt < :cutoff order by e.publishedAt")
+    List<Long> findPublishedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,8 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.OrderItem;
+import com.jean.servesmart.restaurant.model.Orders;
+
+// One export row: an order and one of its lines, or a null line for an order that has none.
+public record PaidOrderLine(Orders order, OrderItem item) {
+}
@@ -2,6 +2,12 @@ package com.jean.servesmart.restaurant.repository;
 
 import com.jean.servesmart.restaurant.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 import java.util.List;
 
 
@@ -11,4 +17,19 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     List<User> findByActive(boolean active);
+
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
+
+    @Query("select u.email from User u where u.id = :id")
+    Optional<String> findEmailById(@Param("id") Integer id);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Only replaces the hash that was verified, so a password changed meanwhile is never overwritten.
+    @Transactional
+    @Modifying
+    @Query("update User u set u.passwordHash = :newHash where u.id = :id and u.passwordHash = :oldHash")
+    int replacePasswordHash(@Param("id") Integer id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
@@ -1,7 +1,10 @@
 package com.jean.servesmart.restaurant.security;
 
+import com.jean.servesmart.restaurant.jfr.JwtAuthenticationEvent;
 import com.jean.servesmart.restaurant.service.interfaces.JwtService;
+import com.jean.servesmart.restaurant.service.interfaces.TokenRevocationService;
 import com.jean.servesmart.restaurant.service.interfaces.UserDetailsServiceCustom;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,10 +27,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsServiceCustom userDetailsService;
+    private final TokenRevocationService revocations;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsServiceCustom userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsServiceCustom userDetailsService,
+                                   TokenRevocationService revocations) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.revocations = revocations;
     }
 
     @Override
@@ -42,22 +48,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
 
         try {
-            String username = jwtService.extractUsername(token);
+            long parseStart = System.nanoTime();
+            // one signature check per request; everything below reads from these claims
+            Claims claims = jwtService.parseClaims(token);
+            String username = claims.getSubject();
+            event.addParseDuration(System.nanoTime() - parseStart);
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // before the user lookup, so a logged-out token costs no query
+            if (revocations.isRevoked(claims.getId())) {
+                event.setOutcome(JwtAuthenticationEvent.REVOKED);
+            } else if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                long lookupStart = System.nanoTime();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                event.setUserLookupDuration(System.nanoTime() - lookupStart);
 
-                if (jwtService.isTokenValid(token, userDetails)) {
+                if (jwtService.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    event.setOutcome(JwtAuthenticationEvent.AUTHENTICATED);
+                } else {
+                    event.setOutcome(JwtAuthenticationEvent.REJECTED);
                 }
+            } else {
+                event.setOutcome(username == null ? JwtAuthenticationEvent.REJECTED : JwtAuthenticationEvent.ALREADY_AUTHENTICATED);
             }
         } catch (Exception ex) {
             logger.warn("JWT authentication failed: {}", ex.getMessage());
+        } finally {
+            event.commit();
         }
 
         filterChain.doFilter(request, response);
@@ -7,36 +7,59 @@ import com.jean.servesmart.restaurant.dto.user.UserResponseDto;
 import com.jean.servesmart.restaurant.exception.auth.AuthInvalidDataException;
 import com.jean.servesmart.restaurant.exception.auth.InactiveAccountException;
 import com.jean.servesmart.restaurant.exception.auth.InvalidCredentialsException;
+import com.jean.servesmart.restaurant.exception.auth.PasswordHashingBusyException;
+import com.jean.servesmart.restaurant.jfr.LoginEvent;
 import com.jean.servesmart.restaurant.model.User;
 import com.jean.servesmart.restaurant.repository.UserRepository;
 import com.jean.servesmart.restaurant.service.interfaces.AuthService;
 import com.jean.servesmart.restaurant.service.interfaces.JwtService;
 import com.jean.servesmart.restaurant.service.interfaces.LoginLogService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import com.jean.servesmart.restaurant.service.interfaces.RefreshTokenService;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+// Deliberately not @Transactional: the user lookup and the log/rehash writes each take a connection
+// only for their own statement, and none is held while BCrypt runs on the hashing executor.
 @Service
-@Transactional
 public class AuthImpl implements AuthService {
 
     private final UserRepository repo;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final LoginLogService loginLogService;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokens;
 
     public AuthImpl(UserRepository repo,
-                    BCryptPasswordEncoder passwordEncoder,
+                    PasswordHashingService passwordHashing,
                     LoginLogService loginLogService,
-                    JwtService jwtService) {
+                    JwtService jwtService,
+                    RefreshTokenService refreshTokens) {
         this.repo = repo;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
         this.loginLogService = loginLogService;
         this.jwtService = jwtService;
+        this.refreshTokens = refreshTokens;
     }
 
     @Override
     public AuthResponseDto login(UserLoginDto dto) {
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        try {
+            return authenticate(dto, event);
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    public AuthResponseDto refresh(String refreshToken) {
+        // no password and no BCrypt: the refresh token was checked by hash lookup and is now spent
+        RefreshTokenService.Rotation rotation = refreshTokens.rotate(refreshToken);
+        return toAuthResponse(rotation.user(), rotation.refreshToken());
+    }
+
+    private AuthResponseDto authenticate(UserLoginDto dto, LoginEvent event) {
 
         if (dto == null) {
             throw new AuthInvalidDataException();
@@ -52,29 +75,56 @@ public class AuthImpl implements AuthService {
 
         String email = dto.getEmail().trim();
 
+        event.setOutcome(LoginEvent.UNKNOWN_USER);
         User user = repo.findByEmail(email)
                 .orElseThrow(InvalidCredentialsException::new);
+        event.setUserId(user.getId());
 
         if (!user.isActive()) {
+            event.setOutcome(LoginEvent.INACTIVE);
+            loginLogService.logAsync(user.getId(), "LOGIN_INACTIVE");
             throw new InactiveAccountException();
         }
 
-        if (!passwordEncoder.matches(dto.getPassword(), user.getPasswordHash())) {
+        long bcryptStart = System.nanoTime();
+        boolean matches = passwordHashing.matches(dto.getPassword(), user.getPasswordHash());
+        event.setBcryptDuration(System.nanoTime() - bcryptStart);
+        if (!matches) {
+            event.setOutcome(LoginEvent.BAD_PASSWORD);
+            loginLogService.logAsync(user.getId(), "LOGIN_FAILED");
             throw new InvalidCredentialsException();
         }
 
+        if (passwordHashing.needsRehash(user.getPasswordHash())) {
+            rehash(user, dto.getPassword());
+        }
+
         logLogin(user.getId(), "LOGIN_SUCCESS");
 
-        UserResponseDto userDto = toResponse(user);
-        String token = jwtService.generateToken(user);
+        AuthResponseDto authResponse = toAuthResponse(user, refreshTokens.issue(user));
 
-        AuthResponseDto authResponse = new AuthResponseDto();
-        authResponse.setUser(userDto);
-        authResponse.setToken(token);
+        event.setOutcome(LoginEvent.SUCCESS);
+        return authResponse;
+    }
 
+    private AuthResponseDto toAuthResponse(User user, String refreshToken) {
+        AuthResponseDto authResponse = new AuthResponseDto();
+        authResponse.setUser(toResponse(user));
+        authResponse.setToken(jwtService.generateToken(user));
+        authResponse.setRefreshToken(refreshToken);
         return authResponse;
     }
 
+    // The work factor changed since this hash was made; the plain password is only known here.
+    private void rehash(User user, String rawPassword) {
+        try {
+            String upgraded = passwordHashing.encode(rawPassword);
+            repo.replacePasswordHash(user.getId(), user.getPasswordHash(), upgraded);
+        } catch (PasswordHashingBusyException ex) {
+            // the login itself succeeded; the next one tries again
+        }
+    }
+
     private void logLogin(Integer userId, String status) {
         LoginLogCreateDto logDto = new LoginLogCreateDto();
         logDto.setUserId(userId);
@@ -0,0 +1,145 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.jfr.FlightRecordingDto;
+import com.jean.servesmart.restaurant.exception.jfr.FlightRecordingStateException;
+import com.jean.servesmart.restaurant.service.interfaces.FlightRecorderService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+// One on-demand JFR recording at a time, controlled from /api/jfr. The servesmart.* events are
+// enabled by every JFR configuration, so they show up next to GC, lock and allocation events.
+@Service
+public class FlightRecorderImpl implements FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderImpl.class);
+    private static final String RECORDING_NAME = "servesmart";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final String defaultSettings;
+    private final long defaultMaxAgeMinutes;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+    private String settings;
+
+    public FlightRecorderImpl(
+            @Value("${app.jfr.directory:./data/jfr}") String directory,
+            @Value("${app.jfr.settings:profile}") String defaultSettings,
+            @Value("${app.jfr.max-age-minutes:30}") long defaultMaxAgeMinutes,
+            @Value("${app.jfr.max-size-mb:250}") long maxSizeMb
+    ) {
+        this.directory = Paths.get(directory);
+        this.defaultSettings = defaultSettings;
+        this.defaultMaxAgeMinutes = defaultMaxAgeMinutes;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @Override
+    public synchronized Optional<FlightRecordingDto> getStatus() {
+        return Optional.ofNullable(recording).map(r -> toDto(r, null));
+    }
+
+    @Override
+    public synchronized FlightRecordingDto start(String settings, Long maxAgeMinutes) {
+        if (recording != null) {
+            throw new FlightRecordingStateException("A recording is already running");
+        }
+
+        String name = settings == null || settings.isBlank() ? defaultSettings : settings.trim();
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException ex) {
+            throw new FlightRecordingStateException("Unknown JFR settings: " + name);
+        }
+
+        Recording r = new Recording(configuration);
+        r.setName(RECORDING_NAME);
+        r.setToDisk(true);
+        r.setMaxAge(Duration.ofMinutes(maxAgeMinutes != null && maxAgeMinutes > 0 ? maxAgeMinutes : defaultMaxAgeMinutes));
+        r.setMaxSize(maxSizeBytes);
+        r.start();
+
+        recording = r;
+        this.settings = name;
+        logger.info("JFR recording {} started with '{}' settings", r.getId(), name);
+        return toDto(r, null);
+    }
+
+    @Override
+    public synchronized FlightRecordingDto stop() {
+        if (recording == null) {
+            throw new FlightRecordingStateException("No recording is running");
+        }
+
+        Recording r = recording;
+        recording = null;
+        try {
+            r.stop();
+            Files.createDirectories(directory);
+            Path file = directory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+            r.dump(file);
+            logger.info("JFR recording {} written to {}", r.getId(), file);
+            return toDto(r, file);
+        } catch (IOException ex) {
+            throw new FlightRecordingStateException("Could not write recording: " + ex.getMessage());
+        } finally {
+            r.close();
+        }
+    }
+
+    @Override
+    public void dump(OutputStream out) throws IOException {
+        Path snapshot = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        try {
+            synchronized (this) {
+                if (recording == null) {
+                    throw new FlightRecordingStateException("No recording is running");
+                }
+                recording.dump(snapshot);
+            }
+            // streamed outside the lock; the snapshot file is ours alone
+            Files.copy(snapshot, out);
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    private FlightRecordingDto toDto(Recording r, Path file) {
+        FlightRecordingDto dto = new FlightRecordingDto();
+        dto.setId(r.getId());
+        dto.setName(r.getName());
+        dto.setState(r.getState().name());
+        dto.setSettings(settings);
+        if (r.getStartTime() != null) {
+            dto.setStartedAt(LocalDateTime.ofInstant(r.getStartTime(), ZoneId.systemDefault()));
+        }
+        dto.setMaxAgeMinutes(r.getMaxAge() != null ? r.getMaxAge().toMinutes() : 0);
+        if (file != null) {
+            dto.setFile(file.toString());
+            try {
+                dto.setSizeBytes(Files.size(file));
+            } catch (IOException ex) {
+                dto.setSizeBytes(-1);
+            }
+        }
+        return dto;
+    }
+}
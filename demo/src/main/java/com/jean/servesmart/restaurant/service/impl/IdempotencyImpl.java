@@ -0,0 +1,309 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.exception.idempotency.IdempotencyKeyInvalidException;
+import com.jean.servesmart.restaurant.exception.idempotency.IdempotencyKeyReusedException;
+import com.jean.servesmart.restaurant.model.IdempotencyRecord;
+import com.jean.servesmart.restaurant.repository.IdempotencyRecordRepository;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import com.jean.servesmart.restaurant.service.interfaces.IdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyImpl.class);
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int PURGE_BATCH = 1000;
+
+    private final IdempotencyRecordRepository recordRepo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final long waitTimeoutMs;
+    private final boolean persist;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // TTL is the same for every entry, so insertion order is also expiry order.
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public IdempotencyImpl(
+            IdempotencyRecordRepository recordRepo,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.idempotency.ttl-ms:86400000}") long ttlMs,
+            @Value("${app.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${app.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+            @Value("${app.idempotency.persist:false}") boolean persist
+    ) {
+        this.recordRepo = recordRepo;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.persist = persist;
+    }
+
+    @Override
+    public <T> ResponseEntity<ApiResponse<T>> execute(String scope, String key, Object request, Class<T> dataType,
+                                                      Supplier<ResponseEntity<ApiResponse<T>>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        String trimmed = key.trim();
+        if (trimmed.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyKeyInvalidException("Idempotency key is too long");
+        }
+
+        String storeKey = scope + ":" + trimmed;
+        String requestHash = requestHash(request);
+
+        while (true) {
+            long now = System.currentTimeMillis();
+            evictExpired(now);
+
+            Entry fresh = new Entry(storeKey, requestHash, now + ttlMs);
+            Entry existing = entries.putIfAbsent(storeKey, fresh);
+
+            if (existing == null) {
+                insertionOrder.add(fresh);
+                trimToCapacity();
+                return runOnce(fresh, dataType, action);
+            }
+
+            if (!existing.isExpired(now)) {
+                if (!existing.requestHash.equals(requestHash)) {
+                    throw new IdempotencyKeyReusedException();
+                }
+                return replay(existing);
+            }
+
+            remove(existing);
+        }
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    // Expired records are deleted by key in chunks, one bulk statement and transaction each
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        evictExpired(System.currentTimeMillis());
+        if (!persist) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int deleted;
+        do {
+            List<String> keys = recordRepo.findExpiredKeys(now, PageRequest.of(0, PURGE_BATCH));
+            if (keys.isEmpty()) {
+                return;
+            }
+            Integer chunk = transactionTemplate.execute(status -> recordRepo.deleteByKeyIn(keys));
+            deleted = chunk != null ? chunk : 0;
+        } while (deleted == PURGE_BATCH);
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> runOnce(Entry entry, Class<T> dataType,
+                                                       Supplier<ResponseEntity<ApiResponse<T>>> action) {
+        try {
+            ResponseEntity<ApiResponse<T>> stored = loadPersisted(entry, dataType);
+            if (stored != null) {
+                entry.future.complete(stored);
+                return markReplayed(stored);
+            }
+
+            ResponseEntity<ApiResponse<T>> response = action.get();
+            entry.future.complete(response);
+
+            if (response.getStatusCode().is5xxServerError()) {
+                // let the client retry a server failure for real
+                remove(entry);
+            } else {
+                store(entry, response);
+            }
+            return response;
+        } catch (RuntimeException ex) {
+            remove(entry);
+            entry.future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<ApiResponse<T>> replay(Entry entry) {
+        try {
+            ResponseEntity<?> response = entry.future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            return markReplayed((ResponseEntity<ApiResponse<T>>) response);
+        } catch (TimeoutException ex) {
+            return inProgress();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return inProgress();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> markReplayed(ResponseEntity<ApiResponse<T>> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> inProgress() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("A request with this Idempotency-Key is still in progress"));
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> loadPersisted(Entry entry, Class<T> dataType) {
+        if (!persist) {
+            return null;
+        }
+
+        String storeKey = entry.key;
+        Optional<IdempotencyRecord> record = recordRepo.findByKeyAndExpiresAtAfter(storeKey, LocalDateTime.now());
+        if (record.isEmpty()) {
+            return null;
+        }
+        // records stored before request hashes existed have none and replay as before
+        String storedHash = record.get().getRequestHash();
+        if (storedHash != null && !storedHash.equals(entry.requestHash)) {
+            throw new IdempotencyKeyReusedException();
+        }
+
+        try {
+            JavaType type = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+            ApiResponse<T> body = objectMapper.readValue(record.get().getResponseBody(), type);
+            return ResponseEntity.status(record.get().getStatusCode()).body(body);
+        } catch (Exception ex) {
+            logger.warn("Could not read stored idempotent response {}: {}", storeKey, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void store(Entry entry, ResponseEntity<?> response) {
+        if (!persist) {
+            return;
+        }
+
+        try {
+            IdempotencyRecord record = new IdempotencyRecord();
+            record.setKey(entry.key);
+            record.setRequestHash(entry.requestHash);
+            record.setStatusCode(response.getStatusCode().value());
+            record.setResponseBody(objectMapper.writeValueAsString(response.getBody()));
+            record.setExpiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.expiresAt), ZoneId.systemDefault()));
+            recordRepo.save(record);
+        } catch (Exception ex) {
+            // the in-memory entry still protects this instance
+            logger.warn("Could not persist idempotent response {}: {}", entry.key, ex.getMessage());
+        }
+    }
+
+    // Every removal goes through here so the queue never holds entries the map has dropped
+    private void remove(Entry entry) {
+        entries.remove(entry.key, entry);
+        insertionOrder.remove(entry);
+    }
+
+    private void evictExpired(long now) {
+        Entry head = insertionOrder.peek();
+        while (head != null && head.isExpired(now)) {
+            if (insertionOrder.remove(head)) {
+                entries.remove(head.key, head);
+            }
+            head = insertionOrder.peek();
+        }
+    }
+
+    private void trimToCapacity() {
+        Iterator<Entry> oldestFirst = insertionOrder.iterator();
+        while (entries.size() > maxEntries && oldestFirst.hasNext()) {
+            Entry oldest = oldestFirst.next();
+            // a running entry is what its concurrent duplicates wait on; evicting it would run them again
+            if (!oldest.future.isDone()) {
+                continue;
+            }
+            oldestFirst.remove();
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    int queued() {
+        return insertionOrder.size();
+    }
+
+    // Binds a key to who sent the request and what it contained
+    private String requestHash(Object request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String caller = auth != null ? Objects.toString(auth.getName(), "") : "";
+        try {
+            String body = objectMapper.writeValueAsString(request);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((caller + "\n" + body).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final String requestHash;
+        private final long expiresAt;
+        private final CompletableFuture<ResponseEntity<?>> future = new CompletableFuture<>();
+
+        private Entry(String key, String requestHash, long expiresAt) {
+            this.key = key;
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.jean.servesmart.restaurant.service.interfaces.JwtService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -15,9 +16,11 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
@@ -25,6 +28,8 @@ public class JwtImpl implements JwtService {
 
     private final long expirationMs;
     private final SecretKey key;
+    // immutable and thread-safe, so built once rather than per token
+    private final JwtParser parser;
 
     public JwtImpl(
             @Value("${app.jwt.secret}") String secret,
@@ -32,6 +37,7 @@ public class JwtImpl implements JwtService {
     ) {
         this.expirationMs = expirationMs;
         this.key = createKey(secret);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     @Override
@@ -54,16 +60,30 @@ public class JwtImpl implements JwtService {
         return buildToken(claims, user.getEmail());
     }
 
+    @Override
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
     @Override
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
+    @Override
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    @Override
+    public Instant extractExpiration(String token) {
+        return extractClaim(token, Claims::getExpiration).toInstant();
+    }
+
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            String username = extractUsername(token);
-            return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+            return isTokenValid(parseClaims(token), userDetails);
         } catch (ExpiredJwtException ex) {
             return false;
         } catch (JwtException | IllegalArgumentException ex) {
@@ -71,34 +91,33 @@ public class JwtImpl implements JwtService {
         }
     }
 
+    @Override
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        String username = claims.getSubject();
+        return username != null && username.equals(userDetails.getUsername()) && !isExpired(claims);
+    }
+
     private String buildToken(Map<String, Object> extraClaims, String subject) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
         return Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(subject)
+                // jti, so a single token can be revoked on logout
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = extractClaim(token, Claims::getExpiration);
-        return expiration.before(new Date());
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.before(new Date());
     }
 
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return claimsResolver.apply(parseClaims(token));
     }
 
     private SecretKey createKey(String secret) {
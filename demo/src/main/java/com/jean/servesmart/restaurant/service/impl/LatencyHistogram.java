@@ -0,0 +1,86 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.txprofile.LatencyHistogramDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free histogram with power-of-two microsecond buckets (1us .. ~16.8s, then overflow).
+// Percentiles are the upper bound of the bucket they fall in.
+final class LatencyHistogram {
+
+    private static final int BUCKETS = 26;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    void record(long micros) {
+        long value = Math.max(0, micros);
+        int bucket = value <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(value - 1);
+        counts.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+        count.increment();
+        totalMicros.add(value);
+        maxMicros.accumulate(value);
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    long totalMicros() {
+        return totalMicros.sum();
+    }
+
+    LatencyHistogramDto toDto() {
+        long[] snapshot = new long[BUCKETS];
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            n += snapshot[i];
+        }
+
+        LatencyHistogramDto dto = new LatencyHistogramDto();
+        long total = totalMicros.sum();
+        long max = maxMicros.get();
+        dto.setCount(n);
+        dto.setAvgMs(n == 0 ? 0 : toMs(total) / n);
+        dto.setP50Ms(percentile(snapshot, n, 0.50, max));
+        dto.setP95Ms(percentile(snapshot, n, 0.95, max));
+        dto.setP99Ms(percentile(snapshot, n, 0.99, max));
+        dto.setMaxMs(toMs(max));
+        dto.setTotalMs(toMs(total));
+
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            if (snapshot[i] > 0) {
+                buckets.put(i == BUCKETS - 1 ? "overflow" : "<=" + toMs(1L << i) + "ms", snapshot[i]);
+            }
+        }
+        dto.setBuckets(buckets);
+        return dto;
+    }
+
+    private static double percentile(long[] snapshot, long n, double p, long max) {
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(p * n);
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return toMs(Math.min(1L << i, max));
+            }
+        }
+        return toMs(max);
+    }
+
+    private static double toMs(long micros) {
+        return micros / 1000.0;
+    }
+}
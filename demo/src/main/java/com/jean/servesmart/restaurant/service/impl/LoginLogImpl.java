@@ -5,26 +5,55 @@ import com.jean.servesmart.restaurant.dto.loginlog.LoginLogResponseDto;
 import com.jean.servesmart.restaurant.exception.loginlog.LoginLogInvalidDataException;
 import com.jean.servesmart.restaurant.exception.loginlog.LoginLogUserNotFoundException;
 import com.jean.servesmart.restaurant.model.LoginLog;
+import com.jean.servesmart.restaurant.model.LoginLogStatus;
 import com.jean.servesmart.restaurant.model.User;
 import com.jean.servesmart.restaurant.repository.LoginLogRepository;
+import com.jean.servesmart.restaurant.repository.LoginLogView;
 import com.jean.servesmart.restaurant.repository.UserRepository;
 import com.jean.servesmart.restaurant.service.interfaces.LoginLogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class LoginLogImpl implements LoginLogService {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoginLogImpl.class);
+
+    private static final List<LoginLogStatus> AUDIT_STATUSES = List.of(LoginLogStatus.LOGIN_SUCCESS, LoginLogStatus.LOGOUT);
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final LoginLogRepository logRepo;
     private final UserRepository userRepo;
 
-    public LoginLogImpl(LoginLogRepository logRepo, UserRepository userRepo) {
+    // bounded: under a credential-stuffing burst entries are dropped (and counted) rather than piling up
+    private final BlockingQueue<Pending> pending;
+    private final LongAdder dropped = new LongAdder();
+
+    public LoginLogImpl(
+            LoginLogRepository logRepo,
+            UserRepository userRepo,
+            @Value("${app.login-log.async.queue-capacity:10000}") int queueCapacity
+    ) {
         this.logRepo = logRepo;
         this.userRepo = userRepo;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
     }
 
     @Override
@@ -42,49 +71,98 @@ public class LoginLogImpl implements LoginLogService {
             throw new LoginLogInvalidDataException("Status is required");
         }
 
+        LoginLogStatus status = LoginLogStatus.parse(dto.getStatus());
+        if (status == null) {
+            throw new LoginLogInvalidDataException("Unknown status " + dto.getStatus().trim());
+        }
+
         User user = userRepo.findById(dto.getUserId())
                 .orElseThrow(LoginLogUserNotFoundException::new);
 
-        String normalizedStatus = dto.getStatus().trim().toUpperCase();
-
         LoginLog log = new LoginLog();
         log.setUser(user);
-        log.setStatus(normalizedStatus);
+        log.setStatus(status);
 
         logRepo.save(log);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void logAsync(Integer userId, String status) {
+        LoginLogStatus parsed = LoginLogStatus.parse(status);
+        if (userId == null || parsed == null) {
+            return;
+        }
+        if (!pending.offer(new Pending(userId, parsed, LocalDateTime.now()))) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.login-log.async.flush-interval-ms:1000}")
+    public void flushPending() {
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            logger.warn("Login log queue full, dropped {} entries", lost);
+        }
+
+        List<Pending> batch = new ArrayList<>();
+        pending.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // one lookup for the batch; users deleted since the attempt are skipped
+        Map<Integer, User> users = userRepo.findAllById(batch.stream().map(Pending::userId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<LoginLog> logs = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            User user = users.get(p.userId());
+            if (user == null) {
+                continue;
+            }
+            LoginLog log = new LoginLog();
+            log.setUser(user);
+            log.setStatus(p.status());
+            log.setDate(p.at());
+            logs.add(log);
+        }
+        logRepo.saveAll(logs);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<LoginLogResponseDto> getByUser(Integer userId) {
+    public List<LoginLogResponseDto> getByUser(Integer userId, int page, int size) {
 
         if (userId == null) {
             throw new LoginLogInvalidDataException();
         }
 
-        if (!userRepo.existsById(userId)) {
-            throw new LoginLogUserNotFoundException();
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new LoginLogInvalidDataException("Page must be 0 or more and size between 1 and " + MAX_PAGE_SIZE);
         }
 
-        return logRepo.findByUser_IdOrderByDateDesc(userId)
+        // every row belongs to this user, so the email is read once instead of loading User per row
+        String email = userRepo.findEmailById(userId)
+                .orElseThrow(LoginLogUserNotFoundException::new);
+
+        return logRepo.findByUser_IdAndStatusInOrderByDateDescIdDesc(userId, AUDIT_STATUSES, PageRequest.of(page, size))
                 .stream()
-                .filter(l -> {
-                    String s = l.getStatus();
-                    if (s == null) return false;
-                    String up = s.trim().toUpperCase();
-                    return "LOGIN_SUCCESS".equals(up) || "LOGOUT".equals(up);
-                })
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+                .map(l -> toResponse(l, userId, email))
+                .toList();
     }
 
-    private LoginLogResponseDto toResponse(LoginLog l) {
+    private LoginLogResponseDto toResponse(LoginLogView l, Integer userId, String email) {
         LoginLogResponseDto dto = new LoginLogResponseDto();
         dto.setId(l.getId());
-        dto.setUserId(l.getUser() != null ? l.getUser().getId() : null);
-        dto.setUserEmail(l.getUser() != null ? l.getUser().getEmail() : null);
-        dto.setStatus(l.getStatus());
+        dto.setUserId(userId);
+        dto.setUserEmail(email);
+        dto.setStatus(l.getStatus().name());
         dto.setDate(l.getDate());
         return dto;
     }
+
+    private record Pending(Integer userId, LoginLogStatus status, LocalDateTime at) {
+    }
 }
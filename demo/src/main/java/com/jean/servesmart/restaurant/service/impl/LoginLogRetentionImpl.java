@@ -0,0 +1,183 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.loginlog.LoginActivityDailyDto;
+import com.jean.servesmart.restaurant.exception.loginlog.LoginLogInvalidDataException;
+import com.jean.servesmart.restaurant.exception.loginlog.LoginLogUserNotFoundException;
+import com.jean.servesmart.restaurant.model.LoginActivityDaily;
+import com.jean.servesmart.restaurant.repository.LoginActivityDailyRepository;
+import com.jean.servesmart.restaurant.repository.LoginLogCompactionRow;
+import com.jean.servesmart.restaurant.repository.LoginLogRepository;
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import com.jean.servesmart.restaurant.service.interfaces.LoginLogRetentionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// LoginLog gets a row per login, logout and failed attempt and was never pruned. Rows older than
+// the retention window are folded into one LoginActivityDaily row per user and day, then deleted,
+// so the raw table only holds recent activity and the per-user audit query stays short.
+@Service
+public class LoginLogRetentionImpl implements LoginLogRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginLogRetentionImpl.class);
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final LoginLogRepository logRepo;
+    private final LoginActivityDailyRepository dailyRepo;
+    private final UserRepository userRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public LoginLogRetentionImpl(
+            LoginLogRepository logRepo,
+            LoginActivityDailyRepository dailyRepo,
+            UserRepository userRepo,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.login-log.retention.enabled:true}") boolean enabled,
+            @Value("${app.login-log.retention.days:90}") int retentionDays,
+            @Value("${app.login-log.retention.batch-size:1000}") int batchSize
+    ) {
+        this.logRepo = logRepo;
+        this.dailyRepo = dailyRepo;
+        this.userRepo = userRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.login-log.retention.cron:0 0 4 * * *}")
+    public void compactScheduled() {
+        if (!enabled) {
+            return;
+        }
+
+        // whole days only, so a day is never rolled up while it can still get raw rows
+        int compacted = compactOlderThan(LocalDate.now().minusDays(retentionDays).atStartOfDay());
+        if (compacted > 0) {
+            logger.info("Compacted {} login log rows older than {} days", compacted, retentionDays);
+        }
+    }
+
+    @Override
+    public int compactOlderThan(LocalDateTime cutoff) {
+        int total = 0;
+        int compacted;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> compactChunk(cutoff, status));
+            compacted = chunk != null ? chunk : 0;
+            total += compacted;
+        } while (compacted == batchSize);
+        return total;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LoginActivityDailyDto> getDailyActivity(Integer userId, LocalDate from, LocalDate to) {
+        if (userId == null || from == null || to == null) {
+            throw new LoginLogInvalidDataException();
+        }
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new LoginLogInvalidDataException("Invalid date range");
+        }
+        if (!userRepo.existsById(userId)) {
+            throw new LoginLogUserNotFoundException();
+        }
+
+        return dailyRepo.findByUser_IdAndDayBetweenOrderByDayDesc(userId, from, to)
+                .stream()
+                .map(d -> toResponse(d, userId))
+                .toList();
+    }
+
+    private int compactChunk(LocalDateTime cutoff, TransactionStatus status) {
+        List<LoginLogCompactionRow> rows = logRepo.findCompactionChunk(cutoff, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // delete first: if another instance already took some of these rows, counting them again
+        // would double its totals, so this chunk is rolled back and the run ends
+        if (logRepo.deleteByIdIn(rows.stream().map(LoginLogCompactionRow::getId).toList()) != rows.size()) {
+            status.setRollbackOnly();
+            logger.warn("Login log rows were compacted concurrently; stopping this run");
+            return 0;
+        }
+
+        LocalDate firstDay = rows.get(0).getDate().toLocalDate();
+        LocalDate lastDay = rows.get(rows.size() - 1).getDate().toLocalDate();
+        Map<DayKey, LoginActivityDaily> rollups = dailyRepo.findByUser_IdInAndDayBetween(
+                        rows.stream().map(LoginLogCompactionRow::getUserId).distinct().toList(), firstDay, lastDay)
+                .stream()
+                .collect(Collectors.toMap(d -> new DayKey(d.getUser().getId(), d.getDay()), Function.identity()));
+
+        Map<DayKey, LoginActivityDaily> changed = new HashMap<>();
+        for (LoginLogCompactionRow row : rows) {
+            DayKey key = new DayKey(row.getUserId(), row.getDate().toLocalDate());
+            LoginActivityDaily daily = rollups.computeIfAbsent(key, this::newRollup);
+            add(daily, row);
+            changed.put(key, daily);
+        }
+
+        dailyRepo.saveAll(changed.values());
+        return rows.size();
+    }
+
+    private LoginActivityDaily newRollup(DayKey key) {
+        LoginActivityDaily daily = new LoginActivityDaily();
+        daily.setUser(userRepo.getReferenceById(key.userId()));
+        daily.setDay(key.day());
+        return daily;
+    }
+
+    private static void add(LoginActivityDaily daily, LoginLogCompactionRow row) {
+        LocalDateTime at = row.getDate();
+        switch (row.getStatus()) {
+            case LOGIN_SUCCESS -> {
+                daily.setSessionCount(daily.getSessionCount() + 1);
+                if (daily.getFirstLogin() == null || at.isBefore(daily.getFirstLogin())) {
+                    daily.setFirstLogin(at);
+                }
+            }
+            case LOGOUT -> {
+                if (daily.getLastLogout() == null || at.isAfter(daily.getLastLogout())) {
+                    daily.setLastLogout(at);
+                }
+            }
+            case LOGIN_FAILED, LOGIN_INACTIVE -> daily.setFailedCount(daily.getFailedCount() + 1);
+        }
+    }
+
+    private LoginActivityDailyDto toResponse(LoginActivityDaily d, Integer userId) {
+        LoginActivityDailyDto dto = new LoginActivityDailyDto();
+        dto.setUserId(userId);
+        dto.setDay(d.getDay());
+        dto.setFirstLogin(d.getFirstLogin());
+        dto.setLastLogout(d.getLastLogout());
+        dto.setSessionCount(d.getSessionCount());
+        dto.setFailedCount(d.getFailedCount());
+        return dto;
+    }
+
+    private record DayKey(Integer userId, LocalDate day) {
+    }
+}
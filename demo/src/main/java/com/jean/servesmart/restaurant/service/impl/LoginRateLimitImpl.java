@@ -0,0 +1,68 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.exception.auth.LoginRateLimitedException;
+import com.jean.servesmart.restaurant.ratelimit.KeyedTokenBuckets;
+import com.jean.servesmart.restaurant.service.interfaces.LoginRateLimitService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class LoginRateLimitImpl implements LoginRateLimitService {
+
+    private final boolean enabled;
+    private final KeyedTokenBuckets byAddress;
+    private final KeyedTokenBuckets byAccount;
+
+    public LoginRateLimitImpl(
+            @Value("${app.login-rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.login-rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${app.login-rate-limit.ip.refill-interval-ms:3000}") long ipRefillIntervalMs,
+            @Value("${app.login-rate-limit.account.capacity:5}") int accountCapacity,
+            @Value("${app.login-rate-limit.account.refill-interval-ms:60000}") long accountRefillIntervalMs,
+            @Value("${app.login-rate-limit.max-keys:100000}") int maxKeys
+    ) {
+        this.enabled = enabled;
+        this.byAddress = new KeyedTokenBuckets(ipCapacity, TimeUnit.MILLISECONDS.toNanos(ipRefillIntervalMs), maxKeys);
+        this.byAccount = new KeyedTokenBuckets(accountCapacity, TimeUnit.MILLISECONDS.toNanos(accountRefillIntervalMs), maxKeys);
+    }
+
+    @Override
+    public void acquire(String clientAddress, String email) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long wait = clientAddress == null ? 0 : byAddress.tryAcquire(clientAddress, now);
+        if (wait == 0 && email != null && !email.isBlank()) {
+            // checked second, so a sprayer that is already blocked by address cannot drain the victim's account bucket
+            wait = byAccount.tryAcquire(accountKey(email), now);
+        }
+        if (wait > 0) {
+            throw new LoginRateLimitedException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999)));
+        }
+    }
+
+    @Override
+    public void succeeded(String email) {
+        if (enabled && email != null) {
+            byAccount.reset(accountKey(email));
+        }
+    }
+
+    // Full buckets carry no state; dropping them keeps the maps at the size of the current abuse.
+    @Scheduled(fixedDelayString = "${app.login-rate-limit.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        long now = System.nanoTime();
+        byAddress.evictIdle(now);
+        byAccount.evictIdle(now);
+    }
+
+    private static String accountKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
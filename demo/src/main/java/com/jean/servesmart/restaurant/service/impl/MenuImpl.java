@@ -5,6 +5,7 @@ import com.jean.servesmart.restaurant.exception.menuitem.MenuItemAlreadyExistsEx
 import com.jean.servesmart.restaurant.exception.menuitem.MenuItemCategoryNotFoundException;
 import com.jean.servesmart.restaurant.exception.menuitem.MenuItemInvalidDataException;
 import com.jean.servesmart.restaurant.exception.menuitem.MenuItemNotFoundException;
+import com.jean.servesmart.restaurant.jfr.MenuReadEvent;
 import com.jean.servesmart.restaurant.model.MenuCategory;
 import com.jean.servesmart.restaurant.model.MenuItems;
 import com.jean.servesmart.restaurant.repository.MenuCategoryRepository;
@@ -15,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 @Service
 @Transactional
@@ -57,10 +60,10 @@ public class MenuImpl implements MenuService {
     @Override
     @Transactional(readOnly = true)
     public List<MenuItemDto> getAll() {
-        return menuRepo.findAll()
+        return recorded("getAll", null, () -> menuRepo.findAll()
                 .stream()
                 .map(this::toDto)
-                .toList();
+                .toList(), List::size);
     }
 
     @Override
@@ -69,7 +72,8 @@ public class MenuImpl implements MenuService {
         if (id == null) {
             throw new MenuItemInvalidDataException();
         }
-        return menuRepo.findById(id).map(this::toDto);
+        return recorded("getById", null, () -> menuRepo.findById(id).map(this::toDto),
+                item -> item.isPresent() ? 1 : 0);
     }
 
     @Override
@@ -78,10 +82,27 @@ public class MenuImpl implements MenuService {
         if (categoryId == null) {
             throw new MenuItemInvalidDataException();
         }
-        return menuRepo.findByCategory_Id(categoryId)
+        return recorded("getByCategory", categoryId, () -> menuRepo.findByCategory_Id(categoryId)
                 .stream()
                 .map(this::toDto)
-                .toList();
+                .toList(), List::size);
+    }
+
+    // JFR event around the read; committed on failure too, so slow failing reads still show up
+    private <T> T recorded(String operation, Integer categoryId, Supplier<T> read, ToIntFunction<T> count) {
+        MenuReadEvent event = new MenuReadEvent(operation);
+        event.setCategoryId(categoryId);
+        event.begin();
+        try {
+            T result = read.get();
+            event.completed(count.applyAsInt(result));
+            return result;
+        } catch (RuntimeException ex) {
+            event.failed(ex);
+            throw ex;
+        } finally {
+            event.commit();
+        }
     }
 
     @Override
@@ -0,0 +1,109 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.model.Orders;
+import com.jean.servesmart.restaurant.repository.OrdersRepository;
+import com.jean.servesmart.restaurant.service.interfaces.OpenOrderIndexService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class OpenOrderIndexImpl implements OpenOrderIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenOrderIndexImpl.class);
+
+    private static final List<String> CLOSED_STATUSES = List.of("PAID", "CANCELLED");
+    // Held by a table while the transaction opening an order on it is in flight
+    private static final Integer PENDING = -1;
+
+    private final OrdersRepository ordersRepo;
+
+    private final Map<Integer, Integer> openOrderByTable = new ConcurrentHashMap<>();
+
+    public OpenOrderIndexImpl(OrdersRepository ordersRepo) {
+        this.ordersRepo = ordersRepo;
+    }
+
+    @Override
+    public Optional<Integer> findOpenOrder(Integer tableId) {
+        if (tableId == null) {
+            return Optional.empty();
+        }
+        Integer orderId = openOrderByTable.get(tableId);
+        return PENDING.equals(orderId) ? Optional.empty() : Optional.ofNullable(orderId);
+    }
+
+    @Override
+    public boolean tryReserve(Integer tableId, Integer orderId) {
+        if (tableId == null) {
+            return true;
+        }
+
+        Integer holder = openOrderByTable.putIfAbsent(tableId, PENDING);
+        if (holder != null) {
+            return holder.equals(orderId);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    // after a commit markOpen has already swapped in the order id; otherwise this frees the table
+                    openOrderByTable.remove(tableId, PENDING);
+                }
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public void markOpen(Integer tableId, Integer orderId) {
+        if (tableId == null || orderId == null) {
+            return;
+        }
+        AfterCommit.run(() -> openOrderByTable.put(tableId, orderId));
+    }
+
+    @Override
+    public void markClosed(Integer tableId, Integer orderId) {
+        if (tableId == null || orderId == null) {
+            return;
+        }
+        AfterCommit.run(() -> openOrderByTable.remove(tableId, orderId));
+    }
+
+    @Override
+    public void forget(Integer orderId) {
+        if (orderId == null) {
+            return;
+        }
+        AfterCommit.run(() -> openOrderByTable.values().remove(orderId));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Integer, Integer> rebuilt = new ConcurrentHashMap<>();
+        for (Orders o : ordersRepo.findByStatus_NameNotIn(CLOSED_STATUSES)) {
+            if (o.getRestaurantTable() != null) {
+                rebuilt.merge(o.getRestaurantTable().getId(), o.getId(), Math::max);
+            }
+        }
+
+        // tables claimed by transactions still in flight keep their claim
+        openOrderByTable.values().removeIf(orderId -> !PENDING.equals(orderId));
+        rebuilt.forEach(openOrderByTable::putIfAbsent);
+        logger.info("Open order index rebuilt with {} tables", rebuilt.size());
+    }
+}
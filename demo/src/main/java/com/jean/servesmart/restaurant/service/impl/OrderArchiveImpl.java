@@ -0,0 +1,195 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.order.OrderItemResponseDto;
+import com.jean.servesmart.restaurant.dto.order.OrderResponseDto;
+import com.jean.servesmart.restaurant.model.ArchivedOrder;
+import com.jean.servesmart.restaurant.model.ArchivedOrderItem;
+import com.jean.servesmart.restaurant.model.OrderItem;
+import com.jean.servesmart.restaurant.model.Orders;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderItemRepository;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderRepository;
+import com.jean.servesmart.restaurant.repository.OrderItemRepository;
+import com.jean.servesmart.restaurant.repository.OrdersRepository;
+import com.jean.servesmart.restaurant.service.interfaces.OrderArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderArchiveImpl implements OrderArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveImpl.class);
+
+    private static final List<String> ARCHIVABLE_STATUSES = List.of("PAID", "CANCELLED");
+
+    private final OrdersRepository ordersRepo;
+    private final OrderItemRepository orderItemRepo;
+    private final ArchivedOrderRepository archivedOrderRepo;
+    private final ArchivedOrderItemRepository archivedItemRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxAgeDays;
+    private final int batchSize;
+
+    public OrderArchiveImpl(
+            OrdersRepository ordersRepo,
+            OrderItemRepository orderItemRepo,
+            ArchivedOrderRepository archivedOrderRepo,
+            ArchivedOrderItemRepository archivedItemRepo,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.order-archive.enabled:true}") boolean enabled,
+            @Value("${app.order-archive.max-age-days:30}") int maxAgeDays,
+            @Value("${app.order-archive.batch-size:500}") int batchSize
+    ) {
+        this.ordersRepo = ordersRepo;
+        this.orderItemRepo = orderItemRepo;
+        this.archivedOrderRepo = archivedOrderRepo;
+        this.archivedItemRepo = archivedItemRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAgeDays = maxAgeDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.order-archive.cron:0 30 3 * * *}")
+    public void archiveScheduled() {
+        if (!enabled) {
+            return;
+        }
+
+        int moved = archiveOlderThan(LocalDateTime.now().minusDays(maxAgeDays));
+        if (moved > 0) {
+            logger.info("Archived {} orders older than {} days", moved, maxAgeDays);
+        }
+    }
+
+    @Override
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        int total = 0;
+        int moved;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            moved = chunk != null ? chunk : 0;
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OrderResponseDto> getById(Integer id) {
+        return archivedOrderRepo.findById(id)
+                .map(o -> toResponse(o, archivedItemRepo.findByOrderId(o.getId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> getByTable(Integer tableId) {
+        List<ArchivedOrder> orders = archivedOrderRepo.findByRestaurantTableId(tableId);
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, List<ArchivedOrderItem>> itemsByOrder = archivedItemRepo
+                .findByOrderIdIn(orders.stream().map(ArchivedOrder::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ArchivedOrderItem::getOrderId));
+
+        return orders.stream()
+                .map(o -> toResponse(o, itemsByOrder.getOrDefault(o.getId(), List.of())))
+                .toList();
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Orders> orders = ordersRepo.findByStatus_NameInAndCreateAtBeforeOrderByIdAsc(
+                ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        List<OrderItem> items = orderItemRepo.findByOrder_IdIn(orders.stream().map(Orders::getId).toList());
+
+        List<ArchivedOrder> archivedOrders = new ArrayList<>(orders.size());
+        for (Orders o : orders) {
+            archivedOrders.add(toArchived(o));
+        }
+
+        List<ArchivedOrderItem> archivedItems = new ArrayList<>(items.size());
+        for (OrderItem i : items) {
+            archivedItems.add(toArchived(i));
+        }
+
+        archivedOrderRepo.saveAll(archivedOrders);
+        archivedItemRepo.saveAll(archivedItems);
+
+        orderItemRepo.deleteAllInBatch(items);
+        ordersRepo.deleteAllInBatch(orders);
+
+        return orders.size();
+    }
+
+    private ArchivedOrder toArchived(Orders o) {
+        ArchivedOrder a = new ArchivedOrder();
+        a.setId(o.getId());
+        a.setUserId(o.getUser() != null ? o.getUser().getId() : null);
+        a.setUserEmail(o.getUser() != null ? o.getUser().getEmail() : null);
+        a.setRestaurantTableId(o.getRestaurantTable() != null ? o.getRestaurantTable().getId() : null);
+        a.setRestaurantTableLabel(o.getRestaurantTable() != null ? o.getRestaurantTable().getLabel() : null);
+        a.setStatusName(o.getStatus() != null ? o.getStatus().getName() : null);
+        a.setCreateAt(o.getCreateAt());
+        return a;
+    }
+
+    private ArchivedOrderItem toArchived(OrderItem i) {
+        ArchivedOrderItem a = new ArchivedOrderItem();
+        a.setId(i.getId());
+        a.setOrderId(i.getOrder().getId());
+        a.setMenuItemId(i.getMenuItem().getId());
+        a.setMenuItemName(i.getMenuItem().getName());
+        a.setItemsName(i.getItemsName());
+        a.setItemsPrice(i.getItemsPrice());
+        a.setItemsQuantity(i.getItemsQuantity());
+        a.setActive(i.isActive());
+        a.setNotes(i.getNotes());
+        return a;
+    }
+
+    private OrderResponseDto toResponse(ArchivedOrder o, List<ArchivedOrderItem> items) {
+        OrderResponseDto dto = new OrderResponseDto();
+        dto.setId(o.getId());
+        dto.setUserId(o.getUserId());
+        dto.setUserEmail(o.getUserEmail());
+        dto.setRestaurantTableId(o.getRestaurantTableId());
+        dto.setRestaurantTableLabel(o.getRestaurantTableLabel());
+        dto.setStatusName(o.getStatusName());
+        dto.setCreatedAt(o.getCreateAt());
+        dto.setItems(items.stream().map(this::toItemResponse).toList());
+        return dto;
+    }
+
+    private OrderItemResponseDto toItemResponse(ArchivedOrderItem i) {
+        OrderItemResponseDto dto = new OrderItemResponseDto();
+        dto.setId(i.getId());
+        dto.setMenuItemId(i.getMenuItemId());
+        dto.setMenuItemName(i.getMenuItemName());
+        dto.setItemsName(i.getItemsName());
+        dto.setItemsPrice(i.getItemsPrice());
+        dto.setItemsQuantity(i.getItemsQuantity());
+        dto.setNotes(i.getNotes());
+        dto.setActive(i.isActive());
+        return dto;
+    }
+}
@@ -0,0 +1,254 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.dto.order.OrderExportFormat;
+import com.jean.servesmart.restaurant.exception.order.OrderInvalidDataException;
+import com.jean.servesmart.restaurant.model.ArchivedOrder;
+import com.jean.servesmart.restaurant.model.ArchivedOrderItem;
+import com.jean.servesmart.restaurant.model.OrderItem;
+import com.jean.servesmart.restaurant.model.Orders;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderItemRepository;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderRepository;
+import com.jean.servesmart.restaurant.repository.OrdersRepository;
+import com.jean.servesmart.restaurant.repository.PaidOrderLine;
+import com.jean.servesmart.restaurant.service.interfaces.OrderExportService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class OrderExportImpl implements OrderExportService {
+
+    private static final String PAID = "PAID";
+    private static final String[] COLUMNS = {
+            "orderId", "createdAt", "restaurantTableId", "restaurantTableLabel", "userEmail",
+            "itemId", "menuItemId", "itemsName", "itemsPrice", "itemsQuantity", "lineTotal", "active"
+    };
+
+    private final OrdersRepository ordersRepo;
+    private final ArchivedOrderRepository archivedOrderRepo;
+    private final ArchivedOrderItemRepository archivedItemRepo;
+    private final EntityManager entityManager;
+    private final JsonFactory jsonFactory;
+    private final int chunkSize;
+
+    public OrderExportImpl(
+            OrdersRepository ordersRepo,
+            ArchivedOrderRepository archivedOrderRepo,
+            ArchivedOrderItemRepository archivedItemRepo,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${app.order-export.chunk-size:500}") int chunkSize
+    ) {
+        this.ordersRepo = ordersRepo;
+        this.archivedOrderRepo = archivedOrderRepo;
+        this.archivedItemRepo = archivedItemRepo;
+        this.entityManager = entityManager;
+        // NDJSON: rows are separated by the explicit newline, not Jackson's default root separator
+        this.jsonFactory = objectMapper.getFactory().copy().setRootValueSeparator(null);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPaid(LocalDate from, LocalDate to, OrderExportFormat format, OutputStream out) throws IOException {
+        if (from == null || to == null || to.isBefore(from))
+            throw new OrderInvalidDataException("Invalid date range");
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        RowWriter writer = format == OrderExportFormat.NDJSON ? new NdjsonRowWriter(jsonFactory, out) : new CsvRowWriter(out);
+        exportArchived(start, end, writer);
+        exportHot(start, end, writer);
+        writer.flush();
+    }
+
+    // Keyset pages rather than a cursor: the item lookup per page would otherwise force the
+    // driver to buffer the still-open order result set.
+    private void exportArchived(LocalDateTime start, LocalDateTime end, RowWriter writer) throws IOException {
+        int afterId = 0;
+        while (true) {
+            List<ArchivedOrder> orders = archivedOrderRepo
+                    .findByStatusNameAndCreateAtGreaterThanEqualAndCreateAtLessThanAndIdGreaterThanOrderByIdAsc(
+                            PAID, start, end, afterId, PageRequest.of(0, chunkSize));
+            if (orders.isEmpty()) {
+                return;
+            }
+
+            Map<Integer, List<ArchivedOrderItem>> itemsByOrder = archivedItemRepo
+                    .findByOrderIdIn(orders.stream().map(ArchivedOrder::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(ArchivedOrderItem::getOrderId));
+
+            for (ArchivedOrder o : orders) {
+                List<ArchivedOrderItem> items = itemsByOrder.get(o.getId());
+                if (items == null) {
+                    // paid without any lines: still exported, with the item columns empty
+                    writer.row(o.getId(), o.getCreateAt(), o.getRestaurantTableId(), o.getRestaurantTableLabel(),
+                            o.getUserEmail(), null, null, null, null, null, null);
+                    continue;
+                }
+                for (ArchivedOrderItem i : items) {
+                    writer.row(o.getId(), o.getCreateAt(), o.getRestaurantTableId(), o.getRestaurantTableLabel(),
+                            o.getUserEmail(), i.getId(), i.getMenuItemId(), i.getItemsName(), i.getItemsPrice(),
+                            i.getItemsQuantity(), i.isActive());
+                }
+            }
+
+            afterId = orders.get(orders.size() - 1).getId();
+            entityManager.clear();
+            if (orders.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+
+    private void exportHot(LocalDateTime start, LocalDateTime end, RowWriter writer) throws IOException {
+        try (Stream<PaidOrderLine> lines = ordersRepo.streamLinesByStatus(PAID, start, end)) {
+            int sinceClear = 0;
+            Iterator<PaidOrderLine> it = lines.iterator();
+            while (it.hasNext()) {
+                PaidOrderLine line = it.next();
+                Orders o = line.order();
+                OrderItem i = line.item();
+                writer.row(o.getId(), o.getCreateAt(),
+                        o.getRestaurantTable() != null ? o.getRestaurantTable().getId() : null,
+                        o.getRestaurantTable() != null ? o.getRestaurantTable().getLabel() : null,
+                        o.getUser() != null ? o.getUser().getEmail() : null,
+                        i != null ? i.getId() : null,
+                        i != null ? i.getMenuItem().getId() : null,
+                        i != null ? i.getItemsName() : null,
+                        i != null ? i.getItemsPrice() : null,
+                        i != null ? i.getItemsQuantity() : null,
+                        i != null ? i.isActive() : null);
+
+                // rows are fully fetched by the entity graph, so dropping them keeps the context small
+                if (++sinceClear == chunkSize) {
+                    entityManager.clear();
+                    sinceClear = 0;
+                }
+            }
+        }
+    }
+
+    private static BigDecimal lineTotal(BigDecimal price, Integer quantity) {
+        if (price == null || quantity == null) {
+            return null;
+        }
+        return price.multiply(BigDecimal.valueOf(quantity));
+    }
+
+    private interface RowWriter {
+        void row(Integer orderId, LocalDateTime createdAt, Integer tableId, String tableLabel, String userEmail,
+                 Integer itemId, Integer menuItemId, String itemsName, BigDecimal price, Integer quantity,
+                 Boolean active) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer out;
+
+        private CsvRowWriter(OutputStream out) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            this.out.write(String.join(",", COLUMNS));
+            this.out.write("\r\n");
+        }
+
+        @Override
+        public void row(Integer orderId, LocalDateTime createdAt, Integer tableId, String tableLabel, String userEmail,
+                        Integer itemId, Integer menuItemId, String itemsName, BigDecimal price, Integer quantity,
+                        Boolean active) throws IOException {
+            field(orderId);
+            field(createdAt);
+            field(tableId);
+            field(tableLabel);
+            field(userEmail);
+            field(itemId);
+            field(menuItemId);
+            field(itemsName);
+            field(price != null ? price.toPlainString() : null);
+            field(quantity);
+            BigDecimal total = lineTotal(price, quantity);
+            field(total != null ? total.toPlainString() : null);
+            if (active != null) {
+                out.write(active.toString());
+            }
+            out.write("\r\n");
+        }
+
+        private void field(Object value) throws IOException {
+            if (value != null) {
+                String s = value.toString();
+                if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0) {
+                    out.write('"');
+                    out.write(s.replace("\"", "\"\""));
+                    out.write('"');
+                } else {
+                    out.write(s);
+                }
+            }
+            out.write(',');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator json;
+
+        private NdjsonRowWriter(JsonFactory factory, OutputStream out) throws IOException {
+            this.json = factory.createGenerator(out);
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void row(Integer orderId, LocalDateTime createdAt, Integer tableId, String tableLabel, String userEmail,
+                        Integer itemId, Integer menuItemId, String itemsName, BigDecimal price, Integer quantity,
+                        Boolean active) throws IOException {
+            json.writeStartObject();
+            json.writeObjectField(COLUMNS[0], orderId);
+            json.writeStringField(COLUMNS[1], createdAt != null ? createdAt.toString() : null);
+            json.writeObjectField(COLUMNS[2], tableId);
+            json.writeStringField(COLUMNS[3], tableLabel);
+            json.writeStringField(COLUMNS[4], userEmail);
+            json.writeObjectField(COLUMNS[5], itemId);
+            json.writeObjectField(COLUMNS[6], menuItemId);
+            json.writeStringField(COLUMNS[7], itemsName);
+            json.writeObjectField(COLUMNS[8], price);
+            json.writeObjectField(COLUMNS[9], quantity);
+            json.writeObjectField(COLUMNS[10], lineTotal(price, quantity));
+            json.writeObjectField(COLUMNS[11], active);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            json.flush();
+        }
+    }
+}
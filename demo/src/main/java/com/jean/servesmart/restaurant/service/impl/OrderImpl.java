@@ -2,15 +2,23 @@ package com.jean.servesmart.restaurant.service.impl;
 
 import com.jean.servesmart.restaurant.dto.order.*;
 import com.jean.servesmart.restaurant.exception.order.*;
+import com.jean.servesmart.restaurant.jfr.OrderOperationEvent;
+import com.jean.servesmart.restaurant.journal.OrderEventType;
 import com.jean.servesmart.restaurant.model.*;
 import com.jean.servesmart.restaurant.repository.*;
+import com.jean.servesmart.restaurant.service.interfaces.OpenOrderIndexService;
+import com.jean.servesmart.restaurant.service.interfaces.OrderArchiveService;
+import com.jean.servesmart.restaurant.service.interfaces.OrderJournalService;
 import com.jean.servesmart.restaurant.service.interfaces.OrderService;
+import com.jean.servesmart.restaurant.service.interfaces.OutboxService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -23,8 +31,14 @@ public class OrderImpl implements OrderService {
         private final RestaurantTableRepository tableRepo;
         private final RestaurantTableStatusRepository tableStatusRepo;
         private final UserRepository userRepo;
+        private final OrderArchiveService archive;
+        private final OpenOrderIndexService openOrders;
+        private final OrderJournalService journal;
+        private final OutboxService outbox;
 
         private static final String DEFAULT_STATUS = "NEW";
+        private static final String AGGREGATE = "Order";
+        private static final List<String> CLOSED_STATUSES = List.of("PAID", "CANCELLED");
 
         public OrderImpl(
                         OrdersRepository ordersRepo,
@@ -33,7 +47,11 @@ public class OrderImpl implements OrderService {
                         MenuItemsRepository menuItemsRepo,
                         RestaurantTableRepository tableRepo,
                         RestaurantTableStatusRepository tableStatusRepo,
-                        UserRepository userRepo) {
+                        UserRepository userRepo,
+                        OrderArchiveService archive,
+                        OpenOrderIndexService openOrders,
+                        OrderJournalService journal,
+                        OutboxService outbox) {
                 this.ordersRepo = ordersRepo;
                 this.orderItemRepo = orderItemRepo;
                 this.statusRepo = statusRepo;
@@ -41,16 +59,28 @@ public class OrderImpl implements OrderService {
                 this.tableRepo = tableRepo;
                 this.tableStatusRepo = tableStatusRepo;
                 this.userRepo = userRepo;
+                this.archive = archive;
+                this.openOrders = openOrders;
+                this.journal = journal;
+                this.outbox = outbox;
         }
 
         @Override
         public OrderResponseDto create(OrderCreateDto dto) {
+                return recorded("create", () -> createOrder(dto));
+        }
+
+        private OrderResponseDto createOrder(OrderCreateDto dto) {
                 if (dto == null || dto.getUserId() == null)
                         throw new OrderInvalidDataException("User id is required");
 
                 if (dto.getItems() == null || dto.getItems().isEmpty())
                         throw new OrderInvalidDataException("At least one item is required");
 
+                // claimed before anything is saved, so two concurrent creates cannot both open the table
+                if (!openOrders.tryReserve(dto.getRestaurantTableId(), null))
+                        throw new OrderTableAlreadyOpenException();
+
                 User user = userRepo.findById(dto.getUserId())
                                 .orElseThrow(OrderUserNotFoundException::new);
 
@@ -88,22 +118,31 @@ public class OrderImpl implements OrderService {
                 }
 
                 savedOrder.setOrderItems(items);
-                return toResponse(savedOrder);
+                if (table != null)
+                        openOrders.markOpen(table.getId(), savedOrder.getId());
+                journal.appendCreated(savedOrder.getId(), table != null ? table.getId() : null, user.getId(), status.getName());
+                for (OrderItem item : items)
+                        journal.appendItem(OrderEventType.ITEM_ADDED, savedOrder.getId(), item);
+
+                return publish("OrderCreated", toResponse(savedOrder));
         }
 
         @Override
         public Optional<OrderResponseDto> getById(Integer id) {
                 if (id == null)
                         throw new OrderInvalidDataException();
-                return ordersRepo.findById(id).map(this::toResponse);
+                Optional<OrderResponseDto> hot = ordersRepo.findById(id).map(this::toResponse);
+                return hot.isPresent() ? hot : archive.getById(id);
         }
 
         @Override
         public List<OrderResponseDto> getByTable(Integer tableId) {
-                return ordersRepo.findByRestaurantTable_Id(tableId)
-                                .stream()
-                                .map(this::toResponse)
-                                .toList();
+                List<OrderResponseDto> result = new ArrayList<>();
+                for (Orders o : ordersRepo.findByRestaurantTable_Id(tableId)) {
+                        result.add(toResponse(o));
+                }
+                result.addAll(archive.getByTable(tableId));
+                return result;
         }
 
         @Override
@@ -116,6 +155,10 @@ public class OrderImpl implements OrderService {
 
         @Override
         public OrderResponseDto addItem(Integer orderId, OrderItemCreateDto dto) {
+                return recorded("addItem", () -> addOrderItem(orderId, dto));
+        }
+
+        private OrderResponseDto addOrderItem(Integer orderId, OrderItemCreateDto dto) {
                 Orders order = ordersRepo.findById(orderId)
                                 .orElseThrow(OrderNotFoundException::new);
 
@@ -132,9 +175,10 @@ public class OrderImpl implements OrderService {
                 item.setActive(true);
 
                 orderItemRepo.save(item);
+                journal.appendItem(OrderEventType.ITEM_ADDED, orderId, item);
                 order.setOrderItems(orderItemRepo.findByOrder_Id(orderId));
 
-                return toResponse(order);
+                return publish("OrderItemAdded", toResponse(order));
         }
 
         @Override
@@ -150,12 +194,13 @@ public class OrderImpl implements OrderService {
                         item.setActive(dto.getActive());
 
                 orderItemRepo.save(item);
+                journal.appendItem(OrderEventType.ITEM_UPDATED, orderId, item);
 
                 Orders order = ordersRepo.findById(orderId)
                                 .orElseThrow(OrderNotFoundException::new);
                 order.setOrderItems(orderItemRepo.findByOrder_Id(orderId));
 
-                return toResponse(order);
+                return publish("OrderItemUpdated", toResponse(order));
         }
 
         @Override
@@ -164,16 +209,20 @@ public class OrderImpl implements OrderService {
                                 .orElseThrow(OrderInvalidDataException::new);
 
                 orderItemRepo.delete(item);
+                journal.append(OrderEventType.ITEM_REMOVED, orderId, itemId, null, null);
 
                 Orders order = ordersRepo.findById(orderId)
                                 .orElseThrow(OrderNotFoundException::new);
                 order.setOrderItems(orderItemRepo.findByOrder_Id(orderId));
 
-                return toResponse(order);
+                return publish("OrderItemRemoved", toResponse(order));
         }
 
         @Override
         public OrderResponseDto start(Integer userId, Integer restaurantTableId) {
+                if (!openOrders.tryReserve(restaurantTableId, null))
+                        throw new OrderTableAlreadyOpenException();
+
                 User user = userRepo.findById(userId)
                                 .orElseThrow(OrderUserNotFoundException::new);
 
@@ -183,7 +232,7 @@ public class OrderImpl implements OrderService {
                 RestaurantTableStatus occupied = tableStatusRepo.findByName("OCCUPIED").orElseThrow();
 
                 table.setStatus(occupied);
-                tableRepo.save(table);
+                RestaurantTableEvents.publish(outbox, "TableUpdated", tableRepo.save(table));
 
                 OrdersStatus status = statusRepo.findByName("NEW")
                                 .orElseThrow(OrderStatusNotFoundException::new);
@@ -195,12 +244,18 @@ public class OrderImpl implements OrderService {
 
                 Orders saved = ordersRepo.save(order);
                 saved.setOrderItems(new ArrayList<>());
+                openOrders.markOpen(table.getId(), saved.getId());
+                journal.appendCreated(saved.getId(), table.getId(), user.getId(), status.getName());
 
-                return toResponse(saved);
+                return publish("OrderCreated", toResponse(saved));
         }
 
         @Override
         public OrderResponseDto pay(Integer orderId, PayOrderDto dto) {
+                return recorded("pay", () -> payOrder(orderId));
+        }
+
+        private OrderResponseDto payOrder(Integer orderId) {
                 Orders order = ordersRepo.findById(orderId)
                                 .orElseThrow(OrderNotFoundException::new);
 
@@ -212,11 +267,13 @@ public class OrderImpl implements OrderService {
                 if (table != null) {
                         RestaurantTableStatus available = tableStatusRepo.findByName("AVAILABLE").orElseThrow();
                         table.setStatus(available);
-                        tableRepo.save(table);
+                        RestaurantTableEvents.publish(outbox, "TableUpdated", tableRepo.save(table));
+                        openOrders.markClosed(table.getId(), order.getId());
                 }
 
                 order.setOrderItems(orderItemRepo.findByOrder_Id(orderId));
-                return toResponse(ordersRepo.save(order));
+                journal.append(OrderEventType.PAID, orderId, null, null, paid.getName());
+                return publish("OrderPaid", toResponse(ordersRepo.save(order)));
         }
 
         @Override
@@ -229,12 +286,33 @@ public class OrderImpl implements OrderService {
 
         @Override
         public List<OrderResponseDto> getOpenByTable() {
-                return ordersRepo.findByStatus_NameNotIn(List.of("PAID", "CANCELLED"))
+                return ordersRepo.findByStatus_NameNotIn(CLOSED_STATUSES)
                                 .stream()
                                 .map(this::toResponse)
                                 .toList();
         }
 
+        // JFR event around the operation; costs next to nothing unless a recording has it enabled
+        private OrderResponseDto recorded(String operation, Supplier<OrderResponseDto> action) {
+                OrderOperationEvent event = new OrderOperationEvent(operation);
+                event.begin();
+                try {
+                        OrderResponseDto result = action.get();
+                        event.completed(result);
+                        return result;
+                } catch (RuntimeException ex) {
+                        event.failed(ex);
+                        throw ex;
+                } finally {
+                        event.commit();
+                }
+        }
+
+        private OrderResponseDto publish(String eventType, OrderResponseDto dto) {
+                outbox.record(AGGREGATE, dto.getId(), eventType, dto);
+                return dto;
+        }
+
         private OrderResponseDto toResponse(Orders o) {
                 OrderResponseDto dto = new OrderResponseDto();
                 dto.setId(o.getId());
@@ -275,6 +353,9 @@ public class OrderImpl implements OrderService {
 
                 orderItemRepo.deleteByOrder_Id(id);
                 ordersRepo.deleteById(id);
+                openOrders.forget(id);
+                journal.append(OrderEventType.DELETED, id, null, null, null);
+                outbox.record(AGGREGATE, id, "OrderDeleted", Map.of("id", id));
                 return true;
         }
 
@@ -289,7 +370,34 @@ public class OrderImpl implements OrderService {
                 OrdersStatus status = statusRepo.findByName(dto.getStatusName())
                                 .orElseThrow(OrderStatusNotFoundException::new);
 
+                // reopening an order must not take over a table another order has opened meanwhile
+                boolean open = !CLOSED_STATUSES.contains(status.getName());
+                if (open && order.getRestaurantTable() != null
+                                && !openOrders.tryReserve(order.getRestaurantTable().getId(), order.getId()))
+                        throw new OrderTableAlreadyOpenException();
+
                 order.setStatus(status);
-                return toResponse(ordersRepo.save(order));
+                Orders saved = ordersRepo.save(order);
+                journal.append(OrderEventType.STATUS_CHANGED, id, null, null, status.getName());
+
+                if (order.getRestaurantTable() != null) {
+                        Integer tableId = order.getRestaurantTable().getId();
+                        if (open)
+                                openOrders.markOpen(tableId, order.getId());
+                        else
+                                openOrders.markClosed(tableId, order.getId());
+                }
+
+                return publish("OrderStatusChanged", toResponse(saved));
+        }
+
+        @Override
+        public Optional<OrderResponseDto> getCurrentByTable(Integer tableId) {
+                if (tableId == null)
+                        throw new OrderInvalidDataException();
+
+                return openOrders.findOpenOrder(tableId)
+                                .flatMap(ordersRepo::findById)
+                                .map(this::toResponse);
         }
 }
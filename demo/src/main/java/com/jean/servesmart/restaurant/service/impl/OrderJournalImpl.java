@@ -0,0 +1,199 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.journal.JournalSegment;
+import com.jean.servesmart.restaurant.journal.OrderEvent;
+import com.jean.servesmart.restaurant.journal.OrderEventType;
+import com.jean.servesmart.restaurant.model.OrderItem;
+import com.jean.servesmart.restaurant.service.interfaces.OrderJournalService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+public class OrderJournalImpl implements OrderJournalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderJournalImpl.class);
+
+    private final boolean enabled;
+    private final Path dir;
+    private final int segmentSizeBytes;
+    private final int flushBatch;
+
+    private final List<Path> sealedSegments = new ArrayList<>();
+    private JournalSegment active;
+    private long nextSequence = 1;
+    private int unflushed;
+    private volatile boolean open;
+
+    public OrderJournalImpl(
+            @Value("${app.journal.enabled:true}") boolean enabled,
+            @Value("${app.journal.dir:./data/journal}") String dir,
+            @Value("${app.journal.segment-size-bytes:67108864}") int segmentSizeBytes,
+            @Value("${app.journal.flush-batch:256}") int flushBatch
+    ) {
+        this.enabled = enabled;
+        this.dir = Paths.get(dir);
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.flushBatch = flushBatch;
+    }
+
+    @PostConstruct
+    public synchronized void open() {
+        if (!enabled || open) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(dir);
+            List<Path> segments = listSegments();
+            if (segments.isEmpty()) {
+                active = JournalSegment.openForWrite(JournalSegment.pathFor(dir, 1), segmentSizeBytes);
+            } else {
+                sealedSegments.addAll(segments.subList(0, segments.size() - 1));
+                active = JournalSegment.openForWrite(segments.get(segments.size() - 1), segmentSizeBytes);
+            }
+            nextSequence = active.getLastSequence() + 1;
+            open = true;
+            logger.info("Order journal opened at {} (next sequence {})", dir.toAbsolutePath(), nextSequence);
+        } catch (IOException ex) {
+            logger.error("Order journal disabled, could not open {}: {}", dir.toAbsolutePath(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void append(OrderEventType type, Integer orderId, Integer itemId, Integer quantity, String status) {
+        if (!open || type == null || orderId == null) {
+            return;
+        }
+        record(new OrderEvent(0, 0, type, orderId, itemId, quantity, status));
+    }
+
+    @Override
+    public void appendCreated(Integer orderId, Integer tableId, Integer userId, String status) {
+        if (!open || orderId == null) {
+            return;
+        }
+        record(new OrderEvent(0, 0, OrderEventType.CREATED, orderId, null, null, status,
+                tableId, userId, null, null, null, null));
+    }
+
+    @Override
+    public void appendItem(OrderEventType type, Integer orderId, OrderItem item) {
+        if (!open || type == null || orderId == null || item == null) {
+            return;
+        }
+        Integer menuItemId = item.getMenuItem() != null ? item.getMenuItem().getId() : null;
+        record(new OrderEvent(0, 0, type, orderId, item.getId(), item.getItemsQuantity(), null,
+                null, null, menuItemId, item.getItemsName(), item.getItemsPrice(), item.isActive()));
+    }
+
+    private void record(OrderEvent draft) {
+        AfterCommit.run(() -> write(draft));
+    }
+
+    @Override
+    public void replay(long fromSequence, Consumer<OrderEvent> consumer) {
+        if (!open) {
+            return;
+        }
+
+        List<Path> sealed;
+        ByteBuffer tail;
+        synchronized (this) {
+            sealed = new ArrayList<>(sealedSegments);
+            tail = active.snapshot();
+        }
+
+        try {
+            for (int i = 0; i < sealed.size(); i++) {
+                // skip whole segments that end before the requested sequence
+                if (i + 1 < sealed.size() && JournalSegment.firstSequenceOf(sealed.get(i + 1)) <= fromSequence) {
+                    continue;
+                }
+                JournalSegment.replay(sealed.get(i), fromSequence, consumer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        JournalSegment.scan(tail, fromSequence, consumer);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.journal.flush-interval-ms:200}")
+    public synchronized void flush() {
+        if (open && unflushed > 0) {
+            active.force();
+            unflushed = 0;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            active.close();
+        } catch (IOException ex) {
+            logger.warn("Could not close order journal segment {}: {}", active.getPath(), ex.getMessage());
+        }
+    }
+
+    private synchronized void write(OrderEvent draft) {
+        if (!open) {
+            return;
+        }
+
+        OrderEvent event = draft.stamped(nextSequence, System.currentTimeMillis());
+        try {
+            if (!active.tryAppend(event)) {
+                roll(event.getSequence());
+                if (!active.tryAppend(event)) {
+                    throw new IOException("Record does not fit in an empty segment");
+                }
+            }
+        } catch (IOException ex) {
+            logger.error("Order journal disabled after write failure: {}", ex.getMessage());
+            open = false;
+            return;
+        }
+
+        nextSequence++;
+        if (++unflushed >= flushBatch) {
+            active.force();
+            unflushed = 0;
+        }
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        active.close();
+        sealedSegments.add(active.getPath());
+        active = JournalSegment.openForWrite(JournalSegment.pathFor(dir, firstSequence), segmentSizeBytes);
+        unflushed = 0;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(JournalSegment::isSegment)
+                    .sorted(Comparator.comparingLong(JournalSegment::firstSequenceOf))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.dto.outbox.OutboxStatsDto;
+import com.jean.servesmart.restaurant.model.OutboxEvent;
+import com.jean.servesmart.restaurant.outbox.OutboxMessage;
+import com.jean.servesmart.restaurant.outbox.OutboxSink;
+import com.jean.servesmart.restaurant.repository.OutboxEventRepository;
+import com.jean.servesmart.restaurant.service.interfaces.OutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class OutboxImpl implements OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxImpl.class);
+    private static final int PURGE_BATCH = 1000;
+
+    private final OutboxEventRepository repo;
+    private final ObjectMapper objectMapper;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int retentionHours;
+    private final int maxAttempts;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private volatile LocalDateTime lastRelayAt;
+    private volatile String lastError;
+
+    public OutboxImpl(
+            OutboxEventRepository repo,
+            ObjectMapper objectMapper,
+            List<OutboxSink> sinks,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.outbox.enabled:true}") boolean enabled,
+            @Value("${app.outbox.batch-size:200}") int batchSize,
+            @Value("${app.outbox.retention-hours:72}") int retentionHours,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts
+    ) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retentionHours = retentionHours;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Integer aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + eventType + " payload", ex);
+        }
+        repo.save(event);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void relayScheduled() {
+        if (!enabled) {
+            return;
+        }
+
+        int delivered;
+        do {
+            delivered = relay();
+        } while (delivered == batchSize);
+    }
+
+    // Sinks are called outside any transaction so a slow consumer never holds database locks.
+    @Override
+    public int relay() {
+        lastRelayAt = LocalDateTime.now();
+
+        List<OutboxEvent> batch = transactionTemplate.execute(status ->
+                repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize)));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // a head that failed before goes out alone first, so one bad event cannot hold the rest back
+        if (batch.get(0).getAttempts() > 0 && batch.size() > 1) {
+            if (deliver(batch.subList(0, 1)) == 0) {
+                return 0;
+            }
+            return 1 + deliver(batch.subList(1, batch.size()));
+        }
+        return deliver(batch);
+    }
+
+    private int deliver(List<OutboxEvent> batch) {
+        List<OutboxMessage> messages = batch.stream().map(this::toMessage).toList();
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.publish(messages);
+            } catch (Exception ex) {
+                failedBatches.incrementAndGet();
+                lastError = sink.name() + ": " + ex.getMessage();
+                logger.warn("Outbox sink {} failed for events {}..{}: {}",
+                        sink.name(), ids.get(0), ids.get(ids.size() - 1), ex.getMessage());
+                recordFailure(ids.get(0));
+                return 0;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                repo.findAllById(ids).forEach(e -> e.setPublishedAt(now)));
+        published.addAndGet(batch.size());
+        lastError = null;
+        return batch.size();
+    }
+
+    // The failure is charged to the oldest event only; it is retried alone next time, which tells a
+    // poisoned event apart from the ones that merely shared its batch.
+    private void recordFailure(Long headId) {
+        transactionTemplate.executeWithoutResult(status -> repo.findById(headId).ifPresent(e -> {
+            e.setAttempts(e.getAttempts() + 1);
+            if (e.getAttempts() >= maxAttempts) {
+                e.setFailedAt(LocalDateTime.now());
+                logger.error("Outbox event {} ({} {}) moved to failed after {} attempts",
+                        e.getId(), e.getAggregateType(), e.getEventType(), e.getAttempts());
+            }
+        }));
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 * * * *}")
+    public void purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        int deleted;
+        do {
+            List<Long> ids = repo.findPublishedBefore(cutoff, PageRequest.of(0, PURGE_BATCH));
+            if (ids.isEmpty()) {
+                return;
+            }
+            Integer chunk = transactionTemplate.execute(status -> repo.deleteByIdIn(ids));
+            deleted = chunk != null ? chunk : 0;
+        } while (deleted == PURGE_BATCH);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OutboxStatsDto getStats() {
+        OutboxStatsDto dto = new OutboxStatsDto();
+        dto.setPending(repo.countByPublishedAtIsNullAndFailedAtIsNull());
+        dto.setFailed(repo.countByPublishedAtIsNullAndFailedAtIsNotNull());
+        dto.setOldestPendingAgeMs(repo.findFirstByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc()
+                .map(e -> Duration.between(e.getCreateAt(), LocalDateTime.now()).toMillis())
+                .orElse(null));
+        dto.setPublished(published.get());
+        dto.setFailedBatches(failedBatches.get());
+        dto.setLastRelayAt(lastRelayAt);
+        dto.setLastError(lastError);
+        dto.setSinks(sinks.stream().map(OutboxSink::name).toList());
+        return dto;
+    }
+
+    private OutboxMessage toMessage(OutboxEvent e) {
+        return new OutboxMessage(e.getId(), e.getAggregateType(), e.getAggregateId(), e.getEventType(),
+                e.getPayload(), e.getCreateAt());
+    }
+}
@@ -0,0 +1,181 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.passwordhashing.PasswordHashingStatsDto;
+import com.jean.servesmart.restaurant.exception.auth.PasswordHashingBusyException;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// BCrypt is ~100ms of pure CPU per call at the default strength. Running it on a small fixed pool
+// caps how many cores a login burst can take, and a bounded queue turns overload into a fast 503
+// instead of request threads (and whatever they hold) piling up behind the hashes.
+@Service
+public class PasswordHashingImpl implements PasswordHashingService {
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final long timeoutMs;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Long::max, 0);
+
+    public PasswordHashingImpl(
+            BCryptPasswordEncoder encoder,
+            @Value("${app.password-hashing.strength:10}") int strength,
+            @Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password-hashing.timeout-ms:5000}") long timeoutMs
+    ) {
+        this.encoder = encoder;
+        this.strength = strength;
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hash) {
+        return run(() -> encoder.matches(rawPassword, hash));
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        // One pool-size window at a time: a bulk import keeps every thread busy but never holds more
+        // than a pool's worth of queue slots, so logins arriving meanwhile are still admitted.
+        int window = executor.getMaximumPoolSize();
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (int start = 0; start < rawPasswords.size(); start += window) {
+            List<Future<String>> futures = new ArrayList<>(window);
+            try {
+                for (String raw : rawPasswords.subList(start, Math.min(start + window, rawPasswords.size()))) {
+                    futures.add(submit(() -> encoder.encode(raw)));
+                }
+                for (Future<String> future : futures) {
+                    hashes.add(await(future));
+                }
+            } catch (RuntimeException ex) {
+                futures.forEach(f -> f.cancel(true));
+                throw ex;
+            }
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean needsRehash(String hash) {
+        // $2a$10$... : the two digits after the version are the cost
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6)) != strength;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public PasswordHashingStatsDto getStats() {
+        long done = completed.sum();
+        PasswordHashingStatsDto dto = new PasswordHashingStatsDto();
+        dto.setStrength(strength);
+        dto.setThreads(executor.getMaximumPoolSize());
+        dto.setActiveThreads(executor.getActiveCount());
+        dto.setQueueDepth(executor.getQueue().size());
+        dto.setQueueCapacity(queueCapacity);
+        dto.setMaxQueueDepth(maxQueueDepth.get());
+        dto.setCompleted(done);
+        dto.setRejected(rejected.sum());
+        dto.setTimedOut(timedOut.sum());
+        dto.setAverageWaitMs(done == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / done);
+        dto.setAverageHashMs(done == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / done);
+        return dto;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Supplier<T> hash) {
+        return await(submit(hash));
+    }
+
+    private <T> Future<T> submit(Supplier<T> hash) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return hash.get();
+                } finally {
+                    long finished = System.nanoTime();
+                    waitNanos.add(started - submitted);
+                    hashNanos.add(finished - started);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+        maxQueueDepth.accumulate(executor.getQueue().size());
+        return future;
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
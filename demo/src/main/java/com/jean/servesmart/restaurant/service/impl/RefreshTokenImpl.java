@@ -0,0 +1,123 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.exception.auth.InvalidRefreshTokenException;
+import com.jean.servesmart.restaurant.model.RefreshToken;
+import com.jean.servesmart.restaurant.model.User;
+import com.jean.servesmart.restaurant.repository.RefreshTokenRepository;
+import com.jean.servesmart.restaurant.service.interfaces.RefreshTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+// Refresh tokens are 256 random bits, so a plain SHA-256 is enough to store them: unlike a password
+// there is nothing to brute-force, and renewing an access token costs one hash and one lookup on
+// the unique Token_hash index instead of a BCrypt check.
+@Service
+public class RefreshTokenImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int MAX_TOKEN_LENGTH = 100;
+
+    private final RefreshTokenRepository tokenRepo;
+    private final long ttlMs;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenImpl(
+            RefreshTokenRepository tokenRepo,
+            @Value("${app.jwt.refresh-expiration-ms:1209600000}") long ttlMs
+    ) {
+        this.tokenRepo = tokenRepo;
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    @Transactional
+    public String issue(User user) {
+        return store(user, UUID.randomUUID().toString());
+    }
+
+    @Override
+    // revoking a family is the point of detecting reuse, so it must commit even though the call fails
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank() || refreshToken.length() > MAX_TOKEN_LENGTH) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        RefreshToken current = tokenRepo.findByTokenHashWithUser(hash(refreshToken.trim()))
+                .orElseThrow(InvalidRefreshTokenException::new);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() != null) {
+            // an already rotated token came back: whoever holds the family's live token may not be the user
+            tokenRepo.revokeFamily(current.getFamilyId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+
+        if (!current.getExpiresAt().isAfter(now) || !current.getUser().isActive()) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        // the conditional update decides concurrent rotations of the same token; the loser is a reuse
+        if (tokenRepo.revoke(current.getId(), now) == 0) {
+            tokenRepo.revokeFamily(current.getFamilyId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+
+        return new Rotation(current.getUser(), store(current.getUser(), current.getFamilyId()));
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank() || refreshToken.length() > MAX_TOKEN_LENGTH) {
+            return;
+        }
+        tokenRepo.revokeByTokenHash(hash(refreshToken.trim()), LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(Integer userId) {
+        tokenRepo.revokeByUser(userId, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.refresh-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        tokenRepo.deleteExpired(LocalDateTime.now());
+    }
+
+    private String store(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken entity = new RefreshToken();
+        entity.setUser(user);
+        entity.setTokenHash(hash(token));
+        entity.setFamilyId(familyId);
+        entity.setExpiresAt(entity.getCreateAt().plusNanos(ttlMs * 1_000_000));
+        tokenRepo.save(entity);
+        return token;
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
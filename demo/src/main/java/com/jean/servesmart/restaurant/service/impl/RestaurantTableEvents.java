@@ -0,0 +1,37 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.restauranttable.RestaurantTableResponseDto;
+import com.jean.servesmart.restaurant.model.RestaurantTable;
+import com.jean.servesmart.restaurant.service.interfaces.OutboxService;
+
+import java.util.Map;
+
+final class RestaurantTableEvents {
+
+    static final String AGGREGATE = "RestaurantTable";
+
+    private RestaurantTableEvents() {
+    }
+
+    // Records a table event in the caller's transaction, whichever service changed the table.
+    static RestaurantTableResponseDto publish(OutboxService outbox, String eventType, RestaurantTable t) {
+        RestaurantTableResponseDto dto = toResponse(t);
+        outbox.record(AGGREGATE, dto.getId(), eventType, dto);
+        return dto;
+    }
+
+    static void publishDeleted(OutboxService outbox, Integer id) {
+        outbox.record(AGGREGATE, id, "TableDeleted", Map.of("id", id));
+    }
+
+    static RestaurantTableResponseDto toResponse(RestaurantTable t) {
+        RestaurantTableResponseDto dto = new RestaurantTableResponseDto();
+        dto.setId(t.getId());
+        dto.setLabel(t.getLabel());
+        dto.setSeats(t.getSeats());
+        dto.setActive(t.isActive());
+        dto.setStatusName(
+                t.getStatus() != null ? t.getStatus().getName() : null);
+        return dto;
+    }
+}
@@ -11,6 +11,7 @@ import com.jean.servesmart.restaurant.model.RestaurantTable;
 import com.jean.servesmart.restaurant.model.RestaurantTableStatus;
 import com.jean.servesmart.restaurant.repository.RestaurantTableRepository;
 import com.jean.servesmart.restaurant.repository.RestaurantTableStatusRepository;
+import com.jean.servesmart.restaurant.service.interfaces.OutboxService;
 import com.jean.servesmart.restaurant.service.interfaces.RestaurantTableService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,11 +25,14 @@ public class RestaurantTableImpl implements RestaurantTableService {
 
     private final RestaurantTableRepository repo;
     private final RestaurantTableStatusRepository statusRepo;
+    private final OutboxService outbox;
 
     public RestaurantTableImpl(RestaurantTableRepository repo,
-                               RestaurantTableStatusRepository statusRepo) {
+                               RestaurantTableStatusRepository statusRepo,
+                               OutboxService outbox) {
         this.repo = repo;
         this.statusRepo = statusRepo;
+        this.outbox = outbox;
     }
 
     @Override
@@ -65,8 +69,7 @@ public class RestaurantTableImpl implements RestaurantTableService {
         t.setActive(dto.isActive());
         t.setStatus(status);
 
-        RestaurantTable saved = repo.save(t);
-        return toResponse(saved);
+        return RestaurantTableEvents.publish(outbox, "TableCreated", repo.save(t));
     }
 
     @Override
@@ -156,8 +159,7 @@ public class RestaurantTableImpl implements RestaurantTableService {
             t.setActive(dto.getActive());
         }
 
-        RestaurantTable updated = repo.save(t);
-        return toResponse(updated);
+        return RestaurantTableEvents.publish(outbox, "TableUpdated", repo.save(t));
     }
 
     @Override
@@ -171,17 +173,11 @@ public class RestaurantTableImpl implements RestaurantTableService {
         }
 
         repo.deleteById(id);
+        RestaurantTableEvents.publishDeleted(outbox, id);
         return true;
     }
 
     private RestaurantTableResponseDto toResponse(RestaurantTable t) {
-        RestaurantTableResponseDto dto = new RestaurantTableResponseDto();
-        dto.setId(t.getId());
-        dto.setLabel(t.getLabel());
-        dto.setSeats(t.getSeats());
-        dto.setActive(t.isActive());
-        dto.setStatusName(
-                t.getStatus() != null ? t.getStatus().getName() : null);
-        return dto;
+        return RestaurantTableEvents.toResponse(t);
     }
 }
@@ -0,0 +1,192 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.sqlbudget.SqlBudgetStatsDto;
+import com.jean.servesmart.restaurant.exception.sqlbudget.SqlBudgetExceededException;
+import com.jean.servesmart.restaurant.service.interfaces.SqlBudgetService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+@Service
+public class SqlBudgetImpl implements SqlBudgetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlBudgetImpl.class);
+
+    // "in (?,?,?)" and "in (?)" are the same query shape
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final int MAX_SHAPE_LOG_LENGTH = 200;
+
+    private final boolean enabled;
+    private final boolean enforce;
+    private final int defaultMaxStatements;
+    private final int maxRepeatedQuery;
+    private final Map<String, Integer> endpointBudgets;
+
+    private final ThreadLocal<RequestCounts> current = new ThreadLocal<>();
+    private final ConcurrentHashMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public SqlBudgetImpl(
+            @Value("${app.sql-budget.enabled:true}") boolean enabled,
+            @Value("${app.sql-budget.enforce:false}") boolean enforce,
+            @Value("${app.sql-budget.max-statements:30}") int defaultMaxStatements,
+            @Value("${app.sql-budget.max-repeated-query:10}") int maxRepeatedQuery,
+            @Value("${app.sql-budget.endpoints:}") List<String> endpointBudgets
+    ) {
+        this.enabled = enabled;
+        this.enforce = enforce;
+        this.defaultMaxStatements = defaultMaxStatements;
+        this.maxRepeatedQuery = maxRepeatedQuery;
+        this.endpointBudgets = parseBudgets(endpointBudgets);
+    }
+
+    @Override
+    public void begin(String endpoint) {
+        if (!enabled) {
+            return;
+        }
+        current.set(new RequestCounts(endpoint, endpointBudgets.getOrDefault(endpoint, defaultMaxStatements)));
+    }
+
+    @Override
+    public void onStatement(String sql) {
+        RequestCounts counts = current.get();
+        if (counts == null) {
+            return;
+        }
+
+        counts.statements++;
+        String shape = PARAMETER_LIST.matcher(sql).replaceAll("(?)");
+        int repeats = counts.shapes.merge(shape, 1, Integer::sum);
+        if (repeats > counts.maxRepeated) {
+            counts.maxRepeated = repeats;
+            counts.mostRepeated = shape;
+        }
+
+        if (enforce && counts.isOverBudget(maxRepeatedQuery)) {
+            // count it once; the exception usually surfaces as a failed request
+            counts.rejected = true;
+            throw new SqlBudgetExceededException(describe(counts));
+        }
+    }
+
+    @Override
+    public void onEntityLoaded() {
+        RequestCounts counts = current.get();
+        if (counts != null) {
+            counts.entitiesLoaded++;
+        }
+    }
+
+    @Override
+    public void end() {
+        RequestCounts counts = current.get();
+        if (counts == null) {
+            return;
+        }
+        current.remove();
+
+        boolean overBudget = counts.rejected || counts.isOverBudget(maxRepeatedQuery);
+        stats.computeIfAbsent(counts.endpoint, e -> new EndpointStats(counts.budget)).record(counts, overBudget);
+
+        if (overBudget) {
+            logger.warn(describe(counts));
+        }
+    }
+
+    @Override
+    public List<SqlBudgetStatsDto> getStats() {
+        List<SqlBudgetStatsDto> result = new ArrayList<>(stats.size());
+        stats.forEach((endpoint, s) -> result.add(s.toDto(endpoint)));
+        result.sort(Comparator.comparing(SqlBudgetStatsDto::getEndpoint));
+        return result;
+    }
+
+    private String describe(RequestCounts counts) {
+        String shape = counts.mostRepeated == null ? "" : counts.mostRepeated;
+        if (shape.length() > MAX_SHAPE_LOG_LENGTH) {
+            shape = shape.substring(0, MAX_SHAPE_LOG_LENGTH) + "...";
+        }
+        return "SQL budget exceeded on " + counts.endpoint + ": " + counts.statements + " statements (budget "
+                + counts.budget + "), " + counts.entitiesLoaded + " entities loaded, most repeated query x"
+                + counts.maxRepeated + " (limit " + maxRepeatedQuery + "): " + shape;
+    }
+
+    private static Map<String, Integer> parseBudgets(List<String> entries) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String entry : entries) {
+            int eq = entry.lastIndexOf('=');
+            if (entry.isBlank() || eq < 0) {
+                continue;
+            }
+            budgets.put(entry.substring(0, eq).trim(), Integer.parseInt(entry.substring(eq + 1).trim()));
+        }
+        return budgets;
+    }
+
+    // Only ever touched by the request thread that owns it.
+    private static final class RequestCounts {
+        private final String endpoint;
+        private final int budget;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+        private long entitiesLoaded;
+        private int maxRepeated;
+        private String mostRepeated;
+        private boolean rejected;
+
+        private RequestCounts(String endpoint, int budget) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+        }
+
+        private boolean isOverBudget(int maxRepeatedQuery) {
+            return statements > budget || maxRepeated > maxRepeatedQuery;
+        }
+    }
+
+    private static final class EndpointStats {
+        private final int budget;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder entitiesLoaded = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxRepeated = new LongAccumulator(Math::max, 0);
+        private final AtomicLong overBudget = new AtomicLong();
+
+        private EndpointStats(int budget) {
+            this.budget = budget;
+        }
+
+        private void record(RequestCounts counts, boolean over) {
+            requests.increment();
+            statements.add(counts.statements);
+            entitiesLoaded.add(counts.entitiesLoaded);
+            maxStatements.accumulate(counts.statements);
+            maxRepeated.accumulate(counts.maxRepeated);
+            if (over) {
+                overBudget.incrementAndGet();
+            }
+        }
+
+        private SqlBudgetStatsDto toDto(String endpoint) {
+            SqlBudgetStatsDto dto = new SqlBudgetStatsDto();
+            dto.setEndpoint(endpoint);
+            dto.setStatementBudget(budget);
+            dto.setRequests(requests.sum());
+            dto.setTotalStatements(statements.sum());
+            dto.setMaxStatements((int) maxStatements.get());
+            dto.setTotalEntitiesLoaded(entitiesLoaded.sum());
+            dto.setMaxRepeatedQuery((int) maxRepeated.get());
+            dto.setOverBudget(overBudget.get());
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.revocation.BloomFilter;
+import com.jean.servesmart.restaurant.service.interfaces.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Revoked access-token ids (jti) until the tokens expire. Nearly every request carries a token that
+// was never revoked, and the Bloom filter answers those from a few bits; only a filter hit (a revoked
+// token or a rare false positive) goes on to the exact map. Revocations are pruned once the token
+// has expired anyway, and the filter is rebuilt from what is left so it never fills up.
+@Service
+public class TokenRevocationImpl implements TokenRevocationService {
+
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationImpl(
+            @Value("${app.jwt.revocation.expected-entries:10000}") int expectedEntries,
+            @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        // map first: a rebuild that swaps the filter after this point re-reads the map
+        revoked.put(tokenId, expiresAt.toEpochMilli());
+        filter.put(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    @Override
+    public int size() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.prune-interval-ms:300000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        boolean removed = revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        if (!removed) {
+            return;
+        }
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        // a revoke that read the old filter had already put its id in the map; pick those up now
+        revoked.keySet().forEach(rebuilt::put);
+    }
+}
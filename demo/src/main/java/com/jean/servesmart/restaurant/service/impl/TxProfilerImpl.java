@@ -0,0 +1,194 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.txprofile.TxPoolStatsDto;
+import com.jean.servesmart.restaurant.dto.txprofile.TxProfileEntryDto;
+import com.jean.servesmart.restaurant.dto.txprofile.TxProfileReportDto;
+import com.jean.servesmart.restaurant.service.interfaces.TxProfilerService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+@Service
+public class TxProfilerImpl implements TxProfilerService {
+
+    static final String SERVICE = "SERVICE";
+    static final String ENDPOINT = "ENDPOINT";
+    private static final String NO_TRANSACTION = "(no transaction)";
+
+    private final boolean enabled;
+
+    private final ThreadLocal<String> endpoint = new ThreadLocal<>();
+    private final ThreadLocal<Deque<Frame>> transactions = ThreadLocal.withInitial(ArrayDeque::new);
+    // Owner of each connection this thread borrowed, so the hold time goes to the transaction that took it
+    // even though the pool only reports it after the transaction has finished.
+    private final ThreadLocal<Deque<Owner>> borrowed = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public TxProfilerImpl(@Value("${app.tx-profiler.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void beginRequest(String endpoint) {
+        if (enabled) {
+            this.endpoint.set(endpoint);
+        }
+    }
+
+    @Override
+    public void endRequest() {
+        endpoint.remove();
+    }
+
+    @Override
+    public void beginTransaction(Object transaction, String name) {
+        if (!enabled) {
+            return;
+        }
+        transactions.get().push(new Frame(transaction, shorten(name), System.nanoTime()));
+    }
+
+    @Override
+    public void endTransaction(Object transaction) {
+        Deque<Frame> stack = transactions.get();
+        Frame top = stack.peek();
+        if (top == null || top.transaction != transaction) {
+            return;
+        }
+        stack.pop();
+
+        long micros = (System.nanoTime() - top.startNanos) / 1000;
+        entry(SERVICE, top.name).transaction.record(micros);
+        String current = endpoint.get();
+        if (current != null) {
+            entry(ENDPOINT, current).transaction.record(micros);
+        }
+    }
+
+    @Override
+    public void connectionAcquired(String pool, long waitNanos, int active, int pending, int max) {
+        if (!enabled) {
+            return;
+        }
+
+        Pool p = pools.computeIfAbsent(pool, Pool::new);
+        p.maxConnections = max;
+        p.peakActive.accumulate(active);
+        p.peakPending.accumulate(pending);
+
+        Frame top = transactions.get().peek();
+        Owner owner = new Owner(top != null ? top.name : NO_TRANSACTION, endpoint.get());
+        borrowed.get().push(owner);
+
+        long micros = waitNanos / 1000;
+        entry(SERVICE, owner.service).connectionWait.record(micros);
+        if (owner.endpoint != null) {
+            entry(ENDPOINT, owner.endpoint).connectionWait.record(micros);
+        }
+    }
+
+    @Override
+    public void connectionReleased(long heldMillis) {
+        Owner owner = borrowed.get().poll();
+        if (owner == null) {
+            return;
+        }
+
+        long micros = heldMillis * 1000;
+        entry(SERVICE, owner.service).connectionHold.record(micros);
+        if (owner.endpoint != null) {
+            entry(ENDPOINT, owner.endpoint).connectionHold.record(micros);
+        }
+    }
+
+    @Override
+    public void connectionTimeout(String pool) {
+        pools.computeIfAbsent(pool, Pool::new).timeouts.incrementAndGet();
+    }
+
+    @Override
+    public TxProfileReportDto getReport(int limit) {
+        List<Map.Entry<String, Entry>> worst = new ArrayList<>(entries.entrySet());
+        worst.sort(Comparator.comparingLong((Map.Entry<String, Entry> e) -> e.getValue().connectionHold.totalMicros())
+                .thenComparingLong(e -> e.getValue().transaction.totalMicros())
+                .reversed());
+
+        List<TxProfileEntryDto> rows = new ArrayList<>();
+        for (Map.Entry<String, Entry> e : worst.subList(0, Math.min(Math.max(limit, 0), worst.size()))) {
+            TxProfileEntryDto dto = new TxProfileEntryDto();
+            dto.setScope(e.getValue().scope);
+            dto.setName(e.getValue().name);
+            dto.setTransaction(e.getValue().transaction.toDto());
+            dto.setConnectionWait(e.getValue().connectionWait.toDto());
+            dto.setConnectionHold(e.getValue().connectionHold.toDto());
+            rows.add(dto);
+        }
+
+        List<TxPoolStatsDto> poolStats = new ArrayList<>();
+        pools.values().stream().sorted(Comparator.comparing(p -> p.name)).forEach(p -> {
+            TxPoolStatsDto dto = new TxPoolStatsDto();
+            dto.setPool(p.name);
+            dto.setMaxConnections(p.maxConnections);
+            dto.setPeakActive((int) p.peakActive.get());
+            dto.setPeakPending((int) p.peakPending.get());
+            dto.setTimeouts(p.timeouts.get());
+            poolStats.add(dto);
+        });
+
+        TxProfileReportDto report = new TxProfileReportDto();
+        report.setPools(poolStats);
+        report.setEntries(rows);
+        return report;
+    }
+
+    private Entry entry(String scope, String name) {
+        return entries.computeIfAbsent(scope + " " + name, k -> new Entry(scope, name));
+    }
+
+    // "com.jean.servesmart.restaurant.service.impl.OrderImpl.create" -> "OrderImpl.create"
+    static String shorten(String transactionName) {
+        if (transactionName == null || transactionName.isBlank()) {
+            return "(programmatic)";
+        }
+        int method = transactionName.lastIndexOf('.');
+        int type = method > 0 ? transactionName.lastIndexOf('.', method - 1) : -1;
+        return transactionName.substring(type + 1);
+    }
+
+    private record Frame(Object transaction, String name, long startNanos) {
+    }
+
+    private record Owner(String service, String endpoint) {
+    }
+
+    private static final class Entry {
+        private final String scope;
+        private final String name;
+        private final LatencyHistogram transaction = new LatencyHistogram();
+        private final LatencyHistogram connectionWait = new LatencyHistogram();
+        private final LatencyHistogram connectionHold = new LatencyHistogram();
+
+        private Entry(String scope, String name) {
+            this.scope = scope;
+            this.name = name;
+        }
+    }
+
+    private static final class Pool {
+        private final String name;
+        private volatile int maxConnections;
+        private final LongAccumulator peakActive = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator peakPending = new LongAccumulator(Math::max, 0);
+        private final AtomicLong timeouts = new AtomicLong();
+
+        private Pool(String name) {
+            this.name = name;
+        }
+    }
+}
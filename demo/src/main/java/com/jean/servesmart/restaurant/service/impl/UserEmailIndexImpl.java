@@ -0,0 +1,117 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import com.jean.servesmart.restaurant.service.interfaces.UserEmailIndexService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Every user's email, case-folded the way the UK_user_email constraint compares them under the
+// database's case-insensitive collation. A few hundred staff accounts are a few KB, so an exact set
+// is simpler than a Bloom filter. The set is per instance and only sees this instance's changes, so
+// callers confirm hits against the database; a miss is only trusted for the emailExists hint.
+@Service
+public class UserEmailIndexImpl implements UserEmailIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserEmailIndexImpl.class);
+
+    private final UserRepository userRepo;
+
+    private final Object lock = new Object();
+    private volatile Set<String> emails;
+    // Changes committed while a rebuild is reading, replayed onto the new set before it is published.
+    private Map<String, Boolean> duringRebuild;
+
+    public UserEmailIndexImpl(UserRepository userRepo) {
+        this.userRepo = userRepo;
+    }
+
+    @Override
+    public boolean isReady() {
+        return emails != null;
+    }
+
+    @Override
+    public boolean contains(String email) {
+        Set<String> current = emails;
+        return current != null && email != null && current.contains(fold(email));
+    }
+
+    @Override
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        AfterCommit.run(() -> apply(fold(email), true));
+    }
+
+    @Override
+    public void remove(String email) {
+        if (email == null) {
+            return;
+        }
+        AfterCommit.run(() -> apply(fold(email), false));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        // the app is already serving when this runs, so record what commits while the table is read
+        synchronized (lock) {
+            duringRebuild = new LinkedHashMap<>();
+        }
+
+        Set<String> rebuilt = ConcurrentHashMap.newKeySet();
+        try {
+            for (String email : userRepo.findAllEmails()) {
+                rebuilt.add(fold(email));
+            }
+        } catch (RuntimeException ex) {
+            synchronized (lock) {
+                duringRebuild = null;
+            }
+            throw ex;
+        }
+
+        synchronized (lock) {
+            duringRebuild.forEach((email, present) -> update(rebuilt, email, present));
+            duringRebuild = null;
+            emails = rebuilt;
+        }
+        logger.info("User email index rebuilt with {} emails", rebuilt.size());
+    }
+
+    private void apply(String email, boolean present) {
+        synchronized (lock) {
+            if (duringRebuild != null) {
+                duringRebuild.put(email, present);
+            }
+            Set<String> current = emails;
+            if (current != null) {
+                update(current, email, present);
+            }
+        }
+    }
+
+    private static void update(Set<String> set, String email, boolean present) {
+        if (present) {
+            set.add(email);
+        } else {
+            set.remove(email);
+        }
+    }
+
+    private static String fold(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -12,9 +12,12 @@ import com.jean.servesmart.restaurant.model.Role;
 import com.jean.servesmart.restaurant.model.User;
 import com.jean.servesmart.restaurant.repository.RoleRepository;
 import com.jean.servesmart.restaurant.repository.UserRepository;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import com.jean.servesmart.restaurant.service.interfaces.RefreshTokenService;
+import com.jean.servesmart.restaurant.service.interfaces.UserEmailIndexService;
 import com.jean.servesmart.restaurant.service.interfaces.UserService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -26,22 +29,30 @@ public class UserImpl implements UserService {
 
     private final UserRepository repo;
     private final RoleRepository roleRepo;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
+    private final RefreshTokenService refreshTokens;
+    private final UserEmailIndexService emailIndex;
 
-    public UserImpl(UserRepository repo, RoleRepository roleRepo, BCryptPasswordEncoder passwordEncoder) {
+    public UserImpl(UserRepository repo, RoleRepository roleRepo, PasswordHashingService passwordHashing,
+                    RefreshTokenService refreshTokens, UserEmailIndexService emailIndex) {
         this.repo = repo;
         this.roleRepo = roleRepo;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.refreshTokens = refreshTokens;
+        this.emailIndex = emailIndex;
     }
 
+    // No surrounding transaction, so no connection is held while the password is hashed;
+    // the checks and the insert each run in the repository's own transaction.
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto register(UserRegisterDto dto) {
         validateRegisterDto(dto);
 
         String email = dto.getEmail().trim();
         String roleName = dto.getRole().trim().toUpperCase();
 
-        if (repo.existsByEmail(email)) {
+        if (emailTaken(email)) {
             throw new UserEmailAlreadyUsedException();
         }
 
@@ -50,7 +61,7 @@ public class UserImpl implements UserService {
 
         User user = new User();
         user.setEmail(email);
-        user.setPasswordHash(passwordEncoder.encode(dto.getPassword()));
+        user.setPasswordHash(passwordHashing.encode(dto.getPassword()));
         user.setFirstName(dto.getFirstName());
         user.setLastName(dto.getLastName());
         user.setAddress(dto.getAddress());
@@ -58,7 +69,9 @@ public class UserImpl implements UserService {
         user.setRole(role);
         user.setActive(dto.getActive() == null || dto.getActive());
 
-        return toResponse(repo.save(user));
+        User saved = repo.save(user);
+        emailIndex.add(saved.getEmail());
+        return toResponse(saved);
     }
 
     @Override
@@ -89,6 +102,7 @@ public class UserImpl implements UserService {
         User user = repo.findById(id)
                 .orElseThrow(UserNotFoundException::new);
 
+        String oldEmail = user.getEmail();
         updateEmail(dto, user);
         updateRole(dto, user);
 
@@ -112,10 +126,16 @@ public class UserImpl implements UserService {
             user.setActive(dto.getActive());
         }
 
-        return toResponse(repo.save(user));
+        User saved = repo.save(user);
+        if (!saved.getEmail().equals(oldEmail)) {
+            emailIndex.remove(oldEmail);
+            emailIndex.add(saved.getEmail());
+        }
+        return toResponse(saved);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean changePassword(Integer id, ChangePasswordDto dto) {
         if (id == null || dto == null) {
             throw new UserInvalidDataException();
@@ -132,16 +152,21 @@ public class UserImpl implements UserService {
         User user = repo.findById(id)
                 .orElseThrow(UserNotFoundException::new);
 
-        if (!passwordEncoder.matches(dto.getOldPassword(), user.getPasswordHash())) {
+        if (!passwordHashing.matches(dto.getOldPassword(), user.getPasswordHash())) {
             throw new InvalidPasswordChangeException();
         }
 
-        if (passwordEncoder.matches(dto.getNewPassword(), user.getPasswordHash())) {
+        if (passwordHashing.matches(dto.getNewPassword(), user.getPasswordHash())) {
             throw new InvalidPasswordChangeException();
         }
 
-        user.setPasswordHash(passwordEncoder.encode(dto.getNewPassword()));
-        repo.save(user);
+        String newHash = passwordHashing.encode(dto.getNewPassword());
+        // the old password was checked against this hash; a concurrent change makes it stale
+        if (repo.replacePasswordHash(id, user.getPasswordHash(), newHash) == 0) {
+            throw new InvalidPasswordChangeException();
+        }
+        // sessions started with the old password must log in again
+        refreshTokens.revokeAll(id);
         return true;
     }
 
@@ -151,7 +176,13 @@ public class UserImpl implements UserService {
         if (email == null || email.isBlank()) {
             throw new UserInvalidDataException();
         }
-        return repo.existsByEmail(email.trim());
+        // called per keystroke while an admin types: a miss in the loaded index is answered from memory,
+        // a hit is confirmed by the database because the index may hold an email another instance removed
+        String trimmed = email.trim();
+        if (emailIndex.isReady() && !emailIndex.contains(trimmed)) {
+            return false;
+        }
+        return repo.existsByEmail(trimmed);
     }
 
     @Override
@@ -160,11 +191,11 @@ public class UserImpl implements UserService {
             throw new UserInvalidDataException();
         }
 
-        if (!repo.existsById(id)) {
-            throw new UserNotFoundException();
-        }
+        User user = repo.findById(id)
+                .orElseThrow(UserNotFoundException::new);
 
-        repo.deleteById(id);
+        repo.delete(user);
+        emailIndex.remove(user.getEmail());
     }
 
     private void validateRegisterDto(UserRegisterDto dto) {
@@ -186,13 +217,19 @@ public class UserImpl implements UserService {
         }
 
         String newEmail = dto.getEmail().trim();
-        if (!newEmail.equalsIgnoreCase(user.getEmail()) && repo.existsByEmail(newEmail)) {
+        if (!newEmail.equalsIgnoreCase(user.getEmail()) && emailTaken(newEmail)) {
             throw new UserEmailAlreadyUsedException();
         }
 
         user.setEmail(newEmail);
     }
 
+    // Only the database decides: the index is per instance and may be stale, and a stale hit here
+    // would block the email for good.
+    private boolean emailTaken(String email) {
+        return repo.existsByEmail(email);
+    }
+
     private void updateRole(UserUpdateDto dto, User user) {
         if (dto.getRole() == null) {
             return;
@@ -0,0 +1,196 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.user.UserImportErrorDto;
+import com.jean.servesmart.restaurant.dto.user.UserImportResultDto;
+import com.jean.servesmart.restaurant.dto.user.UserRegisterDto;
+import com.jean.servesmart.restaurant.exception.user.UserEmailAlreadyUsedException;
+import com.jean.servesmart.restaurant.exception.user.UserInvalidDataException;
+import com.jean.servesmart.restaurant.model.Role;
+import com.jean.servesmart.restaurant.repository.RoleRepository;
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import com.jean.servesmart.restaurant.service.interfaces.UserEmailIndexService;
+import com.jean.servesmart.restaurant.service.interfaces.UserImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Onboarding a restaurant registers its whole staff at once. Instead of register() per row (a
+// duplicate check, a role lookup, a BCrypt and an insert each) this loads the roles once, checks
+// every email in one query, hashes across the whole hashing pool and inserts in one JDBC batch.
+// Users.id is an IDENTITY column, which keeps Hibernate from batching the inserts itself.
+@Service
+public class UserImportImpl implements UserImportService {
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (email, password_hash, first_name, last_name, address, phone_number, role_id, is_active, create_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserRepository repo;
+    private final RoleRepository roleRepo;
+    private final PasswordHashingService passwordHashing;
+    private final UserEmailIndexService emailIndex;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRows;
+
+    public UserImportImpl(
+            UserRepository repo,
+            RoleRepository roleRepo,
+            PasswordHashingService passwordHashing,
+            UserEmailIndexService emailIndex,
+            Validator validator,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.users.import.max-rows:500}") int maxRows
+    ) {
+        this.repo = repo;
+        this.roleRepo = roleRepo;
+        this.passwordHashing = passwordHashing;
+        this.emailIndex = emailIndex;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxRows = maxRows;
+    }
+
+    // Not @Transactional: the lookups take a connection only for their own statement and none is
+    // held while the passwords are hashed; only the batched insert runs in a transaction.
+    @Override
+    public UserImportResultDto importUsers(List<UserRegisterDto> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new UserInvalidDataException("No users to import");
+        }
+        if (rows.size() > maxRows) {
+            throw new UserInvalidDataException("At most " + maxRows + " users can be imported at once");
+        }
+
+        UserImportResultDto result = new UserImportResultDto();
+        result.setReceived(rows.size());
+
+        Map<String, Role> roles = roleRepo.findAll().stream()
+                .collect(Collectors.toMap(Role::getName, Function.identity()));
+
+        List<Accepted> accepted = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserRegisterDto dto = rows.get(i);
+            String error = validate(dto, roles);
+            if (error == null && !seen.add(fold(dto.getEmail()))) {
+                error = "Duplicate email in import";
+            }
+            if (error != null) {
+                result.getErrors().add(error(i + 1, dto, error));
+                continue;
+            }
+            accepted.add(new Accepted(i + 1, dto, dto.getEmail().trim(), roles.get(dto.getRole().trim().toUpperCase())));
+        }
+
+        if (!accepted.isEmpty()) {
+            Set<String> existing = repo.findExistingEmails(accepted.stream().map(Accepted::email).toList())
+                    .stream()
+                    .map(UserImportImpl::fold)
+                    .collect(Collectors.toSet());
+            accepted.removeIf(a -> {
+                if (existing.contains(fold(a.email()))) {
+                    result.getErrors().add(error(a.row(), a.dto(), "Email already in use"));
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (!accepted.isEmpty()) {
+            List<String> hashes = passwordHashing.encodeAll(accepted.stream().map(a -> a.dto().getPassword()).toList());
+            insert(accepted, hashes);
+            accepted.forEach(a -> emailIndex.add(a.email()));
+        }
+
+        result.setImported(accepted.size());
+        result.getErrors().sort(Comparator.comparingInt(UserImportErrorDto::getRow));
+        return result;
+    }
+
+    private void insert(List<Accepted> accepted, List<String> hashes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            Accepted a = accepted.get(i);
+            UserRegisterDto dto = a.dto();
+            args.add(new Object[]{
+                    a.email(), hashes.get(i), dto.getFirstName(), dto.getLastName(), dto.getAddress(),
+                    dto.getPhoneNumber(), a.role().getId(), dto.getActive() == null || dto.getActive(), now
+            });
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER, args));
+        } catch (DataIntegrityViolationException ex) {
+            // registered by someone else since the duplicate check; the batch rolled back as a whole
+            throw new UserEmailAlreadyUsedException("An email in the import was registered meanwhile; no users were imported");
+        }
+    }
+
+    private String validate(UserRegisterDto dto, Map<String, Role> roles) {
+        if (dto == null) {
+            return "Row is empty";
+        }
+
+        Set<ConstraintViolation<UserRegisterDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        // optional for the register endpoint's DTO, but NOT NULL in the table
+        if (dto.getAddress() == null || dto.getAddress().isBlank()) {
+            return "address must not be blank";
+        }
+        if (dto.getPhoneNumber() == null || dto.getPhoneNumber().isBlank()) {
+            return "phoneNumber must not be blank";
+        }
+
+        if (dto.getRole() == null || dto.getRole().isBlank()) {
+            return "role must not be blank";
+        }
+        if (!roles.containsKey(dto.getRole().trim().toUpperCase())) {
+            return "Unknown role " + dto.getRole().trim();
+        }
+        return null;
+    }
+
+    private static UserImportErrorDto error(int row, UserRegisterDto dto, String message) {
+        UserImportErrorDto error = new UserImportErrorDto();
+        error.setRow(row);
+        error.setEmail(dto != null ? dto.getEmail() : null);
+        error.setError(message);
+        return error;
+    }
+
+    private static String fold(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Accepted(int row, UserRegisterDto dto, String email, Role role) {
+    }
+}
@@ -5,4 +5,5 @@ import com.jean.servesmart.restaurant.dto.auth.UserLoginDto;
 
 public interface AuthService {
     AuthResponseDto login(UserLoginDto dto);
+    AuthResponseDto refresh(String refreshToken);
 }
@@ -0,0 +1,21 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.dto.jfr.FlightRecordingDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+public interface FlightRecorderService {
+
+    Optional<FlightRecordingDto> getStatus();
+
+    // settings: a JFR configuration name ("default", "profile") or null for the configured one
+    FlightRecordingDto start(String settings, Long maxAgeMinutes);
+
+    // Stops the recording and writes it to the recordings directory.
+    FlightRecordingDto stop();
+
+    // Snapshot of the running recording, which keeps running.
+    void dump(OutputStream out) throws IOException;
+}
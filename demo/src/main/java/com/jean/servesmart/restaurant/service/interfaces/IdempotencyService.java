@@ -0,0 +1,19 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    String HEADER = "Idempotency-Key";
+
+    // Runs the action once per (scope, key); duplicates get the stored response replayed.
+    // A key is bound to the caller and the request body: reusing it for a different request is rejected.
+    // A null or blank key disables idempotency and simply runs the action.
+    <T> ResponseEntity<ApiResponse<T>> execute(String scope, String key, Object request, Class<T> dataType,
+                                               Supplier<ResponseEntity<ApiResponse<T>>> action);
+
+    int size();
+}
@@ -1,10 +1,18 @@
 package com.jean.servesmart.restaurant.service.interfaces;
 
 import com.jean.servesmart.restaurant.model.User;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
+
 public interface JwtService {
     String generateToken(User user);
+    // Verifies the signature once; read subject, jti and expiry from the result instead of re-parsing.
+    Claims parseClaims(String token);
     String extractUsername(String token);
+    String extractTokenId(String token);
+    Instant extractExpiration(String token);
     boolean isTokenValid(String token, UserDetails userDetails);
+    boolean isTokenValid(Claims claims, UserDetails userDetails);
 }
@@ -0,0 +1,15 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.jean.servesmart.restaurant.dto.loginlog.LoginActivityDailyDto;
+
+public interface LoginLogRetentionService {
+
+    // Folds LoginLog rows older than the cutoff into daily rollups and deletes them, one chunk per transaction.
+    int compactOlderThan(LocalDateTime cutoff);
+
+    List<LoginActivityDailyDto> getDailyActivity(Integer userId, LocalDate from, LocalDate to);
+}
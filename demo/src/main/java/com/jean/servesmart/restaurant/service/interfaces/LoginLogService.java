@@ -9,5 +9,10 @@ public interface LoginLogService {
 
     void log(LoginLogCreateDto dto);
 
-    List<LoginLogResponseDto> getByUser(Integer userId);
+    // Queues the entry and returns at once; a background flush writes queued entries in batches,
+    // in its own transaction (so entries for a login that then fails are not rolled back with it).
+    void logAsync(Integer userId, String status);
+
+    // LOGIN_SUCCESS and LOGOUT entries, newest first, one page at a time.
+    List<LoginLogResponseDto> getByUser(Integer userId, int page, int size);
 }
@@ -0,0 +1,11 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+public interface LoginRateLimitService {
+
+    // Takes a token from the client address and the account buckets before any lookup or hash;
+    // throws LoginRateLimitedException when either is empty.
+    void acquire(String clientAddress, String email);
+
+    // A successful login refills the account, so earlier typos do not count against the next session.
+    void succeeded(String email);
+}
@@ -0,0 +1,22 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import java.util.Optional;
+
+public interface OpenOrderIndexService {
+
+    Optional<Integer> findOpenOrder(Integer tableId);
+
+    // Atomically claims the table for orderId (null for an order not saved yet). False when another
+    // order holds it. A claim made in a transaction is released if it rolls back; markOpen on commit
+    // replaces it with the order id.
+    boolean tryReserve(Integer tableId, Integer orderId);
+
+    // Updates are applied after the surrounding transaction commits.
+    void markOpen(Integer tableId, Integer orderId);
+
+    void markClosed(Integer tableId, Integer orderId);
+
+    void forget(Integer orderId);
+
+    void rebuild();
+}
@@ -0,0 +1,17 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.jean.servesmart.restaurant.dto.order.OrderResponseDto;
+
+public interface OrderArchiveService {
+
+    // Moves PAID/CANCELLED orders created before the cutoff, one chunk per transaction.
+    int archiveOlderThan(LocalDateTime cutoff);
+
+    Optional<OrderResponseDto> getById(Integer id);
+
+    List<OrderResponseDto> getByTable(Integer tableId);
+}
@@ -0,0 +1,13 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.dto.order.OrderExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface OrderExportService {
+
+    // Writes one row per order item of every PAID order created in [from, to], archived orders first.
+    void exportPaid(LocalDate from, LocalDate to, OrderExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,23 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.journal.OrderEvent;
+import com.jean.servesmart.restaurant.journal.OrderEventType;
+import com.jean.servesmart.restaurant.model.OrderItem;
+
+import java.util.function.Consumer;
+
+public interface OrderJournalService {
+
+    // Recorded after the surrounding transaction commits; rolled back work is never journaled.
+    void append(OrderEventType type, Integer orderId, Integer itemId, Integer quantity, String status);
+
+    // CREATED with the table and user the order was opened for.
+    void appendCreated(Integer orderId, Integer tableId, Integer userId, String status);
+
+    // ITEM_ADDED / ITEM_UPDATED with the full line, so replay does not need the database.
+    void appendItem(OrderEventType type, Integer orderId, OrderItem item);
+
+    void replay(long fromSequence, Consumer<OrderEvent> consumer);
+
+    void flush();
+}
@@ -29,6 +29,7 @@ public interface OrderService {
     // STAFF OPERATIONS
     List<OrderResponseDto> getPaid();
     List<OrderResponseDto> getOpenByTable();
+    Optional<OrderResponseDto> getCurrentByTable(Integer tableId);
     OrderResponseDto start(Integer userId, Integer restaurantTableId);
 
     // PAYMENT
@@ -0,0 +1,13 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.dto.outbox.OutboxStatsDto;
+
+public interface OutboxService {
+
+    // Must run inside the caller's transaction so the event commits or rolls back with the state change.
+    void record(String aggregateType, Integer aggregateId, String eventType, Object payload);
+
+    int relay();
+
+    OutboxStatsDto getStats();
+}
@@ -0,0 +1,23 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.dto.passwordhashing.PasswordHashingStatsDto;
+
+import java.util.List;
+
+public interface PasswordHashingService {
+
+    // Both run on the bounded hashing executor; the caller waits for the result. Call them outside a
+    // transaction so no pooled connection is held for the hash. Throw PasswordHashingBusyException
+    // when the queue is full or the wait times out.
+    String encode(String rawPassword);
+
+    boolean matches(String rawPassword, String hash);
+
+    // Hashes in parallel across the executor's threads, returning hashes in input order.
+    List<String> encodeAll(List<String> rawPasswords);
+
+    // True when the hash was made with another work factor than app.password-hashing.strength.
+    boolean needsRehash(String hash);
+
+    PasswordHashingStatsDto getStats();
+}
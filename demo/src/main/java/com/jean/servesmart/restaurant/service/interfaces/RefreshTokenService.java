@@ -0,0 +1,14 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.model.User;
+
+public interface RefreshTokenService {
+    String issue(User user);
+    Rotation rotate(String refreshToken);
+    void revoke(String refreshToken);
+    void revokeAll(Integer userId);
+
+    // The user the spent token belonged to (role loaded) and the token that replaces it
+    record Rotation(User user, String refreshToken) {
+    }
+}
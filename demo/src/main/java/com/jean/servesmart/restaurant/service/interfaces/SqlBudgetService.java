@@ -0,0 +1,20 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.dto.sqlbudget.SqlBudgetStatsDto;
+
+import java.util.List;
+
+public interface SqlBudgetService {
+
+    // Starts counting for the current request thread; endpoint is "METHOD /path/pattern".
+    void begin(String endpoint);
+
+    // Called by Hibernate for every statement; throws SqlBudgetExceededException when enforcing.
+    void onStatement(String sql);
+
+    void onEntityLoaded();
+
+    void end();
+
+    List<SqlBudgetStatsDto> getStats();
+}
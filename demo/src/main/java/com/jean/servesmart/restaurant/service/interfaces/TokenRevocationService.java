@@ -0,0 +1,9 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import java.time.Instant;
+
+public interface TokenRevocationService {
+    void revoke(String tokenId, Instant expiresAt);
+    boolean isRevoked(String tokenId);
+    int size();
+}
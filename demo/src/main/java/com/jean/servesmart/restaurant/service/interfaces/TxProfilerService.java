@@ -0,0 +1,26 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.dto.txprofile.TxProfileReportDto;
+
+public interface TxProfilerService {
+
+    // Request scope; endpoint is "METHOD /path/pattern".
+    void beginRequest(String endpoint);
+
+    void endRequest();
+
+    // Called by the transaction manager around every new (or nested) transaction on this thread.
+    void beginTransaction(Object transaction, String name);
+
+    void endTransaction(Object transaction);
+
+    // Called by the connection pool on the borrowing thread.
+    void connectionAcquired(String pool, long waitNanos, int active, int pending, int max);
+
+    void connectionReleased(long heldMillis);
+
+    void connectionTimeout(String pool);
+
+    // Entries ordered by total connection hold time, worst first.
+    TxProfileReportDto getReport(int limit);
+}
@@ -0,0 +1,16 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+public interface UserEmailIndexService {
+
+    // False until the first rebuild has loaded the index; callers then ask the database instead.
+    boolean isReady();
+
+    boolean contains(String email);
+
+    // Updates are applied after the surrounding transaction commits.
+    void add(String email);
+
+    void remove(String email);
+
+    void rebuild();
+}
@@ -0,0 +1,12 @@
+package com.jean.servesmart.restaurant.service.interfaces;
+
+import com.jean.servesmart.restaurant.dto.user.UserImportResultDto;
+import com.jean.servesmart.restaurant.dto.user.UserRegisterDto;
+
+import java.util.List;
+
+public interface UserImportService {
+
+    // Imports every valid row and reports the others; one bad row does not reject the rest.
+    UserImportResultDto importUsers(List<UserRegisterDto> rows);
+}
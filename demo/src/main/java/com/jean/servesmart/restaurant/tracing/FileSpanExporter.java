@@ -0,0 +1,91 @@
+package com.jean.servesmart.restaurant.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Local-development exporter: one JSON object per finished span, appended to an NDJSON file
+// (grep/jq by traceId to see a request's breakdown). Past maxBytes the file is moved to <file>.1,
+// replacing the previous one, so disk use stays under twice the cap.
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final Path rolled;
+    private final long maxBytes;
+
+    public FileSpanExporter(ObjectMapper objectMapper, Path file, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.rolled = file.resolveSibling(file.getFileName() + ".1");
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (SpanData span : spans) {
+                lines.append(objectMapper.writeValueAsString(toJson(span))).append('\n');
+            }
+
+            byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.exists(file) && Files.size(file) + bytes.length > maxBytes) {
+                Files.move(file, rolled, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            logger.warn("Could not write {} spans to {}: {}", spans.size(), file, ex.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochMicros", span.getStartEpochNanos() / 1000);
+        json.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1000);
+        json.put("status", span.getStatus().getStatusCode().name());
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        json.put("attributes", attributes);
+        return json;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jean.servesmart.restaurant.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+// Root sampler: only HTTP requests start a trace. Service calls and JDBC statements from scheduled jobs
+// (outbox relay every second, archiving, replica checks) would otherwise each become a one-span trace.
+public class RequestRootSampler implements Sampler {
+
+    private final Sampler ratio;
+
+    public RequestRootSampler(double ratio) {
+        this.ratio = Sampler.traceIdRatioBased(ratio);
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        if (spanKind != SpanKind.SERVER) {
+            return SamplingResult.drop();
+        }
+        return ratio.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    @Override
+    public String getDescription() {
+        return "RequestRootSampler{" + ratio.getDescription() + "}";
+    }
+}
@@ -0,0 +1,58 @@
+package com.jean.servesmart.restaurant.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+// One INTERNAL span per controller/service call, named "SimpleClassName.method".
+public class TracingMethodInterceptor implements MethodInterceptor {
+
+    public static final String INSTRUMENTATION_SCOPE = "com.jean.servesmart.restaurant";
+
+    private final ObjectProvider<OpenTelemetry> openTelemetry;
+    private final String layer;
+    private volatile Tracer tracer;
+
+    public TracingMethodInterceptor(ObjectProvider<OpenTelemetry> openTelemetry, String layer) {
+        this.openTelemetry = openTelemetry;
+        this.layer = layer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> type = invocation.getThis() != null
+                ? ClassUtils.getUserClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+
+        Span span = tracer().spanBuilder(type.getSimpleName() + "." + invocation.getMethod().getName())
+                .setAttribute("code.namespace", type.getName())
+                .setAttribute("code.function", invocation.getMethod().getName())
+                .setAttribute("app.layer", layer)
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+
+    // resolved on first call; the advisor is created long before the SDK bean
+    private Tracer tracer() {
+        Tracer t = tracer;
+        if (t == null) {
+            t = openTelemetry.getObject().getTracer(INSTRUMENTATION_SCOPE);
+            tracer = t;
+        }
+        return t;
+    }
+}
@@ -0,0 +1,95 @@
+-- One index per derived finder in the repository package. Lookups by primary key or by a
+-- column that already has a unique constraint are served by that index and are not repeated.
+-- MenuItemsRepository.findByNameContainingIgnoreCase is a leading-wildcard LIKE and cannot seek.
+
+-- OrdersRepository.findByStatus_Name / findByStatus_NameNotIn / findByStatus_NameInAndCreateAtBefore
+-- OrderItemRepository.streamByOrder_Status_NameAndOrder_CreateAt...
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_Orders_Status_Create_at' AND object_id = OBJECT_ID('dbo.orders'))
+    CREATE INDEX IX_Orders_Status_Create_at ON dbo.orders (orders_status_id, create_at) INCLUDE (user_id, restaurant_table_id);
+
+-- OrdersRepository.findByRestaurantTable_Id
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_Orders_Table' AND object_id = OBJECT_ID('dbo.orders'))
+    CREATE INDEX IX_Orders_Table ON dbo.orders (restaurant_table_id) INCLUDE (orders_status_id, user_id, create_at);
+
+-- FK_Orders_User: deleting a user must not scan orders
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_Orders_User' AND object_id = OBJECT_ID('dbo.orders'))
+    CREATE INDEX IX_Orders_User ON dbo.orders (user_id);
+
+-- OrderItemRepository.findByOrder_Id / findByOrder_IdIn / deleteByOrder_Id / findByIdAndOrder_Id
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_OrderItem_Order' AND object_id = OBJECT_ID('dbo.order_item'))
+    CREATE INDEX IX_OrderItem_Order ON dbo.order_item (orders_id);
+
+-- FK_OrderItem_MenuItems
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_OrderItem_MenuItem' AND object_id = OBJECT_ID('dbo.order_item'))
+    CREATE INDEX IX_OrderItem_MenuItem ON dbo.order_item (menu_items_id);
+
+-- LoginLogRepository.findByUser_IdOrderByDateDesc
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_LoginLog_User_Date' AND object_id = OBJECT_ID('dbo.login_log'))
+    CREATE INDEX IX_LoginLog_User_Date ON dbo.login_log (user_id, date DESC) INCLUDE (status);
+
+-- MenuCategoryRepository.findByActiveTrue / existsByPosition
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_MenuCategory_Active' AND object_id = OBJECT_ID('dbo.menu_category'))
+    CREATE INDEX IX_MenuCategory_Active ON dbo.menu_category (is_active);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_MenuCategory_Position' AND object_id = OBJECT_ID('dbo.menu_category'))
+    CREATE INDEX IX_MenuCategory_Position ON dbo.menu_category (position);
+
+-- MenuItemsRepository.findByActiveTrue (findByCategory_Id and existsByCategory_IdAndName use UK_item_name_per_category)
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_MenuItems_Active' AND object_id = OBJECT_ID('dbo.menu_items'))
+    CREATE INDEX IX_MenuItems_Active ON dbo.menu_items (is_active);
+
+-- Status and role lookups: findByName
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'UK_OrdersStatus_name' AND object_id = OBJECT_ID('dbo.orders_status'))
+    CREATE UNIQUE INDEX UK_OrdersStatus_name ON dbo.orders_status (name);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'UK_ReservationStatus_name' AND object_id = OBJECT_ID('dbo.reservation_status'))
+    CREATE UNIQUE INDEX UK_ReservationStatus_name ON dbo.reservation_status (name);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'UK_RestaurantTableStatus_name' AND object_id = OBJECT_ID('dbo.restaurant_table_status'))
+    CREATE UNIQUE INDEX UK_RestaurantTableStatus_name ON dbo.restaurant_table_status (name);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'UK_Role_name' AND object_id = OBJECT_ID('dbo.role'))
+    CREATE UNIQUE INDEX UK_Role_name ON dbo.role (name);
+
+-- ReservationRepository.findByRestaurantTable_IdAndEventDateTimeBetween / existsByRestaurantTable_IdAndEventDateTime
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_Reservation_Table_Time' AND object_id = OBJECT_ID('dbo.reservation'))
+    CREATE INDEX IX_Reservation_Table_Time ON dbo.reservation (restaurant_table_id, event_datetime);
+
+-- ReservationRepository.findByStatus_Name
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_Reservation_Status' AND object_id = OBJECT_ID('dbo.reservation'))
+    CREATE INDEX IX_Reservation_Status ON dbo.reservation (reservation_status_id);
+
+-- RestaurantTableRepository.findByStatus_Name / findByActiveTrue
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_RestaurantTable_Status' AND object_id = OBJECT_ID('dbo.restaurant_table'))
+    CREATE INDEX IX_RestaurantTable_Status ON dbo.restaurant_table (restaurant_table_status_id);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_RestaurantTable_Active' AND object_id = OBJECT_ID('dbo.restaurant_table'))
+    CREATE INDEX IX_RestaurantTable_Active ON dbo.restaurant_table (is_active);
+
+-- UserRepository.findByActive
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_Users_Active' AND object_id = OBJECT_ID('dbo.users'))
+    CREATE INDEX IX_Users_Active ON dbo.users (is_active);
+
+-- FK4qu1gr772nnf6ve5af002rwya (users.role_id)
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_Users_Role' AND object_id = OBJECT_ID('dbo.users'))
+    CREATE INDEX IX_Users_Role ON dbo.users (role_id);
+
+-- IdempotencyRecordRepository.deleteByExpiresAtBefore
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_IdempotencyRecord_Expires_at' AND object_id = OBJECT_ID('dbo.idempotency_record'))
+    CREATE INDEX IX_IdempotencyRecord_Expires_at ON dbo.idempotency_record (expires_at);
+
+-- ArchivedOrderRepository.findByRestaurantTableId
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_ArchivedOrder_Table' AND object_id = OBJECT_ID('dbo.archived_order'))
+    CREATE INDEX IX_ArchivedOrder_Table ON dbo.archived_order (restaurant_table_id);
+
+-- ArchivedOrderRepository.findByStatusNameAndCreateAt...AndIdGreaterThan
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_ArchivedOrder_Status_Create_at' AND object_id = OBJECT_ID('dbo.archived_order'))
+    CREATE INDEX IX_ArchivedOrder_Status_Create_at ON dbo.archived_order (status_name, create_at);
+
+-- ArchivedOrderItemRepository.findByOrderId / findByOrderIdIn
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_ArchivedOrderItem_Order' AND object_id = OBJECT_ID('dbo.archived_order_item'))
+    CREATE INDEX IX_ArchivedOrderItem_Order ON dbo.archived_order_item (orders_id);
+
+-- OutboxEventRepository pending/published scans
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_OutboxEvent_Published_at' AND object_id = OBJECT_ID('dbo.outbox_event'))
+    CREATE INDEX IX_OutboxEvent_Published_at ON dbo.outbox_event (published_at, id);
@@ -0,0 +1,34 @@
+-- Rotating refresh tokens (RefreshToken entity). Only the SHA-256 of each token is stored.
+
+IF OBJECT_ID('dbo.refresh_token', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.refresh_token (
+        id BIGINT IDENTITY(1,1) NOT NULL PRIMARY KEY,
+        user_id INT NOT NULL,
+        token_hash VARCHAR(64) NOT NULL,
+        family_id VARCHAR(36) NOT NULL,
+        create_at DATETIME2(6) NOT NULL,
+        expires_at DATETIME2(6) NOT NULL,
+        revoked_at DATETIME2(6) NULL
+    );
+END;
+
+-- RefreshTokenRepository.findByTokenHashWithUser / revokeByTokenHash
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'UK_RefreshToken_Token_hash' AND object_id = OBJECT_ID('dbo.refresh_token'))
+    ALTER TABLE dbo.refresh_token ADD CONSTRAINT UK_RefreshToken_Token_hash UNIQUE (token_hash);
+
+-- RefreshTokenRepository.revokeFamily
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_RefreshToken_Family' AND object_id = OBJECT_ID('dbo.refresh_token'))
+    CREATE INDEX IX_RefreshToken_Family ON dbo.refresh_token (family_id);
+
+-- RefreshTokenRepository.revokeByUser and the cascading FK
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_RefreshToken_User' AND object_id = OBJECT_ID('dbo.refresh_token'))
+    CREATE INDEX IX_RefreshToken_User ON dbo.refresh_token (user_id);
+
+-- RefreshTokenRepository.deleteExpired
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_RefreshToken_Expires_at' AND object_id = OBJECT_ID('dbo.refresh_token'))
+    CREATE INDEX IX_RefreshToken_Expires_at ON dbo.refresh_token (expires_at);
+
+-- Deleting a user deletes their refresh tokens
+IF NOT EXISTS (SELECT 1 FROM sys.foreign_keys WHERE name = 'FK_RefreshToken_User')
+    ALTER TABLE dbo.refresh_token ADD CONSTRAINT FK_RefreshToken_User FOREIGN KEY (user_id) REFERENCES dbo.users(id) ON DELETE CASCADE;
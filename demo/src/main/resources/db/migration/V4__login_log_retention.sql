@@ -0,0 +1,55 @@
+-- LoginLog.Status becomes a one-byte code (LoginLogStatus) instead of VARCHAR(20), and old rows are
+-- compacted into LoginActivityDaily. Statements that name status_code go through EXEC because
+-- SQL Server compiles the whole script before ALTER TABLE has added the column.
+
+IF COL_LENGTH('dbo.login_log', 'status_code') IS NULL
+    ALTER TABLE dbo.login_log ADD status_code TINYINT NULL;
+
+IF COL_LENGTH('dbo.login_log', 'status') IS NOT NULL
+BEGIN
+    EXEC('UPDATE dbo.login_log SET status_code = CASE UPPER(LTRIM(RTRIM(status)))
+              WHEN ''LOGIN_SUCCESS'' THEN 1
+              WHEN ''LOGOUT'' THEN 2
+              WHEN ''LOGIN_FAILED'' THEN 3
+              WHEN ''LOGIN_INACTIVE'' THEN 4
+          END');
+    -- the application only ever wrote the four statuses above
+    EXEC('DELETE FROM dbo.login_log WHERE status_code IS NULL');
+
+    -- the index includes the old column, so it is rebuilt below on the new one
+    IF EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_LoginLog_User_Date' AND object_id = OBJECT_ID('dbo.login_log'))
+        DROP INDEX IX_LoginLog_User_Date ON dbo.login_log;
+
+    ALTER TABLE dbo.login_log DROP COLUMN status;
+END;
+
+EXEC('ALTER TABLE dbo.login_log ALTER COLUMN status_code TINYINT NOT NULL');
+
+-- LoginLogRepository.findByUser_IdAndStatusInOrderByDateDescIdDesc
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_LoginLog_User_Date' AND object_id = OBJECT_ID('dbo.login_log'))
+    EXEC('CREATE INDEX IX_LoginLog_User_Date ON dbo.login_log (user_id, date DESC) INCLUDE (status_code)');
+
+-- LoginLogRepository.findCompactionChunk
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_LoginLog_Date' AND object_id = OBJECT_ID('dbo.login_log'))
+    CREATE INDEX IX_LoginLog_Date ON dbo.login_log (date);
+
+IF OBJECT_ID('dbo.login_activity_daily', 'U') IS NULL
+BEGIN
+    CREATE TABLE dbo.login_activity_daily (
+        id BIGINT IDENTITY(1,1) NOT NULL PRIMARY KEY,
+        user_id INT NOT NULL,
+        activity_day DATE NOT NULL,
+        first_login DATETIME2(6) NULL,
+        last_logout DATETIME2(6) NULL,
+        session_count INT NOT NULL,
+        failed_count INT NOT NULL
+    );
+END;
+
+-- LoginActivityDailyRepository.findByUser_IdInAndDayBetween / findByUser_IdAndDayBetweenOrderByDayDesc
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'UK_LoginActivityDaily_User_Day' AND object_id = OBJECT_ID('dbo.login_activity_daily'))
+    ALTER TABLE dbo.login_activity_daily ADD CONSTRAINT UK_LoginActivityDaily_User_Day UNIQUE (user_id, activity_day);
+
+-- Deleting a user deletes their rollups
+IF NOT EXISTS (SELECT 1 FROM sys.foreign_keys WHERE name = 'FK_LoginActivityDaily_User')
+    ALTER TABLE dbo.login_activity_daily ADD CONSTRAINT FK_LoginActivityDaily_User FOREIGN KEY (user_id) REFERENCES dbo.users(id) ON DELETE CASCADE;
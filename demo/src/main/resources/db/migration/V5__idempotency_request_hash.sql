@@ -0,0 +1,4 @@
+-- IdempotencyRecord.Request_hash: an Idempotency-Key only replays for the caller and body it was first
+-- used with. Rows stored before this column existed have no hash and replay as before.
+IF COL_LENGTH('dbo.idempotency_record', 'request_hash') IS NULL
+    ALTER TABLE dbo.idempotency_record ADD request_hash VARCHAR(64) NULL;
@@ -0,0 +1,10 @@
+-- OutboxEvent.Failed_at: events that used up app.outbox.max-attempts are parked here instead of
+-- blocking the relay. The pending index gains the column so the relay scan stays a seek in Id order.
+IF COL_LENGTH('dbo.outbox_event', 'failed_at') IS NULL
+    ALTER TABLE dbo.outbox_event ADD failed_at DATETIME2(6) NULL;
+
+IF EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_OutboxEvent_Published_at' AND object_id = OBJECT_ID('dbo.outbox_event'))
+    DROP INDEX IX_OutboxEvent_Published_at ON dbo.outbox_event;
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_OutboxEvent_Pending' AND object_id = OBJECT_ID('dbo.outbox_event'))
+    EXEC('CREATE INDEX IX_OutboxEvent_Pending ON dbo.outbox_event (published_at, failed_at, id)');
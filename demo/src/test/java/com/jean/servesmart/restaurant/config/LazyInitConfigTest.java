@@ -0,0 +1,34 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.controller.LoginLogController;
+import com.jean.servesmart.restaurant.controller.OrderController;
+import com.jean.servesmart.restaurant.service.impl.MenuImpl;
+import com.jean.servesmart.restaurant.service.impl.OpenOrderIndexImpl;
+import com.jean.servesmart.restaurant.service.impl.OutboxImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyInitConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = LazyInitConfig.eagerBeans();
+
+    @Test
+    void hotControllers_stayEager() {
+        assertTrue(filter.isExcluded("orderController", null, OrderController.class));
+    }
+
+    @Test
+    void beansWithScheduleOrStartupListener_stayEager() {
+        assertTrue(filter.isExcluded("outboxImpl", null, OutboxImpl.class));
+        assertTrue(filter.isExcluded("openOrderIndexImpl", null, OpenOrderIndexImpl.class));
+    }
+
+    @Test
+    void otherBeans_areLazy() {
+        assertFalse(filter.isExcluded("loginLogController", null, LoginLogController.class));
+        assertFalse(filter.isExcluded("menuImpl", null, MenuImpl.class));
+        assertFalse(filter.isExcluded("unknown", null, null));
+    }
+}
@@ -0,0 +1,44 @@
+package com.jean.servesmart.restaurant.config;
+
+import com.jean.servesmart.restaurant.model.Orders;
+import com.jean.servesmart.restaurant.model.User;
+import com.jean.servesmart.restaurant.outbox.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setup() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersEntitiesForReflection() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Orders.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    void registersJjwtImplementationAndServiceFiles() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder")).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+
+    @Test
+    void registersOutboxMessageBinding() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OutboxMessage.class).test(hints));
+    }
+}
@@ -0,0 +1,118 @@
+package com.jean.servesmart.restaurant.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    private static DataSource h2(String name, long lagSeconds) {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(ds);
+        jdbc.execute("CREATE TABLE Node (Name VARCHAR(20))");
+        jdbc.update("INSERT INTO Node VALUES (?)", name);
+        jdbc.execute("CREATE TABLE Lag (Seconds BIGINT)");
+        jdbc.update("INSERT INTO Lag VALUES (?)", lagSeconds);
+        return ds;
+    }
+
+    private static DataSource unreachable() {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        return ds;
+    }
+
+    @BeforeEach
+    void setup() {
+        primary = h2("primary", 0);
+        replica = h2("replica", 0);
+    }
+
+    private String nodeFor(ReplicaRoutingDataSource routing, boolean readOnly) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(routing);
+
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(proxy));
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> new JdbcTemplate(proxy).queryForObject("SELECT Name FROM Node", String.class));
+    }
+
+    @Test
+    void readOnlyTransaction_usesReplica() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), null, 5);
+
+        assertEquals("replica", nodeFor(routing, true));
+    }
+
+    @Test
+    void readWriteTransaction_usesPrimary() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), null, 5);
+
+        assertEquals("primary", nodeFor(routing, false));
+    }
+
+    @Test
+    void checkReplicas_whenLagTooHigh_fallsBackToPrimary() {
+        DataSource lagging = h2("lagging", 30);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(lagging),
+                "SELECT Seconds FROM Lag", 5);
+
+        routing.checkReplicas();
+
+        assertEquals(0, routing.healthyReplicas());
+        assertEquals("primary", nodeFor(routing, true));
+    }
+
+    @Test
+    void checkReplicas_skipsOnlyTheUnhealthyReplica() {
+        DataSource lagging = h2("lagging", 30);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(lagging, replica),
+                "SELECT Seconds FROM Lag", 5);
+
+        routing.checkReplicas();
+
+        assertEquals(1, routing.healthyReplicas());
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica", nodeFor(routing, true));
+        }
+    }
+
+    @Test
+    void getConnection_whenReplicaUnreachable_fallsBackToPrimaryAndMarksUnhealthy() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(unreachable()), null, 5);
+
+        try (Connection c = routing.getConnection()) {
+            assertNotNull(c);
+        }
+
+        assertEquals(0, routing.healthyReplicas());
+        assertEquals("primary", nodeFor(routing, true));
+    }
+
+    @Test
+    void getConnection_roundRobinsAcrossReplicas() {
+        DataSource second = h2("second", 0);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica, second), null, 5);
+
+        String first = nodeFor(routing, true);
+        String next = nodeFor(routing, true);
+
+        assertNotEquals(first, next);
+    }
+}
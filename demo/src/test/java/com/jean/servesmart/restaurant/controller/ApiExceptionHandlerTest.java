@@ -0,0 +1,73 @@
+package com.jean.servesmart.restaurant.controller;
+
+import com.jean.servesmart.restaurant.exception.DomainException;
+import com.jean.servesmart.restaurant.exception.auth.InvalidCredentialsException;
+import com.jean.servesmart.restaurant.exception.menucategory.MenuCategoryException;
+import com.jean.servesmart.restaurant.exception.menuitem.MenuItemAlreadyExistsException;
+import com.jean.servesmart.restaurant.exception.order.OrderInvalidDataException;
+import com.jean.servesmart.restaurant.exception.order.OrderNotFoundException;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiExceptionHandlerTest {
+
+    private final ApiExceptionHandler handler = new ApiExceptionHandler();
+
+    @Test
+    void domainExceptions_haveNoStackTrace() {
+        DomainException ex = new OrderNotFoundException();
+
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
+    @Test
+    void handleDomain_mapsTypeToStatusAndMessage() {
+        assertError(HttpStatus.NOT_FOUND, "Order not found", handler.handleDomain(new OrderNotFoundException()));
+        assertError(HttpStatus.UNAUTHORIZED, "Invalid email or password", handler.handleDomain(new InvalidCredentialsException()));
+        assertError(HttpStatus.CONFLICT, "Menu item name already exists in this category",
+                handler.handleDomain(new MenuItemAlreadyExistsException()));
+    }
+
+    @Test
+    void handleDomain_reusesPrebuiltResponse() {
+        assertSame(handler.handleDomain(new OrderNotFoundException()), handler.handleDomain(new OrderNotFoundException()));
+    }
+
+    @Test
+    void handleDomain_keepsCannedMessageWhenThrowSiteGivesOne() {
+        ResponseEntity<ApiResponse<Void>> response = handler.handleDomain(new OrderInvalidDataException("User id is required"));
+
+        assertError(HttpStatus.BAD_REQUEST, "Invalid order data", response);
+        assertSame(handler.handleDomain(new OrderInvalidDataException()), response);
+    }
+
+    @Test
+    void handleDomain_unmappedTypeIsBadRequest() {
+        assertError(HttpStatus.BAD_REQUEST, "Invalid request", handler.handleDomain(new MenuCategoryException()));
+    }
+
+    @Test
+    void handleUnexpected_isInternalError() {
+        assertError(HttpStatus.INTERNAL_SERVER_ERROR, "Request failed", handler.handleUnexpected(new IllegalStateException("boom")));
+    }
+
+    @Test
+    void securityExceptions_areLeftToSecurityFilters() {
+        AccessDeniedException denied = new AccessDeniedException("denied");
+
+        assertSame(denied, assertThrows(AccessDeniedException.class, () -> handler.rethrowSecurity(denied)));
+    }
+
+    private static void assertError(HttpStatus status, String message, ResponseEntity<ApiResponse<Void>> response) {
+        assertEquals(status, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertFalse(response.getBody().isSuccess());
+        assertEquals(message, response.getBody().getMessage());
+        assertNull(response.getBody().getData());
+    }
+}
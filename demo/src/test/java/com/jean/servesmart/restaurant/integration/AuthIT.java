@@ -1,6 +1,8 @@
 package com.jean.servesmart.restaurant.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.dto.auth.RefreshTokenRequestDto;
 import com.jean.servesmart.restaurant.dto.auth.UserLoginDto;
 import com.jean.servesmart.restaurant.model.Role;
 import com.jean.servesmart.restaurant.model.User;
@@ -18,6 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -46,6 +49,7 @@ class AuthIT {
 
     @BeforeEach
     void setup() {
+        jdbcTemplate.execute("DELETE FROM REFRESH_TOKEN");
         jdbcTemplate.execute("DELETE FROM LOGIN_LOG");
         jdbcTemplate.execute("DELETE FROM USERS");
         jdbcTemplate.execute("DELETE FROM ROLE");
@@ -90,4 +94,99 @@ class AuthIT {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void login_repeatedFailuresForOneAccount_areRateLimited() throws Exception {
+        UserLoginDto dto = new UserLoginDto();
+        dto.setEmail("sprayed@test.com");
+        dto.setPassword("guess");
+        String body = objectMapper.writeValueAsString(dto);
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void refresh_rotatesTokenAndRejectsReuse() throws Exception {
+        UserLoginDto login = new UserLoginDto();
+        login.setEmail("test@test.com");
+        login.setPassword("password123");
+
+        String loginBody = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.refreshToken").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String first = objectMapper.readTree(loginBody).at("/data/refreshToken").asText();
+
+        String refreshBody = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshRequest(first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").isNotEmpty())
+                .andExpect(jsonPath("$.data.user.email").value("test@test.com"))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode refreshed = objectMapper.readTree(refreshBody).at("/data");
+        String second = refreshed.get("refreshToken").asText();
+
+        // the spent token is refused, and its reuse also revokes the token that replaced it
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshRequest(first)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshRequest(second)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refresh_unknownToken_returns401() throws Exception {
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshRequest("not-a-real-token")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid or expired refresh token"));
+    }
+
+    @Test
+    void logout_revokesAccessToken() throws Exception {
+        UserLoginDto login = new UserLoginDto();
+        login.setEmail("test@test.com");
+        login.setPassword("password123");
+
+        String loginBody = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode data = objectMapper.readTree(loginBody).at("/data");
+        String bearer = "Bearer " + data.get("token").asText();
+
+        mockMvc.perform(get("/api/password-hashing/stats").header("Authorization", bearer))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + data.at("/user/id").asInt() + "}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/password-hashing/stats").header("Authorization", bearer))
+                .andExpect(status().is4xxClientError());
+    }
+
+    private String refreshRequest(String token) throws Exception {
+        RefreshTokenRequestDto dto = new RefreshTokenRequestDto();
+        dto.setRefreshToken(token);
+        return objectMapper.writeValueAsString(dto);
+    }
 }
@@ -0,0 +1,132 @@
+package com.jean.servesmart.restaurant.integration;
+
+import com.jean.servesmart.restaurant.model.LoginLog;
+import com.jean.servesmart.restaurant.model.LoginLogStatus;
+import com.jean.servesmart.restaurant.model.Role;
+import com.jean.servesmart.restaurant.model.User;
+import com.jean.servesmart.restaurant.repository.LoginLogRepository;
+import com.jean.servesmart.restaurant.repository.RoleRepository;
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import com.jean.servesmart.restaurant.service.interfaces.LoginLogRetentionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginLogRetentionIT {
+
+    private static final LocalDate OLD_DAY = LocalDate.now().minusDays(120);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoginLogRetentionService retention;
+
+    @Autowired
+    private LoginLogRepository logRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.execute("DELETE FROM LOGIN_ACTIVITY_DAILY");
+        jdbcTemplate.execute("DELETE FROM REFRESH_TOKEN");
+        jdbcTemplate.execute("DELETE FROM LOGIN_LOG");
+        jdbcTemplate.execute("DELETE FROM USERS");
+        jdbcTemplate.execute("DELETE FROM ROLE");
+
+        Role staff = new Role();
+        staff.setName("STAFF");
+        staff = roleRepo.save(staff);
+
+        user = new User();
+        user.setEmail("waiter@test.com");
+        user.setPasswordHash("$2a$04$unused");
+        user.setFirstName("Test");
+        user.setLastName("Waiter");
+        user.setRole(staff);
+        user.setActive(true);
+        user.setPhoneNumber("0600000000");
+        user.setAddress("1 Test St");
+        user = userRepo.save(user);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void compactOlderThan_replacesOldRowsWithDailyRollups() throws Exception {
+        log(LoginLogStatus.LOGIN_SUCCESS, OLD_DAY.atTime(9, 0));
+        log(LoginLogStatus.LOGIN_FAILED, OLD_DAY.atTime(11, 0));
+        log(LoginLogStatus.LOGOUT, OLD_DAY.atTime(17, 0));
+        log(LoginLogStatus.LOGIN_SUCCESS, OLD_DAY.atTime(18, 0));
+        log(LoginLogStatus.LOGIN_SUCCESS, LocalDateTime.now());
+
+        int compacted = retention.compactOlderThan(LocalDate.now().minusDays(90).atStartOfDay());
+
+        assertEquals(4, compacted);
+        assertEquals(1, logRepo.count());
+
+        mockMvc.perform(get("/api/login-logs/user/" + user.getId() + "/daily")
+                        .param("from", OLD_DAY.minusDays(1).toString())
+                        .param("to", OLD_DAY.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].day").value(OLD_DAY.toString()))
+                .andExpect(jsonPath("$.data[0].sessionCount").value(2))
+                .andExpect(jsonPath("$.data[0].failedCount").value(1))
+                .andExpect(jsonPath("$.data[0].lastLogout").value(OLD_DAY + "T17:00:00"));
+
+        // the raw audit list keeps only what is inside the window
+        mockMvc.perform(get("/api/login-logs/user/" + user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].status").value("LOGIN_SUCCESS"));
+    }
+
+    @Test
+    void compactOlderThan_mergesIntoRollupsFromEarlierRuns() {
+        log(LoginLogStatus.LOGIN_SUCCESS, OLD_DAY.atTime(9, 0));
+        retention.compactOlderThan(LocalDate.now().minusDays(90).atStartOfDay());
+
+        log(LoginLogStatus.LOGIN_SUCCESS, OLD_DAY.atTime(8, 0));
+        retention.compactOlderThan(LocalDate.now().minusDays(90).atStartOfDay());
+
+        assertEquals(0, logRepo.count());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT session_count FROM login_activity_daily", Integer.class));
+        assertEquals(OLD_DAY.atTime(8, 0),
+                jdbcTemplate.queryForObject("SELECT first_login FROM login_activity_daily", LocalDateTime.class));
+    }
+
+    private void log(LoginLogStatus status, LocalDateTime at) {
+        LoginLog log = new LoginLog();
+        log.setUser(user);
+        log.setStatus(status);
+        log.setDate(at);
+        logRepo.save(log);
+    }
+}
@@ -2,10 +2,12 @@ package com.jean.servesmart.restaurant.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jean.servesmart.restaurant.dto.menu.MenuItemDto;
+import com.jean.servesmart.restaurant.dto.sqlbudget.SqlBudgetStatsDto;
 import com.jean.servesmart.restaurant.model.MenuCategory;
 import com.jean.servesmart.restaurant.model.MenuItems;
 import com.jean.servesmart.restaurant.repository.MenuCategoryRepository;
 import com.jean.servesmart.restaurant.repository.MenuItemsRepository;
+import com.jean.servesmart.restaurant.service.interfaces.SqlBudgetService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +43,9 @@ class MenuIT {
     @Autowired
     private MenuItemsRepository menuRepo;
 
+    @Autowired
+    private SqlBudgetService sqlBudget;
+
     private Integer categoryId;
 
     @BeforeEach
@@ -99,5 +105,11 @@ class MenuIT {
                 .andExpect(jsonPath("$.data", hasSize(1)))
                 .andExpect(jsonPath("$.data[0].name").value("Soup"))
                 .andExpect(jsonPath("$.data[0].categoryId").value(categoryId));
+
+        SqlBudgetStatsDto stats = sqlBudget.getStats().stream()
+                .filter(s -> s.getEndpoint().equals("GET /api/menu/category/{categoryId}"))
+                .findFirst().orElseThrow();
+        assertTrue(stats.getTotalStatements() > 0);
+        assertTrue(stats.getTotalEntitiesLoaded() > 0);
     }
 }
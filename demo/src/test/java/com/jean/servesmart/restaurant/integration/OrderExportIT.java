@@ -0,0 +1,138 @@
+package com.jean.servesmart.restaurant.integration;
+
+import com.jean.servesmart.restaurant.dto.order.OrderExportFormat;
+import com.jean.servesmart.restaurant.model.*;
+import com.jean.servesmart.restaurant.repository.*;
+import com.jean.servesmart.restaurant.service.interfaces.OrderExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderExportIT {
+
+    @Autowired private OrderExportService export;
+
+    @Autowired private RoleRepository roleRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private MenuCategoryRepository categoryRepo;
+    @Autowired private MenuItemsRepository menuRepo;
+    @Autowired private RestaurantTableStatusRepository tableStatusRepo;
+    @Autowired private RestaurantTableRepository tableRepo;
+    @Autowired private OrdersStatusRepository orderStatusRepo;
+    @Autowired private OrdersRepository ordersRepo;
+    @Autowired private OrderItemRepository orderItemRepo;
+
+    private Integer withItems;
+    private Integer withoutItems;
+    private Integer unpaid;
+
+    @BeforeEach
+    void setup() {
+        cleanup();
+
+        Role role = new Role();
+        role.setName("STAFF");
+        role = roleRepo.save(role);
+
+        User user = new User();
+        user.setEmail("waiter@test.com");
+        user.setPasswordHash("hash");
+        user.setFirstName("Test");
+        user.setLastName("Waiter");
+        user.setRole(role);
+        user.setActive(true);
+        user.setPhoneNumber("1234567890");
+        user.setAddress("1 Test St");
+        user = userRepo.save(user);
+
+        MenuCategory category = new MenuCategory();
+        category.setName("Drinks");
+        category.setPosition(1);
+        category = categoryRepo.save(category);
+
+        MenuItems tea = new MenuItems();
+        tea.setCategory(category);
+        tea.setName("Tea");
+        tea.setPrice(new BigDecimal("2.50"));
+        tea = menuRepo.save(tea);
+
+        RestaurantTableStatus available = new RestaurantTableStatus();
+        available.setName("AVAILABLE");
+        available = tableStatusRepo.save(available);
+
+        RestaurantTable table = new RestaurantTable();
+        table.setLabel("T1");
+        table.setSeats(2);
+        table.setStatus(available);
+        table = tableRepo.save(table);
+
+        OrdersStatus paid = new OrdersStatus();
+        paid.setName("PAID");
+        paid = orderStatusRepo.save(paid);
+        OrdersStatus open = new OrdersStatus();
+        open.setName("NEW");
+        open = orderStatusRepo.save(open);
+
+        withItems = order(user, table, paid).getId();
+        withoutItems = order(user, null, paid).getId();
+        unpaid = order(user, table, open).getId();
+
+        OrderItem line = new OrderItem();
+        line.setOrder(ordersRepo.getReferenceById(withItems));
+        line.setMenuItem(tea);
+        line.setItemsName(tea.getName());
+        line.setItemsPrice(tea.getPrice());
+        line.setItemsQuantity(2);
+        orderItemRepo.save(line);
+    }
+
+    private Orders order(User user, RestaurantTable table, OrdersStatus status) {
+        Orders order = new Orders();
+        order.setUser(user);
+        order.setRestaurantTable(table);
+        order.setStatus(status);
+        return ordersRepo.save(order);
+    }
+
+    @AfterEach
+    void cleanup() {
+        orderItemRepo.deleteAll();
+        ordersRepo.deleteAll();
+        orderStatusRepo.deleteAll();
+        tableRepo.deleteAll();
+        tableStatusRepo.deleteAll();
+        menuRepo.deleteAll();
+        categoryRepo.deleteAll();
+        userRepo.deleteAll();
+        roleRepo.deleteAll();
+    }
+
+    @Test
+    void exportPaid_includesPaidOrdersWithoutItems() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.exportPaid(LocalDate.now(), LocalDate.now(), OrderExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith(withItems + ","));
+        assertTrue(lines[1].endsWith(",Tea,2.50,2,5.00,true"));
+        assertTrue(lines[2].startsWith(withoutItems + ","));
+        assertTrue(lines[2].endsWith("waiter@test.com,,,,,,,"));
+        for (String line : lines) {
+            assertFalse(line.startsWith(unpaid + ","));
+        }
+    }
+}
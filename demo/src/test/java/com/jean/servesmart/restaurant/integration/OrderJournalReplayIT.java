@@ -0,0 +1,164 @@
+package com.jean.servesmart.restaurant.integration;
+
+import com.jean.servesmart.restaurant.dto.order.*;
+import com.jean.servesmart.restaurant.journal.OrderProjection;
+import com.jean.servesmart.restaurant.model.*;
+import com.jean.servesmart.restaurant.repository.*;
+import com.jean.servesmart.restaurant.service.interfaces.OrderJournalService;
+import com.jean.servesmart.restaurant.service.interfaces.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Drives orders through the service with the journal on, then rebuilds them from the journal alone
+// and checks the result against what the database holds. Own database, like TracingIT.
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:journal", "app.journal.enabled=true"})
+@ActiveProfiles("test")
+class OrderJournalReplayIT {
+
+    @DynamicPropertySource
+    static void journalDir(DynamicPropertyRegistry registry) throws IOException {
+        String dir = Files.createTempDirectory("order-journal-it").toString();
+        registry.add("app.journal.dir", () -> dir);
+    }
+
+    @Autowired private OrderService orderService;
+    @Autowired private OrderJournalService journal;
+
+    @Autowired private RoleRepository roleRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private MenuCategoryRepository categoryRepo;
+    @Autowired private MenuItemsRepository menuRepo;
+    @Autowired private RestaurantTableStatusRepository tableStatusRepo;
+    @Autowired private RestaurantTableRepository tableRepo;
+    @Autowired private OrdersStatusRepository orderStatusRepo;
+    @Autowired private OrdersRepository ordersRepo;
+
+    private Integer userId;
+    private Integer tableId;
+    private Integer soupId;
+    private Integer breadId;
+
+    @BeforeEach
+    void setup() {
+        Role role = new Role();
+        role.setName("STAFF");
+        role = roleRepo.save(role);
+
+        User user = new User();
+        user.setEmail("waiter@test.com");
+        user.setPasswordHash("hash");
+        user.setFirstName("Test");
+        user.setLastName("Waiter");
+        user.setRole(role);
+        user.setActive(true);
+        user.setPhoneNumber("1234567890");
+        user.setAddress("1 Test St");
+        userId = userRepo.save(user).getId();
+
+        MenuCategory category = new MenuCategory();
+        category.setName("Starters");
+        category.setPosition(1);
+        category = categoryRepo.save(category);
+        soupId = menuItem(category, "Soup", "4.50");
+        breadId = menuItem(category, "Bread", "2.25");
+
+        RestaurantTableStatus available = new RestaurantTableStatus();
+        available.setName("AVAILABLE");
+        available = tableStatusRepo.save(available);
+
+        RestaurantTable table = new RestaurantTable();
+        table.setLabel("T1");
+        table.setSeats(4);
+        table.setStatus(available);
+        tableId = tableRepo.save(table).getId();
+
+        for (String name : List.of("NEW", "PAID")) {
+            OrdersStatus status = new OrdersStatus();
+            status.setName(name);
+            orderStatusRepo.save(status);
+        }
+    }
+
+    private Integer menuItem(MenuCategory category, String name, String price) {
+        MenuItems item = new MenuItems();
+        item.setCategory(category);
+        item.setName(name);
+        item.setPrice(new BigDecimal(price));
+        return menuRepo.save(item).getId();
+    }
+
+    @Test
+    void replay_rebuildsOrdersAsStoredInDatabase() {
+        OrderCreateDto create = new OrderCreateDto();
+        create.setUserId(userId);
+        create.setRestaurantTableId(tableId);
+        create.setItems(List.of(line(soupId, 2), line(breadId, 1)));
+        OrderResponseDto paid = orderService.create(create);
+
+        Integer breadLine = paid.getItems().get(1).getId();
+        OrderResponseDto withExtra = orderService.addItem(paid.getId(), line(soupId, 1));
+        Integer extraLine = withExtra.getItems().get(2).getId();
+
+        OrderItemUpdateDto update = new OrderItemUpdateDto();
+        update.setQuantity(3);
+        update.setActive(false);
+        orderService.updateItem(paid.getId(), extraLine, update);
+        orderService.removeItem(paid.getId(), breadLine);
+        orderService.pay(paid.getId(), new PayOrderDto());
+
+        OrderCreateDto walkIn = new OrderCreateDto();
+        walkIn.setUserId(userId);
+        walkIn.setItems(List.of(line(breadId, 4)));
+        OrderResponseDto open = orderService.create(walkIn);
+
+        OrderResponseDto deleted = orderService.create(walkIn);
+        orderService.delete(deleted.getId());
+
+        OrderProjection projection = new OrderProjection();
+        journal.replay(1, projection);
+
+        assertEquals(2, projection.getOrders().size());
+        assertMatchesDatabase(projection, paid.getId());
+        assertMatchesDatabase(projection, open.getId());
+        assertTrue(projection.get(deleted.getId()).isEmpty());
+        assertFalse(ordersRepo.existsById(deleted.getId()));
+    }
+
+    private void assertMatchesDatabase(OrderProjection projection, Integer orderId) {
+        OrderResponseDto stored = orderService.getById(orderId).orElseThrow();
+        OrderProjection.OrderState replayed = projection.get(orderId).orElseThrow();
+
+        assertEquals(stored.getRestaurantTableId(), replayed.getTableId());
+        assertEquals(stored.getUserId(), replayed.getUserId());
+        assertEquals(stored.getStatusName(), replayed.getStatus());
+        assertEquals(stored.getItems().size(), replayed.getItems().size());
+        for (OrderItemResponseDto item : stored.getItems()) {
+            OrderProjection.ItemState line = replayed.getItems().get(item.getId());
+            assertNotNull(line, "line " + item.getId() + " missing from replay");
+            assertEquals(item.getMenuItemId(), line.getMenuItemId());
+            assertEquals(item.getItemsName(), line.getName());
+            assertEquals(0, item.getItemsPrice().compareTo(line.getPrice()));
+            assertEquals(item.getItemsQuantity(), line.getQuantity());
+            assertEquals(item.isActive(), line.isActive());
+        }
+    }
+
+    private static OrderItemCreateDto line(Integer menuItemId, int quantity) {
+        OrderItemCreateDto dto = new OrderItemCreateDto();
+        dto.setMenuItemId(menuItemId);
+        dto.setQuantity(quantity);
+        return dto;
+    }
+}
@@ -0,0 +1,216 @@
+package com.jean.servesmart.restaurant.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.model.*;
+import com.jean.servesmart.restaurant.repository.*;
+import com.jean.servesmart.restaurant.service.interfaces.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// With open-session-in-view off, anything a service hands back is serialized after its transaction has closed.
+// Every read method is called here outside a transaction and its result is run through Jackson, so a lazy
+// association leaking into a DTO fails with LazyInitializationException instead of quietly holding a connection.
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceMaterializationIT {
+
+    @Autowired private ApplicationContext context;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Autowired private MenuService menuService;
+    @Autowired private MenuCategoryService categoryService;
+    @Autowired private OrderService orderService;
+    @Autowired private ReservationService reservationService;
+    @Autowired private RestaurantTableService tableService;
+    @Autowired private UserService userService;
+    @Autowired private LoginLogService loginLogService;
+
+    @Autowired private RoleRepository roleRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private LoginLogRepository loginLogRepo;
+    @Autowired private MenuCategoryRepository categoryRepo;
+    @Autowired private MenuItemsRepository menuRepo;
+    @Autowired private RestaurantTableStatusRepository tableStatusRepo;
+    @Autowired private RestaurantTableRepository tableRepo;
+    @Autowired private OrdersStatusRepository orderStatusRepo;
+    @Autowired private OrdersRepository ordersRepo;
+    @Autowired private OrderItemRepository orderItemRepo;
+    @Autowired private ReservationStatusRepository reservationStatusRepo;
+    @Autowired private ReservationRepository reservationRepo;
+    @Autowired private OutboxEventRepository outboxRepo;
+
+    private Integer userId;
+    private Integer categoryId;
+    private Integer menuItemId;
+    private Integer tableId;
+    private Integer orderId;
+    private Integer reservationId;
+
+    @BeforeEach
+    void setup() {
+        cleanup();
+
+        Role role = new Role();
+        role.setName("ADMIN");
+        role = roleRepo.save(role);
+
+        User user = new User();
+        user.setEmail("waiter@test.com");
+        user.setPasswordHash("hash");
+        user.setFirstName("Test");
+        user.setLastName("Waiter");
+        user.setRole(role);
+        user.setActive(true);
+        user.setPhoneNumber("1234567890");
+        user.setAddress("1 Test St");
+        user = userRepo.save(user);
+        userId = user.getId();
+
+        LoginLog log = new LoginLog();
+        log.setUser(user);
+        log.setStatus(LoginLogStatus.LOGIN_SUCCESS);
+        loginLogRepo.save(log);
+
+        MenuCategory category = new MenuCategory();
+        category.setName("Mains");
+        category.setPosition(1);
+        category.setActive(true);
+        category = categoryRepo.save(category);
+        categoryId = category.getId();
+
+        MenuItems item = new MenuItems();
+        item.setCategory(category);
+        item.setName("Steak");
+        item.setPrice(BigDecimal.valueOf(21.50));
+        item.setActive(true);
+        item = menuRepo.save(item);
+        menuItemId = item.getId();
+
+        RestaurantTableStatus free = new RestaurantTableStatus();
+        free.setName("FREE");
+        free = tableStatusRepo.save(free);
+
+        RestaurantTable table = new RestaurantTable();
+        table.setLabel("T1");
+        table.setSeats(4);
+        table.setStatus(free);
+        table.setActive(true);
+        table = tableRepo.save(table);
+        tableId = table.getId();
+
+        OrdersStatus open = new OrdersStatus();
+        open.setName("OPEN");
+        open = orderStatusRepo.save(open);
+
+        Orders order = new Orders();
+        order.setUser(user);
+        order.setRestaurantTable(table);
+        order.setStatus(open);
+        order = ordersRepo.save(order);
+        orderId = order.getId();
+
+        OrderItem line = new OrderItem();
+        line.setOrder(order);
+        line.setMenuItem(item);
+        line.setItemsName(item.getName());
+        line.setItemsPrice(item.getPrice());
+        orderItemRepo.save(line);
+
+        ReservationStatus booked = new ReservationStatus();
+        booked.setName("BOOKED");
+        booked = reservationStatusRepo.save(booked);
+
+        Reservation reservation = new Reservation();
+        reservation.setRestaurantTable(table);
+        reservation.setFullName("Guest");
+        reservation.setPartySize(2);
+        reservation.setPhoneNumber("0612345678");
+        reservation.setEventDateTime(LocalDateTime.now().plusDays(1));
+        reservation.setStatus(booked);
+        reservationId = reservationRepo.save(reservation).getId();
+    }
+
+    @AfterEach
+    void cleanup() {
+        // other ITs share this database, so leave nothing behind that references their tables
+        outboxRepo.deleteAll();
+        orderItemRepo.deleteAll();
+        ordersRepo.deleteAll();
+        orderStatusRepo.deleteAll();
+        reservationRepo.deleteAll();
+        reservationStatusRepo.deleteAll();
+        tableRepo.deleteAll();
+        tableStatusRepo.deleteAll();
+        menuRepo.deleteAll();
+        categoryRepo.deleteAll();
+        loginLogRepo.deleteAll();
+        userRepo.deleteAll();
+        roleRepo.deleteAll();
+    }
+
+    @Test
+    void openSessionInView_isDisabled() {
+        assertEquals(0, context.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class).length);
+    }
+
+    @Test
+    void readMethods_returnFullyMaterializedResults() {
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+
+        assertMaterialized(menuService.getAll());
+        assertMaterialized(menuService.getById(menuItemId).orElseThrow());
+        assertMaterialized(menuService.getByCategory(categoryId));
+
+        assertMaterialized(categoryService.getAll());
+        assertMaterialized(categoryService.getById(categoryId).orElseThrow());
+        assertMaterialized(categoryService.getActive());
+
+        assertMaterialized(orderService.getById(orderId).orElseThrow());
+        assertMaterialized(orderService.getByTable(tableId));
+        assertMaterialized(orderService.getByStatus("OPEN"));
+        assertMaterialized(orderService.getOpenByTable());
+        assertDoesNotThrow(() -> objectMapper.writeValueAsString(orderService.getPaid()));
+
+        assertMaterialized(reservationService.getById(reservationId).orElseThrow());
+        assertMaterialized(reservationService.getByStatus("BOOKED"));
+        assertMaterialized(reservationService.getByTableAndDateRange(
+                tableId, LocalDateTime.now(), LocalDateTime.now().plusDays(2)));
+
+        assertMaterialized(tableService.getById(tableId).orElseThrow());
+        assertMaterialized(tableService.getAll());
+        assertMaterialized(tableService.getActive());
+        assertMaterialized(tableService.getByStatus("FREE"));
+
+        assertMaterialized(userService.getById(userId).orElseThrow());
+        assertMaterialized(userService.getAll());
+
+        assertMaterialized(loginLogService.getByUser(userId, 0, 50));
+    }
+
+    @Test
+    void orderResult_carriesItsItems() throws Exception {
+        String json = objectMapper.writeValueAsString(orderService.getById(orderId).orElseThrow());
+
+        assertTrue(json.contains("\"menuItemName\":\"Steak\""), json);
+    }
+
+    private void assertMaterialized(Object result) {
+        if (result instanceof List<?> list) {
+            assertFalse(list.isEmpty(), "expected seeded rows");
+        }
+        assertDoesNotThrow(() -> objectMapper.writeValueAsString(result));
+    }
+}
@@ -0,0 +1,152 @@
+package com.jean.servesmart.restaurant.integration;
+
+import com.jean.servesmart.restaurant.model.MenuCategory;
+import com.jean.servesmart.restaurant.model.MenuItems;
+import com.jean.servesmart.restaurant.repository.MenuCategoryRepository;
+import com.jean.servesmart.restaurant.repository.MenuItemsRepository;
+import com.jean.servesmart.restaurant.tracing.TracingFilter;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// own context (in-memory exporter), so its own database: create-drop would otherwise pull the shared schema
+// from under the other contexts' scheduled jobs
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:tracing")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TracingIT.InMemoryTracing.class)
+class TracingIT {
+
+    @TestConfiguration
+    static class InMemoryTracing {
+        @Bean
+        InMemorySpanExporter spanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spans;
+
+    @Autowired
+    private MenuCategoryRepository categoryRepo;
+
+    @Autowired
+    private MenuItemsRepository menuRepo;
+
+    private Integer categoryId;
+
+    @BeforeEach
+    void setup() {
+        menuRepo.deleteAll();
+        categoryRepo.deleteAll();
+
+        MenuCategory category = new MenuCategory();
+        category.setName("Desserts");
+        category.setPosition(1);
+        category.setActive(true);
+        category = categoryRepo.save(category);
+        categoryId = category.getId();
+
+        MenuItems item = new MenuItems();
+        item.setCategory(category);
+        item.setName("Tiramisu");
+        item.setPrice(BigDecimal.valueOf(7));
+        item.setActive(true);
+        menuRepo.save(item);
+
+        spans.reset();
+    }
+
+    @AfterEach
+    void cleanup() {
+        menuRepo.deleteAll();
+        categoryRepo.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void request_producesServerControllerServiceAndJdbcSpansInOneTrace() throws Exception {
+        String traceId = mockMvc.perform(get("/api/menu/category/" + categoryId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(TracingFilter.TRACE_ID_HEADER);
+
+        List<SpanData> finished = spans.getFinishedSpanItems();
+        assertNotNull(traceId);
+        assertTrue(finished.stream().allMatch(s -> s.getTraceId().equals(traceId)));
+
+        Map<String, SpanData> byName = finished.stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity(), (a, b) -> a));
+
+        SpanData server = byName.get("GET /api/menu/category/{categoryId}");
+        assertNotNull(server, byName.keySet().toString());
+        assertEquals(SpanKind.SERVER, server.getKind());
+        assertEquals(200L, server.getAttributes().get(AttributeKey.longKey("http.response.status_code")));
+
+        SpanData controller = byName.get("MenuController.getByCategory");
+        assertNotNull(controller, byName.keySet().toString());
+        assertEquals(server.getSpanId(), controller.getParentSpanId());
+
+        SpanData service = byName.get("MenuImpl.getByCategory");
+        assertNotNull(service, byName.keySet().toString());
+        assertEquals(controller.getSpanId(), service.getParentSpanId());
+
+        List<SpanData> queries = finished.stream()
+                .filter(s -> s.getKind() == SpanKind.CLIENT)
+                .filter(s -> "SELECT".equals(s.getAttributes().get(AttributeKey.stringKey("db.operation"))))
+                .toList();
+        SpanData itemQuery = queries.stream()
+                .filter(s -> s.getAttributes().get(AttributeKey.stringKey("db.statement")).contains("menu_items"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no JDBC span for menu_items in " + byName.keySet()));
+        assertTrue(isDescendant(itemQuery, service, finished));
+        // single-table statements also carry the table name
+        assertTrue(queries.stream().anyMatch(s -> "menu_category".equalsIgnoreCase(
+                s.getAttributes().get(AttributeKey.stringKey("db.sql.table")))));
+    }
+
+    @Test
+    void workOutsideRequests_isNotTraced() {
+        menuRepo.findAll();
+
+        assertTrue(spans.getFinishedSpanItems().isEmpty());
+    }
+
+    private static boolean isDescendant(SpanData span, SpanData ancestor, List<SpanData> all) {
+        Map<String, SpanData> byId = all.stream().collect(Collectors.toMap(SpanData::getSpanId, Function.identity()));
+        SpanData current = span;
+        while (current != null) {
+            if (current.getParentSpanId().equals(ancestor.getSpanId())) {
+                return true;
+            }
+            current = byId.get(current.getParentSpanId());
+        }
+        return false;
+    }
+}
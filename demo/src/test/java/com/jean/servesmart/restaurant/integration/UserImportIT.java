@@ -0,0 +1,141 @@
+package com.jean.servesmart.restaurant.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.dto.auth.UserLoginDto;
+import com.jean.servesmart.restaurant.dto.user.UserRegisterDto;
+import com.jean.servesmart.restaurant.model.Role;
+import com.jean.servesmart.restaurant.model.User;
+import com.jean.servesmart.restaurant.repository.RoleRepository;
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserImportIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.execute("DELETE FROM REFRESH_TOKEN");
+        jdbcTemplate.execute("DELETE FROM LOGIN_LOG");
+        jdbcTemplate.execute("DELETE FROM USERS");
+        jdbcTemplate.execute("DELETE FROM ROLE");
+
+        Role admin = new Role();
+        admin.setName("ADMIN");
+        roleRepo.save(admin);
+
+        Role staff = new Role();
+        staff.setName("STAFF");
+        staff = roleRepo.save(staff);
+
+        User existing = new User();
+        existing.setEmail("existing@test.com");
+        existing.setPasswordHash("$2a$04$unused");
+        existing.setFirstName("Existing");
+        existing.setLastName("User");
+        existing.setRole(staff);
+        existing.setActive(true);
+        existing.setPhoneNumber("0600000000");
+        existing.setAddress("1 Test St");
+        userRepo.save(existing);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importUsers_insertsValidRowsAndReportsTheRest() throws Exception {
+        List<UserRegisterDto> rows = List.of(
+                row("waiter1@test.com", "STAFF"),
+                row("Chef@Test.com", "staff"),
+                row("existing@test.com", "STAFF"),
+                row("someone@test.com", "OWNER"),
+                row("not-an-email", "STAFF"),
+                row("chef@test.com", "STAFF")
+        );
+
+        mockMvc.perform(post("/api/users/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.received").value(6))
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.errors[0].row").value(3))
+                .andExpect(jsonPath("$.data.errors[0].error").value("Email already in use"))
+                .andExpect(jsonPath("$.data.errors[1].row").value(4))
+                .andExpect(jsonPath("$.data.errors[1].error").value("Unknown role OWNER"))
+                .andExpect(jsonPath("$.data.errors[2].row").value(5))
+                .andExpect(jsonPath("$.data.errors[3].row").value(6))
+                .andExpect(jsonPath("$.data.errors[3].error").value("Duplicate email in import"));
+
+        User imported = userRepo.findByEmail("waiter1@test.com").orElseThrow();
+        assertEquals("STAFF", imported.getRole().getName());
+        assertTrue(imported.isActive());
+
+        // the index learns about imported users; a hit is confirmed in H2, whose collation is case-sensitive
+        mockMvc.perform(get("/api/users/email-exists").param("email", "Chef@Test.com"))
+                .andExpect(jsonPath("$.data").value(true));
+    }
+
+    @Test
+    void importedUser_canLogIn() throws Exception {
+        mockMvc.perform(post("/api/users/import")
+                        .with(user("admin").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(row("waiter2@test.com", "STAFF")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(1));
+
+        UserLoginDto login = new UserLoginDto();
+        login.setEmail("waiter2@test.com");
+        login.setPassword("password123");
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk());
+    }
+
+    private static UserRegisterDto row(String email, String role) {
+        UserRegisterDto dto = new UserRegisterDto();
+        dto.setEmail(email);
+        dto.setPassword("password123");
+        dto.setFirstName("First");
+        dto.setLastName("Last");
+        dto.setAddress("2 Test St");
+        dto.setPhoneNumber("0611111111");
+        dto.setRole(role);
+        return dto;
+    }
+}
@@ -0,0 +1,108 @@
+package com.jean.servesmart.restaurant.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedTokenBucketsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_allowsBurstThenReportsWait() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(3, SECOND, 10);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, buckets.tryAcquire("a", now));
+        assertEquals(0, buckets.tryAcquire("a", now));
+        assertEquals(0, buckets.tryAcquire("a", now));
+        assertEquals(SECOND, buckets.tryAcquire("a", now));
+
+        // other keys have their own bucket
+        assertEquals(0, buckets.tryAcquire("b", now));
+    }
+
+    @Test
+    void tryAcquire_refillsOneTokenPerInterval() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(2, SECOND, 10);
+        long now = 1_000 * SECOND;
+        buckets.tryAcquire("a", now);
+        buckets.tryAcquire("a", now);
+
+        assertTrue(buckets.tryAcquire("a", now + SECOND / 2) > 0);
+        assertEquals(0, buckets.tryAcquire("a", now + SECOND));
+        assertTrue(buckets.tryAcquire("a", now + SECOND) > 0);
+    }
+
+    @Test
+    void evictIdle_dropsOnlyFullBuckets() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(2, SECOND, 10);
+        long now = 1_000 * SECOND;
+        buckets.tryAcquire("a", now);
+        buckets.tryAcquire("b", now + SECOND);
+
+        assertEquals(1, buckets.evictIdle(now + 1_500_000_000L));
+        assertEquals(1, buckets.size());
+    }
+
+    @Test
+    void tryAcquire_whenKeyMapFull_evictsIdleFirst() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(1, SECOND, 2);
+        long now = 1_000 * SECOND;
+        buckets.tryAcquire("a", now);
+        buckets.tryAcquire("b", now);
+
+        assertEquals(0, buckets.tryAcquire("c", now + SECOND));
+        assertEquals(1, buckets.size());
+    }
+
+    @Test
+    void tryAcquire_whenKeyMapFullOfLimitedKeys_evictsOldestArrivalAndAdmitsNewKey() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(3, SECOND, 2);
+        long now = 1_000 * SECOND;
+        buckets.tryAcquire("a", now);
+        buckets.tryAcquire("b", now);
+        buckets.tryAcquire("b", now);
+
+        assertEquals(0, buckets.tryAcquire("c", now));
+        assertEquals(2, buckets.size());
+
+        // "a" was closest to full and was dropped; "b" kept its state
+        assertEquals(0, buckets.tryAcquire("b", now));
+        assertTrue(buckets.tryAcquire("b", now) > 0);
+    }
+
+    @Test
+    void tryAcquire_underContention_neverGrantsMoreThanCapacity() throws Exception {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(100, TimeUnit.HOURS.toNanos(1), 10);
+        long now = System.nanoTime();
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (buckets.tryAcquire("shared", now) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(100, granted.get());
+    }
+}
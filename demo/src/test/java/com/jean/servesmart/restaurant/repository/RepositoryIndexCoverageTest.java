@@ -0,0 +1,429 @@
+package com.jean.servesmart.restaurant.repository;
+
+import com.jean.servesmart.restaurant.model.LoginLog;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fails the build when a derived repository query filters or sorts on columns that no declared
+ * index can seek on. An index counts when its leading columns are exactly the query's equality
+ * columns (in any order), followed by one of its range, IN or sort columns when it has any; a
+ * unique index made up of equality columns alone is a point lookup and always counts. Joined
+ * entities are checked the same way for the columns filtered on them. Hand-written {@code @Query}
+ * methods cannot be derived from their name, so each one is listed with the index it relies on.
+ */
+class RepositoryIndexCoverageTest {
+
+    private static final String REPOSITORY_PACKAGE = "com.jean.servesmart.restaurant.repository";
+
+    private static final String PRIMARY_KEY = "PK";
+
+    // Queries that are allowed to scan, with the reason they are acceptable.
+    private static final Map<String, String> ALLOWED_SCANS = Map.of(
+            "MenuItemsRepository.findByNameContainingIgnoreCase", "leading-wildcard search over the menu, which stays small",
+            "OrdersRepository.findByStatus_NameNotIn", "runs once at startup to rebuild the open order index",
+            "UserRepository.findAllEmails", "runs once at startup to rebuild the email index; reads UK_user_email only"
+    );
+
+    // @Query methods and the index each one seeks; the index's leading property must appear in the query.
+    private static final Map<String, String> QUERY_INDEXES = Map.ofEntries(
+            Map.entry("IdempotencyRecordRepository.findExpiredKeys", "IX_IdempotencyRecord_Expires_at"),
+            Map.entry("IdempotencyRecordRepository.deleteByKeyIn", PRIMARY_KEY),
+            Map.entry("LoginLogRepository.findCompactionChunk", "IX_LoginLog_Date"),
+            Map.entry("LoginLogRepository.deleteByIdIn", PRIMARY_KEY),
+            Map.entry("OrdersRepository.streamLinesByStatus", "IX_Orders_Status_Create_at"),
+            Map.entry("OutboxEventRepository.findPublishedBefore", "IX_OutboxEvent_Pending"),
+            Map.entry("OutboxEventRepository.deleteByIdIn", PRIMARY_KEY),
+            Map.entry("RefreshTokenRepository.findByTokenHashWithUser", "UK_RefreshToken_Token_hash"),
+            Map.entry("RefreshTokenRepository.revoke", PRIMARY_KEY),
+            Map.entry("RefreshTokenRepository.revokeByTokenHash", "UK_RefreshToken_Token_hash"),
+            Map.entry("RefreshTokenRepository.revokeFamily", "IX_RefreshToken_Family"),
+            Map.entry("RefreshTokenRepository.revokeByUser", "IX_RefreshToken_User"),
+            Map.entry("RefreshTokenRepository.deleteExpired", "IX_RefreshToken_Expires_at"),
+            Map.entry("UserRepository.findEmailById", PRIMARY_KEY),
+            Map.entry("UserRepository.findExistingEmails", "UK_user_email"),
+            Map.entry("UserRepository.replacePasswordHash", PRIMARY_KEY)
+    );
+
+    // Predicates the index must start with, in any order.
+    private static final Set<Part.Type> EQUALITY = EnumSet.of(
+            Part.Type.SIMPLE_PROPERTY, Part.Type.TRUE, Part.Type.FALSE, Part.Type.IS_NULL
+    );
+
+    // Predicates an index can seek on right after the equality prefix.
+    private static final Set<Part.Type> RANGE = EnumSet.of(
+            Part.Type.IN, Part.Type.BETWEEN,
+            Part.Type.LESS_THAN, Part.Type.LESS_THAN_EQUAL, Part.Type.GREATER_THAN, Part.Type.GREATER_THAN_EQUAL,
+            Part.Type.BEFORE, Part.Type.AFTER, Part.Type.STARTING_WITH, Part.Type.IS_NOT_NULL
+    );
+
+    private final Map<Class<?>, List<IndexDef>> indexCache = new HashMap<>();
+
+    @Test
+    void everyDerivedQueryHasAnIndexLeadingWithAFilteredColumn() {
+        List<Class<?>> repositories = repositories();
+        assertFalse(repositories.isEmpty(), "No repositories found in " + REPOSITORY_PACKAGE);
+
+        List<String> problems = new ArrayList<>();
+        for (Class<?> repository : repositories) {
+            problems.addAll(analyze(repository));
+        }
+
+        assertTrue(problems.isEmpty(), "Queries without a supporting index:\n" + String.join("\n", problems));
+    }
+
+    @Test
+    void everyHandWrittenQueryNamesAnIndexItFiltersOn() {
+        List<String> problems = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Class<?> repository : repositories()) {
+            problems.addAll(analyzeQueries(repository, seen));
+        }
+        for (String stale : QUERY_INDEXES.keySet()) {
+            if (!seen.contains(stale)) problems.add(stale + ": listed in QUERY_INDEXES but no such @Query method");
+        }
+
+        assertTrue(problems.isEmpty(), "Hand-written queries without a known index:\n" + String.join("\n", problems));
+    }
+
+    @Test
+    void everyDeclaredIndexIsCreatedByAMigration() throws IOException {
+        String migrations = migrations();
+        Set<String> names = new TreeSet<>();
+        for (Class<?> repository : repositories()) {
+            Table table = domainType(repository).getAnnotation(Table.class);
+            if (table == null) continue;
+            for (Index index : table.indexes()) names.add(index.name());
+            for (UniqueConstraint unique : table.uniqueConstraints()) names.add(unique.name());
+        }
+
+        List<String> missing = names.stream()
+                .filter(name -> !Pattern.compile("\\b" + Pattern.quote(name) + "\\b").matcher(migrations).find())
+                .toList();
+
+        assertTrue(missing.isEmpty(), "Indexes declared on entities but missing from db/migration: " + missing);
+    }
+
+    @Test
+    void analyze_reportsQueryOnUnindexedColumn() {
+        List<String> problems = analyze(UnindexedRepository.class);
+
+        assertEquals(3, problems.size(), problems.toString());
+        assertTrue(problems.get(0).contains("findByStatus:"));
+        assertTrue(problems.get(1).contains("findByUser_IdAndStatus:"));
+        assertTrue(problems.get(2).contains("findByUser_IdOrderByStatusAsc:"));
+    }
+
+    @Test
+    void analyze_acceptsEqualityPrefixFollowedByRangeOrSort() {
+        assertEquals(List.of(), analyze(IndexedRepository.class));
+    }
+
+    @Test
+    void analyzeQueries_reportsUnlistedQuery() {
+        List<String> problems = analyzeQueries(UnindexedRepository.class, new HashSet<>());
+
+        assertEquals(1, problems.size(), problems.toString());
+        assertTrue(problems.get(0).contains("findRecent"));
+    }
+
+    // LoginLog has IX_LoginLog_User_Date (User_id, Date) and IX_LoginLog_Date (Date)
+    interface UnindexedRepository extends Repository<LoginLog, Integer> {
+        List<LoginLog> findByStatus(String status);
+        // Status is not in the index, so only User_id is a seek
+        List<LoginLog> findByUser_IdAndStatus(Integer userId, String status);
+        // after User_id the index is ordered by Date, not Status
+        List<LoginLog> findByUser_IdOrderByStatusAsc(Integer userId);
+
+        @Query("select l from LoginLog l where l.date > :since")
+        List<LoginLog> findRecent(@Param("since") LocalDateTime since);
+    }
+
+    interface IndexedRepository extends Repository<LoginLog, Integer> {
+        List<LoginLog> findByUser_IdOrderByDateDesc(Integer userId);
+        List<LoginLog> findByUser_IdAndDateAfter(Integer userId, LocalDateTime since);
+        List<LoginLog> findByUser_IdAndStatusInOrderByDateDesc(Integer userId, Collection<String> statuses);
+        List<LoginLog> findByDateBefore(LocalDateTime cutoff);
+        Optional<LoginLog> findByIdAndUser_Id(Integer id, Integer userId);
+    }
+
+    private List<String> analyze(Class<?> repository) {
+        Class<?> domainType = domainType(repository);
+        List<String> problems = new ArrayList<>();
+
+        for (Method method : declaredMethods(repository)) {
+            if (method.isDefault() || method.isSynthetic() || method.isAnnotationPresent(Query.class)) continue;
+
+            String name = repository.getSimpleName() + "." + method.getName();
+            if (ALLOWED_SCANS.containsKey(name)) continue;
+
+            PartTree tree = new PartTree(method.getName(), domainType);
+            for (PartTree.OrPart branch : tree) {
+                Node root = new Node(domainType);
+                for (Part part : branch) {
+                    if (part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER) continue;
+                    if (EQUALITY.contains(part.getType())) {
+                        root.add(part.getProperty(), true);
+                    } else if (RANGE.contains(part.getType())) {
+                        root.add(part.getProperty(), false);
+                    }
+                }
+
+                String sort = sortColumn(domainType, tree.getSort(), root.equality);
+                if (root.isEmpty() && sort == null) {
+                    problems.add(name + ": scans " + domainType.getSimpleName() + " (no seekable filter)");
+                    continue;
+                }
+                check(name, root, sort, problems);
+            }
+        }
+        return problems;
+    }
+
+    // getDeclaredMethods has no defined order; sort so reports come out the same on every run
+    private static List<Method> declaredMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .sorted(Comparator.comparing(Method::getName))
+                .toList();
+    }
+
+    private List<String> analyzeQueries(Class<?> repository, Set<String> seen) {
+        Class<?> domainType = domainType(repository);
+        List<String> problems = new ArrayList<>();
+
+        for (Method method : declaredMethods(repository)) {
+            Query query = method.getAnnotation(Query.class);
+            if (query == null) continue;
+
+            String name = repository.getSimpleName() + "." + method.getName();
+            seen.add(name);
+            if (ALLOWED_SCANS.containsKey(name)) continue;
+
+            String indexName = QUERY_INDEXES.get(name);
+            if (indexName == null) {
+                problems.add(name + ": @Query not listed in QUERY_INDEXES or ALLOWED_SCANS");
+                continue;
+            }
+
+            IndexDef index = indexes(domainType).stream()
+                    .filter(i -> i.name().equals(indexName))
+                    .findFirst().orElse(null);
+            if (index == null) {
+                problems.add(name + ": " + indexName + " is not declared on " + domainType.getSimpleName());
+                continue;
+            }
+
+            String property = property(domainType, index.columns().get(0));
+            String where = query.value().replaceAll("\\s+", " ");
+            int at = where.toLowerCase(Locale.ROOT).indexOf(" where ");
+            if (at < 0 || !Pattern.compile("\\." + Pattern.quote(property) + "\\b").matcher(where.substring(at)).find()) {
+                problems.add(name + ": does not filter on " + property + ", the leading column of " + indexName);
+            }
+        }
+        return problems;
+    }
+
+    private void check(String query, Node node, String sort, List<String> problems) {
+        if (!node.isEmpty() || sort != null) {
+            Set<String> next = new TreeSet<>(node.ranges);
+            if (sort != null) next.add(sort);
+
+            boolean covered = indexes(node.type).stream().anyMatch(index -> index.covers(node.equality, next));
+            if (!covered) {
+                problems.add(query + ": no index on " + node.type.getSimpleName() + " starts with " + node.equality
+                        + (next.isEmpty() ? "" : " followed by one of " + next));
+            }
+        }
+        for (Node child : node.joins.values()) {
+            check(query, child, null, problems);
+        }
+    }
+
+    // First sort column on the queried table itself that the equality prefix does not already pin down.
+    private static String sortColumn(Class<?> type, Sort sort, Set<String> equality) {
+        for (Sort.Order order : sort) {
+            PropertyPath path = PropertyPath.from(order.getProperty(), type);
+            Field field = field(type, path.getSegment());
+            if (path.hasNext() && !(isId(path.getType(), path.next().getSegment()) && !path.next().hasNext())) {
+                return null;
+            }
+            String column = column(field);
+            if (!equality.contains(column)) return column;
+        }
+        return null;
+    }
+
+    private static boolean isId(Class<?> type, String property) {
+        return field(type, property).isAnnotationPresent(Id.class);
+    }
+
+    // Secondary indexes also carry the clustered primary key, so it is appended to each of them.
+    private List<IndexDef> indexes(Class<?> entity) {
+        return indexCache.computeIfAbsent(entity, type -> {
+            String id = null;
+            for (Class<?> c = type; c != Object.class && id == null; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    if (f.isAnnotationPresent(Id.class)) id = column(f);
+                }
+            }
+
+            List<IndexDef> indexes = new ArrayList<>();
+            if (id != null) indexes.add(new IndexDef(PRIMARY_KEY, List.of(id), true));
+            Table table = type.getAnnotation(Table.class);
+            if (table != null) {
+                for (Index index : table.indexes()) {
+                    indexes.add(IndexDef.of(index.name(), Arrays.stream(index.columnList().split(","))
+                            .map(c -> c.trim().split("\\s+")[0].toLowerCase(Locale.ROOT))
+                            .toList(), index.unique(), id));
+                }
+                for (UniqueConstraint unique : table.uniqueConstraints()) {
+                    indexes.add(IndexDef.of(unique.name(), Arrays.stream(unique.columnNames())
+                            .map(c -> c.toLowerCase(Locale.ROOT)).toList(), true, id));
+                }
+            }
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    Column column = f.getAnnotation(Column.class);
+                    if (column != null && column.unique() && !f.isAnnotationPresent(Id.class)) {
+                        indexes.add(IndexDef.of(f.getName(), List.of(column(f)), true, id));
+                    }
+                }
+            }
+            return indexes;
+        });
+    }
+
+    private static List<Class<?>> repositories() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface() && !beanDefinition.getMetadata().hasEnclosingClass();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        List<Class<?>> repositories = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(REPOSITORY_PACKAGE)) {
+            try {
+                repositories.add(Class.forName(candidate.getBeanClassName()));
+            } catch (ClassNotFoundException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        repositories.sort(Comparator.comparing(Class::getSimpleName));
+        return repositories;
+    }
+
+    private static Class<?> domainType(Class<?> repository) {
+        return new DefaultRepositoryMetadata(repository).getDomainType();
+    }
+
+    private static String migrations() throws IOException {
+        StringBuilder sql = new StringBuilder();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath*:db/migration/*.sql")) {
+            sql.append(resource.getContentAsString(StandardCharsets.UTF_8)).append('\n');
+        }
+        return sql.toString();
+    }
+
+    private static Field field(Class<?> type, String property) {
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(property);
+            } catch (NoSuchFieldException ignored) {
+                // keep walking up
+            }
+        }
+        throw new IllegalStateException("No field " + property + " on " + type.getName());
+    }
+
+    private static String column(Field field) {
+        JoinColumn join = field.getAnnotation(JoinColumn.class);
+        if (join != null && !join.name().isEmpty()) return join.name().toLowerCase(Locale.ROOT);
+        Column column = field.getAnnotation(Column.class);
+        if (column != null && !column.name().isEmpty()) return column.name().toLowerCase(Locale.ROOT);
+        return field.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private static String property(Class<?> type, String column) {
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                if (column(f).equals(column)) return f.getName();
+            }
+        }
+        throw new IllegalStateException("No property for column " + column + " on " + type.getName());
+    }
+
+    private record IndexDef(String name, List<String> columns, boolean unique) {
+
+        private static IndexDef of(String name, List<String> columns, boolean unique, String id) {
+            if (id == null || columns.contains(id)) return new IndexDef(name, columns, unique);
+            List<String> withId = new ArrayList<>(columns);
+            withId.add(id);
+            return new IndexDef(name, withId, unique);
+        }
+
+        private boolean covers(Set<String> equality, Set<String> next) {
+            // a unique key inside the equality columns finds at most one row
+            if (unique && equality.containsAll(columns)) return true;
+            if (columns.size() < equality.size()) return false;
+            if (!equality.equals(new HashSet<>(columns.subList(0, equality.size())))) return false;
+            if (next.isEmpty()) return true;
+            return columns.size() > equality.size() && next.contains(columns.get(equality.size()));
+        }
+    }
+
+    // Equality and range columns per table, following the joins a property path walks through.
+    private static final class Node {
+        private final Class<?> type;
+        private final Set<String> equality = new TreeSet<>();
+        private final Set<String> ranges = new TreeSet<>();
+        private final Map<String, Node> joins = new LinkedHashMap<>();
+
+        private Node(Class<?> type) {
+            this.type = type;
+        }
+
+        private boolean isEmpty() {
+            return equality.isEmpty() && ranges.isEmpty();
+        }
+
+        private void add(PropertyPath path, boolean equal) {
+            Field field = field(type, path.getSegment());
+            // a join is a seek on the foreign key column, matched the same way as the joined property
+            (equal ? equality : ranges).add(column(field));
+            if (path.hasNext() && !(isId(path.getType(), path.next().getSegment()) && !path.next().hasNext())) {
+                joins.computeIfAbsent(path.getSegment(), s -> new Node(path.getType())).add(path.next(), equal);
+            }
+        }
+    }
+}
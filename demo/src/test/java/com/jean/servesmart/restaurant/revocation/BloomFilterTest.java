@@ -0,0 +1,57 @@
+package com.jean.servesmart.restaurant.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_neverMissesAddedKeys() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        String[] keys = new String[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.put(keys[i]);
+        }
+
+        for (String key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+    }
+
+    @Test
+    void falsePositiveRate_staysNearConfiguredRate() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int hits = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                hits++;
+            }
+        }
+        // 1% expected; allow generous slack so the test is not flaky
+        assertTrue(hits < 3_000, "false positives: " + hits);
+    }
+
+    @Test
+    void sizing_followsExpectedEntriesAndRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // ~9.6 bits and ~7 hashes per entry at 1%
+        assertTrue(filter.bitCount() >= 95_851 && filter.bitCount() < 95_851 + 64);
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    void constructor_rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1));
+    }
+}
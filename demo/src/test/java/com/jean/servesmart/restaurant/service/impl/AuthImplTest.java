@@ -5,18 +5,21 @@ import com.jean.servesmart.restaurant.dto.auth.UserLoginDto;
 import com.jean.servesmart.restaurant.exception.auth.AuthInvalidDataException;
 import com.jean.servesmart.restaurant.exception.auth.InactiveAccountException;
 import com.jean.servesmart.restaurant.exception.auth.InvalidCredentialsException;
+import com.jean.servesmart.restaurant.exception.auth.InvalidRefreshTokenException;
+import com.jean.servesmart.restaurant.exception.auth.PasswordHashingBusyException;
 import com.jean.servesmart.restaurant.model.Role;
 import com.jean.servesmart.restaurant.model.User;
 import com.jean.servesmart.restaurant.repository.UserRepository;
 import com.jean.servesmart.restaurant.service.interfaces.JwtService;
 import com.jean.servesmart.restaurant.service.interfaces.LoginLogService;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import com.jean.servesmart.restaurant.service.interfaces.RefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
 
@@ -31,7 +34,7 @@ class AuthImplTest {
     private UserRepository repo;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashing;
 
     @Mock
     private LoginLogService loginLogService;
@@ -39,17 +42,20 @@ class AuthImplTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private RefreshTokenService refreshTokens;
+
     private AuthImpl service;
 
     @BeforeEach
     void setup() {
-        service = new AuthImpl(repo, passwordEncoder, loginLogService, jwtService);
+        service = new AuthImpl(repo, passwordHashing, loginLogService, jwtService, refreshTokens);
     }
 
     @Test
     void login_whenDtoIsNull_throwsAuthInvalidDataException() {
         assertThrows(AuthInvalidDataException.class, () -> service.login(null));
-        verifyNoInteractions(repo, passwordEncoder, loginLogService, jwtService);
+        verifyNoInteractions(repo, passwordHashing, loginLogService, jwtService);
     }
 
     @Test
@@ -59,7 +65,7 @@ class AuthImplTest {
         dto.setPassword("pass");
 
         assertThrows(AuthInvalidDataException.class, () -> service.login(dto));
-        verifyNoInteractions(repo, passwordEncoder, loginLogService, jwtService);
+        verifyNoInteractions(repo, passwordHashing, loginLogService, jwtService);
     }
 
     @Test
@@ -69,7 +75,7 @@ class AuthImplTest {
         dto.setPassword("pass");
 
         assertThrows(AuthInvalidDataException.class, () -> service.login(dto));
-        verifyNoInteractions(repo, passwordEncoder, loginLogService, jwtService);
+        verifyNoInteractions(repo, passwordHashing, loginLogService, jwtService);
     }
 
     @Test
@@ -79,7 +85,7 @@ class AuthImplTest {
         dto.setPassword(null);
 
         assertThrows(AuthInvalidDataException.class, () -> service.login(dto));
-        verifyNoInteractions(repo, passwordEncoder, loginLogService, jwtService);
+        verifyNoInteractions(repo, passwordHashing, loginLogService, jwtService);
     }
 
     @Test
@@ -89,7 +95,7 @@ class AuthImplTest {
         dto.setPassword("   ");
 
         assertThrows(AuthInvalidDataException.class, () -> service.login(dto));
-        verifyNoInteractions(repo, passwordEncoder, loginLogService, jwtService);
+        verifyNoInteractions(repo, passwordHashing, loginLogService, jwtService);
     }
 
     @Test
@@ -103,7 +109,7 @@ class AuthImplTest {
         assertThrows(InvalidCredentialsException.class, () -> service.login(dto));
 
         verify(repo).findByEmail("test@example.com");
-        verifyNoInteractions(passwordEncoder, loginLogService, jwtService);
+        verifyNoInteractions(passwordHashing, loginLogService, jwtService);
     }
 
     @Test
@@ -122,7 +128,9 @@ class AuthImplTest {
         assertThrows(InactiveAccountException.class, () -> service.login(dto));
 
         verify(repo).findByEmail("test@example.com");
-        verifyNoInteractions(passwordEncoder, loginLogService, jwtService);
+        verify(loginLogService).logAsync(10, "LOGIN_INACTIVE");
+        verifyNoMoreInteractions(loginLogService);
+        verifyNoInteractions(passwordHashing, jwtService);
     }
 
     @Test
@@ -138,13 +146,15 @@ class AuthImplTest {
         user.setPasswordHash("$2a$10$hash");
 
         when(repo.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("wrong", "$2a$10$hash")).thenReturn(false);
+        when(passwordHashing.matches("wrong", "$2a$10$hash")).thenReturn(false);
 
         assertThrows(InvalidCredentialsException.class, () -> service.login(dto));
 
         verify(repo).findByEmail("test@example.com");
-        verify(passwordEncoder).matches("wrong", "$2a$10$hash");
-        verifyNoInteractions(loginLogService, jwtService);
+        verify(passwordHashing).matches("wrong", "$2a$10$hash");
+        verify(loginLogService).logAsync(10, "LOGIN_FAILED");
+        verifyNoMoreInteractions(loginLogService);
+        verifyNoInteractions(jwtService);
     }
 
     @Test
@@ -168,13 +178,15 @@ class AuthImplTest {
         user.setPasswordHash("$2a$10$hash");
 
         when(repo.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("admin123", "$2a$10$hash")).thenReturn(true);
+        when(passwordHashing.matches("admin123", "$2a$10$hash")).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
+        when(refreshTokens.issue(user)).thenReturn("refresh-token");
 
         AuthResponseDto result = service.login(dto);
 
         assertNotNull(result);
         assertEquals("jwt-token", result.getToken());
+        assertEquals("refresh-token", result.getRefreshToken());
         assertNotNull(result.getUser());
         assertEquals(10, result.getUser().getId());
         assertEquals("test@example.com", result.getUser().getEmail());
@@ -193,9 +205,55 @@ class AuthImplTest {
         assertEquals("LOGIN_SUCCESS", captor.getValue().getStatus());
 
         verify(repo).findByEmail("test@example.com");
-        verify(passwordEncoder).matches("admin123", "$2a$10$hash");
+        verify(passwordHashing).matches("admin123", "$2a$10$hash");
+        verify(passwordHashing).needsRehash("$2a$10$hash");
         verify(jwtService).generateToken(user);
-        verifyNoMoreInteractions(repo, passwordEncoder, loginLogService, jwtService);
+        verify(refreshTokens).issue(user);
+        verifyNoMoreInteractions(repo, passwordHashing, loginLogService, jwtService, refreshTokens);
+    }
+
+    @Test
+    void login_whenWorkFactorChanged_rehashesPassword() {
+        UserLoginDto dto = new UserLoginDto();
+        dto.setEmail("test@example.com");
+        dto.setPassword("admin123");
+
+        User user = new User();
+        user.setId(10);
+        user.setEmail("test@example.com");
+        user.setActive(true);
+        user.setPasswordHash("$2a$08$hash");
+
+        when(repo.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHashing.matches("admin123", "$2a$08$hash")).thenReturn(true);
+        when(passwordHashing.needsRehash("$2a$08$hash")).thenReturn(true);
+        when(passwordHashing.encode("admin123")).thenReturn("$2a$12$upgraded");
+
+        service.login(dto);
+
+        verify(repo).replacePasswordHash(10, "$2a$08$hash", "$2a$12$upgraded");
+    }
+
+    @Test
+    void login_whenRehashIsRejected_stillSucceeds() {
+        UserLoginDto dto = new UserLoginDto();
+        dto.setEmail("test@example.com");
+        dto.setPassword("admin123");
+
+        User user = new User();
+        user.setId(10);
+        user.setEmail("test@example.com");
+        user.setActive(true);
+        user.setPasswordHash("$2a$08$hash");
+
+        when(repo.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordHashing.matches("admin123", "$2a$08$hash")).thenReturn(true);
+        when(passwordHashing.needsRehash("$2a$08$hash")).thenReturn(true);
+        when(passwordHashing.encode("admin123")).thenThrow(new PasswordHashingBusyException());
+        when(jwtService.generateToken(user)).thenReturn("jwt-token");
+
+        assertEquals("jwt-token", service.login(dto).getToken());
+        verify(repo, never()).replacePasswordHash(any(), any(), any());
     }
 
     @Test
@@ -212,7 +270,7 @@ class AuthImplTest {
         user.setRole(null);
 
         when(repo.findByEmail("test@example.com")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("admin123", "$2a$10$hash")).thenReturn(true);
+        when(passwordHashing.matches("admin123", "$2a$10$hash")).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
 
         AuthResponseDto result = service.login(dto);
@@ -224,4 +282,34 @@ class AuthImplTest {
         verify(loginLogService).log(any());
         verify(jwtService).generateToken(user);
     }
+
+    @Test
+    void refresh_rotatesTokenWithoutPasswordCheck() {
+        Role role = new Role();
+        role.setName("STAFF");
+
+        User user = new User();
+        user.setId(10);
+        user.setEmail("test@example.com");
+        user.setRole(role);
+        user.setActive(true);
+
+        when(refreshTokens.rotate("old-refresh")).thenReturn(new RefreshTokenService.Rotation(user, "new-refresh"));
+        when(jwtService.generateToken(user)).thenReturn("jwt-token");
+
+        AuthResponseDto result = service.refresh("old-refresh");
+
+        assertEquals("jwt-token", result.getToken());
+        assertEquals("new-refresh", result.getRefreshToken());
+        assertEquals("STAFF", result.getUser().getRole());
+        verifyNoInteractions(repo, passwordHashing, loginLogService);
+    }
+
+    @Test
+    void refresh_whenTokenRejected_throws() {
+        when(refreshTokens.rotate("stale")).thenThrow(new InvalidRefreshTokenException());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.refresh("stale"));
+        verifyNoInteractions(jwtService);
+    }
 }
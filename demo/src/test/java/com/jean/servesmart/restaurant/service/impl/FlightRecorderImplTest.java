@@ -0,0 +1,127 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.jfr.FlightRecordingDto;
+import com.jean.servesmart.restaurant.dto.order.OrderItemResponseDto;
+import com.jean.servesmart.restaurant.dto.order.OrderResponseDto;
+import com.jean.servesmart.restaurant.exception.jfr.FlightRecordingStateException;
+import com.jean.servesmart.restaurant.jfr.LoginEvent;
+import com.jean.servesmart.restaurant.jfr.OrderOperationEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderImplTest {
+
+    @TempDir
+    Path dir;
+
+    private FlightRecorderImpl recorder;
+
+    @BeforeEach
+    void setup() {
+        recorder = new FlightRecorderImpl(dir.toString(), "default", 5, 50);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (recorder.getStatus().isPresent()) {
+            recorder.stop();
+        }
+    }
+
+    @Test
+    void start_reportsRunningRecording() {
+        FlightRecordingDto started = recorder.start(null, null);
+
+        assertEquals("RUNNING", started.getState());
+        assertEquals("default", started.getSettings());
+        assertEquals(5, started.getMaxAgeMinutes());
+        assertTrue(recorder.getStatus().isPresent());
+    }
+
+    @Test
+    void start_whenAlreadyRunning_throws() {
+        recorder.start("default", 1L);
+
+        assertThrows(FlightRecordingStateException.class, () -> recorder.start("default", 1L));
+    }
+
+    @Test
+    void start_withUnknownSettings_throws() {
+        assertThrows(FlightRecordingStateException.class, () -> recorder.start("no-such-settings", null));
+        assertTrue(recorder.getStatus().isEmpty());
+    }
+
+    @Test
+    void stop_withoutRecording_throws() {
+        assertThrows(FlightRecordingStateException.class, () -> recorder.stop());
+    }
+
+    @Test
+    void stop_writesRecordingWithDomainEvents() throws Exception {
+        recorder.start("default", null);
+
+        OrderResponseDto order = new OrderResponseDto();
+        order.setId(42);
+        OrderItemResponseDto line = new OrderItemResponseDto();
+        line.setItemsQuantity(3);
+        order.setItems(List.of(line, new OrderItemResponseDto()));
+
+        OrderOperationEvent event = new OrderOperationEvent("pay");
+        event.begin();
+        event.completed(order);
+        event.commit();
+
+        FlightRecordingDto stopped = recorder.stop();
+
+        Path file = Paths.get(stopped.getFile());
+        assertTrue(Files.size(file) > 0);
+        assertTrue(recorder.getStatus().isEmpty());
+
+        RecordedEvent recorded = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("servesmart.OrderOperation"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("pay", recorded.getString("operation"));
+        assertEquals(42, recorded.getInt("orderId"));
+        assertEquals(2, recorded.getInt("itemCount"));
+        assertEquals(3, recorded.getInt("quantity"));
+        assertTrue(recorded.getBoolean("success"));
+    }
+
+    @Test
+    void dump_snapshotsRunningRecording() throws Exception {
+        recorder.start("default", null);
+
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        event.setUserId(7);
+        event.setBcryptDuration(1_000_000);
+        event.setOutcome(LoginEvent.SUCCESS);
+        event.commit();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.dump(out);
+
+        Path snapshot = dir.resolve("snapshot.jfr");
+        Files.write(snapshot, out.toByteArray());
+        RecordedEvent recorded = RecordingFile.readAllEvents(snapshot).stream()
+                .filter(e -> e.getEventType().getName().equals("servesmart.Login"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(7, recorded.getInt("userId"));
+        assertEquals("SUCCESS", recorded.getString("outcome"));
+        assertTrue(recorder.getStatus().isPresent());
+    }
+}
@@ -0,0 +1,337 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.dto.order.OrderResponseDto;
+import com.jean.servesmart.restaurant.exception.idempotency.IdempotencyKeyInvalidException;
+import com.jean.servesmart.restaurant.exception.idempotency.IdempotencyKeyReusedException;
+import com.jean.servesmart.restaurant.model.IdempotencyRecord;
+import com.jean.servesmart.restaurant.repository.IdempotencyRecordRepository;
+import com.jean.servesmart.restaurant.response.ApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyImplTest {
+
+    @Mock
+    private IdempotencyRecordRepository recordRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IdempotencyImpl service;
+
+    private static final Map<String, Object> BODY = Map.of("restaurantTableId", 1);
+
+    @BeforeEach
+    void setup() {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 60_000, 100, 5_000, false);
+    }
+
+    @AfterEach
+    void clearCaller() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static ResponseEntity<ApiResponse<OrderResponseDto>> created(int id) {
+        OrderResponseDto dto = new OrderResponseDto();
+        dto.setId(id);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(dto, "Order created successfully"));
+    }
+
+    @Test
+    void execute_whenKeyNull_runsActionEveryTime() {
+        AtomicInteger calls = new AtomicInteger();
+
+        service.execute("orders.create", null, BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+        service.execute("orders.create", null, BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+        assertEquals(0, service.size());
+        verifyNoInteractions(recordRepo);
+    }
+
+    @Test
+    void execute_whenSameKeyTwice_replaysFirstResponse() {
+        AtomicInteger calls = new AtomicInteger();
+
+        ResponseEntity<ApiResponse<OrderResponseDto>> first =
+                service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+        ResponseEntity<ApiResponse<OrderResponseDto>> second =
+                service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+
+        assertEquals(1, calls.get());
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals(first.getBody().getData().getId(), second.getBody().getData().getId());
+        assertEquals("true", second.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
+    @Test
+    void execute_whenSameKeyDifferentScope_runsBoth() {
+        AtomicInteger calls = new AtomicInteger();
+
+        service.execute("orders.pay:1", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+        service.execute("orders.pay:2", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_whenServerError_doesNotStoreResponse() {
+        AtomicInteger calls = new AtomicInteger();
+
+        service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed"));
+        });
+        ResponseEntity<ApiResponse<OrderResponseDto>> retry =
+                service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+    }
+
+    @Test
+    void execute_whenActionThrows_removesEntryAndRethrows() {
+        assertThrows(IllegalStateException.class, () ->
+                service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    void execute_whenKeyTooLong_throwsInvalidKey() {
+        String key = "k".repeat(101);
+
+        assertThrows(IdempotencyKeyInvalidException.class, () ->
+                service.execute("orders.create", key, BODY, OrderResponseDto.class, () -> created(1)));
+    }
+
+    @Test
+    void execute_whenTtlElapsed_runsActionAgain() throws Exception {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 1, 100, 5_000, false);
+        AtomicInteger calls = new AtomicInteger();
+
+        service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+        Thread.sleep(5);
+        service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_whenCapacityExceeded_evictsOldest() {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 60_000, 2, 5_000, false);
+
+        service.execute("orders.create", "a", BODY, OrderResponseDto.class, () -> created(1));
+        service.execute("orders.create", "b", BODY, OrderResponseDto.class, () -> created(2));
+        service.execute("orders.create", "c", BODY, OrderResponseDto.class, () -> created(3));
+
+        assertEquals(2, service.size());
+    }
+
+    @Test
+    void execute_whenConcurrentDuplicates_runsActionOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<ResponseEntity<ApiResponse<OrderResponseDto>>> owner = pool.submit(() ->
+                    service.execute("orders.start", "abc", BODY, OrderResponseDto.class, () -> {
+                        calls.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return created(7);
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<ResponseEntity<ApiResponse<OrderResponseDto>>> duplicate = pool.submit(() ->
+                    service.execute("orders.start", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet())));
+            release.countDown();
+
+            assertEquals(7, owner.get(5, TimeUnit.SECONDS).getBody().getData().getId());
+            assertEquals(7, duplicate.get(5, TimeUnit.SECONDS).getBody().getData().getId());
+            assertEquals(1, calls.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_whenPersistEnabled_storesResponse() {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 60_000, 100, 5_000, true);
+        when(recordRepo.findByKeyAndExpiresAtAfter(eq("orders.create:abc"), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(3));
+
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepo).save(captor.capture());
+        assertEquals("orders.create:abc", captor.getValue().getKey());
+        assertEquals(64, captor.getValue().getRequestHash().length());
+        assertEquals(201, captor.getValue().getStatusCode());
+        assertTrue(captor.getValue().getResponseBody().contains("\"id\":3"));
+    }
+
+    @Test
+    void execute_whenPersistedRecordExists_replaysWithoutRunningAction() {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 60_000, 100, 5_000, true);
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setKey("orders.create:abc");
+        record.setStatusCode(201);
+        record.setResponseBody("{\"success\":true,\"message\":\"Order created successfully\",\"data\":{\"id\":9}}");
+        when(recordRepo.findByKeyAndExpiresAtAfter(eq("orders.create:abc"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(record));
+
+        ResponseEntity<ApiResponse<OrderResponseDto>> response =
+                service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> fail("action must not run"));
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(9, response.getBody().getData().getId());
+        verify(recordRepo, never()).save(any());
+    }
+
+    @Test
+    void execute_whenSameKeyDifferentBody_rejectsWithoutRunning() {
+        AtomicInteger calls = new AtomicInteger();
+        service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+
+        assertThrows(IdempotencyKeyReusedException.class, () ->
+                service.execute("orders.create", "abc", Map.of("restaurantTableId", 2), OrderResponseDto.class,
+                        () -> created(calls.incrementAndGet())));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_whenSameKeyDifferentCaller_rejectsWithoutRunning() {
+        AtomicInteger calls = new AtomicInteger();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("a@test.com", null, List.of()));
+        service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet()));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("b@test.com", null, List.of()));
+
+        assertThrows(IdempotencyKeyReusedException.class, () ->
+                service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet())));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_whenEntriesAreDropped_alsoLeavesTheExpiryQueue() {
+        for (int i = 0; i < 5; i++) {
+            service.execute("orders.create", "k" + i, BODY, OrderResponseDto.class,
+                    () -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("Failed")));
+            assertThrows(IllegalStateException.class, () ->
+                    service.execute("orders.start", "abc", BODY, OrderResponseDto.class, () -> {
+                        throw new IllegalStateException("boom");
+                    }));
+        }
+
+        assertEquals(0, service.size());
+        assertEquals(0, service.queued());
+    }
+
+    @Test
+    void execute_whenCapacityExceeded_keepsRunningEntries() throws Exception {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 60_000, 1, 5_000, false);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<ResponseEntity<ApiResponse<OrderResponseDto>>> owner = pool.submit(() ->
+                    service.execute("orders.start", "running", BODY, OrderResponseDto.class, () -> {
+                        calls.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return created(7);
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // over capacity, but the only candidate for eviction is still running
+            service.execute("orders.create", "done", BODY, OrderResponseDto.class, () -> created(8));
+            assertEquals(2, service.size());
+
+            Future<ResponseEntity<ApiResponse<OrderResponseDto>>> duplicate = pool.submit(() ->
+                    service.execute("orders.start", "running", BODY, OrderResponseDto.class, () -> created(calls.incrementAndGet())));
+            release.countDown();
+
+            assertEquals(7, owner.get(5, TimeUnit.SECONDS).getBody().getData().getId());
+            assertEquals(7, duplicate.get(5, TimeUnit.SECONDS).getBody().getData().getId());
+            assertEquals(1, calls.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_whenPersistedRecordHasOtherRequestHash_rejects() {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 60_000, 100, 5_000, true);
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setKey("orders.create:abc");
+        record.setRequestHash("0".repeat(64));
+        record.setStatusCode(201);
+        record.setResponseBody("{\"success\":true,\"data\":{\"id\":9}}");
+        when(recordRepo.findByKeyAndExpiresAtAfter(eq("orders.create:abc"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(record));
+
+        assertThrows(IdempotencyKeyReusedException.class, () ->
+                service.execute("orders.create", "abc", BODY, OrderResponseDto.class, () -> fail("action must not run")));
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    void purgeExpired_deletesInChunksUntilAShortOne() {
+        service = new IdempotencyImpl(recordRepo, objectMapper, transactionManager, 60_000, 100, 5_000, true);
+        List<String> full = IntStream.range(0, 1000).mapToObj(i -> "k" + i).toList();
+        when(recordRepo.findExpiredKeys(any(LocalDateTime.class), any())).thenReturn(full, List.of("last"));
+        when(recordRepo.deleteByKeyIn(full)).thenReturn(1000);
+        when(recordRepo.deleteByKeyIn(List.of("last"))).thenReturn(1);
+
+        service.purgeExpired();
+
+        verify(recordRepo, times(2)).deleteByKeyIn(any());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Base64;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -89,6 +90,45 @@ class JwtImplTest {
         assertEquals("staff@gmail.com", jwt.extractUsername(token));
     }
 
+    @Test
+    void generateToken_givesEachTokenAnIdAndExpiration() {
+        JwtImpl jwt = new JwtImpl(base64Secret(), 60_000);
+
+        User user = new User();
+        user.setId(1);
+        user.setEmail("staff@gmail.com");
+
+        String first = jwt.generateToken(user);
+        String second = jwt.generateToken(user);
+
+        assertNotNull(jwt.extractTokenId(first));
+        assertNotEquals(jwt.extractTokenId(first), jwt.extractTokenId(second));
+        assertTrue(jwt.extractExpiration(first).isAfter(Instant.now()));
+    }
+
+    @Test
+    void parseClaims_thenIsTokenValid_readsEverythingFromOneParse() {
+        JwtImpl jwt = new JwtImpl(base64Secret(), 60_000);
+
+        User user = new User();
+        user.setId(3);
+        user.setEmail("claims@gmail.com");
+
+        String token = jwt.generateToken(user);
+        Claims claims = jwt.parseClaims(token);
+
+        assertEquals("claims@gmail.com", claims.getSubject());
+        assertEquals(jwt.extractTokenId(token), claims.getId());
+        assertTrue(claims.getExpiration().toInstant().isAfter(Instant.now()));
+
+        UserDetails userDetails = mock(UserDetails.class);
+        when(userDetails.getUsername()).thenReturn("claims@gmail.com");
+        assertTrue(jwt.isTokenValid(claims, userDetails));
+
+        when(userDetails.getUsername()).thenReturn("other@gmail.com");
+        assertFalse(jwt.isTokenValid(claims, userDetails));
+    }
+
     @Test
     void isTokenValid_whenMatchesUserAndNotExpired_returnsTrue() {
         JwtImpl jwt = new JwtImpl(base64Secret(), 60_000);
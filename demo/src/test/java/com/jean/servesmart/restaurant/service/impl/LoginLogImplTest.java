@@ -5,8 +5,10 @@ import com.jean.servesmart.restaurant.dto.loginlog.LoginLogResponseDto;
 import com.jean.servesmart.restaurant.exception.loginlog.LoginLogInvalidDataException;
 import com.jean.servesmart.restaurant.exception.loginlog.LoginLogUserNotFoundException;
 import com.jean.servesmart.restaurant.model.LoginLog;
+import com.jean.servesmart.restaurant.model.LoginLogStatus;
 import com.jean.servesmart.restaurant.model.User;
 import com.jean.servesmart.restaurant.repository.LoginLogRepository;
+import com.jean.servesmart.restaurant.repository.LoginLogView;
 import com.jean.servesmart.restaurant.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +16,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,7 +39,7 @@ class LoginLogImplTest {
 
     @BeforeEach
     void setup() {
-        service = new LoginLogImpl(logRepo, userRepo);
+        service = new LoginLogImpl(logRepo, userRepo, 2);
     }
 
     @Test
@@ -74,6 +78,16 @@ class LoginLogImplTest {
         verifyNoInteractions(logRepo, userRepo);
     }
 
+    @Test
+    void log_whenStatusIsUnknown_throwsLoginLogInvalidDataException() {
+        LoginLogCreateDto dto = new LoginLogCreateDto();
+        dto.setUserId(1);
+        dto.setStatus("LOGIN_MAYBE");
+
+        assertThrows(LoginLogInvalidDataException.class, () -> service.log(dto));
+        verifyNoInteractions(logRepo, userRepo);
+    }
+
     @Test
     void log_whenUserNotFound_throwsLoginLogUserNotFoundException() {
         LoginLogCreateDto dto = new LoginLogCreateDto();
@@ -109,7 +123,7 @@ class LoginLogImplTest {
         assertNotNull(saved);
         assertNotNull(saved.getUser());
         assertEquals(1, saved.getUser().getId());
-        assertEquals("LOGIN_SUCCESS", saved.getStatus());
+        assertEquals(LoginLogStatus.LOGIN_SUCCESS, saved.getStatus());
 
         verify(userRepo).findById(1);
         verifyNoMoreInteractions(userRepo, logRepo);
@@ -117,98 +131,128 @@ class LoginLogImplTest {
 
     @Test
     void getByUser_whenUserIdIsNull_throwsLoginLogInvalidDataException() {
-        assertThrows(LoginLogInvalidDataException.class, () -> service.getByUser(null));
+        assertThrows(LoginLogInvalidDataException.class, () -> service.getByUser(null, 0, 50));
+        verifyNoInteractions(logRepo, userRepo);
+    }
+
+    @Test
+    void getByUser_whenPageOrSizeOutOfRange_throwsLoginLogInvalidDataException() {
+        assertThrows(LoginLogInvalidDataException.class, () -> service.getByUser(1, -1, 50));
+        assertThrows(LoginLogInvalidDataException.class, () -> service.getByUser(1, 0, 0));
+        assertThrows(LoginLogInvalidDataException.class, () -> service.getByUser(1, 0, 201));
         verifyNoInteractions(logRepo, userRepo);
     }
 
     @Test
     void getByUser_whenUserDoesNotExist_throwsLoginLogUserNotFoundException() {
-        when(userRepo.existsById(99)).thenReturn(false);
+        when(userRepo.findEmailById(99)).thenReturn(Optional.empty());
 
-        assertThrows(LoginLogUserNotFoundException.class, () -> service.getByUser(99));
+        assertThrows(LoginLogUserNotFoundException.class, () -> service.getByUser(99, 0, 50));
 
-        verify(userRepo).existsById(99);
+        verify(userRepo).findEmailById(99);
         verifyNoInteractions(logRepo);
     }
 
     @Test
-    void getByUser_whenLogsContainMixedStatuses_filtersAndMapsToDtos() {
-        when(userRepo.existsById(1)).thenReturn(true);
-
-        User user = new User();
-        user.setId(1);
-        user.setEmail("u@example.com");
-
-        LoginLog l1 = new LoginLog();
-        l1.setId(10);
-        l1.setUser(user);
-        l1.setStatus("LOGIN_SUCCESS");
-        l1.setDate(LocalDateTime.now().minusDays(1));
-
-        LoginLog l2 = new LoginLog();
-        l2.setId(11);
-        l2.setUser(user);
-        l2.setStatus("FAILED");
-        l2.setDate(LocalDateTime.now().minusHours(2));
+    void getByUser_queriesOnePageOfAuditStatusesAndMapsToDtos() {
+        when(userRepo.findEmailById(1)).thenReturn(Optional.of("u@example.com"));
 
-        LoginLog l3 = new LoginLog();
-        l3.setId(12);
-        l3.setUser(user);
-        l3.setStatus("  logout ");
-        l3.setDate(LocalDateTime.now());
+        LoginLogView l1 = view(12, LoginLogStatus.LOGOUT, LocalDateTime.now());
+        LoginLogView l2 = view(10, LoginLogStatus.LOGIN_SUCCESS, LocalDateTime.now().minusDays(1));
 
-        LoginLog l4 = new LoginLog();
-        l4.setId(13);
-        l4.setUser(user);
-        l4.setStatus(null);
-        l4.setDate(LocalDateTime.now());
+        when(logRepo.findByUser_IdAndStatusInOrderByDateDescIdDesc(
+                1, List.of(LoginLogStatus.LOGIN_SUCCESS, LoginLogStatus.LOGOUT), PageRequest.of(2, 25)))
+                .thenReturn(List.of(l1, l2));
 
-        when(logRepo.findByUser_IdOrderByDateDesc(1)).thenReturn(List.of(l1, l2, l3, l4));
+        List<LoginLogResponseDto> result = service.getByUser(1, 2, 25);
 
-        List<LoginLogResponseDto> result = service.getByUser(1);
-
-        assertNotNull(result);
         assertEquals(2, result.size());
 
-        assertEquals(10, result.get(0).getId());
+        assertEquals(12, result.get(0).getId());
         assertEquals(1, result.get(0).getUserId());
         assertEquals("u@example.com", result.get(0).getUserEmail());
-        assertEquals("LOGIN_SUCCESS", result.get(0).getStatus());
+        assertEquals("LOGOUT", result.get(0).getStatus());
         assertNotNull(result.get(0).getDate());
 
-        assertEquals(12, result.get(1).getId());
+        assertEquals(10, result.get(1).getId());
         assertEquals(1, result.get(1).getUserId());
         assertEquals("u@example.com", result.get(1).getUserEmail());
-        assertEquals("  logout ", result.get(1).getStatus());
-        assertNotNull(result.get(1).getDate());
+        assertEquals("LOGIN_SUCCESS", result.get(1).getStatus());
 
-        verify(userRepo).existsById(1);
-        verify(logRepo).findByUser_IdOrderByDateDesc(1);
+        verify(userRepo).findEmailById(1);
         verifyNoMoreInteractions(userRepo, logRepo);
     }
 
     @Test
-    void getByUser_whenLogUserIsNull_mapsNullUserFields() {
-        when(userRepo.existsById(1)).thenReturn(true);
+    @SuppressWarnings("unchecked")
+    void logAsync_isWrittenInOneBatchByFlush() {
+        User user = new User();
+        user.setId(1);
 
-        LoginLog l1 = new LoginLog();
-        l1.setId(10);
-        l1.setUser(null);
-        l1.setStatus("LOGIN_SUCCESS");
-        l1.setDate(LocalDateTime.now());
+        service.logAsync(1, "login_failed");
+        service.logAsync(2, "LOGIN_FAILED");
+        verifyNoInteractions(logRepo, userRepo);
 
-        when(logRepo.findByUser_IdOrderByDateDesc(1)).thenReturn(List.of(l1));
+        when(userRepo.findAllById(List.of(1, 2))).thenReturn(List.of(user));
 
-        List<LoginLogResponseDto> result = service.getByUser(1);
+        service.flushPending();
 
-        assertEquals(1, result.size());
-        assertEquals(10, result.get(0).getId());
-        assertNull(result.get(0).getUserId());
-        assertNull(result.get(0).getUserEmail());
-        assertEquals("LOGIN_SUCCESS", result.get(0).getStatus());
-        assertNotNull(result.get(0).getDate());
+        ArgumentCaptor<List<LoginLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logRepo).saveAll(captor.capture());
+        // user 2 no longer exists, so only user 1's entry is written
+        assertEquals(1, captor.getValue().size());
+        assertEquals(user, captor.getValue().get(0).getUser());
+        assertEquals(LoginLogStatus.LOGIN_FAILED, captor.getValue().get(0).getStatus());
+    }
+
+    @Test
+    void logAsync_whenQueueFull_dropsEntries() {
+        User user = new User();
+        user.setId(1);
+
+        service.logAsync(1, "LOGIN_FAILED");
+        service.logAsync(1, "LOGIN_FAILED");
+        service.logAsync(1, "LOGIN_FAILED");
+
+        when(userRepo.findAllById(List.of(1))).thenReturn(List.of(user));
+
+        service.flushPending();
+
+        verify(logRepo).saveAll(argThat(logs -> ((List<?>) logs).size() == 2));
+    }
+
+    @Test
+    void logAsync_whenStatusIsUnknown_dropsEntry() {
+        service.logAsync(1, "LOGIN_MAYBE");
+
+        service.flushPending();
+
+        verifyNoInteractions(logRepo, userRepo);
+    }
+
+    @Test
+    void flushPending_whenNothingQueued_doesNothing() {
+        service.flushPending();
+
+        verifyNoInteractions(logRepo, userRepo);
+    }
 
-        verify(userRepo).existsById(1);
-        verify(logRepo).findByUser_IdOrderByDateDesc(1);
+    private static LoginLogView view(Integer id, LoginLogStatus status, LocalDateTime date) {
+        return new LoginLogView() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public LoginLogStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getDate() {
+                return date;
+            }
+        };
     }
 }
@@ -0,0 +1,226 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.loginlog.LoginActivityDailyDto;
+import com.jean.servesmart.restaurant.exception.loginlog.LoginLogInvalidDataException;
+import com.jean.servesmart.restaurant.exception.loginlog.LoginLogUserNotFoundException;
+import com.jean.servesmart.restaurant.model.LoginActivityDaily;
+import com.jean.servesmart.restaurant.model.LoginLogStatus;
+import com.jean.servesmart.restaurant.model.User;
+import com.jean.servesmart.restaurant.repository.LoginActivityDailyRepository;
+import com.jean.servesmart.restaurant.repository.LoginLogCompactionRow;
+import com.jean.servesmart.restaurant.repository.LoginLogRepository;
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginLogRetentionImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 10);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Mock
+    private LoginLogRepository logRepo;
+
+    @Mock
+    private LoginActivityDailyRepository dailyRepo;
+
+    @Mock
+    private UserRepository userRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LoginLogRetentionImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new LoginLogRetentionImpl(logRepo, dailyRepo, userRepo, transactionManager, true, 90, 10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compactOlderThan_foldsRowsIntoDailyRollupsAndDeletesThem() {
+        List<LoginLogCompactionRow> rows = List.of(
+                row(1, 3, LoginLogStatus.LOGIN_SUCCESS, DAY.atTime(9, 0)),
+                row(2, 3, LoginLogStatus.LOGIN_FAILED, DAY.atTime(12, 0)),
+                row(3, 3, LoginLogStatus.LOGOUT, DAY.atTime(17, 0)),
+                row(4, 3, LoginLogStatus.LOGIN_SUCCESS, DAY.atTime(18, 0)),
+                row(5, 4, LoginLogStatus.LOGIN_SUCCESS, DAY.plusDays(1).atTime(8, 0)));
+        when(logRepo.findCompactionChunk(eq(CUTOFF), any(Pageable.class))).thenReturn(rows);
+        when(logRepo.deleteByIdIn(List.of(1, 2, 3, 4, 5))).thenReturn(5);
+
+        // user 3 already has a rollup for DAY from an earlier chunk
+        LoginActivityDaily existing = new LoginActivityDaily();
+        existing.setUser(user(3));
+        existing.setDay(DAY);
+        existing.setFirstLogin(DAY.atTime(7, 30));
+        existing.setLastLogout(DAY.atTime(8, 0));
+        existing.setSessionCount(1);
+        when(dailyRepo.findByUser_IdInAndDayBetween(List.of(3, 4), DAY, DAY.plusDays(1))).thenReturn(List.of(existing));
+        when(userRepo.getReferenceById(4)).thenReturn(user(4));
+
+        int compacted = service.compactOlderThan(CUTOFF);
+
+        assertEquals(5, compacted);
+        ArgumentCaptor<Iterable<LoginActivityDaily>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(dailyRepo).saveAll(captor.capture());
+        List<LoginActivityDaily> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+        saved.sort(Comparator.comparing(LoginActivityDaily::getDay));
+        assertEquals(2, saved.size());
+
+        LoginActivityDaily merged = saved.get(0);
+        assertSame(existing, merged);
+        assertEquals(DAY.atTime(7, 30), merged.getFirstLogin());
+        assertEquals(DAY.atTime(17, 0), merged.getLastLogout());
+        assertEquals(3, merged.getSessionCount());
+        assertEquals(1, merged.getFailedCount());
+
+        LoginActivityDaily created = saved.get(1);
+        assertEquals(4, created.getUser().getId());
+        assertEquals(DAY.plusDays(1), created.getDay());
+        assertEquals(DAY.plusDays(1).atTime(8, 0), created.getFirstLogin());
+        assertNull(created.getLastLogout());
+        assertEquals(1, created.getSessionCount());
+    }
+
+    @Test
+    void compactOlderThan_whenRowsWereTakenConcurrently_rollsBackChunkAndStops() {
+        SimpleTransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(logRepo.findCompactionChunk(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(List.of(row(1, 3, LoginLogStatus.LOGIN_SUCCESS, DAY.atTime(9, 0))));
+        when(logRepo.deleteByIdIn(List.of(1))).thenReturn(0);
+
+        assertEquals(0, service.compactOlderThan(CUTOFF));
+
+        assertTrue(status.isRollbackOnly());
+        // the template hands a rollback-only status to commit(), which rolls it back
+        verify(transactionManager).commit(status);
+        verifyNoInteractions(dailyRepo);
+    }
+
+    @Test
+    void compactOlderThan_runsChunksUntilOneIsShort() {
+        service = new LoginLogRetentionImpl(logRepo, dailyRepo, userRepo, transactionManager, true, 90, 2);
+        when(logRepo.findCompactionChunk(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(List.of(
+                        row(1, 3, LoginLogStatus.LOGIN_FAILED, DAY.atTime(9, 0)),
+                        row(2, 3, LoginLogStatus.LOGIN_FAILED, DAY.atTime(10, 0))))
+                .thenReturn(List.of(row(3, 3, LoginLogStatus.LOGIN_FAILED, DAY.atTime(11, 0))));
+        when(logRepo.deleteByIdIn(anyList())).thenReturn(2, 1);
+        when(dailyRepo.findByUser_IdInAndDayBetween(List.of(3), DAY, DAY)).thenReturn(List.of());
+        when(userRepo.getReferenceById(3)).thenReturn(user(3));
+
+        assertEquals(3, service.compactOlderThan(CUTOFF));
+
+        verify(logRepo, times(2)).findCompactionChunk(eq(CUTOFF), any(Pageable.class));
+        verify(dailyRepo, times(2)).saveAll(any());
+    }
+
+    @Test
+    void compactOlderThan_whenNothingIsOld_doesNothing() {
+        when(logRepo.findCompactionChunk(eq(CUTOFF), any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, service.compactOlderThan(CUTOFF));
+
+        verify(logRepo, never()).deleteByIdIn(any());
+        verifyNoInteractions(dailyRepo);
+    }
+
+    @Test
+    void compactScheduled_whenDisabled_doesNothing() {
+        service = new LoginLogRetentionImpl(logRepo, dailyRepo, userRepo, transactionManager, false, 90, 10);
+
+        service.compactScheduled();
+
+        verifyNoInteractions(logRepo, dailyRepo, transactionManager);
+    }
+
+    @Test
+    void getDailyActivity_mapsRollups() {
+        LoginActivityDaily daily = new LoginActivityDaily();
+        daily.setUser(user(3));
+        daily.setDay(DAY);
+        daily.setFirstLogin(DAY.atTime(9, 0));
+        daily.setSessionCount(2);
+        daily.setFailedCount(1);
+        when(userRepo.existsById(3)).thenReturn(true);
+        when(dailyRepo.findByUser_IdAndDayBetweenOrderByDayDesc(3, DAY, DAY.plusDays(6))).thenReturn(List.of(daily));
+
+        List<LoginActivityDailyDto> result = service.getDailyActivity(3, DAY, DAY.plusDays(6));
+
+        assertEquals(1, result.size());
+        assertEquals(3, result.get(0).getUserId());
+        assertEquals(DAY, result.get(0).getDay());
+        assertEquals(DAY.atTime(9, 0), result.get(0).getFirstLogin());
+        assertEquals(2, result.get(0).getSessionCount());
+        assertEquals(1, result.get(0).getFailedCount());
+    }
+
+    @Test
+    void getDailyActivity_whenRangeInvalid_throwsLoginLogInvalidDataException() {
+        assertThrows(LoginLogInvalidDataException.class, () -> service.getDailyActivity(3, DAY, DAY.minusDays(1)));
+        assertThrows(LoginLogInvalidDataException.class, () -> service.getDailyActivity(3, DAY, DAY.plusDays(366)));
+        assertThrows(LoginLogInvalidDataException.class, () -> service.getDailyActivity(null, DAY, DAY));
+        verifyNoInteractions(userRepo, dailyRepo);
+    }
+
+    @Test
+    void getDailyActivity_whenUserDoesNotExist_throwsLoginLogUserNotFoundException() {
+        when(userRepo.existsById(99)).thenReturn(false);
+
+        assertThrows(LoginLogUserNotFoundException.class, () -> service.getDailyActivity(99, DAY, DAY));
+        verifyNoInteractions(dailyRepo);
+    }
+
+    private static User user(int id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static LoginLogCompactionRow row(Integer id, Integer userId, LoginLogStatus status, LocalDateTime date) {
+        return new LoginLogCompactionRow() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getUserId() {
+                return userId;
+            }
+
+            @Override
+            public LoginLogStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getDate() {
+                return date;
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.exception.auth.LoginRateLimitedException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimitImplTest {
+
+    @Test
+    void acquire_rejectsAddressOverCapacity() {
+        LoginRateLimitImpl limiter = new LoginRateLimitImpl(true, 2, 60_000, 100, 60_000, 100);
+
+        limiter.acquire("10.0.0.1", "a@test.com");
+        limiter.acquire("10.0.0.1", "b@test.com");
+
+        LoginRateLimitedException ex = assertThrows(LoginRateLimitedException.class,
+                () -> limiter.acquire("10.0.0.1", "c@test.com"));
+        assertTrue(ex.getRetryAfterSeconds() >= 59);
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.2", "c@test.com"));
+    }
+
+    @Test
+    void acquire_rejectsAccountAcrossAddresses() {
+        LoginRateLimitImpl limiter = new LoginRateLimitImpl(true, 100, 60_000, 2, 60_000, 100);
+
+        limiter.acquire("10.0.0.1", "victim@test.com");
+        limiter.acquire("10.0.0.2", " Victim@Test.com ");
+
+        assertThrows(LoginRateLimitedException.class, () -> limiter.acquire("10.0.0.3", "victim@test.com"));
+    }
+
+    @Test
+    void succeeded_refillsAccount() {
+        LoginRateLimitImpl limiter = new LoginRateLimitImpl(true, 100, 60_000, 1, 60_000, 100);
+
+        limiter.acquire("10.0.0.1", "user@test.com");
+        limiter.succeeded("user@test.com");
+
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.1", "user@test.com"));
+    }
+
+    @Test
+    void acquire_whenDisabled_neverRejects() {
+        LoginRateLimitImpl limiter = new LoginRateLimitImpl(false, 1, 60_000, 1, 60_000, 100);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("10.0.0.1", "user@test.com");
+        }
+    }
+}
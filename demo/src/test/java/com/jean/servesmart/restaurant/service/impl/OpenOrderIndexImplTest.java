@@ -0,0 +1,172 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.model.Orders;
+import com.jean.servesmart.restaurant.model.RestaurantTable;
+import com.jean.servesmart.restaurant.repository.OrdersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OpenOrderIndexImplTest {
+
+    @Mock
+    private OrdersRepository ordersRepo;
+
+    private OpenOrderIndexImpl index;
+
+    @BeforeEach
+    void setup() {
+        index = new OpenOrderIndexImpl(ordersRepo);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Orders orderOnTable(int orderId, Integer tableId) {
+        Orders o = new Orders();
+        o.setId(orderId);
+        if (tableId != null) {
+            RestaurantTable table = new RestaurantTable();
+            table.setId(tableId);
+            o.setRestaurantTable(table);
+        }
+        return o;
+    }
+
+    @Test
+    void findOpenOrder_whenTableIdNull_returnsEmpty() {
+        assertTrue(index.findOpenOrder(null).isEmpty());
+    }
+
+    @Test
+    void markOpen_thenFind_returnsOrderId() {
+        index.markOpen(5, 100);
+
+        assertEquals(Optional.of(100), index.findOpenOrder(5));
+    }
+
+    @Test
+    void markClosed_whenDifferentOrderIsMapped_keepsMapping() {
+        index.markOpen(5, 100);
+
+        index.markClosed(5, 99);
+
+        assertEquals(Optional.of(100), index.findOpenOrder(5));
+    }
+
+    @Test
+    void markClosed_whenSameOrder_removesMapping() {
+        index.markOpen(5, 100);
+
+        index.markClosed(5, 100);
+
+        assertTrue(index.findOpenOrder(5).isEmpty());
+    }
+
+    @Test
+    void forget_removesOrderWhereverItIsMapped() {
+        index.markOpen(5, 100);
+        index.markOpen(6, 101);
+
+        index.forget(100);
+
+        assertTrue(index.findOpenOrder(5).isEmpty());
+        assertEquals(Optional.of(101), index.findOpenOrder(6));
+    }
+
+    @Test
+    void markOpen_insideTransaction_appliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.markOpen(5, 100);
+        assertTrue(index.findOpenOrder(5).isEmpty());
+
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCommit();
+        }
+        assertEquals(Optional.of(100), index.findOpenOrder(5));
+    }
+
+    @Test
+    void rebuild_loadsOpenOrdersAndKeepsLatestPerTable() {
+        index.markOpen(9, 1);
+        when(ordersRepo.findByStatus_NameNotIn(List.of("PAID", "CANCELLED")))
+                .thenReturn(List.of(orderOnTable(10, 5), orderOnTable(12, 5), orderOnTable(11, 6), orderOnTable(13, null)));
+
+        index.rebuild();
+
+        assertEquals(Optional.of(12), index.findOpenOrder(5));
+        assertEquals(Optional.of(11), index.findOpenOrder(6));
+        assertTrue(index.findOpenOrder(9).isEmpty());
+    }
+
+    @Test
+    void tryReserve_whenTableFree_claimsItOnce() {
+        assertTrue(index.tryReserve(5, null));
+
+        assertFalse(index.tryReserve(5, null));
+        // a claim is not an open order yet
+        assertTrue(index.findOpenOrder(5).isEmpty());
+    }
+
+    @Test
+    void tryReserve_whenTableHeldBySameOrder_succeeds() {
+        index.markOpen(5, 100);
+
+        assertTrue(index.tryReserve(5, 100));
+        assertFalse(index.tryReserve(5, 101));
+        assertEquals(Optional.of(100), index.findOpenOrder(5));
+    }
+
+    @Test
+    void tryReserve_whenTransactionRollsBack_releasesTable() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertTrue(index.tryReserve(5, null));
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertTrue(index.tryReserve(5, null));
+    }
+
+    @Test
+    void tryReserve_whenTransactionCommits_isReplacedByOrderId() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertTrue(index.tryReserve(5, null));
+        index.markOpen(5, 100);
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        syncs.forEach(TransactionSynchronization::afterCommit);
+        syncs.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(Optional.of(100), index.findOpenOrder(5));
+        assertFalse(index.tryReserve(5, null));
+    }
+
+    @Test
+    void rebuild_keepsClaimsOfTransactionsInFlight() {
+        index.tryReserve(7, null);
+        when(ordersRepo.findByStatus_NameNotIn(List.of("PAID", "CANCELLED"))).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertFalse(index.tryReserve(7, null));
+    }
+}
@@ -0,0 +1,219 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.order.OrderResponseDto;
+import com.jean.servesmart.restaurant.model.*;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderItemRepository;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderRepository;
+import com.jean.servesmart.restaurant.repository.OrderItemRepository;
+import com.jean.servesmart.restaurant.repository.OrdersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveImplTest {
+
+    @Mock
+    private OrdersRepository ordersRepo;
+
+    @Mock
+    private OrderItemRepository orderItemRepo;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepo;
+
+    @Mock
+    private ArchivedOrderItemRepository archivedItemRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderArchiveImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new OrderArchiveImpl(ordersRepo, orderItemRepo, archivedOrderRepo, archivedItemRepo,
+                transactionManager, true, 30, 2);
+    }
+
+    private static Orders paidOrder(int id) {
+        OrdersStatus status = new OrdersStatus();
+        status.setName("PAID");
+
+        User user = new User();
+        user.setId(3);
+        user.setEmail("staff@test.com");
+
+        RestaurantTable table = new RestaurantTable();
+        table.setId(5);
+        table.setLabel("T5");
+
+        Orders o = new Orders();
+        o.setId(id);
+        o.setStatus(status);
+        o.setUser(user);
+        o.setRestaurantTable(table);
+        o.setCreateAt(LocalDateTime.now().minusDays(60));
+        return o;
+    }
+
+    private static OrderItem itemOf(Orders order, int id) {
+        MenuItems menuItem = new MenuItems();
+        menuItem.setId(10);
+        menuItem.setName("Soup");
+
+        OrderItem item = new OrderItem();
+        item.setId(id);
+        item.setOrder(order);
+        item.setMenuItem(menuItem);
+        item.setItemsName("Soup");
+        item.setItemsPrice(BigDecimal.valueOf(5.5));
+        item.setItemsQuantity(2);
+        item.setActive(true);
+        return item;
+    }
+
+    @Test
+    void archiveOlderThan_whenNothingToArchive_returnsZero() {
+        when(ordersRepo.findByStatus_NameInAndCreateAtBeforeOrderByIdAsc(anyList(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertEquals(0, service.archiveOlderThan(LocalDateTime.now()));
+
+        verifyNoInteractions(archivedOrderRepo, archivedItemRepo);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archiveOlderThan_copiesOrdersAndItemsThenDeletesHotRows() {
+        Orders o = paidOrder(1);
+        OrderItem item = itemOf(o, 11);
+
+        when(ordersRepo.findByStatus_NameInAndCreateAtBeforeOrderByIdAsc(anyList(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(o));
+        when(orderItemRepo.findByOrder_IdIn(List.of(1))).thenReturn(List.of(item));
+
+        assertEquals(1, service.archiveOlderThan(LocalDateTime.now()));
+
+        ArgumentCaptor<List<ArchivedOrder>> orders = ArgumentCaptor.forClass(List.class);
+        verify(archivedOrderRepo).saveAll(orders.capture());
+        ArchivedOrder archived = orders.getValue().get(0);
+        assertEquals(1, archived.getId());
+        assertEquals("PAID", archived.getStatusName());
+        assertEquals("T5", archived.getRestaurantTableLabel());
+        assertEquals("staff@test.com", archived.getUserEmail());
+        assertTrue(archived.isNew());
+
+        ArgumentCaptor<List<ArchivedOrderItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(archivedItemRepo).saveAll(items.capture());
+        assertEquals(1, items.getValue().get(0).getOrderId());
+        assertEquals("Soup", items.getValue().get(0).getMenuItemName());
+
+        verify(orderItemRepo).deleteAllInBatch(List.of(item));
+        verify(ordersRepo).deleteAllInBatch(List.of(o));
+    }
+
+    @Test
+    void archiveOlderThan_whenChunkIsFull_runsAnotherChunk() {
+        Orders o1 = paidOrder(1);
+        Orders o2 = paidOrder(2);
+        Orders o3 = paidOrder(3);
+
+        when(ordersRepo.findByStatus_NameInAndCreateAtBeforeOrderByIdAsc(anyList(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(o1, o2))
+                .thenReturn(List.of(o3));
+
+        assertEquals(3, service.archiveOlderThan(LocalDateTime.now()));
+
+        verify(ordersRepo, times(2)).deleteAllInBatch(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void archiveScheduled_whenDisabled_doesNothing() {
+        service = new OrderArchiveImpl(ordersRepo, orderItemRepo, archivedOrderRepo, archivedItemRepo,
+                transactionManager, false, 30, 2);
+
+        service.archiveScheduled();
+
+        verifyNoInteractions(ordersRepo, orderItemRepo, archivedOrderRepo, archivedItemRepo, transactionManager);
+    }
+
+    @Test
+    void getById_whenArchived_mapsOrderWithItems() {
+        ArchivedOrder o = new ArchivedOrder();
+        o.setId(1);
+        o.setStatusName("PAID");
+        o.setRestaurantTableId(5);
+
+        ArchivedOrderItem item = new ArchivedOrderItem();
+        item.setId(11);
+        item.setOrderId(1);
+        item.setItemsName("Soup");
+
+        when(archivedOrderRepo.findById(1)).thenReturn(Optional.of(o));
+        when(archivedItemRepo.findByOrderId(1)).thenReturn(List.of(item));
+
+        Optional<OrderResponseDto> result = service.getById(1);
+
+        assertTrue(result.isPresent());
+        assertEquals("PAID", result.get().getStatusName());
+        assertEquals(1, result.get().getItems().size());
+        assertEquals("Soup", result.get().getItems().get(0).getItemsName());
+    }
+
+    @Test
+    void getById_whenNotArchived_returnsEmpty() {
+        when(archivedOrderRepo.findById(1)).thenReturn(Optional.empty());
+
+        assertTrue(service.getById(1).isEmpty());
+        verifyNoInteractions(archivedItemRepo);
+    }
+
+    @Test
+    void getByTable_loadsItemsInOneQuery() {
+        ArchivedOrder o1 = new ArchivedOrder();
+        o1.setId(1);
+        ArchivedOrder o2 = new ArchivedOrder();
+        o2.setId(2);
+
+        ArchivedOrderItem item = new ArchivedOrderItem();
+        item.setId(11);
+        item.setOrderId(2);
+
+        when(archivedOrderRepo.findByRestaurantTableId(5)).thenReturn(List.of(o1, o2));
+        when(archivedItemRepo.findByOrderIdIn(List.of(1, 2))).thenReturn(List.of(item));
+
+        List<OrderResponseDto> result = service.getByTable(5);
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).getItems().isEmpty());
+        assertEquals(1, result.get(1).getItems().size());
+        verify(archivedItemRepo, never()).findByOrderId(eq(1));
+    }
+
+    @Test
+    void getByTable_whenNoArchivedOrders_skipsItemQuery() {
+        when(archivedOrderRepo.findByRestaurantTableId(5)).thenReturn(List.of());
+
+        assertTrue(service.getByTable(5).isEmpty());
+        verifyNoInteractions(archivedItemRepo);
+    }
+}
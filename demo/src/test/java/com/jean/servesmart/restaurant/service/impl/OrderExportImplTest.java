@@ -0,0 +1,187 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.dto.order.OrderExportFormat;
+import com.jean.servesmart.restaurant.exception.order.OrderInvalidDataException;
+import com.jean.servesmart.restaurant.model.*;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderItemRepository;
+import com.jean.servesmart.restaurant.repository.ArchivedOrderRepository;
+import com.jean.servesmart.restaurant.repository.OrdersRepository;
+import com.jean.servesmart.restaurant.repository.PaidOrderLine;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+
+    @Mock
+    private OrdersRepository ordersRepo;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepo;
+
+    @Mock
+    private ArchivedOrderItemRepository archivedItemRepo;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderExportImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new OrderExportImpl(ordersRepo, archivedOrderRepo, archivedItemRepo, entityManager,
+                new ObjectMapper(), 2);
+    }
+
+    private static PaidOrderLine hotItem(int orderId, int itemId, String name) {
+        Orders order = hotOrder(orderId);
+
+        MenuItems menuItem = new MenuItems();
+        menuItem.setId(10);
+
+        OrderItem item = new OrderItem();
+        item.setId(itemId);
+        item.setOrder(order);
+        item.setMenuItem(menuItem);
+        item.setItemsName(name);
+        item.setItemsPrice(new BigDecimal("2.50"));
+        item.setItemsQuantity(3);
+        return new PaidOrderLine(order, item);
+    }
+
+    private static Orders hotOrder(int orderId) {
+        User user = new User();
+        user.setEmail("staff@test.com");
+
+        RestaurantTable table = new RestaurantTable();
+        table.setId(5);
+        table.setLabel("T5");
+
+        Orders order = new Orders();
+        order.setId(orderId);
+        order.setUser(user);
+        order.setRestaurantTable(table);
+        order.setCreateAt(LocalDateTime.of(2025, 1, 10, 12, 0));
+        return order;
+    }
+
+    private void noArchivedOrders() {
+        when(archivedOrderRepo.findByStatusNameAndCreateAtGreaterThanEqualAndCreateAtLessThanAndIdGreaterThanOrderByIdAsc(
+                eq("PAID"), any(), any(), eq(0), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    private String export(OrderExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportPaid(FROM, TO, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportPaid_whenRangeInverted_throwsInvalidData() {
+        assertThrows(OrderInvalidDataException.class, () ->
+                service.exportPaid(TO, FROM, OrderExportFormat.CSV, new ByteArrayOutputStream()));
+        verifyNoInteractions(ordersRepo, archivedOrderRepo);
+    }
+
+    @Test
+    void exportPaid_csv_writesHeaderAndEscapedRows() throws Exception {
+        noArchivedOrders();
+        when(ordersRepo.streamLinesByStatus("PAID", FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(hotItem(1, 11, "Soup, large"), hotItem(1, 12, "Tea")));
+
+        String[] lines = export(OrderExportFormat.CSV).split("\r\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("orderId,createdAt,"));
+        assertEquals("1,2025-01-10T12:00,5,T5,staff@test.com,11,10,\"Soup, large\",2.50,3,7.50,true", lines[1]);
+        assertTrue(lines[2].contains(",Tea,"));
+    }
+
+    @Test
+    void exportPaid_ndjson_writesOneObjectPerLine() throws Exception {
+        noArchivedOrders();
+        when(ordersRepo.streamLinesByStatus(any(), any(), any()))
+                .thenReturn(Stream.of(hotItem(1, 11, "Soup"), hotItem(2, 21, "Tea")));
+
+        String[] lines = export(OrderExportFormat.NDJSON).split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"orderId\":1,"));
+        assertTrue(lines[0].contains("\"lineTotal\":7.50"));
+        assertTrue(lines[1].startsWith("{\"orderId\":2,"));
+    }
+
+    @Test
+    void exportPaid_includesArchivedOrdersPageByPage() throws Exception {
+        ArchivedOrder a1 = new ArchivedOrder();
+        a1.setId(1);
+        ArchivedOrder a2 = new ArchivedOrder();
+        a2.setId(2);
+        ArchivedOrder a3 = new ArchivedOrder();
+        a3.setId(3);
+
+        ArchivedOrderItem item = new ArchivedOrderItem();
+        item.setId(31);
+        item.setOrderId(3);
+        item.setItemsName("Cake");
+        item.setItemsPrice(BigDecimal.ONE);
+        item.setItemsQuantity(1);
+
+        when(archivedOrderRepo.findByStatusNameAndCreateAtGreaterThanEqualAndCreateAtLessThanAndIdGreaterThanOrderByIdAsc(
+                eq("PAID"), any(), any(), eq(0), any(Pageable.class))).thenReturn(List.of(a1, a2));
+        when(archivedOrderRepo.findByStatusNameAndCreateAtGreaterThanEqualAndCreateAtLessThanAndIdGreaterThanOrderByIdAsc(
+                eq("PAID"), any(), any(), eq(2), any(Pageable.class))).thenReturn(List.of(a3));
+        when(archivedItemRepo.findByOrderIdIn(List.of(1, 2))).thenReturn(List.of());
+        when(archivedItemRepo.findByOrderIdIn(List.of(3))).thenReturn(List.of(item));
+        when(ordersRepo.streamLinesByStatus(any(), any(), any())).thenReturn(Stream.empty());
+
+        String[] lines = export(OrderExportFormat.CSV).split("\r\n");
+
+        assertEquals(4, lines.length);
+        assertEquals("1,,,,,,,,,,,", lines[1]);
+        assertEquals("2,,,,,,,,,,,", lines[2]);
+        assertTrue(lines[3].startsWith("3,"));
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportPaid_hotOrderWithoutItems_writesRowWithEmptyItemColumns() throws Exception {
+        noArchivedOrders();
+        when(ordersRepo.streamLinesByStatus(any(), any(), any()))
+                .thenReturn(Stream.of(new PaidOrderLine(hotOrder(1), null), hotItem(2, 21, "Tea")));
+
+        String[] csv = export(OrderExportFormat.CSV).split("\r\n");
+
+        assertEquals(3, csv.length);
+        assertEquals("1,2025-01-10T12:00,5,T5,staff@test.com,,,,,,,", csv[1]);
+        assertTrue(csv[2].startsWith("2,"));
+
+        noArchivedOrders();
+        when(ordersRepo.streamLinesByStatus(any(), any(), any()))
+                .thenReturn(Stream.of(new PaidOrderLine(hotOrder(1), null)));
+
+        String ndjson = export(OrderExportFormat.NDJSON);
+        assertTrue(ndjson.contains("\"itemId\":null"));
+        assertTrue(ndjson.contains("\"active\":null"));
+    }
+}
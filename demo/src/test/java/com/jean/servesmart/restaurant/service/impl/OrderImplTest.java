@@ -1,13 +1,20 @@
 package com.jean.servesmart.restaurant.service.impl;
 
 import com.jean.servesmart.restaurant.dto.order.*;
+import com.jean.servesmart.restaurant.dto.restauranttable.RestaurantTableResponseDto;
 import com.jean.servesmart.restaurant.exception.order.*;
+import com.jean.servesmart.restaurant.journal.OrderEventType;
 import com.jean.servesmart.restaurant.model.*;
 import com.jean.servesmart.restaurant.repository.*;
+import com.jean.servesmart.restaurant.service.interfaces.OpenOrderIndexService;
+import com.jean.servesmart.restaurant.service.interfaces.OrderArchiveService;
+import com.jean.servesmart.restaurant.service.interfaces.OrderJournalService;
+import com.jean.servesmart.restaurant.service.interfaces.OutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -16,6 +23,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -44,11 +52,25 @@ class OrderImplTest {
     @Mock
     private UserRepository userRepo;
 
+    @Mock
+    private OrderArchiveService archive;
+
+    @Mock
+    private OpenOrderIndexService openOrders;
+
+    @Mock
+    private OrderJournalService journal;
+
+    @Mock
+    private OutboxService outbox;
+
     private OrderImpl service;
 
     @BeforeEach
     void setup() {
-        service = new OrderImpl(ordersRepo, orderItemRepo, statusRepo, menuItemsRepo, tableRepo, tableStatusRepo, userRepo);
+        service = new OrderImpl(ordersRepo, orderItemRepo, statusRepo, menuItemsRepo, tableRepo, tableStatusRepo, userRepo, archive, openOrders, journal, outbox);
+        // tables are free unless a test says otherwise
+        lenient().when(openOrders.tryReserve(any(), any())).thenReturn(true);
     }
 
     @Test
@@ -254,6 +276,58 @@ class OrderImplTest {
         assertTrue(itemCaptor.getValue().isActive());
     }
 
+    @Test
+    void create_whenValid_journalsCreatedWithOwnerThenEachItem() {
+        OrderCreateDto dto = new OrderCreateDto();
+        dto.setUserId(1);
+        dto.setRestaurantTableId(5);
+        OrderItemCreateDto first = new OrderItemCreateDto();
+        first.setMenuItemId(10);
+        first.setQuantity(2);
+        OrderItemCreateDto second = new OrderItemCreateDto();
+        second.setMenuItemId(10);
+        second.setQuantity(1);
+        dto.setItems(List.of(first, second));
+
+        User user = new User();
+        user.setId(1);
+        RestaurantTable table = new RestaurantTable();
+        table.setId(5);
+        OrdersStatus status = new OrdersStatus();
+        status.setName("NEW");
+        MenuItems menuItem = new MenuItems();
+        menuItem.setId(10);
+        menuItem.setName("Burger");
+        menuItem.setPrice(BigDecimal.valueOf(12.5));
+
+        Orders savedOrder = new Orders();
+        savedOrder.setId(100);
+        savedOrder.setUser(user);
+        savedOrder.setRestaurantTable(table);
+        savedOrder.setStatus(status);
+
+        when(userRepo.findById(1)).thenReturn(Optional.of(user));
+        when(tableRepo.findById(5)).thenReturn(Optional.of(table));
+        when(statusRepo.findByName("NEW")).thenReturn(Optional.of(status));
+        when(ordersRepo.save(any(Orders.class))).thenReturn(savedOrder);
+        when(menuItemsRepo.findById(10)).thenReturn(Optional.of(menuItem));
+        AtomicInteger ids = new AtomicInteger(200);
+        when(orderItemRepo.save(any(OrderItem.class))).thenAnswer(inv -> {
+            OrderItem oi = inv.getArgument(0);
+            oi.setId(ids.getAndIncrement());
+            return oi;
+        });
+
+        service.create(dto);
+
+        InOrder order = inOrder(journal);
+        order.verify(journal).appendCreated(100, 5, 1, "NEW");
+        ArgumentCaptor<OrderItem> items = ArgumentCaptor.forClass(OrderItem.class);
+        order.verify(journal, times(2)).appendItem(eq(OrderEventType.ITEM_ADDED), eq(100), items.capture());
+        assertEquals(List.of(200, 201), items.getAllValues().stream().map(OrderItem::getId).toList());
+        assertEquals(2, items.getAllValues().get(0).getItemsQuantity());
+    }
+
     @Test
     void create_whenValidWithTable_setsTableAndReturnsDto() {
         OrderCreateDto dto = new OrderCreateDto();
@@ -317,6 +391,34 @@ class OrderImplTest {
 
         assertTrue(result.isEmpty());
         verify(ordersRepo).findById(1);
+        verify(archive).getById(1);
+    }
+
+    @Test
+    void getById_whenOnlyArchived_returnsArchivedOrder() {
+        OrderResponseDto archived = new OrderResponseDto();
+        archived.setId(1);
+        archived.setStatusName("PAID");
+
+        when(ordersRepo.findById(1)).thenReturn(Optional.empty());
+        when(archive.getById(1)).thenReturn(Optional.of(archived));
+
+        Optional<OrderResponseDto> result = service.getById(1);
+
+        assertTrue(result.isPresent());
+        assertEquals("PAID", result.get().getStatusName());
+    }
+
+    @Test
+    void getById_whenHot_doesNotQueryArchive() {
+        Orders o = new Orders();
+        o.setId(1);
+        o.setOrderItems(new ArrayList<>());
+
+        when(ordersRepo.findById(1)).thenReturn(Optional.of(o));
+
+        assertTrue(service.getById(1).isPresent());
+        verifyNoInteractions(archive);
     }
 
     @Test
@@ -339,6 +441,25 @@ class OrderImplTest {
         verify(ordersRepo).findByRestaurantTable_Id(5);
     }
 
+    @Test
+    void getByTable_appendsArchivedOrders() {
+        Orders o = new Orders();
+        o.setId(2);
+        o.setOrderItems(new ArrayList<>());
+
+        OrderResponseDto archived = new OrderResponseDto();
+        archived.setId(1);
+
+        when(ordersRepo.findByRestaurantTable_Id(5)).thenReturn(List.of(o));
+        when(archive.getByTable(5)).thenReturn(List.of(archived));
+
+        List<OrderResponseDto> result = service.getByTable(5);
+
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getId());
+        assertEquals(1, result.get(1).getId());
+    }
+
     @Test
     void getByStatus_mapsOrders() {
         OrdersStatus status = new OrdersStatus();
@@ -600,6 +721,66 @@ class OrderImplTest {
 
         verify(statusRepo).findByName("NEW");
         verify(ordersRepo).save(any(Orders.class));
+        verify(openOrders).markOpen(5, 100);
+
+        ArgumentCaptor<RestaurantTableResponseDto> event = ArgumentCaptor.forClass(RestaurantTableResponseDto.class);
+        verify(outbox).record(eq("RestaurantTable"), eq(5), eq("TableUpdated"), event.capture());
+        assertEquals("OCCUPIED", event.getValue().getStatusName());
+    }
+
+    @Test
+    void start_whenTableAlreadyOpen_throwsWithoutQuerying() {
+        when(openOrders.tryReserve(5, null)).thenReturn(false);
+
+        assertThrows(OrderTableAlreadyOpenException.class, () -> service.start(1, 5));
+
+        verifyNoInteractions(userRepo, tableRepo, tableStatusRepo, statusRepo, ordersRepo);
+    }
+
+    @Test
+    void create_whenTableAlreadyOpen_throwsWithoutQuerying() {
+        OrderCreateDto dto = new OrderCreateDto();
+        dto.setUserId(1);
+        dto.setRestaurantTableId(5);
+        OrderItemCreateDto itemDto = new OrderItemCreateDto();
+        itemDto.setMenuItemId(10);
+        itemDto.setQuantity(1);
+        dto.setItems(List.of(itemDto));
+
+        when(openOrders.tryReserve(5, null)).thenReturn(false);
+
+        assertThrows(OrderTableAlreadyOpenException.class, () -> service.create(dto));
+
+        verifyNoInteractions(userRepo, tableRepo, statusRepo, ordersRepo, menuItemsRepo, orderItemRepo);
+    }
+
+    @Test
+    void getCurrentByTable_whenIndexed_loadsOrderById() {
+        Orders order = new Orders();
+        order.setId(99);
+        order.setOrderItems(new ArrayList<>());
+
+        when(openOrders.findOpenOrder(5)).thenReturn(Optional.of(99));
+        when(ordersRepo.findById(99)).thenReturn(Optional.of(order));
+
+        Optional<OrderResponseDto> result = service.getCurrentByTable(5);
+
+        assertTrue(result.isPresent());
+        assertEquals(99, result.get().getId());
+        verify(ordersRepo, never()).findByRestaurantTable_Id(any());
+    }
+
+    @Test
+    void getCurrentByTable_whenNotIndexed_returnsEmptyWithoutQuerying() {
+        when(openOrders.findOpenOrder(5)).thenReturn(Optional.empty());
+
+        assertTrue(service.getCurrentByTable(5).isEmpty());
+        verifyNoInteractions(ordersRepo);
+    }
+
+    @Test
+    void getCurrentByTable_whenTableIdNull_throwsInvalidData() {
+        assertThrows(OrderInvalidDataException.class, () -> service.getCurrentByTable(null));
     }
 
     @Test
@@ -672,6 +853,13 @@ class OrderImplTest {
         assertEquals("AVAILABLE", tableCaptor.getValue().getStatus().getName());
 
         verify(ordersRepo).save(any(Orders.class));
+        verify(openOrders).markClosed(5, 1);
+        verify(journal).append(OrderEventType.PAID, 1, null, null, "PAID");
+        verify(outbox).record(eq("Order"), eq(1), eq("OrderPaid"), any(OrderResponseDto.class));
+
+        ArgumentCaptor<RestaurantTableResponseDto> event = ArgumentCaptor.forClass(RestaurantTableResponseDto.class);
+        verify(outbox).record(eq("RestaurantTable"), eq(5), eq("TableUpdated"), event.capture());
+        assertEquals("AVAILABLE", event.getValue().getStatusName());
     }
 
     @Test
@@ -700,6 +888,7 @@ class OrderImplTest {
 
         verifyNoInteractions(tableStatusRepo, tableRepo);
         verify(ordersRepo).save(any(Orders.class));
+        verify(outbox, never()).record(eq("RestaurantTable"), any(), any(), any());
     }
 
     @Test
@@ -768,6 +957,8 @@ class OrderImplTest {
         assertTrue(result);
         verify(orderItemRepo).deleteByOrder_Id(1);
         verify(ordersRepo).deleteById(1);
+        verify(openOrders).forget(1);
+        verify(journal).append(OrderEventType.DELETED, 1, null, null, null);
     }
 
     @Test
@@ -844,5 +1035,82 @@ class OrderImplTest {
 
         verify(ordersRepo).findById(1);
         verify(statusRepo).findByName("PAID");
+        verify(journal).append(OrderEventType.STATUS_CHANGED, 1, null, null, "PAID");
+    }
+
+    @Test
+    void updateStatus_whenClosedStatusOnTable_removesFromIndex() {
+        OrdersStatus cancelled = new OrdersStatus();
+        cancelled.setName("CANCELLED");
+
+        RestaurantTable table = new RestaurantTable();
+        table.setId(5);
+
+        Orders order = new Orders();
+        order.setId(1);
+        order.setRestaurantTable(table);
+        order.setOrderItems(new ArrayList<>());
+
+        when(ordersRepo.findById(1)).thenReturn(Optional.of(order));
+        when(statusRepo.findByName("CANCELLED")).thenReturn(Optional.of(cancelled));
+        when(ordersRepo.save(any(Orders.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        OrderStatusUpdateDto dto = new OrderStatusUpdateDto();
+        dto.setStatusName("CANCELLED");
+
+        service.updateStatus(1, dto);
+
+        verify(openOrders).markClosed(5, 1);
+        verify(openOrders, never()).markOpen(any(), any());
+    }
+
+    @Test
+    void updateStatus_whenOpenStatusOnTable_registersInIndex() {
+        OrdersStatus preparing = new OrdersStatus();
+        preparing.setName("PREPARING");
+
+        RestaurantTable table = new RestaurantTable();
+        table.setId(5);
+
+        Orders order = new Orders();
+        order.setId(1);
+        order.setRestaurantTable(table);
+        order.setOrderItems(new ArrayList<>());
+
+        when(ordersRepo.findById(1)).thenReturn(Optional.of(order));
+        when(statusRepo.findByName("PREPARING")).thenReturn(Optional.of(preparing));
+        when(ordersRepo.save(any(Orders.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        OrderStatusUpdateDto dto = new OrderStatusUpdateDto();
+        dto.setStatusName("PREPARING");
+
+        service.updateStatus(1, dto);
+
+        verify(openOrders).markOpen(5, 1);
+    }
+
+    @Test
+    void updateStatus_whenReopeningOnTableHeldByAnotherOrder_throwsWithoutSaving() {
+        OrdersStatus preparing = new OrdersStatus();
+        preparing.setName("PREPARING");
+
+        RestaurantTable table = new RestaurantTable();
+        table.setId(5);
+
+        Orders order = new Orders();
+        order.setId(1);
+        order.setRestaurantTable(table);
+
+        when(ordersRepo.findById(1)).thenReturn(Optional.of(order));
+        when(statusRepo.findByName("PREPARING")).thenReturn(Optional.of(preparing));
+        when(openOrders.tryReserve(5, 1)).thenReturn(false);
+
+        OrderStatusUpdateDto dto = new OrderStatusUpdateDto();
+        dto.setStatusName("PREPARING");
+
+        assertThrows(OrderTableAlreadyOpenException.class, () -> service.updateStatus(1, dto));
+
+        verify(ordersRepo, never()).save(any());
+        verify(openOrders, never()).markOpen(any(), any());
     }
 }
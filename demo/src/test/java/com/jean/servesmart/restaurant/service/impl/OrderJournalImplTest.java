@@ -0,0 +1,222 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.journal.OrderEvent;
+import com.jean.servesmart.restaurant.journal.OrderEventType;
+import com.jean.servesmart.restaurant.journal.OrderProjection;
+import com.jean.servesmart.restaurant.model.MenuItems;
+import com.jean.servesmart.restaurant.model.OrderItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderJournalImplTest {
+
+    @TempDir
+    Path dir;
+
+    private OrderJournalImpl journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private OrderJournalImpl openJournal(int segmentSize) {
+        OrderJournalImpl j = new OrderJournalImpl(true, dir.toString(), segmentSize, 256);
+        j.open();
+        return j;
+    }
+
+    private List<OrderEvent> replayAll(OrderJournalImpl j, long from) {
+        List<OrderEvent> events = new ArrayList<>();
+        j.replay(from, events::add);
+        return events;
+    }
+
+    @Test
+    void append_thenReplay_returnsEventsInOrder() {
+        journal = openJournal(4096);
+
+        journal.append(OrderEventType.CREATED, 1, null, null, "NEW");
+        journal.append(OrderEventType.ITEM_ADDED, 1, 10, 2, null);
+        journal.append(OrderEventType.PAID, 1, null, null, "PAID");
+
+        List<OrderEvent> events = replayAll(journal, 1);
+
+        assertEquals(3, events.size());
+        assertEquals(1, events.get(0).getSequence());
+        assertEquals(OrderEventType.CREATED, events.get(0).getType());
+        assertEquals("NEW", events.get(0).getStatus());
+        assertEquals(10, events.get(1).getItemId());
+        assertEquals(2, events.get(1).getQuantity());
+        assertNull(events.get(1).getStatus());
+        assertEquals(OrderEventType.PAID, events.get(2).getType());
+    }
+
+    @Test
+    void appendCreatedAndItem_roundTripOwnerAndLine() {
+        journal = openJournal(4096);
+
+        journal.appendCreated(1, 5, 7, "NEW");
+        journal.appendItem(OrderEventType.ITEM_ADDED, 1, item(10, 3, "Crème brûlée", "6.50", 2, true));
+
+        List<OrderEvent> events = replayAll(journal, 1);
+
+        assertEquals(5, events.get(0).getTableId());
+        assertEquals(7, events.get(0).getUserId());
+        assertNull(events.get(0).getMenuItemId());
+        OrderEvent added = events.get(1);
+        assertEquals(10, added.getItemId());
+        assertEquals(3, added.getMenuItemId());
+        assertEquals("Crème brûlée", added.getItemName());
+        assertEquals(new BigDecimal("6.50"), added.getItemPrice());
+        assertEquals(2, added.getQuantity());
+        assertTrue(added.getActive());
+        assertNull(added.getTableId());
+    }
+
+    @Test
+    void replay_intoProjection_rebuildsOrderAndDropsDeleted() {
+        journal = openJournal(4096);
+        journal.appendCreated(1, 5, 7, "NEW");
+        journal.appendItem(OrderEventType.ITEM_ADDED, 1, item(10, 3, "Soup", "4.00", 1, true));
+        journal.appendItem(OrderEventType.ITEM_ADDED, 1, item(11, 4, "Bread", "2.25", 2, true));
+        journal.appendItem(OrderEventType.ITEM_UPDATED, 1, item(10, 3, "Soup", "4.00", 3, false));
+        journal.append(OrderEventType.ITEM_REMOVED, 1, 11, null, null);
+        journal.append(OrderEventType.PAID, 1, null, null, "PAID");
+        journal.appendCreated(2, null, 7, "NEW");
+        journal.append(OrderEventType.DELETED, 2, null, null, null);
+
+        OrderProjection projection = new OrderProjection();
+        journal.replay(1, projection);
+
+        OrderProjection.OrderState order = projection.get(1).orElseThrow();
+        assertEquals(5, order.getTableId());
+        assertEquals(7, order.getUserId());
+        assertEquals("PAID", order.getStatus());
+        assertEquals(List.of(10), List.copyOf(order.getItems().keySet()));
+        OrderProjection.ItemState line = order.getItems().get(10);
+        assertEquals(3, line.getMenuItemId());
+        assertEquals(new BigDecimal("4.00"), line.getPrice());
+        assertEquals(3, line.getQuantity());
+        assertFalse(line.isActive());
+        assertTrue(projection.get(2).isEmpty());
+    }
+
+    private static OrderItem item(int id, int menuItemId, String name, String price, int quantity, boolean active) {
+        MenuItems menuItem = new MenuItems();
+        menuItem.setId(menuItemId);
+        OrderItem item = new OrderItem();
+        item.setId(id);
+        item.setMenuItem(menuItem);
+        item.setItemsName(name);
+        item.setItemsPrice(new BigDecimal(price));
+        item.setItemsQuantity(quantity);
+        item.setActive(active);
+        return item;
+    }
+
+    @Test
+    void replay_fromSequence_skipsEarlierEvents() {
+        journal = openJournal(4096);
+        for (int i = 1; i <= 5; i++) {
+            journal.append(OrderEventType.CREATED, i, null, null, "NEW");
+        }
+
+        List<OrderEvent> events = replayAll(journal, 4);
+
+        assertEquals(2, events.size());
+        assertEquals(4, events.get(0).getOrderId());
+    }
+
+    @Test
+    void append_whenSegmentFull_rollsToNewSegment() throws IOException {
+        journal = openJournal(64);
+        for (int i = 1; i <= 10; i++) {
+            journal.append(OrderEventType.ITEM_ADDED, i, i, 1, null);
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.count() > 1);
+        }
+        List<OrderEvent> events = replayAll(journal, 1);
+        assertEquals(10, events.size());
+        assertEquals(10, events.get(9).getOrderId());
+    }
+
+    @Test
+    void open_afterRestart_continuesSequence() {
+        journal = openJournal(4096);
+        journal.append(OrderEventType.CREATED, 1, null, null, "NEW");
+        journal.append(OrderEventType.CREATED, 2, null, null, "NEW");
+        journal.close();
+
+        journal = openJournal(4096);
+        journal.append(OrderEventType.CREATED, 3, null, null, "NEW");
+
+        List<OrderEvent> events = replayAll(journal, 1);
+        assertEquals(3, events.size());
+        assertEquals(3, events.get(2).getSequence());
+    }
+
+    @Test
+    void open_whenTailIsCorrupt_discardsTornRecord() throws IOException {
+        journal = openJournal(4096);
+        journal.append(OrderEventType.CREATED, 1, null, null, "NEW");
+        journal.append(OrderEventType.CREATED, 2, null, null, "NEW");
+        journal.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // frame is [length][body][crc]: corrupt the crc of the second record
+            int second = Integer.BYTES + readInt(channel, 0) + Integer.BYTES;
+            int crcOffset = second + Integer.BYTES + readInt(channel, second);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) ~readInt(channel, crcOffset)}), crcOffset);
+        }
+
+        journal = openJournal(4096);
+        assertEquals(1, replayAll(journal, 1).size());
+
+        journal.append(OrderEventType.CREATED, 3, null, null, "NEW");
+
+        List<OrderEvent> events = replayAll(journal, 1);
+        assertEquals(2, events.size());
+        assertEquals(2, events.get(1).getSequence());
+        assertEquals(3, events.get(1).getOrderId());
+    }
+
+    private static int readInt(FileChannel channel, long position) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(Integer.BYTES);
+        channel.read(buf, position);
+        return buf.flip().getInt();
+    }
+
+    @Test
+    void append_whenDisabled_isNoOp() {
+        journal = new OrderJournalImpl(false, dir.toString(), 4096, 256);
+        journal.open();
+
+        journal.append(OrderEventType.CREATED, 1, null, null, "NEW");
+
+        assertTrue(replayAll(journal, 1).isEmpty());
+        assertFalse(Files.exists(dir.resolve("orders-00000000000000000001.journal")));
+    }
+}
@@ -0,0 +1,276 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jean.servesmart.restaurant.dto.outbox.OutboxStatsDto;
+import com.jean.servesmart.restaurant.model.OutboxEvent;
+import com.jean.servesmart.restaurant.outbox.OutboxMessage;
+import com.jean.servesmart.restaurant.outbox.OutboxSink;
+import com.jean.servesmart.restaurant.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxImplTest {
+
+    @Mock
+    private OutboxEventRepository repo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final List<List<OutboxMessage>> delivered = new ArrayList<>();
+
+    private OutboxImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new OutboxImpl(repo, objectMapper, List.of(sink("memory", delivered)), transactionManager, true, 2, 72, 3);
+    }
+
+    private static OutboxSink sink(String name, List<List<OutboxMessage>> target) {
+        return new OutboxSink() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void publish(List<OutboxMessage> batch) {
+                target.add(batch);
+            }
+        };
+    }
+
+    private static OutboxSink failingSink() {
+        return new OutboxSink() {
+            @Override
+            public String name() {
+                return "broken";
+            }
+
+            @Override
+            public void publish(List<OutboxMessage> batch) throws IOException {
+                throw new IOException("connection refused");
+            }
+        };
+    }
+
+    private static OutboxEvent event(long id) {
+        OutboxEvent e = new OutboxEvent();
+        e.setId(id);
+        e.setAggregateType("Order");
+        e.setAggregateId((int) id);
+        e.setEventType("OrderCreated");
+        e.setPayload("{\"id\":" + id + "}");
+        return e;
+    }
+
+    @Test
+    void record_serializesPayloadAndSaves() {
+        service.record("Order", 7, "OrderPaid", Map.of("id", 7));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(repo).save(captor.capture());
+        assertEquals("Order", captor.getValue().getAggregateType());
+        assertEquals(7, captor.getValue().getAggregateId());
+        assertEquals("OrderPaid", captor.getValue().getEventType());
+        assertEquals("{\"id\":7}", captor.getValue().getPayload());
+        assertNull(captor.getValue().getPublishedAt());
+    }
+
+    @Test
+    void relay_whenNothingPending_returnsZero() {
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, service.relay());
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    void relay_deliversBatchThenMarksPublished() {
+        OutboxEvent e1 = event(1);
+        OutboxEvent e2 = event(2);
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(e1, e2));
+        when(repo.findAllById(List.of(1L, 2L))).thenReturn(List.of(e1, e2));
+
+        assertEquals(2, service.relay());
+
+        assertEquals(1, delivered.size());
+        assertEquals(2, delivered.get(0).size());
+        assertEquals("{\"id\":1}", delivered.get(0).get(0).getPayload());
+        assertNotNull(e1.getPublishedAt());
+        assertNotNull(e2.getPublishedAt());
+        assertEquals(2, service.getStats().getPublished());
+    }
+
+    @Test
+    void relay_whenSinkFails_leavesBatchPendingAndCountsAttempt() {
+        service = new OutboxImpl(repo, objectMapper, List.of(failingSink()), transactionManager, true, 2, 72, 3);
+        OutboxEvent e1 = event(1);
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(e1));
+        when(repo.findById(1L)).thenReturn(Optional.of(e1));
+
+        assertEquals(0, service.relay());
+
+        assertNull(e1.getPublishedAt());
+        assertEquals(1, e1.getAttempts());
+        assertNull(e1.getFailedAt());
+        OutboxStatsDto stats = service.getStats();
+        assertEquals(1, stats.getFailedBatches());
+        assertTrue(stats.getLastError().contains("connection refused"));
+    }
+
+    @Test
+    void relay_whenSinkFails_chargesOnlyTheHeadOfTheBatch() {
+        service = new OutboxImpl(repo, objectMapper, List.of(failingSink()), transactionManager, true, 2, 72, 3);
+        OutboxEvent e1 = event(1);
+        OutboxEvent e2 = event(2);
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(e1, e2));
+        when(repo.findById(1L)).thenReturn(Optional.of(e1));
+
+        service.relay();
+
+        assertEquals(1, e1.getAttempts());
+        assertEquals(0, e2.getAttempts());
+    }
+
+    @Test
+    void relay_whenAttemptsExhausted_movesEventToFailed() {
+        service = new OutboxImpl(repo, objectMapper, List.of(failingSink()), transactionManager, true, 2, 72, 3);
+        OutboxEvent e1 = event(1);
+        e1.setAttempts(2);
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(e1));
+        when(repo.findById(1L)).thenReturn(Optional.of(e1));
+
+        assertEquals(0, service.relay());
+
+        assertEquals(3, e1.getAttempts());
+        assertNotNull(e1.getFailedAt());
+        assertNull(e1.getPublishedAt());
+    }
+
+    @Test
+    void relay_whenHeadFailedBefore_sendsItAloneThenTheRest() {
+        OutboxEvent e1 = event(1);
+        e1.setAttempts(1);
+        OutboxEvent e2 = event(2);
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(e1, e2));
+        when(repo.findAllById(List.of(1L))).thenReturn(List.of(e1));
+        when(repo.findAllById(List.of(2L))).thenReturn(List.of(e2));
+
+        assertEquals(2, service.relay());
+
+        assertEquals(2, delivered.size());
+        assertEquals(1, delivered.get(0).size());
+        assertEquals(1L, delivered.get(0).get(0).getId());
+        assertEquals(2L, delivered.get(1).get(0).getId());
+        assertNotNull(e1.getPublishedAt());
+        assertNotNull(e2.getPublishedAt());
+    }
+
+    @Test
+    void relay_whenIsolatedHeadFailsAgain_leavesTheRestForLater() {
+        List<List<OutboxMessage>> seen = new ArrayList<>();
+        OutboxSink rejectsFirst = new OutboxSink() {
+            @Override
+            public String name() {
+                return "picky";
+            }
+
+            @Override
+            public void publish(List<OutboxMessage> batch) throws IOException {
+                seen.add(batch);
+                if (batch.get(0).getId() == 1L) {
+                    throw new IOException("bad payload");
+                }
+            }
+        };
+        service = new OutboxImpl(repo, objectMapper, List.of(rejectsFirst), transactionManager, true, 2, 72, 3);
+        OutboxEvent e1 = event(1);
+        e1.setAttempts(1);
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(e1, event(2)));
+        when(repo.findById(1L)).thenReturn(Optional.of(e1));
+
+        assertEquals(0, service.relay());
+
+        assertEquals(1, seen.size());
+        assertEquals(1, seen.get(0).size());
+        assertEquals(2, e1.getAttempts());
+    }
+
+    @Test
+    void purgePublished_deletesInChunksUntilShort() {
+        List<Long> full = new ArrayList<>();
+        for (long i = 1; i <= 1000; i++) {
+            full.add(i);
+        }
+        when(repo.findPublishedBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(full)
+                .thenReturn(List.of(1001L));
+        when(repo.deleteByIdIn(anyCollection())).thenReturn(1000).thenReturn(1);
+
+        service.purgePublished();
+
+        verify(repo, times(2)).deleteByIdIn(anyCollection());
+        verify(repo, times(2)).findPublishedBefore(any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    void relayScheduled_drainsUntilBatchIsPartial() {
+        OutboxEvent e1 = event(1);
+        OutboxEvent e2 = event(2);
+        OutboxEvent e3 = event(3);
+        when(repo.findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(e1, e2))
+                .thenReturn(List.of(e3));
+        when(repo.findAllById(anyList())).thenReturn(List.of(e1, e2)).thenReturn(List.of(e3));
+
+        service.relayScheduled();
+
+        assertEquals(2, delivered.size());
+        verify(repo, times(2)).findByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc(any(Pageable.class));
+    }
+
+    @Test
+    void relayScheduled_whenDisabled_doesNothing() {
+        service = new OutboxImpl(repo, objectMapper, List.of(), transactionManager, false, 2, 72, 3);
+
+        service.relayScheduled();
+
+        verifyNoInteractions(repo, transactionManager);
+    }
+
+    @Test
+    void getStats_reportsPendingCountAndLag() {
+        OutboxEvent oldest = event(1);
+        oldest.setCreateAt(LocalDateTime.now().minusSeconds(30));
+        when(repo.countByPublishedAtIsNullAndFailedAtIsNull()).thenReturn(4L);
+        when(repo.countByPublishedAtIsNullAndFailedAtIsNotNull()).thenReturn(1L);
+        when(repo.findFirstByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc()).thenReturn(Optional.of(oldest));
+
+        OutboxStatsDto stats = service.getStats();
+
+        assertEquals(4, stats.getPending());
+        assertEquals(1, stats.getFailed());
+        assertTrue(stats.getOldestPendingAgeMs() >= 30_000);
+        assertEquals(List.of("memory"), stats.getSinks());
+    }
+}
@@ -0,0 +1,139 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.passwordhashing.PasswordHashingStatsDto;
+import com.jean.servesmart.restaurant.exception.auth.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingImplTest {
+
+    private PasswordHashingImpl hashing;
+
+    @AfterEach
+    void cleanup() {
+        if (hashing != null) {
+            hashing.shutdown();
+        }
+    }
+
+    @Test
+    void encode_andMatches_roundTrip() {
+        hashing = new PasswordHashingImpl(new BCryptPasswordEncoder(4), 4, 1, 4, 5000);
+
+        String hash = hashing.encode("secret");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(hashing.matches("secret", hash));
+        assertFalse(hashing.matches("wrong", hash));
+    }
+
+    @Test
+    void encodeAll_hashesEveryPasswordInOrder() {
+        hashing = new PasswordHashingImpl(new BCryptPasswordEncoder(4), 4, 2, 2, 5000);
+        List<String> raw = List.of("a", "b", "c", "d", "e");
+
+        List<String> hashes = hashing.encodeAll(raw);
+
+        assertEquals(5, hashes.size());
+        for (int i = 0; i < raw.size(); i++) {
+            assertTrue(hashing.matches(raw.get(i), hashes.get(i)));
+        }
+        // five hashes through a queue of two: windows of pool size never overflow it
+        assertEquals(0, hashing.getStats().getRejected());
+    }
+
+    @Test
+    void needsRehash_comparesCostWithConfiguredStrength() {
+        hashing = new PasswordHashingImpl(new BCryptPasswordEncoder(4), 4, 1, 4, 5000);
+
+        assertTrue(hashing.needsRehash("$2a$10$abcdefghijklmnopqrstuv"));
+        assertFalse(hashing.needsRehash("$2a$04$abcdefghijklmnopqrstuv"));
+        assertFalse(hashing.needsRehash("not-a-bcrypt-hash"));
+        assertFalse(hashing.needsRehash(null));
+    }
+
+    @Test
+    void whenQueueIsFull_rejectsWithBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        BCryptPasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        hashing = new PasswordHashingImpl(blocking, 4, 1, 1, 5000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> hashing.encode("first"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> hashing.encode("queued"));
+            while (hashing.getStats().getQueueDepth() < 1) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(PasswordHashingBusyException.class, () -> hashing.encode("rejected"));
+            assertEquals(1, hashing.getStats().getRejected());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void whenHashTakesTooLong_timesOutWithBusy() {
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder slow = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        hashing = new PasswordHashingImpl(slow, 4, 1, 1, 50);
+
+        try {
+            assertThrows(PasswordHashingBusyException.class, () -> hashing.encode("slow"));
+            assertEquals(1, hashing.getStats().getTimedOut());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void getStats_reportsCompletedHashes() {
+        hashing = new PasswordHashingImpl(new BCryptPasswordEncoder(4), 4, 2, 8, 5000);
+
+        String hash = hashing.encode("secret");
+        hashing.matches("secret", hash);
+
+        PasswordHashingStatsDto stats = hashing.getStats();
+        assertEquals(4, stats.getStrength());
+        assertEquals(2, stats.getThreads());
+        assertEquals(8, stats.getQueueCapacity());
+        assertEquals(2, stats.getCompleted());
+        assertEquals(0, stats.getRejected());
+        assertTrue(stats.getAverageHashMs() > 0);
+    }
+}
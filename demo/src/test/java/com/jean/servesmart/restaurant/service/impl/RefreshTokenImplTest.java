@@ -0,0 +1,146 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.exception.auth.InvalidRefreshTokenException;
+import com.jean.servesmart.restaurant.model.RefreshToken;
+import com.jean.servesmart.restaurant.model.User;
+import com.jean.servesmart.restaurant.repository.RefreshTokenRepository;
+import com.jean.servesmart.restaurant.service.interfaces.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenImplTest {
+
+    @Mock
+    private RefreshTokenRepository tokenRepo;
+
+    private RefreshTokenImpl service;
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        service = new RefreshTokenImpl(tokenRepo, 60_000);
+
+        user = new User();
+        user.setId(7);
+        user.setActive(true);
+    }
+
+    @Test
+    void issue_storesOnlyTheHash() {
+        String token = service.issue(user);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(tokenRepo).save(captor.capture());
+        RefreshToken stored = captor.getValue();
+
+        assertEquals(43, token.length());
+        assertEquals(RefreshTokenImpl.hash(token), stored.getTokenHash());
+        assertNotEquals(token, stored.getTokenHash());
+        assertSame(user, stored.getUser());
+        assertNotNull(stored.getFamilyId());
+        assertTrue(stored.getExpiresAt().isAfter(stored.getCreateAt()));
+    }
+
+    @Test
+    void rotate_spendsTokenAndIssuesOneInSameFamily() {
+        RefreshToken current = stored("old", "family-1", LocalDateTime.now().plusMinutes(5), null);
+        when(tokenRepo.findByTokenHashWithUser(RefreshTokenImpl.hash("old"))).thenReturn(Optional.of(current));
+        when(tokenRepo.revoke(eq(1L), any())).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = service.rotate("old");
+
+        assertSame(user, rotation.user());
+        assertNotEquals("old", rotation.refreshToken());
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(tokenRepo).save(captor.capture());
+        assertEquals("family-1", captor.getValue().getFamilyId());
+        assertEquals(RefreshTokenImpl.hash(rotation.refreshToken()), captor.getValue().getTokenHash());
+        verify(tokenRepo, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void rotate_whenTokenAlreadyRotated_revokesFamily() {
+        RefreshToken current = stored("old", "family-1", LocalDateTime.now().plusMinutes(5), LocalDateTime.now());
+        when(tokenRepo.findByTokenHashWithUser(RefreshTokenImpl.hash("old"))).thenReturn(Optional.of(current));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("old"));
+
+        verify(tokenRepo).revokeFamily(eq("family-1"), any());
+        verify(tokenRepo, never()).save(any());
+    }
+
+    @Test
+    void rotate_whenConcurrentRotationWon_revokesFamily() {
+        RefreshToken current = stored("old", "family-1", LocalDateTime.now().plusMinutes(5), null);
+        when(tokenRepo.findByTokenHashWithUser(RefreshTokenImpl.hash("old"))).thenReturn(Optional.of(current));
+        when(tokenRepo.revoke(eq(1L), any())).thenReturn(0);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("old"));
+
+        verify(tokenRepo).revokeFamily(eq("family-1"), any());
+        verify(tokenRepo, never()).save(any());
+    }
+
+    @Test
+    void rotate_whenExpired_throws() {
+        RefreshToken current = stored("old", "family-1", LocalDateTime.now().minusSeconds(1), null);
+        when(tokenRepo.findByTokenHashWithUser(RefreshTokenImpl.hash("old"))).thenReturn(Optional.of(current));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("old"));
+        verify(tokenRepo, never()).revoke(any(), any());
+    }
+
+    @Test
+    void rotate_whenUserInactive_throws() {
+        user.setActive(false);
+        RefreshToken current = stored("old", "family-1", LocalDateTime.now().plusMinutes(5), null);
+        when(tokenRepo.findByTokenHashWithUser(RefreshTokenImpl.hash("old"))).thenReturn(Optional.of(current));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("old"));
+    }
+
+    @Test
+    void rotate_whenUnknownOrBlank_throws() {
+        when(tokenRepo.findByTokenHashWithUser(any())).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("unknown"));
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(" "));
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(null));
+        verify(tokenRepo, times(1)).findByTokenHashWithUser(any());
+    }
+
+    @Test
+    void revoke_ignoresMissingToken() {
+        service.revoke(null);
+        service.revoke("token");
+
+        verify(tokenRepo).revokeByTokenHash(eq(RefreshTokenImpl.hash("token")), any());
+        verifyNoMoreInteractions(tokenRepo);
+    }
+
+    private RefreshToken stored(String token, String familyId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        RefreshToken t = new RefreshToken();
+        t.setId(1L);
+        t.setUser(user);
+        t.setTokenHash(RefreshTokenImpl.hash(token));
+        t.setFamilyId(familyId);
+        t.setExpiresAt(expiresAt);
+        t.setRevokedAt(revokedAt);
+        return t;
+    }
+}
@@ -11,6 +11,7 @@ import com.jean.servesmart.restaurant.model.RestaurantTable;
 import com.jean.servesmart.restaurant.model.RestaurantTableStatus;
 import com.jean.servesmart.restaurant.repository.RestaurantTableRepository;
 import com.jean.servesmart.restaurant.repository.RestaurantTableStatusRepository;
+import com.jean.servesmart.restaurant.service.interfaces.OutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,11 +34,14 @@ class RestaurantTableImplTest {
     @Mock
     private RestaurantTableStatusRepository statusRepo;
 
+    @Mock
+    private OutboxService outbox;
+
     private RestaurantTableImpl service;
 
     @BeforeEach
     void setup() {
-        service = new RestaurantTableImpl(repo, statusRepo);
+        service = new RestaurantTableImpl(repo, statusRepo, outbox);
     }
 
     @Test
@@ -125,6 +129,7 @@ class RestaurantTableImplTest {
         assertEquals(4, result.getSeats());
         assertEquals("FREE", result.getStatusName());
         assertTrue(result.isActive());
+        verify(outbox).record("RestaurantTable", 1, "TableCreated", result);
 
         ArgumentCaptor<RestaurantTable> captor = ArgumentCaptor.forClass(RestaurantTable.class);
         verify(repo).save(captor.capture());
@@ -260,5 +265,6 @@ class RestaurantTableImplTest {
 
         assertTrue(result);
         verify(repo).deleteById(1);
+        verify(outbox).record(eq("RestaurantTable"), eq(1), eq("TableDeleted"), any());
     }
 }
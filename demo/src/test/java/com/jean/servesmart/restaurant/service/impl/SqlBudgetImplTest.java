@@ -0,0 +1,131 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.sqlbudget.SqlBudgetStatsDto;
+import com.jean.servesmart.restaurant.exception.sqlbudget.SqlBudgetExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlBudgetImplTest {
+
+    private static final String ITEM_QUERY = "select mi.id, mi.name from menu_items mi where mi.id=?";
+
+    private SqlBudgetImpl service(boolean enforce, List<String> endpoints) {
+        return new SqlBudgetImpl(true, enforce, 5, 3, endpoints);
+    }
+
+    @Test
+    void end_withinBudget_recordsCountsPerEndpoint() {
+        SqlBudgetImpl service = service(false, List.of());
+
+        service.begin("GET /api/menu");
+        service.onStatement("select * from menu_items");
+        service.onStatement("select * from menu_category where id=?");
+        service.onEntityLoaded();
+        service.onEntityLoaded();
+        service.end();
+
+        SqlBudgetStatsDto stats = service.getStats().get(0);
+        assertEquals("GET /api/menu", stats.getEndpoint());
+        assertEquals(1, stats.getRequests());
+        assertEquals(2, stats.getTotalStatements());
+        assertEquals(2, stats.getTotalEntitiesLoaded());
+        assertEquals(0, stats.getOverBudget());
+    }
+
+    @Test
+    void end_whenSameShapeRepeats_countsAsOverBudget() {
+        SqlBudgetImpl service = service(false, List.of());
+
+        service.begin("GET /api/orders");
+        for (int i = 0; i < 4; i++) {
+            service.onStatement(ITEM_QUERY);
+        }
+        service.end();
+
+        SqlBudgetStatsDto stats = service.getStats().get(0);
+        assertEquals(4, stats.getMaxRepeatedQuery());
+        assertEquals(1, stats.getOverBudget());
+    }
+
+    @Test
+    void onStatement_treatsInListsOfAnyLengthAsOneShape() {
+        SqlBudgetImpl service = service(false, List.of());
+
+        service.begin("GET /api/orders");
+        service.onStatement("select * from order_item where orders_id in (?)");
+        service.onStatement("select * from order_item where orders_id in (?, ?)");
+        service.onStatement("select * from order_item where orders_id in (?,?,?)");
+        service.end();
+
+        assertEquals(3, service.getStats().get(0).getMaxRepeatedQuery());
+    }
+
+    @Test
+    void onStatement_whenEnforcingAndOverStatementBudget_throws() {
+        SqlBudgetImpl service = service(true, List.of());
+
+        service.begin("GET /api/orders");
+        for (int i = 0; i < 5; i++) {
+            service.onStatement("select " + i);
+        }
+
+        assertThrows(SqlBudgetExceededException.class, () -> service.onStatement("select 6"));
+        service.end();
+        assertEquals(1, service.getStats().get(0).getOverBudget());
+    }
+
+    @Test
+    void onStatement_whenEnforcingAndQueryRepeats_throws() {
+        SqlBudgetImpl service = service(true, List.of());
+
+        service.begin("GET /api/menu");
+        service.onStatement(ITEM_QUERY);
+        service.onStatement(ITEM_QUERY);
+        service.onStatement(ITEM_QUERY);
+
+        SqlBudgetExceededException ex = assertThrows(SqlBudgetExceededException.class, () -> service.onStatement(ITEM_QUERY));
+        assertTrue(ex.getMessage().contains("x4"));
+        service.end();
+    }
+
+    @Test
+    void begin_usesEndpointOverride() {
+        SqlBudgetImpl service = service(true, List.of("GET /api/orders=8"));
+
+        service.begin("GET /api/orders");
+        for (int i = 0; i < 8; i++) {
+            service.onStatement("select " + i);
+        }
+        service.end();
+
+        assertEquals(8, service.getStats().get(0).getStatementBudget());
+        assertEquals(0, service.getStats().get(0).getOverBudget());
+    }
+
+    @Test
+    void onStatement_outsideRequest_isIgnored() {
+        SqlBudgetImpl service = service(true, List.of());
+
+        for (int i = 0; i < 20; i++) {
+            service.onStatement(ITEM_QUERY);
+        }
+        service.end();
+
+        assertTrue(service.getStats().isEmpty());
+    }
+
+    @Test
+    void begin_whenDisabled_countsNothing() {
+        SqlBudgetImpl service = new SqlBudgetImpl(false, true, 1, 1, List.of());
+
+        service.begin("GET /api/menu");
+        service.onStatement(ITEM_QUERY);
+        service.onStatement(ITEM_QUERY);
+        service.end();
+
+        assertTrue(service.getStats().isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationImplTest {
+
+    private final TokenRevocationImpl revocations = new TokenRevocationImpl(100, 0.01);
+
+    @Test
+    void revoke_marksTokenRevoked() {
+        revocations.revoke("jti-1", Instant.now().plusSeconds(60));
+
+        assertTrue(revocations.isRevoked("jti-1"));
+        assertFalse(revocations.isRevoked("jti-2"));
+        assertFalse(revocations.isRevoked(null));
+    }
+
+    @Test
+    void revoke_ignoresAlreadyExpiredOrMissingTokens() {
+        revocations.revoke("expired", Instant.now().minusSeconds(1));
+        revocations.revoke(null, Instant.now().plusSeconds(60));
+        revocations.revoke("no-expiry", null);
+
+        assertEquals(0, revocations.size());
+        assertFalse(revocations.isRevoked("expired"));
+    }
+
+    @Test
+    void prune_dropsExpiredRevocationsAndKeepsLiveOnes() throws Exception {
+        revocations.revoke("short", Instant.now().plusMillis(20));
+        revocations.revoke("long", Instant.now().plusSeconds(60));
+
+        Thread.sleep(50);
+        revocations.prune();
+
+        assertEquals(1, revocations.size());
+        assertFalse(revocations.isRevoked("short"));
+        assertTrue(revocations.isRevoked("long"));
+    }
+
+    @Test
+    void prune_rebuildsFilterLargeEnoughForLiveRevocations() throws Exception {
+        // more live revocations than the filter was sized for
+        for (int i = 0; i < 500; i++) {
+            revocations.revoke("live-" + i, Instant.now().plusSeconds(60));
+        }
+        revocations.revoke("gone", Instant.now().plusMillis(20));
+
+        Thread.sleep(50);
+        revocations.prune();
+
+        assertEquals(500, revocations.size());
+        for (int i = 0; i < 500; i++) {
+            assertTrue(revocations.isRevoked("live-" + i));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.txprofile.LatencyHistogramDto;
+import com.jean.servesmart.restaurant.dto.txprofile.TxProfileEntryDto;
+import com.jean.servesmart.restaurant.dto.txprofile.TxProfileReportDto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TxProfilerImplTest {
+
+    private final TxProfilerImpl profiler = new TxProfilerImpl(true);
+
+    private static TxProfileEntryDto find(TxProfileReportDto report, String scope, String name) {
+        return report.getEntries().stream()
+                .filter(e -> e.getScope().equals(scope) && e.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    void transaction_isRecordedPerServiceMethodAndEndpoint() {
+        Object tx = new Object();
+
+        profiler.beginRequest("POST /api/orders");
+        profiler.beginTransaction(tx, "com.jean.servesmart.restaurant.service.impl.OrderImpl.create");
+        profiler.connectionAcquired("HikariPool-1", 2_000_000, 1, 0, 10);
+        profiler.endTransaction(tx);
+        profiler.connectionReleased(7);
+        profiler.endRequest();
+
+        TxProfileReportDto report = profiler.getReport(10);
+
+        TxProfileEntryDto service = find(report, TxProfilerImpl.SERVICE, "OrderImpl.create");
+        assertEquals(1, service.getTransaction().getCount());
+        assertEquals(1, service.getConnectionWait().getCount());
+        assertEquals(2.0, service.getConnectionWait().getMaxMs());
+        assertEquals(7.0, service.getConnectionHold().getTotalMs());
+
+        TxProfileEntryDto endpoint = find(report, TxProfilerImpl.ENDPOINT, "POST /api/orders");
+        assertEquals(1, endpoint.getTransaction().getCount());
+        assertEquals(7.0, endpoint.getConnectionHold().getTotalMs());
+    }
+
+    @Test
+    void connectionHold_goesToTransactionThatBorrowedIt() {
+        Object outer = new Object();
+        Object inner = new Object();
+
+        profiler.beginTransaction(outer, "a.b.OrderImpl.pay");
+        profiler.connectionAcquired("HikariPool-1", 1_000, 1, 0, 10);
+        profiler.beginTransaction(inner, "a.b.OutboxImpl.record");
+        profiler.connectionAcquired("HikariPool-1", 1_000, 2, 0, 10);
+        profiler.endTransaction(inner);
+        profiler.connectionReleased(1);
+        profiler.endTransaction(outer);
+        profiler.connectionReleased(50);
+
+        TxProfileReportDto report = profiler.getReport(10);
+
+        assertEquals(50.0, find(report, TxProfilerImpl.SERVICE, "OrderImpl.pay").getConnectionHold().getTotalMs());
+        assertEquals(1.0, find(report, TxProfilerImpl.SERVICE, "OutboxImpl.record").getConnectionHold().getTotalMs());
+        assertEquals("OrderImpl.pay", report.getEntries().get(0).getName());
+    }
+
+    @Test
+    void getReport_tracksPoolPeaksAndTimeouts() {
+        profiler.connectionAcquired("HikariPool-1", 1_000, 4, 2, 10);
+        profiler.connectionAcquired("HikariPool-1", 1_000, 3, 0, 10);
+        profiler.connectionTimeout("HikariPool-1");
+
+        TxProfileReportDto report = profiler.getReport(10);
+
+        assertEquals(1, report.getPools().size());
+        assertEquals(4, report.getPools().get(0).getPeakActive());
+        assertEquals(2, report.getPools().get(0).getPeakPending());
+        assertEquals(10, report.getPools().get(0).getMaxConnections());
+        assertEquals(1, report.getPools().get(0).getTimeouts());
+    }
+
+    @Test
+    void getReport_respectsLimit() {
+        for (int i = 0; i < 5; i++) {
+            Object tx = new Object();
+            profiler.beginTransaction(tx, "a.b.Service.m" + i);
+            profiler.endTransaction(tx);
+        }
+
+        assertEquals(2, profiler.getReport(2).getEntries().size());
+    }
+
+    @Test
+    void endTransaction_forUnknownTransaction_isIgnored() {
+        profiler.endTransaction(new Object());
+
+        assertTrue(profiler.getReport(10).getEntries().isEmpty());
+    }
+
+    @Test
+    void whenDisabled_recordsNothing() {
+        TxProfilerImpl disabled = new TxProfilerImpl(false);
+        Object tx = new Object();
+
+        disabled.beginTransaction(tx, "a.b.OrderImpl.create");
+        disabled.connectionAcquired("HikariPool-1", 1_000, 1, 0, 10);
+        disabled.connectionReleased(5);
+        disabled.endTransaction(tx);
+
+        assertTrue(disabled.getReport(10).getEntries().isEmpty());
+        assertTrue(disabled.getReport(10).getPools().isEmpty());
+    }
+
+    @Test
+    void shorten_keepsClassAndMethod() {
+        assertEquals("OrderImpl.create", TxProfilerImpl.shorten("com.jean.servesmart.restaurant.service.impl.OrderImpl.create"));
+        assertEquals("(programmatic)", TxProfilerImpl.shorten(null));
+    }
+
+    @Test
+    void histogram_reportsPercentilesFromBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(100_000);
+
+        LatencyHistogramDto dto = histogram.toDto();
+
+        assertEquals(100, dto.getCount());
+        assertEquals(1.024, dto.getP50Ms());
+        assertEquals(1.024, dto.getP99Ms());
+        assertEquals(100.0, dto.getMaxMs());
+        assertEquals(99L, dto.getBuckets().get("<=1.024ms"));
+    }
+}
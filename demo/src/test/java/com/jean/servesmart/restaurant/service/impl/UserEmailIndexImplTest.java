@@ -0,0 +1,113 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailIndexImplTest {
+
+    @Mock
+    private UserRepository userRepo;
+
+    private UserEmailIndexImpl index;
+
+    @BeforeEach
+    void setup() {
+        index = new UserEmailIndexImpl(userRepo);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void beforeRebuild_isNotReadyAndContainsNothing() {
+        assertFalse(index.isReady());
+        assertFalse(index.contains("a@example.com"));
+    }
+
+    @Test
+    void rebuild_loadsCaseFoldedEmails() {
+        when(userRepo.findAllEmails()).thenReturn(List.of("Admin@Example.com", "staff@example.com"));
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertTrue(index.contains("admin@example.com"));
+        assertTrue(index.contains(" STAFF@example.com "));
+        assertFalse(index.contains("other@example.com"));
+        assertFalse(index.contains(null));
+    }
+
+    @Test
+    void addAndRemove_updateIndex() {
+        when(userRepo.findAllEmails()).thenReturn(List.of("old@example.com"));
+        index.rebuild();
+
+        index.add("New@Example.com");
+        index.remove("old@example.com");
+
+        assertTrue(index.contains("new@example.com"));
+        assertFalse(index.contains("old@example.com"));
+    }
+
+    @Test
+    void add_insideTransaction_appliesOnlyAfterCommit() {
+        when(userRepo.findAllEmails()).thenReturn(List.of());
+        index.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.add("new@example.com");
+
+        assertFalse(index.contains("new@example.com"));
+
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCommit();
+        }
+
+        assertTrue(index.contains("new@example.com"));
+    }
+
+    @Test
+    void changesCommittedDuringRebuild_areReplayedOntoNewIndex() {
+        when(userRepo.findAllEmails()).thenAnswer(inv -> {
+            // committed while the table is being read, after the snapshot saw the old state
+            index.add("new@example.com");
+            index.remove("gone@example.com");
+            return List.of("gone@example.com", "kept@example.com");
+        });
+
+        index.rebuild();
+
+        assertTrue(index.contains("new@example.com"));
+        assertTrue(index.contains("kept@example.com"));
+        assertFalse(index.contains("gone@example.com"));
+    }
+
+    @Test
+    void rebuild_whenLoadFails_keepsPreviousIndexAndStopsRecording() {
+        when(userRepo.findAllEmails()).thenReturn(List.of("a@example.com")).thenThrow(new IllegalStateException("db down"));
+        index.rebuild();
+
+        assertThrows(IllegalStateException.class, () -> index.rebuild());
+
+        index.add("b@example.com");
+        assertTrue(index.contains("a@example.com"));
+        assertTrue(index.contains("b@example.com"));
+    }
+}
@@ -12,13 +12,15 @@ import com.jean.servesmart.restaurant.model.Role;
 import com.jean.servesmart.restaurant.model.User;
 import com.jean.servesmart.restaurant.repository.RoleRepository;
 import com.jean.servesmart.restaurant.repository.UserRepository;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import com.jean.servesmart.restaurant.service.interfaces.RefreshTokenService;
+import com.jean.servesmart.restaurant.service.interfaces.UserEmailIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,19 +38,25 @@ class UserImplTest {
     private RoleRepository roleRepo;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashing;
+
+    @Mock
+    private RefreshTokenService refreshTokens;
+
+    @Mock
+    private UserEmailIndexService emailIndex;
 
     private UserImpl service;
 
     @BeforeEach
     void setup() {
-        service = new UserImpl(repo, roleRepo, passwordEncoder);
+        service = new UserImpl(repo, roleRepo, passwordHashing, refreshTokens, emailIndex);
     }
 
     @Test
     void register_whenDtoIsNull_throwsUserInvalidDataException() {
         assertThrows(UserInvalidDataException.class, () -> service.register(null));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -59,7 +67,7 @@ class UserImplTest {
         dto.setRole("ADMIN");
 
         assertThrows(UserInvalidDataException.class, () -> service.register(dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -70,7 +78,7 @@ class UserImplTest {
         dto.setRole("ADMIN");
 
         assertThrows(UserInvalidDataException.class, () -> service.register(dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -81,7 +89,7 @@ class UserImplTest {
         dto.setRole("ADMIN");
 
         assertThrows(UserInvalidDataException.class, () -> service.register(dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -92,7 +100,7 @@ class UserImplTest {
         dto.setRole("ADMIN");
 
         assertThrows(UserInvalidDataException.class, () -> service.register(dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -103,7 +111,7 @@ class UserImplTest {
         dto.setRole(null);
 
         assertThrows(UserInvalidDataException.class, () -> service.register(dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -114,7 +122,7 @@ class UserImplTest {
         dto.setRole("   ");
 
         assertThrows(UserInvalidDataException.class, () -> service.register(dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -129,7 +137,7 @@ class UserImplTest {
         assertThrows(UserEmailAlreadyUsedException.class, () -> service.register(dto));
 
         verify(repo).existsByEmail("test@example.com");
-        verifyNoInteractions(roleRepo, passwordEncoder);
+        verifyNoInteractions(roleRepo, passwordHashing);
         verifyNoMoreInteractions(repo);
     }
 
@@ -147,7 +155,7 @@ class UserImplTest {
 
         verify(repo).existsByEmail("test@example.com");
         verify(roleRepo).findByName("ADMIN");
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashing);
     }
 
     @Test
@@ -167,7 +175,7 @@ class UserImplTest {
 
         when(repo.existsByEmail("test@example.com")).thenReturn(false);
         when(roleRepo.findByName("ADMIN")).thenReturn(Optional.of(role));
-        when(passwordEncoder.encode("pass")).thenReturn("hashed");
+        when(passwordHashing.encode("pass")).thenReturn("hashed");
 
         when(repo.save(any(User.class))).thenAnswer(inv -> {
             User u = inv.getArgument(0);
@@ -192,7 +200,8 @@ class UserImplTest {
 
         verify(repo).existsByEmail("test@example.com");
         verify(roleRepo).findByName("ADMIN");
-        verify(passwordEncoder).encode("pass");
+        verify(passwordHashing).encode("pass");
+        verify(emailIndex).add("test@example.com");
     }
 
     @Test
@@ -208,7 +217,7 @@ class UserImplTest {
 
         when(repo.existsByEmail("test@example.com")).thenReturn(false);
         when(roleRepo.findByName("STAFF")).thenReturn(Optional.of(role));
-        when(passwordEncoder.encode("pass")).thenReturn("hashed");
+        when(passwordHashing.encode("pass")).thenReturn("hashed");
         when(repo.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
 
         UserResponseDto result = service.register(dto);
@@ -223,7 +232,7 @@ class UserImplTest {
     @Test
     void getById_whenIdIsNull_throwsUserInvalidDataException() {
         assertThrows(UserInvalidDataException.class, () -> service.getById(null));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -301,13 +310,13 @@ class UserImplTest {
     void updateProfile_whenIdIsNull_throwsUserInvalidDataException() {
         UserUpdateDto dto = new UserUpdateDto();
         assertThrows(UserInvalidDataException.class, () -> service.updateProfile(null, dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
     void updateProfile_whenDtoIsNull_throwsUserInvalidDataException() {
         assertThrows(UserInvalidDataException.class, () -> service.updateProfile(1, null));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -454,6 +463,9 @@ class UserImplTest {
         verify(roleRepo).findByName("STAFF");
         verify(repo).save(any(User.class));
         verifyNoMoreInteractions(repo, roleRepo);
+
+        verify(emailIndex).remove("old@example.com");
+        verify(emailIndex).add("new@example.com");
     }
 
     @Test
@@ -463,13 +475,13 @@ class UserImplTest {
         dto.setNewPassword("new");
 
         assertThrows(UserInvalidDataException.class, () -> service.changePassword(null, dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
     void changePassword_whenDtoIsNull_throwsUserInvalidDataException() {
         assertThrows(UserInvalidDataException.class, () -> service.changePassword(1, null));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -479,7 +491,7 @@ class UserImplTest {
         dto.setNewPassword("new");
 
         assertThrows(UserInvalidDataException.class, () -> service.changePassword(1, dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -489,7 +501,7 @@ class UserImplTest {
         dto.setNewPassword("new");
 
         assertThrows(UserInvalidDataException.class, () -> service.changePassword(1, dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -499,7 +511,7 @@ class UserImplTest {
         dto.setNewPassword(null);
 
         assertThrows(UserInvalidDataException.class, () -> service.changePassword(1, dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -509,7 +521,7 @@ class UserImplTest {
         dto.setNewPassword("   ");
 
         assertThrows(UserInvalidDataException.class, () -> service.changePassword(1, dto));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -524,7 +536,7 @@ class UserImplTest {
 
         verify(repo).findById(1);
         verifyNoMoreInteractions(repo);
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordHashing);
     }
 
     @Test
@@ -534,7 +546,7 @@ class UserImplTest {
         u.setPasswordHash("hash");
 
         when(repo.findById(1)).thenReturn(Optional.of(u));
-        when(passwordEncoder.matches("old", "hash")).thenReturn(false);
+        when(passwordHashing.matches("old", "hash")).thenReturn(false);
 
         ChangePasswordDto dto = new ChangePasswordDto();
         dto.setOldPassword("old");
@@ -543,8 +555,8 @@ class UserImplTest {
         assertThrows(InvalidPasswordChangeException.class, () -> service.changePassword(1, dto));
 
         verify(repo).findById(1);
-        verify(passwordEncoder).matches("old", "hash");
-        verifyNoMoreInteractions(repo, passwordEncoder);
+        verify(passwordHashing).matches("old", "hash");
+        verifyNoMoreInteractions(repo, passwordHashing);
     }
 
     @Test
@@ -554,8 +566,8 @@ class UserImplTest {
         u.setPasswordHash("hash");
 
         when(repo.findById(1)).thenReturn(Optional.of(u));
-        when(passwordEncoder.matches("old", "hash")).thenReturn(true);
-        when(passwordEncoder.matches("new", "hash")).thenReturn(true);
+        when(passwordHashing.matches("old", "hash")).thenReturn(true);
+        when(passwordHashing.matches("new", "hash")).thenReturn(true);
 
         ChangePasswordDto dto = new ChangePasswordDto();
         dto.setOldPassword("old");
@@ -564,9 +576,9 @@ class UserImplTest {
         assertThrows(InvalidPasswordChangeException.class, () -> service.changePassword(1, dto));
 
         verify(repo).findById(1);
-        verify(passwordEncoder).matches("old", "hash");
-        verify(passwordEncoder).matches("new", "hash");
-        verifyNoMoreInteractions(repo, passwordEncoder);
+        verify(passwordHashing).matches("old", "hash");
+        verify(passwordHashing).matches("new", "hash");
+        verifyNoMoreInteractions(repo, passwordHashing);
     }
 
     @Test
@@ -576,10 +588,10 @@ class UserImplTest {
         u.setPasswordHash("oldHash");
 
         when(repo.findById(1)).thenReturn(Optional.of(u));
-        when(passwordEncoder.matches("old", "oldHash")).thenReturn(true);
-        when(passwordEncoder.matches("new", "oldHash")).thenReturn(false);
-        when(passwordEncoder.encode("new")).thenReturn("newHash");
-        when(repo.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(passwordHashing.matches("old", "oldHash")).thenReturn(true);
+        when(passwordHashing.matches("new", "oldHash")).thenReturn(false);
+        when(passwordHashing.encode("new")).thenReturn("newHash");
+        when(repo.replacePasswordHash(1, "oldHash", "newHash")).thenReturn(1);
 
         ChangePasswordDto dto = new ChangePasswordDto();
         dto.setOldPassword("old");
@@ -589,28 +601,45 @@ class UserImplTest {
 
         assertTrue(result);
 
-        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-        verify(repo).save(captor.capture());
-        assertEquals("newHash", captor.getValue().getPasswordHash());
-
         verify(repo).findById(1);
-        verify(passwordEncoder).matches("old", "oldHash");
-        verify(passwordEncoder).matches("new", "oldHash");
-        verify(passwordEncoder).encode("new");
-        verify(repo).save(any(User.class));
-        verifyNoMoreInteractions(repo, passwordEncoder);
+        verify(passwordHashing).matches("old", "oldHash");
+        verify(passwordHashing).matches("new", "oldHash");
+        verify(passwordHashing).encode("new");
+        verify(repo).replacePasswordHash(1, "oldHash", "newHash");
+        verify(refreshTokens).revokeAll(1);
+        verifyNoMoreInteractions(repo, passwordHashing, refreshTokens);
+    }
+
+    @Test
+    void changePassword_whenHashChangedConcurrently_throwsInvalidPasswordChangeException() {
+        User u = new User();
+        u.setId(1);
+        u.setPasswordHash("oldHash");
+
+        when(repo.findById(1)).thenReturn(Optional.of(u));
+        when(passwordHashing.matches("old", "oldHash")).thenReturn(true);
+        when(passwordHashing.matches("new", "oldHash")).thenReturn(false);
+        when(passwordHashing.encode("new")).thenReturn("newHash");
+        when(repo.replacePasswordHash(1, "oldHash", "newHash")).thenReturn(0);
+
+        ChangePasswordDto dto = new ChangePasswordDto();
+        dto.setOldPassword("old");
+        dto.setNewPassword("new");
+
+        assertThrows(InvalidPasswordChangeException.class, () -> service.changePassword(1, dto));
+        verifyNoInteractions(refreshTokens);
     }
 
     @Test
     void emailExists_whenEmailNull_throwsUserInvalidDataException() {
         assertThrows(UserInvalidDataException.class, () -> service.emailExists(null));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
     void emailExists_whenEmailBlank_throwsUserInvalidDataException() {
         assertThrows(UserInvalidDataException.class, () -> service.emailExists("   "));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
@@ -627,27 +656,69 @@ class UserImplTest {
     @Test
     void deleteUser_whenIdIsNull_throwsUserInvalidDataException() {
         assertThrows(UserInvalidDataException.class, () -> service.deleteUser(null));
-        verifyNoInteractions(repo, roleRepo, passwordEncoder);
+        verifyNoInteractions(repo, roleRepo, passwordHashing);
     }
 
     @Test
     void deleteUser_whenNotExists_throwsUserNotFoundException() {
-        when(repo.existsById(9)).thenReturn(false);
+        when(repo.findById(9)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> service.deleteUser(9));
 
-        verify(repo).existsById(9);
+        verify(repo).findById(9);
         verifyNoMoreInteractions(repo);
+        verifyNoInteractions(emailIndex);
     }
 
     @Test
-    void deleteUser_whenExists_deletes() {
-        when(repo.existsById(9)).thenReturn(true);
+    void deleteUser_whenExists_deletesAndDropsEmailFromIndex() {
+        User u = new User();
+        u.setId(9);
+        u.setEmail("gone@example.com");
+        when(repo.findById(9)).thenReturn(Optional.of(u));
 
         service.deleteUser(9);
 
-        verify(repo).existsById(9);
-        verify(repo).deleteById(9);
+        verify(repo).findById(9);
+        verify(repo).delete(u);
+        verify(emailIndex).remove("gone@example.com");
         verifyNoMoreInteractions(repo);
     }
+
+    @Test
+    void emailExists_whenIndexReadyAndMissing_isServedFromMemory() {
+        when(emailIndex.isReady()).thenReturn(true);
+        when(emailIndex.contains("test@example.com")).thenReturn(false);
+
+        assertFalse(service.emailExists(" test@example.com "));
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void emailExists_whenIndexHitIsStale_confirmsWithDatabase() {
+        when(emailIndex.isReady()).thenReturn(true);
+        when(emailIndex.contains("test@example.com")).thenReturn(true);
+        when(repo.existsByEmail("test@example.com")).thenReturn(false);
+
+        assertFalse(service.emailExists(" test@example.com "));
+        verify(repo).existsByEmail("test@example.com");
+    }
+
+    @Test
+    void register_whenIndexHasStaleEmail_stillRegisters() {
+        UserRegisterDto dto = new UserRegisterDto();
+        dto.setEmail("reused@example.com");
+        dto.setPassword("pw");
+        dto.setRole("STAFF");
+        Role role = new Role();
+        role.setName("STAFF");
+        lenient().when(emailIndex.contains("reused@example.com")).thenReturn(true);
+        when(repo.existsByEmail("reused@example.com")).thenReturn(false);
+        when(roleRepo.findByName("STAFF")).thenReturn(Optional.of(role));
+        when(passwordHashing.encode("pw")).thenReturn("hashed");
+        when(repo.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        assertEquals("reused@example.com", service.register(dto).getEmail());
+        verify(emailIndex).add("reused@example.com");
+    }
 }
@@ -0,0 +1,186 @@
+package com.jean.servesmart.restaurant.service.impl;
+
+import com.jean.servesmart.restaurant.dto.user.UserImportResultDto;
+import com.jean.servesmart.restaurant.dto.user.UserRegisterDto;
+import com.jean.servesmart.restaurant.exception.user.UserEmailAlreadyUsedException;
+import com.jean.servesmart.restaurant.exception.user.UserInvalidDataException;
+import com.jean.servesmart.restaurant.model.Role;
+import com.jean.servesmart.restaurant.repository.RoleRepository;
+import com.jean.servesmart.restaurant.repository.UserRepository;
+import com.jean.servesmart.restaurant.service.interfaces.PasswordHashingService;
+import com.jean.servesmart.restaurant.service.interfaces.UserEmailIndexService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportImplTest {
+
+    private static Validator validator;
+
+    @Mock
+    private UserRepository repo;
+
+    @Mock
+    private RoleRepository roleRepo;
+
+    @Mock
+    private PasswordHashingService passwordHashing;
+
+    @Mock
+    private UserEmailIndexService emailIndex;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserImportImpl service;
+
+    @BeforeAll
+    static void createValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @BeforeEach
+    void setup() {
+        service = new UserImportImpl(repo, roleRepo, passwordHashing, emailIndex, validator, jdbcTemplate,
+                transactionManager, 3);
+    }
+
+    private void givenRoles() {
+        Role staff = new Role();
+        staff.setId(2);
+        staff.setName("STAFF");
+        when(roleRepo.findAll()).thenReturn(List.of(staff));
+    }
+
+    @Test
+    void importUsers_whenEmpty_throwsUserInvalidDataException() {
+        assertThrows(UserInvalidDataException.class, () -> service.importUsers(List.of()));
+        assertThrows(UserInvalidDataException.class, () -> service.importUsers(null));
+        verifyNoInteractions(repo, roleRepo, passwordHashing, jdbcTemplate);
+    }
+
+    @Test
+    void importUsers_whenOverLimit_throwsUserInvalidDataException() {
+        List<UserRegisterDto> rows = Collections.nCopies(4, row("a@test.com", "STAFF"));
+
+        assertThrows(UserInvalidDataException.class, () -> service.importUsers(rows));
+        verifyNoInteractions(repo, roleRepo, passwordHashing, jdbcTemplate);
+    }
+
+    @Test
+    void importUsers_checksEmailsOnceHashesTogetherAndInsertsInOneBatch() {
+        givenRoles();
+        when(repo.findExistingEmails(List.of("a@test.com", "b@test.com"))).thenReturn(List.of());
+        when(passwordHashing.encodeAll(List.of("pw-a@test.com", "pw-b@test.com"))).thenReturn(List.of("hash-a", "hash-b"));
+
+        UserImportResultDto result = service.importUsers(List.of(row("a@test.com", "staff"), row("b@test.com", "STAFF")));
+
+        assertEquals(2, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertTrue(result.getErrors().isEmpty());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        List<Object[]> args = captor.getValue();
+        assertEquals(2, args.size());
+        assertEquals("a@test.com", args.get(0)[0]);
+        assertEquals("hash-a", args.get(0)[1]);
+        assertEquals(2, args.get(0)[6]);
+        assertEquals(true, args.get(0)[7]);
+        assertEquals("b@test.com", args.get(1)[0]);
+
+        verify(repo, times(1)).findExistingEmails(anyList());
+        verify(emailIndex).add("a@test.com");
+        verify(emailIndex).add("b@test.com");
+    }
+
+    @Test
+    void importUsers_reportsInvalidRowsAndImportsTheRest() {
+        service = new UserImportImpl(repo, roleRepo, passwordHashing, emailIndex, validator, jdbcTemplate,
+                transactionManager, 10);
+        givenRoles();
+        UserRegisterDto noAddress = row("c@test.com", "STAFF");
+        noAddress.setAddress(" ");
+        when(repo.findExistingEmails(List.of("a@test.com", "b@test.com"))).thenReturn(List.of("B@test.com"));
+        when(passwordHashing.encodeAll(List.of("pw-a@test.com"))).thenReturn(List.of("hash-a"));
+
+        List<UserRegisterDto> rows = new ArrayList<>();
+        rows.add(row("a@test.com", "STAFF"));
+        rows.add(row("A@Test.com", "STAFF"));
+        rows.add(row("b@test.com", "STAFF"));
+        rows.add(row("bad-email", "STAFF"));
+        rows.add(row("d@test.com", "OWNER"));
+        rows.add(noAddress);
+        rows.add(null);
+
+        UserImportResultDto result = service.importUsers(rows);
+
+        assertEquals(7, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(2, 3, 4, 5, 6, 7), result.getErrors().stream().map(e -> e.getRow()).toList());
+        assertEquals("Duplicate email in import", result.getErrors().get(0).getError());
+        assertEquals("Email already in use", result.getErrors().get(1).getError());
+        assertTrue(result.getErrors().get(2).getError().startsWith("email "));
+        assertEquals("Unknown role OWNER", result.getErrors().get(3).getError());
+        assertEquals("address must not be blank", result.getErrors().get(4).getError());
+        assertEquals("Row is empty", result.getErrors().get(5).getError());
+    }
+
+    @Test
+    void importUsers_whenNothingValid_skipsHashingAndInsert() {
+        givenRoles();
+
+        UserImportResultDto result = service.importUsers(List.of(row("a@test.com", "OWNER")));
+
+        assertEquals(0, result.getImported());
+        assertEquals(1, result.getErrors().size());
+        verify(repo, never()).findExistingEmails(anyList());
+        verifyNoInteractions(passwordHashing, jdbcTemplate, emailIndex);
+    }
+
+    @Test
+    void importUsers_whenEmailRegisteredMeanwhile_throwsUserEmailAlreadyUsedException() {
+        givenRoles();
+        when(repo.findExistingEmails(anyList())).thenReturn(List.of());
+        when(passwordHashing.encodeAll(anyList())).thenReturn(List.of("hash-a"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DuplicateKeyException("UK_user_email"));
+
+        assertThrows(UserEmailAlreadyUsedException.class, () -> service.importUsers(List.of(row("a@test.com", "STAFF"))));
+        verifyNoInteractions(emailIndex);
+    }
+
+    private static UserRegisterDto row(String email, String role) {
+        UserRegisterDto dto = new UserRegisterDto();
+        dto.setEmail(email);
+        dto.setPassword("pw-" + email.trim());
+        dto.setFirstName("First");
+        dto.setLastName("Last");
+        dto.setAddress("Street 1");
+        dto.setPhoneNumber("0612345678");
+        dto.setRole(role);
+        return dto;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jean.servesmart.restaurant.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void export_appendsOneJsonLinePerSpan(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("traces/spans.ndjson");
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(objectMapper, file, 1024 * 1024)))
+                .build();
+        Tracer tracer = provider.get("test");
+
+        Span request = tracer.spanBuilder("POST /api/orders/{id}/pay").setSpanKind(SpanKind.SERVER).startSpan();
+        try (Scope ignored = request.makeCurrent()) {
+            tracer.spanBuilder("OrderImpl.pay").setAttribute("app.layer", "service").startSpan().end();
+        }
+        request.end();
+        provider.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertEquals("OrderImpl.pay", child.get("name").asText());
+        assertEquals("service", child.get("attributes").get("app.layer").asText());
+        assertEquals(root.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertEquals(root.get("traceId").asText(), child.get("traceId").asText());
+        assertEquals("SERVER", root.get("kind").asText());
+        assertTrue(root.get("parentSpanId").isNull());
+        assertTrue(root.get("durationMicros").asLong() >= 0);
+    }
+
+    @Test
+    void export_pastMaxSize_rollsFileOverToBackup(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("spans.ndjson");
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(objectMapper, file, 500)))
+                .build();
+        Tracer tracer = provider.get("test");
+
+        for (int i = 0; i < 6; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+        provider.close();
+
+        Path rolled = dir.resolve("spans.ndjson.1");
+        assertTrue(Files.exists(rolled));
+        assertTrue(Files.size(file) <= 500);
+        assertTrue(Files.size(rolled) <= 500);
+        List<String> latest = Files.readAllLines(file);
+        assertEquals("span-5", objectMapper.readTree(latest.get(latest.size() - 1)).get("name").asText());
+    }
+}
@@ -0,0 +1,24 @@
+package com.jean.servesmart.restaurant.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestRootSamplerTest {
+
+    @Test
+    void shouldSample_startsTracesOnlyForServerSpans() {
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .setSampler(new RequestRootSampler(1.0))
+                .build();
+        Tracer tracer = provider.get("test");
+
+        assertTrue(tracer.spanBuilder("GET /api/menu").setSpanKind(SpanKind.SERVER).startSpan().isRecording());
+        assertFalse(tracer.spanBuilder("OutboxImpl.relay").startSpan().isRecording());
+        assertFalse(tracer.spanBuilder("SELECT outbox_event").setSpanKind(SpanKind.CLIENT).startSpan().isRecording());
+        provider.close();
+    }
+}